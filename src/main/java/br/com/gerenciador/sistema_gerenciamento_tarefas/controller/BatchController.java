@@ -0,0 +1,40 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.controller;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.batch.BatchRequestDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.batch.BatchResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.service.BatchService;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller para a execução de várias operações de tarefas e usuários em uma única requisição.
+ */
+@RestController
+@RequestMapping("/batch")
+@Slf4j
+public class BatchController {
+
+    private final BatchService batchService;
+
+    public BatchController(BatchService batchService) {
+        this.batchService = batchService;
+    }
+
+    /**
+     * Executa um lote de operações sobre as rotas {@code /tasks} e {@code /users}, na ordem informada.
+     * Cada operação está sujeita às mesmas regras de autorização de uma chamada individual.
+     * @param data DTO com as operações e se o lote deve ser atômico.
+     * @return Um ResponseEntity contendo um resultado (status, cabeçalhos e corpo) por operação.
+     */
+    @PostMapping
+    public ResponseEntity<BatchResponseDTO> executeBatch(@RequestBody @Valid BatchRequestDTO data) {
+        log.info("Received request to execute a batch of {} operations.", data.operations().size());
+        BatchResponseDTO response = batchService.executeBatch(data);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,18 +1,38 @@
 package br.com.gerenciador.sistema_gerenciamento_tarefas.controller;
 
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskField;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.page.PageResponseDTO;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskCreateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskLookupResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskRangeResponseDTO;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskUpdateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.cache.TaskResponseCache;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.ConflictingQueryParametersException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskReadEngine;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.service.TaskIngestService;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.service.TaskService;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.service.TaskWriteCoalescer;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Controller para operações CRUD e outras ações relacionadas a tarefas (Tasks).
  */
@@ -22,32 +42,143 @@ import org.springframework.web.util.UriComponentsBuilder;
 public class TaskController {
 
     private final TaskService taskService;
+    private final ObjectMapper objectMapper;
+    private final TaskResponseCache taskResponseCache;
+    private final TaskIngestService taskIngestService;
+    private final TaskWriteCoalescer taskWriteCoalescer;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, ObjectMapper objectMapper, TaskResponseCache taskResponseCache,
+                          TaskIngestService taskIngestService, TaskWriteCoalescer taskWriteCoalescer) {
         this.taskService = taskService;
+        this.objectMapper = objectMapper;
+        this.taskResponseCache = taskResponseCache;
+        this.taskIngestService = taskIngestService;
+        this.taskWriteCoalescer = taskWriteCoalescer;
     }
 
     /**
      * Lista todas as tarefas de forma paginada.
+     * Quando o cliente prefere JSON, a página é servida a partir do cache de respostas serializadas
+     * (comprimida, se o cliente aceitar); caso contrário, segue a negociação de conteúdo padrão.
      * @param pageable Objeto de paginação para controlar o tamanho da página, ordenação, etc.
-     * @return Um ResponseEntity contendo uma página (Page) de tarefas.
+     * @param headers Os cabeçalhos da requisição (Accept e Accept-Encoding).
+     * @return Um ResponseEntity contendo uma página (PageResponseDTO) de tarefas.
      */
-    @GetMapping
-    public ResponseEntity<Page<TaskResponseDTO>> listAllTasks(@PageableDefault(size = 10, sort = {"creationDate"}) Pageable pageable) {
+    @GetMapping(params = {"!fields", "!engine", "!ids"})
+    public ResponseEntity<?> listAllTasks(@PageableDefault(size = 10, sort = {"creationDate"}) Pageable pageable,
+                                          @RequestHeader HttpHeaders headers) {
         log.info("Received request to list all tasks. Pageable: {}", pageable);
-        Page<TaskResponseDTO> tasks = taskService.listAllTasks(pageable);
+        if (!TaskResponseCache.prefersJson(headers)) {
+            return ResponseEntity.ok(new PageResponseDTO<>(taskService.listAllTasks(pageable)));
+        }
+        return taskResponseCache.getPage(pageable, () -> new PageResponseDTO<>(taskService.listAllTasks(pageable)))
+                .toResponseEntity(headers);
+    }
+
+    /**
+     * Lista todas as tarefas de forma paginada, retornando apenas os campos selecionados
+     * (ex: ?fields=id,title,completed). Colunas não selecionadas não são lidas do banco.
+     * @param fields Lista de campos separados por vírgula. O campo 'id' é sempre incluído.
+     * @param pageable Objeto de paginação para controlar o tamanho da página, ordenação, etc.
+     * @return Um ResponseEntity contendo uma página (PageResponseDTO) com os campos selecionados de cada tarefa.
+     */
+    @GetMapping(params = {"fields", "!engine", "!ids"})
+    public ResponseEntity<PageResponseDTO<Map<String, Object>>> listAllTasks(@RequestParam String fields,
+                                                                             @PageableDefault(size = 10, sort = {"creationDate"}) Pageable pageable) {
+        log.info("Received request to list all tasks with fields [{}]. Pageable: {}", fields, pageable);
+        Page<Map<String, Object>> tasks = taskService.listAllTasks(pageable, TaskField.parse(fields));
+        return ResponseEntity.ok(new PageResponseDTO<>(tasks));
+    }
+
+    /**
+     * Lista todas as tarefas de forma paginada usando um mecanismo de leitura alternativo (ex: ?engine=JDBC),
+     * que escreve as linhas do banco diretamente na resposta, sem entidades, DTOs ou {@code PageImpl}.
+     * O mecanismo JSON_AGG gera o JSON no próprio banco e está disponível apenas no PostgreSQL.
+     * @param engine O mecanismo de leitura (JDBC ou JSON_AGG).
+     * @param pageable Objeto de paginação para controlar o tamanho da página, ordenação, etc.
+     * @param response A resposta HTTP, onde o JSON é escrito diretamente.
+     * @throws IOException Se ocorrer um erro ao escrever a resposta.
+     */
+    @GetMapping(params = {"engine", "!fields", "!ids"})
+    public void listAllTasks(@RequestParam TaskReadEngine engine,
+                             @PageableDefault(size = 10, sort = {"creationDate"}) Pageable pageable,
+                             HttpServletResponse response) throws IOException {
+        log.info("Received request to list all tasks with the {} read engine. Pageable: {}", engine, pageable);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        // O gerador só é fechado em caso de sucesso, para que erros anteriores à escrita
+        // ainda possam ser tratados pelo GlobalExceptionHandler.
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream());
+        taskService.writeAllTasks(pageable, engine, generator);
+        generator.close();
+    }
+
+    /**
+     * Rejeita as requisições que combinam os parâmetros {@code fields}, {@code engine} e {@code ids}
+     * (ex: ?ids=1,2&fields=title), que não podem ser usados juntos. Como os mapeamentos acima se excluem
+     * mutuamente, só essas combinações chegam aqui.
+     * @throws ConflictingQueryParametersException sempre.
+     */
+    @GetMapping
+    public void rejectConflictingListParameters() {
+        throw new ConflictingQueryParametersException("Only one of the fields, engine and ids parameters can be used.");
+    }
+
+    /**
+     * Busca várias tarefas pelos seus IDs em uma única requisição (ex: ?ids=1,2,3),
+     * evitando uma chamada a {@code GET /tasks/{id}} para cada tarefa.
+     * IDs sem tarefa correspondente são retornados com {@code found: false}.
+     * @param ids Lista de IDs separados por vírgula (no máximo {@link TaskService#MAX_LOOKUP_IDS}).
+     * @return Um ResponseEntity contendo um resultado por ID, na ordem da requisição.
+     */
+    @GetMapping(params = {"ids", "!fields", "!engine"})
+    public ResponseEntity<TaskLookupResponseDTO> getTasksByIds(@RequestParam List<Long> ids) {
+        log.info("Received request to fetch tasks by IDs: {}", ids);
+        TaskLookupResponseDTO tasks = taskService.getTasksByIds(ids);
         return ResponseEntity.ok(tasks);
     }
 
+    /**
+     * Lista as tarefas criadas em um intervalo de datas, com os totais agregados por dia.
+     * As datas são inclusivas e devem estar no formato ISO (ex: ?from=2024-01-01&to=2024-01-31).
+     * @param from O primeiro dia do intervalo.
+     * @param to O último dia do intervalo.
+     * @return Um ResponseEntity contendo as tarefas do intervalo (em ordem de ID) e os totais por dia.
+     */
+    @GetMapping("/range")
+    public ResponseEntity<TaskRangeResponseDTO> listTasksByCreationDateRange(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("Received request to list tasks created between {} and {}", from, to);
+        TaskRangeResponseDTO range = taskService.listTasksByCreationDateRange(from, to);
+        return ResponseEntity.ok(range);
+    }
+
     /**
      * Busca e retorna uma tarefa específica pelo seu ID.
+     * Quando o cliente prefere JSON, a tarefa é servida a partir do cache de respostas serializadas
+     * (comprimida, se o cliente aceitar); caso contrário, segue a negociação de conteúdo padrão.
      * @param id O ID da tarefa a ser buscada.
+     * @param headers Os cabeçalhos da requisição (Accept e Accept-Encoding).
      * @return Um ResponseEntity contendo os dados da tarefa.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponseDTO> getTaskById(@PathVariable Long id) {
+    public ResponseEntity<?> getTaskById(@PathVariable Long id, @RequestHeader HttpHeaders headers) {
         log.info("Received request to get task by ID: {}", id);
-        TaskResponseDTO task = taskService.getTaskById(id);
+        if (!TaskResponseCache.prefersJson(headers)) {
+            return ResponseEntity.ok(taskService.getTaskById(id));
+        }
+        return taskResponseCache.getTask(id, () -> taskService.getTaskById(id)).toResponseEntity(headers);
+    }
+
+    /**
+     * Busca uma tarefa pelo seu ID, retornando apenas os campos selecionados (ex: ?fields=id,title).
+     * @param id O ID da tarefa a ser buscada.
+     * @param fields Lista de campos separados por vírgula. O campo 'id' é sempre incluído.
+     * @return Um ResponseEntity contendo os campos selecionados da tarefa.
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getTaskById(@PathVariable Long id, @RequestParam String fields) {
+        log.info("Received request to get task by ID: {} with fields [{}]", id, fields);
+        Map<String, Object> task = taskService.getTaskById(id, TaskField.parse(fields));
         return ResponseEntity.ok(task);
     }
 
@@ -67,8 +198,27 @@ public class TaskController {
         return ResponseEntity.created(uri).body(createdTask);
     }
 
+    /**
+     * Cria uma nova tarefa de forma assíncrona ({@code ?async=true}), para cargas em rajada.
+     * A tarefa é enfileirada e gravada junto com outras em uma única transação; até lá, ela ainda não aparece nas leituras.
+     * @param data DTO com os dados para a criação da tarefa.
+     * @param uriBuilder Construtor de URI para gerar o cabeçalho Location da resposta.
+     * @return Um ResponseEntity com status 202 Accepted, o cabeçalho Location e o corpo da tarefa com o ID reservado.
+     */
+    @PostMapping(params = "async=true")
+    public ResponseEntity<TaskResponseDTO> createTaskAsync(@RequestBody @Valid TaskCreateDTO data, UriComponentsBuilder uriBuilder) {
+        log.info("Received request to create a new task asynchronously.");
+        log.debug("Request body: {}", data);
+        TaskResponseDTO acceptedTask = taskIngestService.createTaskAsync(data);
+        var uri = uriBuilder.path("/tasks/{id}").buildAndExpand(acceptedTask.id()).toUri();
+        log.info("Task creation accepted. URI: {}", uri);
+        return ResponseEntity.accepted().location(uri).body(acceptedTask);
+    }
+
     /**
      * Atualiza os dados de uma tarefa existente.
+     * Com o agrupamento de escritas habilitado, atualizações da mesma tarefa recebidas na mesma janela
+     * são combinadas e a resposta traz o resultado combinado.
      * @param id O ID da tarefa a ser atualizada.
      * @param data DTO com os novos dados da tarefa.
      * @return Um ResponseEntity com os dados da tarefa atualizada.
@@ -77,7 +227,7 @@ public class TaskController {
     public ResponseEntity<TaskResponseDTO> updateTask(@PathVariable Long id, @RequestBody @Valid TaskUpdateDTO data) {
         log.info("Received request to update task with ID: {}", id);
         log.debug("Request body: {}", data);
-        TaskResponseDTO updatedTask = taskService.updateTask(id, data);
+        TaskResponseDTO updatedTask = taskWriteCoalescer.updateTask(id, data);
         log.info("Task with ID {} updated successfully.", id);
         return ResponseEntity.ok(updatedTask);
     }
@@ -103,7 +253,7 @@ public class TaskController {
     @PatchMapping("/{id}/conclude")
     public ResponseEntity<TaskResponseDTO> concludeTask(@PathVariable Long id) {
         log.info("Received request to conclude task with ID: {}", id);
-        TaskResponseDTO concludedTask = taskService.concludeTask(id);
+        TaskResponseDTO concludedTask = taskWriteCoalescer.concludeTask(id);
         log.info("Task with ID {} concluded successfully.", id);
         return ResponseEntity.ok(concludedTask);
     }
@@ -0,0 +1,78 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.controller;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.job.TaskJobCreateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.job.TaskJobResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.service.TaskJobService;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.List;
+
+/**
+ * Controller para as operações em massa sobre tarefas (ex: concluir ou excluir todas as tarefas de um filtro),
+ * executadas em segundo plano. Acesso restrito a administradores.
+ */
+@RestController
+@RequestMapping("/tasks/jobs")
+@Slf4j
+public class TaskJobController {
+
+    private final TaskJobService taskJobService;
+
+    public TaskJobController(TaskJobService taskJobService) {
+        this.taskJobService = taskJobService;
+    }
+
+    /**
+     * Lista todas as operações em massa.
+     * @return Um ResponseEntity contendo a lista de operações.
+     */
+    @GetMapping
+    public ResponseEntity<List<TaskJobResponseDTO>> listJobs() {
+        log.info("Received request to list all task jobs.");
+        return ResponseEntity.ok(taskJobService.listJobs());
+    }
+
+    /**
+     * Cria uma operação em massa, executada em segundo plano.
+     * @param data DTO com a ação e os filtros.
+     * @param uriBuilder Construtor de URI para gerar o cabeçalho Location da resposta.
+     * @return Um ResponseEntity com status 202 Accepted, o cabeçalho Location (para acompanhar o progresso) e o corpo da operação.
+     */
+    @PostMapping
+    public ResponseEntity<TaskJobResponseDTO> createJob(@RequestBody @Valid TaskJobCreateDTO data, UriComponentsBuilder uriBuilder) {
+        log.info("Received request to create a task job.");
+        log.debug("Request body: {}", data);
+        TaskJobResponseDTO job = taskJobService.createJob(data);
+        var uri = uriBuilder.path("/tasks/jobs/{id}").buildAndExpand(job.id()).toUri();
+        log.info("Task job accepted. URI: {}", uri);
+        return ResponseEntity.accepted().location(uri).body(job);
+    }
+
+    /**
+     * Busca o estado e o progresso de uma operação em massa.
+     * @param id O ID da operação.
+     * @return Um ResponseEntity com os dados da operação.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<TaskJobResponseDTO> getJob(@PathVariable Long id) {
+        log.info("Received request to get task job with ID: {}", id);
+        return ResponseEntity.ok(taskJobService.getJob(id));
+    }
+
+    /**
+     * Cancela uma operação em massa. Os lotes já processados não são desfeitos.
+     * @param id O ID da operação.
+     * @return Um ResponseEntity com os dados da operação após o cancelamento.
+     */
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<TaskJobResponseDTO> cancelJob(@PathVariable Long id) {
+        log.info("Received request to cancel task job with ID: {}", id);
+        TaskJobResponseDTO job = taskJobService.cancelJob(id);
+        log.info("Task job with ID {} is now {}.", id, job.status());
+        return ResponseEntity.ok(job);
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.controller;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.stream.SseTaskEventSink;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.stream.TaskEventBroadcaster;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+
+/**
+ * Controller para o feed de alterações de tarefas, via Server-Sent Events.
+ */
+@RestController
+@RequestMapping("/tasks/stream")
+@Slf4j
+public class TaskStreamController {
+
+    private final TaskEventBroadcaster broadcaster;
+    private final Duration timeout;
+
+    public TaskStreamController(TaskEventBroadcaster broadcaster,
+                                @Value("${app.task-stream.timeout:30m}") Duration timeout) {
+        this.broadcaster = broadcaster;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Abre um feed com as alterações de tarefas (criação, atualização, conclusão e exclusão) confirmadas
+     * a partir de agora. Clientes que reconectam podem informar o último evento recebido no cabeçalho
+     * {@code Last-Event-ID} (enviado automaticamente pelo EventSource) ou no parâmetro {@code lastEventId}.
+     * @param lastEventIdHeader O ID do último evento recebido, informado no cabeçalho.
+     * @param lastEventIdParam O ID do último evento recebido, informado como parâmetro.
+     * @return O SseEmitter da conexão.
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskChanges(@RequestHeader(name = "Last-Event-ID", required = false) Long lastEventIdHeader,
+                                        @RequestParam(name = "lastEventId", required = false) Long lastEventIdParam) {
+        Long lastEventId = lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam;
+        log.info("Received request to stream task changes (Last-Event-ID: {}).", lastEventId);
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        TaskEventBroadcaster.Subscription subscription = broadcaster.subscribe(new SseTaskEventSink(emitter), lastEventId);
+        emitter.onCompletion(subscription::cancel);
+        emitter.onError(e -> subscription.cancel());
+        // Encerra normalmente ao expirar; o cliente reconecta com o Last-Event-ID.
+        emitter.onTimeout(emitter::complete);
+        return emitter;
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.controller;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskChangesResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.service.TaskSyncService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller para a sincronização incremental de tarefas.
+ */
+@RestController
+@RequestMapping("/tasks/changes")
+@Slf4j
+public class TaskSyncController {
+
+    private final TaskSyncService taskSyncService;
+
+    public TaskSyncController(TaskSyncService taskSyncService) {
+        this.taskSyncService = taskSyncService;
+    }
+
+    /**
+     * Retorna as tarefas criadas, alteradas ou excluídas desde a última sincronização do cliente.
+     * @param since O token retornado pela sincronização anterior. Se omitido, retorna todas as tarefas.
+     * @param limit O número máximo de alterações retornadas (padrão: 500).
+     * @return Um ResponseEntity contendo as alterações e o próximo token.
+     */
+    @GetMapping
+    public ResponseEntity<TaskChangesResponseDTO> getChanges(@RequestParam(required = false) Long since,
+                                                             @RequestParam(defaultValue = "500") int limit) {
+        log.info("Received request to sync task changes since token {}.", since);
+        TaskChangesResponseDTO changes = taskSyncService.getChanges(since, limit);
+        return ResponseEntity.ok(changes);
+    }
+}
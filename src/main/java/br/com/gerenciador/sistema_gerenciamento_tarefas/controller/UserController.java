@@ -2,6 +2,7 @@ package br.com.gerenciador.sistema_gerenciamento_tarefas.controller;
 
 import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.User;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.UserRole;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.page.PageResponseDTO;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.user.UserResponseDTO;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.user.UserUpdateDTO;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.service.UserService;
@@ -39,14 +40,14 @@ public class UserController {
      * Acesso restrito a administradores.
      *
      * @param pageable O objeto de paginação injetado pelo Spring a partir dos parâmetros da requisição.
-     * @return Uma página de UserResponseDTO com os dados públicos dos usuários.
+     * @return Uma página (PageResponseDTO) de UserResponseDTO com os dados públicos dos usuários.
      */
     @GetMapping
-    public ResponseEntity<Page<UserResponseDTO>> getAllUsers(@PageableDefault(size = 10, sort = "login") Pageable pageable) {
+    public ResponseEntity<PageResponseDTO<UserResponseDTO>> getAllUsers(@PageableDefault(size = 10, sort = "login") Pageable pageable) {
         log.info("Request received to fetch all users with pagination: {}", pageable);
         Page<UserResponseDTO> users = userService.getAllUsers(pageable);
         log.info("Returning {} users on page {}", users.getNumberOfElements(), users.getNumber());
-        return ResponseEntity.ok(users);
+        return ResponseEntity.ok(new PageResponseDTO<>(users));
     }
 
     /**
@@ -0,0 +1,66 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.controller;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.webhook.WebhookCreateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.webhook.WebhookResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.service.WebhookService;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.List;
+
+/**
+ * Controller para o cadastro de assinaturas de webhooks, que recebem as alterações de tarefas.
+ * Acesso restrito a administradores.
+ */
+@RestController
+@RequestMapping("/webhooks")
+@Slf4j
+public class WebhookController {
+
+    private final WebhookService webhookService;
+
+    public WebhookController(WebhookService webhookService) {
+        this.webhookService = webhookService;
+    }
+
+    /**
+     * Lista todas as assinaturas de webhooks.
+     * @return Um ResponseEntity contendo a lista de assinaturas.
+     */
+    @GetMapping
+    public ResponseEntity<List<WebhookResponseDTO>> listWebhooks() {
+        log.info("Received request to list all webhook subscriptions.");
+        return ResponseEntity.ok(webhookService.listWebhooks());
+    }
+
+    /**
+     * Cadastra uma nova assinatura de webhook.
+     * @param data DTO com a URL do endpoint.
+     * @param uriBuilder Construtor de URI para gerar o cabeçalho Location da resposta.
+     * @return Um ResponseEntity com status 201 Created, o cabeçalho Location e o corpo da assinatura criada.
+     */
+    @PostMapping
+    public ResponseEntity<WebhookResponseDTO> createWebhook(@RequestBody @Valid WebhookCreateDTO data, UriComponentsBuilder uriBuilder) {
+        log.info("Received request to create a new webhook subscription.");
+        WebhookResponseDTO created = webhookService.createWebhook(data);
+        var uri = uriBuilder.path("/webhooks/{id}").buildAndExpand(created.id()).toUri();
+        log.info("Webhook subscription created successfully. URI: {}", uri);
+        return ResponseEntity.created(uri).body(created);
+    }
+
+    /**
+     * Remove uma assinatura de webhook pelo seu ID.
+     * @param id O ID da assinatura.
+     * @return Um ResponseEntity com status 204 No Content.
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteWebhook(@PathVariable Long id) {
+        log.info("Received request to delete webhook subscription with ID: {}", id);
+        webhookService.deleteWebhook(id);
+        log.info("Webhook subscription with ID {} deleted successfully.", id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.domain.job;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Operação em massa sobre as tarefas que atendem a um filtro, executada em lotes em segundo plano.
+ * Mapeada para a tabela "task_jobs".
+ * <p>
+ * As tarefas são percorridas em ordem de ID; {@code lastTaskId} guarda o último ID processado e é gravado
+ * na mesma transação de cada lote, de modo que a operação é retomada do ponto exato após um reinício.
+ */
+@Entity(name = "TaskJob")
+@Table(name = "task_jobs")
+@NoArgsConstructor
+@Getter
+public class TaskJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // ID único da operação, gerado automaticamente pelo banco de dados.
+
+    @Enumerated(EnumType.STRING)
+    private TaskJobAction action; // Ação aplicada a cada tarefa selecionada.
+
+    @Column(name = "created_before")
+    private LocalDateTime createdBefore; // Filtro: apenas tarefas criadas antes desta data.
+    private Boolean completed; // Filtro: apenas tarefas neste estado de conclusão (null para ambos).
+
+    @Enumerated(EnumType.STRING)
+    private TaskJobStatus status; // Estado atual da operação.
+
+    @Column(name = "last_task_id")
+    private long lastTaskId; // Ponto de retomada: último ID de tarefa já processado.
+    private long processed; // Quantidade de tarefas processadas até agora.
+    private String error; // Mensagem de erro, se a operação falhou.
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt; // Data e hora da criação da operação.
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt; // Data e hora da última alteração de estado ou progresso.
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt; // Data e hora do término, se já terminou.
+
+    public TaskJob(TaskJobAction action, LocalDateTime createdBefore, Boolean completed, LocalDateTime now) {
+        this.action = action;
+        this.createdBefore = createdBefore;
+        this.completed = completed;
+        this.status = TaskJobStatus.PENDING;
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+
+    /**
+     * Marca a operação como em andamento.
+     */
+    public void start(LocalDateTime now) {
+        this.status = TaskJobStatus.RUNNING;
+        this.updatedAt = now;
+    }
+
+    /**
+     * Registra o progresso de um lote processado.
+     * @param lastTaskId O maior ID de tarefa do lote.
+     * @param count A quantidade de tarefas do lote.
+     */
+    public void advance(long lastTaskId, int count, LocalDateTime now) {
+        this.lastTaskId = lastTaskId;
+        this.processed += count;
+        this.updatedAt = now;
+    }
+
+    /**
+     * Marca a operação como concluída.
+     */
+    public void complete(LocalDateTime now) {
+        finish(TaskJobStatus.COMPLETED, now);
+    }
+
+    /**
+     * Cancela a operação. Os lotes já processados não são desfeitos.
+     */
+    public void cancel(LocalDateTime now) {
+        finish(TaskJobStatus.CANCELLED, now);
+    }
+
+    /**
+     * Marca a operação como falha.
+     * @param error A mensagem de erro.
+     */
+    public void fail(String error, LocalDateTime now) {
+        this.error = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        finish(TaskJobStatus.FAILED, now);
+    }
+
+    private void finish(TaskJobStatus status, LocalDateTime now) {
+        this.status = status;
+        this.updatedAt = now;
+        this.finishedAt = now;
+    }
+}
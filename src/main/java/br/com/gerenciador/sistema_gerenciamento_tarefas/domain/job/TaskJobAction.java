@@ -0,0 +1,9 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.domain.job;
+
+/**
+ * Ações que uma operação em massa ({@link TaskJob}) aplica às tarefas selecionadas pelo filtro.
+ */
+public enum TaskJobAction {
+    CONCLUDE,
+    DELETE
+}
@@ -0,0 +1,19 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.domain.job;
+
+/**
+ * Estados de uma operação em massa ({@link TaskJob}).
+ */
+public enum TaskJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    CANCELLED,
+    FAILED;
+
+    /**
+     * Indica se a operação já terminou (com sucesso, cancelada ou com falha).
+     */
+    public boolean isFinished() {
+        return this == COMPLETED || this == CANCELLED || this == FAILED;
+    }
+}
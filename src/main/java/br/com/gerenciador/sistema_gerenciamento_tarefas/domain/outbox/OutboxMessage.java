@@ -0,0 +1,28 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.domain.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento lido do outbox transacional para entrega a um destino externo.
+ * Como a entrega é "pelo menos uma vez", os consumidores devem usar o {@code id} para descartar duplicatas.
+ *
+ * @param id O ID do evento, crescente na ordem de gravação.
+ * @param aggregateType O tipo do agregado alterado (ex: {@code task}, {@code user}).
+ * @param aggregateId O ID do agregado alterado.
+ * @param eventType O tipo do evento (ex: {@code task.created}).
+ * @param payload O estado do agregado após a alteração, em JSON, ou null se ele foi excluído.
+ * @param createdAt A data e hora em que o evento foi gravado.
+ * @param attempts A quantidade de tentativas de entrega que já falharam.
+ */
+public record OutboxMessage(
+        long id,
+        String aggregateType,
+        String aggregateId,
+        String eventType,
+        @JsonRawValue String payload,
+        LocalDateTime createdAt,
+        int attempts
+) {
+}
@@ -2,7 +2,7 @@ package br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task;
 
 import jakarta.persistence.*;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskUpdateDTO;
-import lombok.AllArgsConstructor;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.id.GeneratedId;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,14 +17,13 @@ import java.time.LocalDateTime;
 @Entity(name = "Task")
 @Table(name = "tasks")
 @NoArgsConstructor
-@AllArgsConstructor
 @Getter
 @Setter
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id; // ID único da tarefa, gerado automaticamente pelo banco de dados.
+    @GeneratedId
+    private Long id; // ID único da tarefa, gerado pela aplicação (TSID ordenado no tempo, ou a sequência "task_ids", veja app.ids.tasks).
     private String title; // Título da tarefa.
     private String description; // Descrição detalhada da tarefa.
 
@@ -32,6 +31,17 @@ public class Task {
     private LocalDateTime creationDate; // Data e hora de criação da tarefa.
     private Boolean completed; // Indica se a tarefa foi concluída (true) ou está pendente (false).
 
+    @Column(name = "change_seq")
+    private long changeSeq; // Número de sequência da última alteração, usado na sincronização incremental.
+
+    public Task(Long id, String title, String description, LocalDateTime creationDate, Boolean completed) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.creationDate = creationDate;
+        this.completed = completed;
+    }
+
     /**
      * Atualiza as informações da tarefa com base nos dados fornecidos.
      * Apenas os campos não nulos no DTO de atualização serão modificados.
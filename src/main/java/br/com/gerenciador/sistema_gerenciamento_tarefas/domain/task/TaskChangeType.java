@@ -0,0 +1,15 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task;
+
+/**
+ * Tipos de alteração que uma tarefa pode sofrer, publicados em {@link TaskChangedEvent}.
+ */
+public enum TaskChangeType {
+    CREATED,
+    UPDATED,
+    CONCLUDED,
+    DELETED,
+    /** Movida para o armazenamento frio pela política de retenção: sai da listagem e fica apenas para leitura por ID. */
+    ARCHIVED,
+    /** Removida do armazenamento frio pelo expurgo: deixa de existir. */
+    PURGED
+}
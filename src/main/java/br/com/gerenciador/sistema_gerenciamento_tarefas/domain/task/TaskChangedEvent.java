@@ -0,0 +1,19 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+
+/**
+ * Evento de aplicação publicado pelo serviço de tarefas sempre que uma tarefa é criada,
+ * atualizada, concluída ou excluída. É publicado dentro da transação da escrita; ouvintes que dependem
+ * dos dados já persistidos devem usar {@code @TransactionalEventListener}.
+ *
+ * @param taskId O ID da tarefa alterada.
+ * @param type O tipo da alteração.
+ * @param task O estado da tarefa após a alteração, ou null se ela foi excluída.
+ */
+public record TaskChangedEvent(
+        Long taskId,
+        TaskChangeType type,
+        TaskResponseDTO task
+) {
+}
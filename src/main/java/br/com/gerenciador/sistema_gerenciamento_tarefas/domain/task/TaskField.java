@@ -0,0 +1,79 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.InvalidFieldSelectionException;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Campos de uma tarefa que podem ser selecionados individualmente pelo cliente
+ * (ex: {@code ?fields=id,title,completed}), evitando a leitura e o envio de colunas desnecessárias.
+ */
+public enum TaskField {
+    ID("id", "id"),
+    TITLE("title", "title"),
+    DESCRIPTION("description", "description"),
+    CREATION_DATE("creationDate", "creation_date"),
+    COMPLETED("completed", "completed");
+
+    private final String attributeName;
+    private final String columnName;
+
+    TaskField(String attributeName, String columnName) {
+        this.attributeName = attributeName;
+        this.columnName = columnName;
+    }
+
+    /**
+     * Retorna o nome do atributo da entidade {@link Task}, que também é o nome do campo na resposta JSON.
+     * @return O nome do atributo.
+     */
+    public String getAttributeName() {
+        return attributeName;
+    }
+
+    /**
+     * Retorna o nome da coluna correspondente na tabela "tasks".
+     * @return O nome da coluna.
+     */
+    public String getColumnName() {
+        return columnName;
+    }
+
+    /**
+     * Busca o campo correspondente a um nome de atributo (ex: "creationDate").
+     * @param name O nome do atributo.
+     * @return O campo correspondente.
+     * @throws InvalidFieldSelectionException se o nome não corresponder a nenhum campo.
+     */
+    public static TaskField fromAttributeName(String name) {
+        for (TaskField field : values()) {
+            if (field.attributeName.equals(name)) {
+                return field;
+            }
+        }
+        throw new InvalidFieldSelectionException("Unknown task field: " + name);
+    }
+
+    /**
+     * Converte uma lista de campos separados por vírgula (ex: "id,title,completed") em um conjunto de campos.
+     * O campo {@code id} é sempre incluído, para que o cliente consiga identificar cada tarefa.
+     * @param fields A lista de campos informada pelo cliente.
+     * @return O conjunto de campos selecionados, na ordem de declaração do enum.
+     * @throws InvalidFieldSelectionException se a lista estiver vazia ou contiver um campo desconhecido.
+     */
+    public static Set<TaskField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            throw new InvalidFieldSelectionException("At least one field must be selected.");
+        }
+        Set<TaskField> selected = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(fromAttributeName(trimmed));
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro da exclusão de uma tarefa, usado na sincronização incremental para informar aos clientes
+ * quais tarefas devem ser removidas. Mapeada para a tabela "task_tombstones".
+ */
+@Entity(name = "TaskTombstone")
+@Table(name = "task_tombstones")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class TaskTombstone {
+
+    @Id
+    @Column(name = "task_id")
+    private Long taskId; // ID da tarefa excluída.
+
+    @Column(name = "change_seq")
+    private long changeSeq; // Número de sequência da exclusão.
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt; // Data e hora da exclusão.
+}
@@ -1,6 +1,7 @@
 package br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user;
 
 import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.UserAlreadyExistsException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.id.GeneratedId;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.validation.ValidationUtils;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.UserRepository;
 import jakarta.persistence.*;
@@ -32,8 +33,8 @@ import java.util.UUID;
 @EqualsAndHashCode(of = "id")
 public class User implements UserDetails {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private UUID id; //ID único do usuário, gerado como UUID.
+    @GeneratedId
+    private UUID id; //ID único do usuário, gerado pela aplicação como UUIDv7 (ordenado no tempo).
 
     private String login; // Login do usuário, utilizado para autenticação.
     private String password; // Senha do usuário, armazenada de forma criptografada.
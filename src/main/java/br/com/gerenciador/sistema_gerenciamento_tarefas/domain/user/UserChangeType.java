@@ -0,0 +1,10 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user;
+
+/**
+ * Tipos de alteração que um usuário pode sofrer, publicados em {@link UserChangedEvent}.
+ */
+public enum UserChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
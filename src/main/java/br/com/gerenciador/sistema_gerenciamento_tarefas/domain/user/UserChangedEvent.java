@@ -0,0 +1,21 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.user.UserResponseDTO;
+
+import java.util.UUID;
+
+/**
+ * Evento de aplicação publicado sempre que um usuário é registrado, atualizado (login, senha ou role)
+ * ou excluído. É publicado dentro da transação da escrita; ouvintes que dependem dos dados já
+ * persistidos devem usar {@code @TransactionalEventListener}.
+ *
+ * @param userId O ID do usuário alterado.
+ * @param type O tipo da alteração.
+ * @param user Os dados públicos do usuário após a alteração, ou null se ele foi excluído.
+ */
+public record UserChangedEvent(
+        UUID userId,
+        UserChangeType type,
+        UserResponseDTO user
+) {
+}
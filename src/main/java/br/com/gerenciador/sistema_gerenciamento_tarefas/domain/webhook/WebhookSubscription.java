@@ -0,0 +1,28 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.domain.webhook;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Assinatura de webhook: um endpoint que recebe, via {@code POST}, as alterações de tarefas.
+ * Mapeada para a tabela "webhook_subscriptions".
+ */
+@Entity(name = "WebhookSubscription")
+@Table(name = "webhook_subscriptions")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class WebhookSubscription {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // ID único da assinatura, gerado automaticamente pelo banco de dados.
+    private String url; // URL (http ou https) que recebe os eventos.
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt; // Data e hora do cadastro.
+}
@@ -0,0 +1,22 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.dto.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * DTO (Data Transfer Object) para uma operação de um lote.
+ *
+ * @param method O método HTTP da operação (GET, POST, PUT, PATCH ou DELETE).
+ * @param path O caminho da operação, com a query string se houver (ex: /tasks/1 ou /tasks?page=0&size=5).
+ * @param body O corpo JSON da operação, se houver.
+ */
+public record BatchOperationDTO(
+        @NotBlank(message = "Method cannot be blank.")
+        String method,
+
+        @NotBlank(message = "Path cannot be blank.")
+        String path,
+
+        JsonNode body
+) {
+}
@@ -0,0 +1,21 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.dto.batch;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) para a requisição de um lote de operações ({@code POST /batch}).
+ *
+ * @param operations As operações, executadas na ordem informada.
+ * @param atomic Se true, as operações são executadas em uma única transação: a primeira falha
+ *               desfaz todas as anteriores e as seguintes não são executadas.
+ */
+public record BatchRequestDTO(
+        @NotEmpty(message = "Operations cannot be empty.")
+        List<@Valid BatchOperationDTO> operations,
+
+        boolean atomic
+) {
+}
@@ -0,0 +1,15 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.dto.batch;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) para a resposta de um lote de operações ({@code POST /batch}).
+ *
+ * @param rolledBack Se as operações de um lote atômico foram desfeitas por causa de uma falha.
+ * @param results Um resultado por operação, na ordem da requisição.
+ */
+public record BatchResponseDTO(
+        boolean rolledBack,
+        List<BatchResultDTO> results
+) {
+}
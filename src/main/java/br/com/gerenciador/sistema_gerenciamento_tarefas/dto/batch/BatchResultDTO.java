@@ -0,0 +1,21 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.dto.batch;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Map;
+
+/**
+ * DTO (Data Transfer Object) com o resultado de uma operação de um lote.
+ *
+ * @param status O status HTTP da operação.
+ * @param headers Os cabeçalhos da resposta da operação (ex: Location).
+ * @param body O corpo da resposta da operação, se houver.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record BatchResultDTO(
+        int status,
+        Map<String, String> headers,
+        JsonNode body
+) {
+}
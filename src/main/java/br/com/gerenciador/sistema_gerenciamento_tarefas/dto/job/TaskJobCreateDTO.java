@@ -0,0 +1,22 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.dto.job;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.job.TaskJobAction;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO (Data Transfer Object) para a criação de uma operação em massa sobre tarefas.
+ * Ao menos um dos filtros deve ser informado.
+ *
+ * @param action A ação aplicada a cada tarefa selecionada (CONCLUDE ou DELETE).
+ * @param createdBefore Filtro opcional: apenas tarefas criadas antes desta data.
+ * @param completed Filtro opcional: apenas tarefas concluídas (true) ou pendentes (false).
+ */
+public record TaskJobCreateDTO(
+        @NotNull(message = "A ação é obrigatória")
+        TaskJobAction action,
+        LocalDateTime createdBefore,
+        Boolean completed
+) {
+}
@@ -0,0 +1,45 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.dto.job;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.job.TaskJob;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.job.TaskJobAction;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.job.TaskJobStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO (Data Transfer Object) para retornar o estado e o progresso de uma operação em massa.
+ *
+ * @param id O ID único da operação.
+ * @param action A ação aplicada às tarefas.
+ * @param createdBefore O filtro de data de criação (a data da criação da operação, se não informado).
+ * @param completed O filtro de estado de conclusão, ou null para ambos.
+ * @param status O estado atual da operação.
+ * @param processed A quantidade de tarefas processadas até agora.
+ * @param lastTaskId O último ID de tarefa processado (ponto de retomada).
+ * @param error A mensagem de erro, se a operação falhou.
+ * @param createdAt A data e hora da criação.
+ * @param updatedAt A data e hora da última alteração de estado ou progresso.
+ * @param finishedAt A data e hora do término, ou null se ainda não terminou.
+ */
+public record TaskJobResponseDTO(
+        Long id,
+        TaskJobAction action,
+        LocalDateTime createdBefore,
+        Boolean completed,
+        TaskJobStatus status,
+        long processed,
+        long lastTaskId,
+        String error,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        LocalDateTime finishedAt
+) {
+    /**
+     * Construtor que converte uma entidade TaskJob em um TaskJobResponseDTO.
+     * @param job A entidade a ser convertida.
+     */
+    public TaskJobResponseDTO(TaskJob job) {
+        this(job.getId(), job.getAction(), job.getCreatedBefore(), job.getCompleted(), job.getStatus(), job.getProcessed(),
+                job.getLastTaskId(), job.getError(), job.getCreatedAt(), job.getUpdatedAt(), job.getFinishedAt());
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.dto.page;
+
+import org.springframework.data.domain.Page;
+
+/**
+ * DTO (Data Transfer Object) com os metadados de paginação de uma listagem.
+ *
+ * @param size O tamanho da página solicitada.
+ * @param number O número da página (começando em 0).
+ * @param totalElements A quantidade total de elementos em todas as páginas.
+ * @param totalPages A quantidade total de páginas.
+ */
+public record PageMetadataDTO(
+        int size,
+        int number,
+        long totalElements,
+        int totalPages
+) {
+    /**
+     * Construtor que extrai os metadados de uma {@link Page} do Spring Data.
+     * @param page A página de onde os metadados serão extraídos.
+     */
+    public PageMetadataDTO(Page<?> page) {
+        this(page.getSize(), page.getNumber(), page.getTotalElements(), page.getTotalPages());
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.dto.page;
+
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) padrão para respostas paginadas da API.
+ * Substitui a serialização direta de {@code PageImpl}, cujo formato (com as estruturas
+ * {@code pageable} e {@code sort}) é verboso e não tem garantia de estabilidade.
+ * Formato: {@code {"content": [...], "page": {"size", "number", "totalElements", "totalPages"}}}.
+ *
+ * @param content Os elementos da página atual.
+ * @param page Os metadados de paginação.
+ * @param <T> O tipo dos elementos da página.
+ */
+public record PageResponseDTO<T>(
+        List<T> content,
+        PageMetadataDTO page
+) {
+    /**
+     * Construtor que converte uma {@link Page} do Spring Data em um PageResponseDTO.
+     * @param page A página a ser convertida.
+     */
+    public PageResponseDTO(Page<T> page) {
+        this(page.getContent(), new PageMetadataDTO(page));
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) com as alterações de tarefas desde a última sincronização do cliente.
+ *
+ * @param changed As tarefas criadas ou alteradas, em ordem de alteração.
+ * @param deleted Os IDs das tarefas excluídas.
+ * @param syncToken O token a ser enviado como {@code since} na próxima sincronização.
+ * @param reset Se o cliente deve descartar suas tarefas locais antes de aplicar as alterações
+ *              (primeira sincronização ou token anterior à compactação das exclusões).
+ * @param hasMore Se ainda há alterações a buscar com o novo token.
+ */
+public record TaskChangesResponseDTO(
+        List<TaskResponseDTO> changed,
+        List<Long> deleted,
+        long syncToken,
+        boolean reset,
+        boolean hasMore
+) {
+}
@@ -0,0 +1,15 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task;
+
+import java.time.LocalDate;
+
+/**
+ * DTO (Data Transfer Object) com a quantidade de tarefas criadas em um dia.
+ *
+ * @param date O dia de criação.
+ * @param count A quantidade de tarefas criadas nesse dia.
+ */
+public record TaskDailyCountDTO(
+        LocalDate date,
+        long count
+) {
+}
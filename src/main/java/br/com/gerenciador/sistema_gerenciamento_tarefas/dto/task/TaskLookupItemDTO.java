@@ -0,0 +1,18 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * DTO (Data Transfer Object) com o resultado da busca de um ID na consulta de tarefas por lista de IDs.
+ *
+ * @param id O ID solicitado.
+ * @param found Se a tarefa foi encontrada.
+ * @param task Os dados da tarefa, ou null (omitido) se ela não foi encontrada.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskLookupItemDTO(
+        Long id,
+        boolean found,
+        TaskResponseDTO task
+) {
+}
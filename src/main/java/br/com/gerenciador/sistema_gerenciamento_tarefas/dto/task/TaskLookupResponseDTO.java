@@ -0,0 +1,17 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) para a resposta da consulta de tarefas por lista de IDs.
+ *
+ * @param results Um item por ID solicitado, na ordem da requisição (IDs repetidos aparecem uma única vez).
+ * @param found A quantidade de tarefas encontradas.
+ * @param notFound A quantidade de IDs sem tarefa correspondente.
+ */
+public record TaskLookupResponseDTO(
+        List<TaskLookupItemDTO> results,
+        int found,
+        int notFound
+) {
+}
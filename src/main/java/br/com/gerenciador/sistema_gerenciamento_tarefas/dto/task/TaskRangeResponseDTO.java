@@ -0,0 +1,23 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) para a resposta da consulta de tarefas por intervalo de datas.
+ * Reúne, em uma única resposta, as tarefas do intervalo e os totais agregados por dia.
+ *
+ * @param from O primeiro dia do intervalo (inclusivo).
+ * @param to O último dia do intervalo (inclusivo).
+ * @param total A quantidade total de tarefas no intervalo.
+ * @param dailyCounts A quantidade de tarefas criadas em cada dia, em ordem cronológica.
+ * @param tasks As tarefas criadas no intervalo, em ordem de ID.
+ */
+public record TaskRangeResponseDTO(
+        LocalDate from,
+        LocalDate to,
+        long total,
+        List<TaskDailyCountDTO> dailyCounts,
+        List<TaskResponseDTO> tasks
+) {
+}
@@ -0,0 +1,25 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangeType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+
+/**
+ * DTO (Data Transfer Object) de uma alteração de tarefa enviada no feed de alterações ({@code GET /tasks/stream}).
+ *
+ * @param id O número de sequência do evento, crescente e usado como {@code Last-Event-ID} para retomar o feed.
+ * @param type O tipo da alteração.
+ * @param taskId O ID da tarefa alterada.
+ * @param task O estado da tarefa após a alteração, ou null (omitido) se ela foi excluída.
+ * @param occurredAt O instante em que a alteração foi confirmada no banco.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskStreamEventDTO(
+        long id,
+        TaskChangeType type,
+        Long taskId,
+        TaskResponseDTO task,
+        Instant occurredAt
+) {
+}
@@ -0,0 +1,18 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.dto.webhook;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO (Data Transfer Object) para o cadastro de uma assinatura de webhook.
+ *
+ * @param url A URL que receberá os eventos. É obrigatória, deve usar http ou https e ter no máximo 2048 caracteres.
+ */
+public record WebhookCreateDTO(
+        @NotBlank(message = "A URL é obrigatória")
+        @Size(max = 2048, message = "A URL deve ter no máximo 2048 caracteres")
+        @Pattern(regexp = "https?://\\S+", message = "A URL deve começar com http:// ou https://")
+        String url
+) {
+}
@@ -0,0 +1,25 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.dto.webhook;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangeType;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+
+/**
+ * DTO (Data Transfer Object) de uma alteração de tarefa enviada aos webhooks.
+ * Cada requisição leva um array desses eventos, na ordem em que as alterações foram confirmadas.
+ *
+ * @param type O tipo da alteração.
+ * @param taskId O ID da tarefa alterada.
+ * @param task O estado da tarefa após a alteração (ausente em exclusões).
+ * @param occurredAt O instante em que a alteração foi confirmada.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record WebhookEventDTO(
+        TaskChangeType type,
+        Long taskId,
+        TaskResponseDTO task,
+        Instant occurredAt
+) {
+}
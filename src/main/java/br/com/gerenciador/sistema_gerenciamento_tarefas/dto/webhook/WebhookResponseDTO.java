@@ -0,0 +1,26 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.dto.webhook;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.webhook.WebhookSubscription;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO (Data Transfer Object) para retornar uma assinatura de webhook.
+ *
+ * @param id O ID único da assinatura.
+ * @param url A URL que recebe os eventos.
+ * @param createdAt A data e hora do cadastro.
+ */
+public record WebhookResponseDTO(
+        Long id,
+        String url,
+        LocalDateTime createdAt
+) {
+    /**
+     * Construtor que converte uma entidade WebhookSubscription em um WebhookResponseDTO.
+     * @param subscription A entidade a ser convertida.
+     */
+    public WebhookResponseDTO(WebhookSubscription subscription) {
+        this(subscription.getId(), subscription.getUrl(), subscription.getCreatedAt());
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.graphql;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskLookupItemDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.user.UserResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.service.TaskService;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.service.UserService;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Configuração da API GraphQL: carregadores em lote (DataLoader) e limites de profundidade e complexidade das consultas.
+ */
+@Configuration
+public class GraphQlConfiguration {
+
+    /**
+     * Registra os carregadores em lote de tarefas e usuários.
+     * Todas as buscas por ID feitas durante uma mesma consulta GraphQL são agrupadas em uma única
+     * chamada ao serviço (uma consulta {@code IN} no banco), e cada ID é buscado no máximo uma vez por consulta.
+     */
+    public GraphQlConfiguration(BatchLoaderRegistry registry, TaskService taskService, UserService userService) {
+        registry.forTypePair(Long.class, TaskResponseDTO.class)
+                .withOptions(options -> options.setMaxBatchSize(TaskService.MAX_LOOKUP_IDS))
+                .registerMappedBatchLoader((ids, environment) -> Mono.fromCallable(() ->
+                        taskService.getTasksByIds(List.copyOf(ids)).results().stream()
+                                .filter(TaskLookupItemDTO::found)
+                                .collect(Collectors.toMap(TaskLookupItemDTO::id, TaskLookupItemDTO::task))));
+        registry.forTypePair(UUID.class, UserResponseDTO.class)
+                .withOptions(options -> options.setMaxBatchSize(UserService.MAX_LOOKUP_IDS))
+                .registerMappedBatchLoader((ids, environment) -> Mono.fromCallable(() ->
+                        userService.getUsersByIds(ids).stream()
+                                .collect(Collectors.toMap(UserResponseDTO::id, Function.identity()))));
+    }
+
+    /**
+     * Rejeita consultas aninhadas além da profundidade máxima, antes de qualquer acesso ao banco.
+     */
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(@Value("${app.graphql.max-depth:6}") int maxDepth) {
+        return new MaxQueryDepthInstrumentation(maxDepth);
+    }
+
+    /**
+     * Rejeita consultas com campos demais (cada campo selecionado custa 1), antes de qualquer acesso ao banco.
+     */
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(@Value("${app.graphql.max-complexity:200}") int maxComplexity) {
+        return new MaxQueryComplexityInstrumentation(maxComplexity);
+    }
+}
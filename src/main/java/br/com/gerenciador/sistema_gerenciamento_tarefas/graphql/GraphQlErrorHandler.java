@@ -0,0 +1,54 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.graphql;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.DatabaseUnavailableException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.InvalidIdListException;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.graphql.data.method.annotation.GraphQlExceptionHandler;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+
+/**
+ * Tratamento centralizado de exceções da API GraphQL, traduzindo as exceções de negócio
+ * em erros GraphQL com a classificação adequada (equivalente ao {@code GlobalExceptionHandler} da API REST).
+ */
+@ControllerAdvice(basePackageClasses = GraphQlErrorHandler.class)
+@Slf4j
+public class GraphQlErrorHandler {
+
+    /**
+     * Handler para argumentos inválidos (ex: lista de IDs ou paginação). Retorna BAD_REQUEST.
+     */
+    @GraphQlExceptionHandler({InvalidIdListException.class, IllegalArgumentException.class})
+    public GraphQLError threatInvalidArgument(RuntimeException ex, DataFetchingEnvironment environment) {
+        log.warn(ex.getMessage());
+        return buildError(environment, ErrorType.BAD_REQUEST, ex.getMessage());
+    }
+
+    /**
+     * Handler para AccessDeniedException. Retorna FORBIDDEN.
+     */
+    @GraphQlExceptionHandler(AccessDeniedException.class)
+    public GraphQLError threatAccessDenied(AccessDeniedException ex, DataFetchingEnvironment environment) {
+        return buildError(environment, ErrorType.FORBIDDEN, ex.getMessage());
+    }
+
+    /**
+     * Handler para DatabaseUnavailableException. Retorna INTERNAL_ERROR com a mensagem de indisponibilidade.
+     */
+    @GraphQlExceptionHandler(DatabaseUnavailableException.class)
+    public GraphQLError threatDatabaseUnavailable(DatabaseUnavailableException ex, DataFetchingEnvironment environment) {
+        log.error("Database unavailable: {}", ex.getCause() != null ? ex.getCause().getMessage() : ex.getMessage());
+        return buildError(environment, ErrorType.INTERNAL_ERROR, ex.getMessage());
+    }
+
+    private GraphQLError buildError(DataFetchingEnvironment environment, ErrorType errorType, String message) {
+        return GraphqlErrorBuilder.newError(environment)
+                .errorType(errorType)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.graphql;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.InvalidIdListException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.service.TaskService;
+import lombok.extern.slf4j.Slf4j;
+import org.dataloader.DataLoader;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Controller GraphQL para consultas de tarefas.
+ * As buscas por ID passam pelo {@link DataLoader} de tarefas (veja {@link GraphQlConfiguration}),
+ * para que todas as tarefas de uma consulta sejam lidas em uma única ida ao banco.
+ */
+@Controller
+@Slf4j
+public class TaskGraphQlController {
+
+    /**
+     * Tamanho máximo de página aceito por {@link #taskPage}.
+     */
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final TaskService taskService;
+
+    public TaskGraphQlController(TaskService taskService) {
+        this.taskService = taskService;
+    }
+
+    @QueryMapping
+    public CompletableFuture<TaskResponseDTO> task(@Argument Long id, DataLoader<Long, TaskResponseDTO> taskLoader) {
+        return taskLoader.load(id);
+    }
+
+    @QueryMapping
+    public CompletableFuture<List<TaskResponseDTO>> tasks(@Argument List<Long> ids, DataLoader<Long, TaskResponseDTO> taskLoader) {
+        if (ids.size() > TaskService.MAX_LOOKUP_IDS) {
+            throw new InvalidIdListException("At most " + TaskService.MAX_LOOKUP_IDS + " task IDs can be fetched at once.");
+        }
+        return taskLoader.loadMany(ids);
+    }
+
+    @QueryMapping
+    public Page<TaskResponseDTO> taskPage(@Argument int page, @Argument int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page must not be negative and size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        log.info("Received GraphQL request to list tasks. Page: {}, size: {}", page, size);
+        return taskService.listAllTasks(PageRequest.of(page, size, Sort.by("creationDate")));
+    }
+}
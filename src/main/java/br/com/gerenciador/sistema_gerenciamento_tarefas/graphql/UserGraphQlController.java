@@ -0,0 +1,64 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.graphql;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.User;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.user.UserResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.InvalidIdListException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.service.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.dataloader.DataLoader;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.stereotype.Controller;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Controller GraphQL para consultas de usuários.
+ * Segue as mesmas regras de acesso da API REST: apenas administradores consultam outros usuários.
+ */
+@Controller
+@Slf4j
+public class UserGraphQlController {
+
+    private final UserService userService;
+
+    public UserGraphQlController(UserService userService) {
+        this.userService = userService;
+    }
+
+    @QueryMapping
+    public CompletableFuture<UserResponseDTO> user(@Argument UUID id, DataLoader<UUID, UserResponseDTO> userLoader,
+                                                   Authentication authentication) {
+        requireAdmin(authentication);
+        return userLoader.load(id);
+    }
+
+    @QueryMapping
+    public CompletableFuture<List<UserResponseDTO>> users(@Argument List<UUID> ids, DataLoader<UUID, UserResponseDTO> userLoader,
+                                                          Authentication authentication) {
+        requireAdmin(authentication);
+        if (ids.size() > UserService.MAX_LOOKUP_IDS) {
+            throw new InvalidIdListException("At most " + UserService.MAX_LOOKUP_IDS + " user IDs can be fetched at once.");
+        }
+        return userLoader.loadMany(ids);
+    }
+
+    @QueryMapping
+    public UserResponseDTO me(@AuthenticationPrincipal User user) {
+        return userService.getCurrentUser(user);
+    }
+
+    private void requireAdmin(Authentication authentication) {
+        boolean admin = authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        if (!admin) {
+            log.warn("GraphQL user query denied for {}", authentication != null ? authentication.getName() : "anonymous");
+            throw new AccessDeniedException("Access denied. You do not have permission to access this resource.");
+        }
+    }
+}
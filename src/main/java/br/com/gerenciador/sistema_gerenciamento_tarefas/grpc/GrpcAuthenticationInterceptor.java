@@ -0,0 +1,95 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.grpc;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.TokenService;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.TaskServiceGrpc;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.UserRepository;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Interceptor gRPC que valida o token JWT enviado no metadado {@code authorization}
+ * e aplica as mesmas regras de acesso da API REST: leituras exigem apenas autenticação,
+ * enquanto as operações de escrita exigem o papel ADMIN.
+ * O usuário autenticado fica disponível para a chamada através de {@link #AUTHENTICATED_USER}.
+ */
+@Component
+@Slf4j
+public class GrpcAuthenticationInterceptor implements ServerInterceptor {
+
+    public static final Context.Key<UserDetails> AUTHENTICATED_USER = Context.key("authenticated-user");
+
+    private static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String ADMIN_AUTHORITY = "ROLE_ADMIN";
+
+    private static final Set<String> ADMIN_METHODS = Set.of(
+            TaskServiceGrpc.getCreateTaskMethod().getFullMethodName(),
+            TaskServiceGrpc.getCreateTasksMethod().getFullMethodName(),
+            TaskServiceGrpc.getUpdateTaskMethod().getFullMethodName(),
+            TaskServiceGrpc.getConcludeTaskMethod().getFullMethodName(),
+            TaskServiceGrpc.getDeleteTaskMethod().getFullMethodName()
+    );
+
+    private final TokenService tokenService;
+    private final UserRepository userRepository;
+
+    public GrpcAuthenticationInterceptor(TokenService tokenService, UserRepository userRepository) {
+        this.tokenService = tokenService;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        String methodName = call.getMethodDescriptor().getFullMethodName();
+        Optional<UserDetails> user = authenticate(headers.get(AUTHORIZATION));
+
+        if (user.isEmpty()) {
+            log.warn("Unauthenticated gRPC call to {}", methodName);
+            call.close(Status.UNAUTHENTICATED.withDescription("Authentication is required to access this resource."), new Metadata());
+            return new ServerCall.Listener<>() {};
+        }
+        if (ADMIN_METHODS.contains(methodName) && !isAdmin(user.get())) {
+            log.warn("Access denied for user '{}' on gRPC method {}", user.get().getUsername(), methodName);
+            call.close(Status.PERMISSION_DENIED.withDescription("Access denied. You do not have permission to access this resource."), new Metadata());
+            return new ServerCall.Listener<>() {};
+        }
+
+        Context context = Context.current().withValue(AUTHENTICATED_USER, user.get());
+        return Contexts.interceptCall(context, call, headers, next);
+    }
+
+    /**
+     * Valida o cabeçalho de autorização e carrega o usuário correspondente.
+     *
+     * @param authorization O valor do metadado {@code authorization}, ou null.
+     * @return O usuário autenticado, ou vazio se o token estiver ausente ou for inválido.
+     */
+    private Optional<UserDetails> authenticate(String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return Optional.empty();
+        }
+        String login = tokenService.validateToken(authorization.substring(BEARER_PREFIX.length()));
+        if (login == null || login.isEmpty()) {
+            return Optional.empty();
+        }
+        return userRepository.findByLogin(login);
+    }
+
+    private boolean isAdmin(UserDetails user) {
+        return user.getAuthorities().stream()
+                .anyMatch(authority -> ADMIN_AUTHORITY.equals(authority.getAuthority()));
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.grpc;
+
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inicia e encerra o servidor gRPC junto com o contexto da aplicação.
+ * O servidor é opcional: só sobe com {@code app.grpc.enabled=true} e escuta na porta definida por
+ * {@code app.grpc.port}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.grpc.enabled", havingValue = "true")
+@Slf4j
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private static final long SHUTDOWN_GRACE_SECONDS = 10;
+
+    private final TaskGrpcService taskGrpcService;
+    private final GrpcAuthenticationInterceptor authenticationInterceptor;
+    private final int port;
+
+    private volatile Server server;
+
+    public GrpcServerLifecycle(TaskGrpcService taskGrpcService,
+                               GrpcAuthenticationInterceptor authenticationInterceptor,
+                               @Value("${app.grpc.port}") int port) {
+        this.taskGrpcService = taskGrpcService;
+        this.authenticationInterceptor = authenticationInterceptor;
+        this.port = port;
+    }
+
+    @Override
+    public void start() {
+        try {
+            server = NettyServerBuilder.forPort(port)
+                    .addService(ServerInterceptors.intercept(taskGrpcService, authenticationInterceptor))
+                    .build()
+                    .start();
+            log.info("gRPC server started on port {}", server.getPort());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start the gRPC server on port " + port, e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        Server current = server;
+        if (current == null) {
+            return;
+        }
+        log.info("Shutting down the gRPC server.");
+        current.shutdown();
+        try {
+            if (!current.awaitTermination(SHUTDOWN_GRACE_SECONDS, TimeUnit.SECONDS)) {
+                current.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            current.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+}
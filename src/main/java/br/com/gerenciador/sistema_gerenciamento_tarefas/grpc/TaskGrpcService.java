@@ -0,0 +1,237 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.grpc;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskCreateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskUpdateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.DatabaseUnavailableException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.TaskArchivedException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.TaskNotFoundException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.serialization.ProtobufDtoMapper;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.CreateTasksResponse;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.ListTasksRequest;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.Task;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.TaskCreateRequest;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.TaskIdRequest;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.TaskServiceGrpc;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.UpdateTaskRequest;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.service.TaskService;
+import com.google.protobuf.Empty;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Implementação gRPC do serviço de tarefas.
+ * Delega todas as operações ao {@link TaskService}, aplicando as mesmas validações de entrada
+ * dos DTOs da API REST e traduzindo as exceções de negócio em status gRPC.
+ */
+@Component
+@Slf4j
+public class TaskGrpcService extends TaskServiceGrpc.TaskServiceImplBase {
+
+    /**
+     * Tamanho padrão do lote lido do banco por {@link #listTasks}.
+     */
+    static final int DEFAULT_PAGE_SIZE = 100;
+    /**
+     * Tamanho máximo do lote lido do banco por {@link #listTasks}.
+     */
+    static final int MAX_PAGE_SIZE = 1000;
+
+    private final TaskService taskService;
+    private final Validator validator;
+
+    public TaskGrpcService(TaskService taskService, Validator validator) {
+        this.taskService = taskService;
+        this.validator = validator;
+    }
+
+    @Override
+    public void getTask(TaskIdRequest request, StreamObserver<Task> responseObserver) {
+        unary(responseObserver, () -> ProtobufDtoMapper.toProto(taskService.getTaskById(request.getId())));
+    }
+
+    /**
+     * Transmite as tarefas em ordem de ID, lendo o banco em lotes por chave.
+     * Um novo lote só é buscado quando o cliente está pronto para receber mais mensagens,
+     * respeitando o controle de fluxo do HTTP/2.
+     */
+    @Override
+    public void listTasks(ListTasksRequest request, StreamObserver<Task> responseObserver) {
+        if (request.getPageSize() < 0 || request.getPageSize() > MAX_PAGE_SIZE || request.getLimit() < 0) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("page_size must be between 0 and " + MAX_PAGE_SIZE + " and limit must not be negative.")
+                    .asRuntimeException());
+            return;
+        }
+        int pageSize = request.getPageSize() == 0 ? DEFAULT_PAGE_SIZE : request.getPageSize();
+        long limit = request.getLimit() == 0 ? Long.MAX_VALUE : request.getLimit();
+        log.info("Streaming tasks over gRPC in batches of {}", pageSize);
+
+        var serverObserver = (ServerCallStreamObserver<Task>) responseObserver;
+        var cursor = new ListTasksCursor();
+        serverObserver.setOnReadyHandler(() -> {
+            try {
+                while (!cursor.done && serverObserver.isReady() && !serverObserver.isCancelled()) {
+                    int batchSize = (int) Math.min(pageSize, limit - cursor.sent);
+                    List<TaskResponseDTO> batch = taskService.listTasksAfter(cursor.lastId, batchSize);
+                    for (TaskResponseDTO task : batch) {
+                        serverObserver.onNext(ProtobufDtoMapper.toProto(task));
+                        cursor.lastId = task.id();
+                    }
+                    cursor.sent += batch.size();
+                    if (batch.size() < batchSize || cursor.sent >= limit) {
+                        cursor.done = true;
+                        serverObserver.onCompleted();
+                        log.debug("Finished streaming {} tasks over gRPC.", cursor.sent);
+                    }
+                }
+            } catch (RuntimeException e) {
+                cursor.done = true;
+                serverObserver.onError(toStatusException(e));
+            }
+        });
+    }
+
+    @Override
+    public void createTask(TaskCreateRequest request, StreamObserver<Task> responseObserver) {
+        unary(responseObserver, () -> ProtobufDtoMapper.toProto(taskService.createTask(validate(ProtobufDtoMapper.toDto(request)))));
+    }
+
+    /**
+     * Cria cada tarefa recebida no stream assim que ela chega, em sua própria transação.
+     * Se uma das tarefas for inválida, o stream é encerrado com INVALID_ARGUMENT e as
+     * tarefas já criadas são mantidas.
+     */
+    @Override
+    public StreamObserver<TaskCreateRequest> createTasks(StreamObserver<CreateTasksResponse> responseObserver) {
+        return new StreamObserver<>() {
+            private final List<Long> ids = new ArrayList<>();
+            private boolean failed;
+
+            @Override
+            public void onNext(TaskCreateRequest request) {
+                if (failed) {
+                    return;
+                }
+                try {
+                    TaskCreateDTO data = validate(ProtobufDtoMapper.toDto(request));
+                    ids.add(taskService.createTask(data).id());
+                } catch (RuntimeException e) {
+                    failed = true;
+                    responseObserver.onError(toStatusException(e));
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.warn("Client aborted the gRPC bulk task creation after {} tasks: {}", ids.size(), t.getMessage());
+            }
+
+            @Override
+            public void onCompleted() {
+                if (failed) {
+                    return;
+                }
+                log.info("Created {} tasks over gRPC bulk ingest.", ids.size());
+                responseObserver.onNext(CreateTasksResponse.newBuilder()
+                        .setCreatedCount(ids.size())
+                        .addAllIds(ids)
+                        .build());
+                responseObserver.onCompleted();
+            }
+        };
+    }
+
+    @Override
+    public void updateTask(UpdateTaskRequest request, StreamObserver<Task> responseObserver) {
+        unary(responseObserver, () -> {
+            TaskUpdateDTO data = validate(ProtobufDtoMapper.toDto(request.getTask()));
+            return ProtobufDtoMapper.toProto(taskService.updateTask(request.getId(), data));
+        });
+    }
+
+    @Override
+    public void concludeTask(TaskIdRequest request, StreamObserver<Task> responseObserver) {
+        unary(responseObserver, () -> ProtobufDtoMapper.toProto(taskService.concludeTask(request.getId())));
+    }
+
+    @Override
+    public void deleteTask(TaskIdRequest request, StreamObserver<Empty> responseObserver) {
+        unary(responseObserver, () -> {
+            taskService.deleteTask(request.getId());
+            return Empty.getDefaultInstance();
+        });
+    }
+
+    /**
+     * Executa uma operação unária, enviando seu resultado ou o status de erro correspondente.
+     */
+    private <T> void unary(StreamObserver<T> responseObserver, Supplier<T> operation) {
+        T response;
+        try {
+            response = operation.get();
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatusException(e));
+            return;
+        }
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * Valida um DTO com as mesmas anotações usadas pela API REST.
+     * @throws StatusRuntimeException com INVALID_ARGUMENT se houver violações.
+     */
+    private <T> T validate(T data) {
+        Set<ConstraintViolation<T>> violations = validator.validate(data);
+        if (!violations.isEmpty()) {
+            String description = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            throw Status.INVALID_ARGUMENT.withDescription(description).asRuntimeException();
+        }
+        return data;
+    }
+
+    /**
+     * Traduz as exceções da camada de serviço para status gRPC.
+     */
+    private StatusRuntimeException toStatusException(RuntimeException e) {
+        if (e instanceof StatusRuntimeException statusException) {
+            return statusException;
+        }
+        if (e instanceof TaskNotFoundException) {
+            return Status.NOT_FOUND.withDescription(e.getMessage()).asRuntimeException();
+        }
+        if (e instanceof TaskArchivedException) {
+            return Status.FAILED_PRECONDITION.withDescription(e.getMessage()).asRuntimeException();
+        }
+        if (e instanceof DatabaseUnavailableException) {
+            return Status.UNAVAILABLE.withDescription(e.getMessage()).asRuntimeException();
+        }
+        log.error("Unexpected error while handling a gRPC call", e);
+        return Status.INTERNAL.withDescription("An unexpected internal error occurred.").asRuntimeException();
+    }
+
+    /**
+     * Posição de leitura de uma chamada {@code ListTasks}.
+     */
+    private static final class ListTasksCursor {
+        private long lastId;
+        private long sent;
+        private boolean done;
+    }
+}
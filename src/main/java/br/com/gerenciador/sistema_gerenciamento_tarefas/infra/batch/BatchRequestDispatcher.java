@@ -0,0 +1,185 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.batch;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.batch.BatchOperationDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.batch.BatchResultDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.CustomAccessDeniedHandler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Executa uma operação de um lote ({@code POST /batch}) dentro do próprio processo.
+ * <p>
+ * A operação é convertida em uma requisição sintética e entregue diretamente aos controllers
+ * (mapeamento, conversão de argumentos, validação, {@code GlobalExceptionHandler} e conversores de mensagem),
+ * sem passar de novo pelo container nem pela cadeia de filtros. Antes disso, a mesma regra de autorização
+ * de {@code SecurityConfigurations} é avaliada para o método e o caminho da operação.
+ */
+@Component
+@Slf4j
+public class BatchRequestDispatcher {
+
+    private final RequestMappingHandlerMapping handlerMapping;
+    private final RequestMappingHandlerAdapter handlerAdapter;
+    private final HandlerExceptionResolver exceptionResolver;
+    private final AuthorizationManager<HttpServletRequest> authorizationManager;
+    private final CustomAccessDeniedHandler accessDeniedHandler;
+    private final ObjectMapper objectMapper;
+
+    public BatchRequestDispatcher(@Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping,
+                                  RequestMappingHandlerAdapter handlerAdapter,
+                                  @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+                                  SecurityFilterChain securityFilterChain,
+                                  CustomAccessDeniedHandler accessDeniedHandler,
+                                  ObjectMapper objectMapper) {
+        this.handlerMapping = handlerMapping;
+        this.handlerAdapter = handlerAdapter;
+        this.exceptionResolver = exceptionResolver;
+        this.authorizationManager = securityFilterChain.getFilters().stream()
+                .filter(AuthorizationFilter.class::isInstance)
+                .map(filter -> ((AuthorizationFilter) filter).getAuthorizationManager())
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("The security filter chain has no authorization rules."));
+        this.accessDeniedHandler = accessDeniedHandler;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Executa uma operação em nome do usuário autenticado na requisição atual.
+     * @param operation A operação a ser executada.
+     * @param authentication O usuário autenticado que enviou o lote.
+     * @return O resultado da operação (status, cabeçalhos e corpo).
+     */
+    public BatchResultDTO dispatch(BatchOperationDTO operation, Authentication authentication) {
+        ServletRequestAttributes current = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+        BatchSubRequest request = new BatchSubRequest(current.getRequest(), operation.method(), operation.path(),
+                buildHeaders(operation), writeBody(operation.body()));
+        BatchSubResponse response = new BatchSubResponse(current.getResponse());
+
+        RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+        ServletRequestAttributes attributes = new ServletRequestAttributes(request, response);
+        RequestContextHolder.setRequestAttributes(attributes);
+        try {
+            if (isAllowed(request, authentication)) {
+                handle(request, response);
+            } else {
+                log.warn("Batch operation {} {} denied for user {}", operation.method(), operation.path(), authentication.getName());
+                accessDeniedHandler.handle(request, response, new AccessDeniedException("Access denied"));
+            }
+        } catch (Exception e) {
+            log.error("Unexpected error while executing batch operation {} {}", operation.method(), operation.path(), e);
+            response.reset();
+            response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+        } finally {
+            attributes.requestCompleted();
+            RequestContextHolder.setRequestAttributes(previous);
+        }
+        return toResult(response);
+    }
+
+    private boolean isAllowed(HttpServletRequest request, Authentication authentication) {
+        AuthorizationDecision result = authorizationManager.check(() -> authentication, request);
+        return result == null || result.isGranted();
+    }
+
+    /**
+     * Entrega a requisição ao controller correspondente, como o {@code DispatcherServlet} faria.
+     */
+    private void handle(BatchSubRequest request, BatchSubResponse response) throws Exception {
+        ServletRequestPathUtils.parseAndCache(request);
+        Object handler = null;
+        try {
+            HandlerExecutionChain chain = handlerMapping.getHandler(request);
+            if (chain == null) {
+                throw new NoResourceFoundException(HttpMethod.valueOf(request.getMethod()), request.getRequestURI());
+            }
+            handler = chain.getHandler();
+            List<HandlerInterceptor> interceptors = chain.getInterceptorList();
+            for (HandlerInterceptor interceptor : interceptors) {
+                if (!interceptor.preHandle(request, response, handler)) {
+                    return;
+                }
+            }
+            handlerAdapter.handle(request, response, handler);
+            for (HandlerInterceptor interceptor : interceptors.reversed()) {
+                interceptor.afterCompletion(request, response, handler, null);
+            }
+        } catch (Exception e) {
+            if (exceptionResolver.resolveException(request, response, handler, e) == null) {
+                throw e;
+            }
+        }
+    }
+
+    private HttpHeaders buildHeaders(BatchOperationDTO operation) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        if (operation.body() != null && !operation.body().isNull()) {
+            headers.setContentType(MediaType.APPLICATION_JSON);
+        }
+        return headers;
+    }
+
+    private byte[] writeBody(JsonNode body) {
+        if (body == null || body.isNull()) {
+            return new byte[0];
+        }
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not serialize batch operation body.", e);
+        }
+    }
+
+    private BatchResultDTO toResult(BatchSubResponse response) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        response.headers().forEach((name, values) -> headers.put(name, String.join(", ", values)));
+
+        byte[] body = response.body();
+        if (body.length == 0) {
+            return new BatchResultDTO(response.getStatus(), headers, null);
+        }
+        MediaType contentType = response.headers().getContentType();
+        if (contentType != null && (contentType.isCompatibleWith(MediaType.APPLICATION_JSON) || contentType.getSubtype().endsWith("+json"))) {
+            try {
+                return new BatchResultDTO(response.getStatus(), headers, objectMapper.readTree(body));
+            } catch (IOException e) {
+                log.warn("Batch operation returned invalid JSON; returning it as text.");
+            }
+        }
+        Charset charset = contentType != null && contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        return new BatchResultDTO(response.getStatus(), headers, TextNode.valueOf(new String(body, charset)));
+    }
+}
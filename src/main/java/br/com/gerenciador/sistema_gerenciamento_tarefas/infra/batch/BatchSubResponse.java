@@ -0,0 +1,240 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.batch;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Resposta HTTP sintética de uma operação de um lote ({@code POST /batch}).
+ * Guarda em memória o status, os cabeçalhos e o corpo escritos pelo controller,
+ * sem repassar nada à resposta original.
+ */
+class BatchSubResponse extends HttpServletResponseWrapper {
+
+    private int status = SC_OK;
+    private final HttpHeaders headers = new HttpHeaders();
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    private Charset charset = StandardCharsets.UTF_8;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    BatchSubResponse(HttpServletResponse original) {
+        super(original);
+    }
+
+    /**
+     * Retorna os cabeçalhos escritos na resposta.
+     */
+    HttpHeaders headers() {
+        return headers;
+    }
+
+    /**
+     * Retorna o corpo escrito na resposta.
+     */
+    byte[] body() {
+        if (writer != null) {
+            writer.flush();
+        }
+        return body.toByteArray();
+    }
+
+    // --- Status ---
+
+    @Override
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    @Override
+    public int getStatus() {
+        return status;
+    }
+
+    @Override
+    public void sendError(int status) {
+        this.status = status;
+    }
+
+    @Override
+    public void sendError(int status, String message) {
+        this.status = status;
+    }
+
+    @Override
+    public void sendRedirect(String location) {
+        this.status = SC_FOUND;
+        headers.set(HttpHeaders.LOCATION, location);
+    }
+
+    @Override
+    public boolean isCommitted() {
+        return false;
+    }
+
+    // --- Cabeçalhos ---
+
+    @Override
+    public void setHeader(String name, String value) {
+        headers.set(name, value);
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        headers.add(name, value);
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        headers.set(name, String.valueOf(value));
+    }
+
+    @Override
+    public void addIntHeader(String name, int value) {
+        headers.add(name, String.valueOf(value));
+    }
+
+    @Override
+    public void setDateHeader(String name, long date) {
+        headers.setInstant(name, Instant.ofEpochMilli(date));
+    }
+
+    @Override
+    public void addDateHeader(String name, long date) {
+        headers.add(name, DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(date).atZone(ZoneOffset.UTC)));
+    }
+
+    @Override
+    public boolean containsHeader(String name) {
+        return headers.containsKey(name);
+    }
+
+    @Override
+    public String getHeader(String name) {
+        return headers.getFirst(name);
+    }
+
+    @Override
+    public Collection<String> getHeaders(String name) {
+        return headers.getOrEmpty(name);
+    }
+
+    @Override
+    public Collection<String> getHeaderNames() {
+        return List.copyOf(headers.keySet());
+    }
+
+    @Override
+    public void setContentType(String type) {
+        if (type == null) {
+            headers.remove(HttpHeaders.CONTENT_TYPE);
+            return;
+        }
+        MediaType mediaType = MediaType.parseMediaType(type);
+        if (mediaType.getCharset() != null) {
+            charset = mediaType.getCharset();
+        }
+        headers.setContentType(mediaType);
+    }
+
+    @Override
+    public String getContentType() {
+        return headers.getFirst(HttpHeaders.CONTENT_TYPE);
+    }
+
+    @Override
+    public void setCharacterEncoding(String encoding) {
+        if (encoding != null) {
+            charset = Charset.forName(encoding);
+        }
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return charset.name();
+    }
+
+    @Override
+    public void setContentLength(int length) {
+        // O tamanho é conhecido pelo próprio buffer.
+    }
+
+    @Override
+    public void setContentLengthLong(long length) {
+        // O tamanho é conhecido pelo próprio buffer.
+    }
+
+    // --- Corpo ---
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        if (outputStream == null) {
+            outputStream = new ServletOutputStream() {
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                    throw new UnsupportedOperationException("Batch operations are written synchronously.");
+                }
+
+                @Override
+                public void write(int b) {
+                    body.write(b);
+                }
+
+                @Override
+                public void write(byte[] buffer, int offset, int length) {
+                    body.write(buffer, offset, length);
+                }
+            };
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(body, charset));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (writer != null) {
+            writer.flush();
+        }
+        body.reset();
+    }
+
+    @Override
+    public void reset() {
+        resetBuffer();
+        headers.clear();
+        status = SC_OK;
+    }
+}
@@ -0,0 +1,131 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Resposta JSON já serializada, mantida em cache junto com suas variantes comprimidas.
+ * As variantes gzip e deflate são geradas sob demanda, apenas na primeira requisição
+ * que as aceita, e então reutilizadas.
+ */
+public final class CachedResponse {
+
+    /**
+     * Tamanho mínimo, em bytes, para que a resposta seja servida comprimida.
+     * Respostas menores que isso crescem ou economizam pouco com a compressão.
+     */
+    static final int MIN_COMPRESSION_SIZE = 1024;
+
+    private final byte[] json;
+    private volatile byte[] gzip;
+    private volatile byte[] deflate;
+
+    CachedResponse(byte[] json) {
+        this.json = json;
+    }
+
+    /**
+     * Retorna os bytes JSON não comprimidos.
+     * @return O corpo JSON serializado.
+     */
+    public byte[] json() {
+        return json;
+    }
+
+    /**
+     * Monta a resposta HTTP escolhendo a melhor codificação aceita pelo cliente
+     * (cabeçalho {@code Accept-Encoding}): gzip, deflate ou sem compressão.
+     * @param requestHeaders Os cabeçalhos da requisição.
+     * @return Um ResponseEntity com os bytes prontos para serem copiados para a resposta.
+     */
+    public ResponseEntity<byte[]> toResponseEntity(HttpHeaders requestHeaders) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (json.length >= MIN_COMPRESSION_SIZE) {
+            String acceptEncoding = requestHeaders.getFirst(HttpHeaders.ACCEPT_ENCODING);
+            if (accepts(acceptEncoding, "gzip")) {
+                return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzip());
+            }
+            if (accepts(acceptEncoding, "deflate")) {
+                return builder.header(HttpHeaders.CONTENT_ENCODING, "deflate").body(deflate());
+            }
+        }
+        return builder.body(json);
+    }
+
+    byte[] gzip() {
+        byte[] result = gzip;
+        if (result == null) {
+            // Corridas aqui apenas comprimem o mesmo conteúdo mais de uma vez.
+            result = compress(out -> new GZIPOutputStream(out));
+            gzip = result;
+        }
+        return result;
+    }
+
+    byte[] deflate() {
+        byte[] result = deflate;
+        if (result == null) {
+            result = compress(DeflaterOutputStream::new);
+            deflate = result;
+        }
+        return result;
+    }
+
+    private byte[] compress(CompressorFactory factory) {
+        var buffer = new ByteArrayOutputStream(json.length / 2);
+        try (OutputStream out = factory.create(buffer)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress cached response", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Verifica se a codificação aparece no cabeçalho {@code Accept-Encoding} sem {@code q=0}.
+     * Um valor de {@code q} inválido é tratado como {@code q=1}, como se não tivesse sido informado.
+     */
+    static boolean accepts(String acceptEncoding, String coding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            if (!tokens[0].trim().toLowerCase(Locale.ROOT).equals(coding)) {
+                continue;
+            }
+            for (int i = 1; i < tokens.length; i++) {
+                String parameter = tokens[i].replace(" ", "");
+                if (parameter.startsWith("q=") && quality(parameter.substring(2)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static double quality(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+
+    @FunctionalInterface
+    private interface CompressorFactory {
+        OutputStream create(OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.cache;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Optional;
+
+/**
+ * Marca a requisição HTTP atual como atendida com dados em cache desatualizados.
+ * A marca é guardada como atributo da requisição e transformada nos cabeçalhos {@code Age}
+ * e {@code Warning} por {@link StaleResponseHeadersAdvice}. Fora de uma requisição HTTP
+ * (ex: chamadas gRPC), a marca é ignorada.
+ *
+ * @param ageSeconds Há quantos segundos o dado servido foi carregado do banco.
+ * @param revalidationFailed Se o dado foi servido porque o banco estava indisponível.
+ */
+public record StaleRead(long ageSeconds, boolean revalidationFailed) {
+
+    private static final String ATTRIBUTE = StaleRead.class.getName();
+
+    /**
+     * Registra uma leitura desatualizada na requisição atual, mantendo a maior idade já registrada.
+     * @param read A leitura desatualizada.
+     */
+    public static void mark(StaleRead read) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        StaleRead previous = (StaleRead) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (previous != null) {
+            read = new StaleRead(Math.max(previous.ageSeconds, read.ageSeconds),
+                    previous.revalidationFailed || read.revalidationFailed);
+        }
+        attributes.setAttribute(ATTRIBUTE, read, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    /**
+     * Retorna a leitura desatualizada registrada na requisição atual, se houver.
+     * @return A marca da requisição atual.
+     */
+    public static Optional<StaleRead> current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable((StaleRead) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.cache;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adiciona os cabeçalhos {@code Age} e {@code Warning} às respostas atendidas com dados desatualizados
+ * (veja {@link StaleRead}), para que o cliente saiba que o conteúdo pode não refletir o estado atual.
+ */
+@ControllerAdvice
+public class StaleResponseHeadersAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String STALE_WARNING = "110 - \"Response is Stale\"";
+    static final String REVALIDATION_FAILED_WARNING = "111 - \"Revalidation Failed\"";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        StaleRead.current().ifPresent(read -> {
+            HttpHeaders headers = response.getHeaders();
+            headers.set(HttpHeaders.AGE, Long.toString(read.ageSeconds()));
+            headers.add(HttpHeaders.WARNING, STALE_WARNING);
+            if (read.revalidationFailed()) {
+                headers.add(HttpHeaders.WARNING, REVALIDATION_FAILED_WARNING);
+            }
+        });
+        return body;
+    }
+}
@@ -0,0 +1,295 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.cache;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangedEvent;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.datasource.ReadYourWritesTracker;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.DatabaseUnavailableException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.TaskNotFoundException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.resilience.CircuitBreaker;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Cache das leituras de tarefas com semântica stale-while-revalidate.
+ * <ul>
+ *     <li>Antes do TTL curto ({@code soft-ttl}), a entrada é servida diretamente.</li>
+ *     <li>Entre o TTL curto e o TTL longo ({@code hard-ttl}), a entrada é servida desatualizada enquanto
+ *     uma única atualização roda em segundo plano.</li>
+ *     <li>Se o banco falhar ou o circuit breaker estiver aberto, entradas ainda dentro do TTL longo são servidas
+ *     no lugar do erro; sem entrada, a leitura falha com {@link DatabaseUnavailableException} (503).</li>
+ * </ul>
+ * Leituras desatualizadas são registradas em {@link StaleRead}, que gera os cabeçalhos {@code Age} e {@code Warning}.
+ * As entradas da tarefa alterada e todas as páginas são removidas após o commit de cada escrita.
+ * <p>
+ * Com uma réplica de leitura configurada, valores carregados até {@code max-lag} depois de uma escrita confirmada
+ * nesta instância atendem apenas a requisição que os carregou: a leitura pode ter vindo de uma réplica que ainda não
+ * alcançou a escrita, e guardá-la serviria o valor antigo a todas as sessões até o fim do TTL.
+ */
+@Component
+@Slf4j
+public class TaskReadCache {
+
+    private final CircuitBreaker circuitBreaker;
+    private final Executor refreshExecutor;
+    private final LongSupplier ticker;
+    private final long softTtlNanos;
+    private final BooleanSupplier replicaMayBeStale;
+
+    private final Cache<Long, Entry<TaskResponseDTO>> tasks;
+    private final Cache<List<Object>, Entry<Page<TaskResponseDTO>>> pages;
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public TaskReadCache(CircuitBreaker circuitBreaker,
+                         @Value("${app.cache.task-reads.soft-ttl:5s}") Duration softTtl,
+                         @Value("${app.cache.task-reads.hard-ttl:5m}") Duration hardTtl,
+                         @Value("${app.cache.task-reads.max-entries:10000}") long maxEntries,
+                         @Value("${app.cache.task-reads.refresh-threads:2}") int refreshThreads,
+                         ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        this(circuitBreaker, softTtl, hardTtl, maxEntries, newRefreshExecutor(refreshThreads), System::nanoTime,
+                replicaMayBeStale(readYourWritesTracker));
+    }
+
+    TaskReadCache(CircuitBreaker circuitBreaker, Duration softTtl, Duration hardTtl, long maxEntries,
+                  Executor refreshExecutor, LongSupplier ticker, BooleanSupplier replicaMayBeStale) {
+        this.circuitBreaker = circuitBreaker;
+        this.replicaMayBeStale = replicaMayBeStale;
+        this.refreshExecutor = refreshExecutor;
+        this.ticker = ticker;
+        this.softTtlNanos = softTtl.toNanos();
+        this.tasks = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterWrite(hardTtl).ticker(ticker::getAsLong).build();
+        this.pages = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterWrite(hardTtl).ticker(ticker::getAsLong).build();
+    }
+
+    /**
+     * Retorna uma tarefa do cache ou a carrega do banco.
+     * @param id O ID da tarefa.
+     * @param loader Função que carrega a tarefa do banco.
+     * @return A tarefa, possivelmente desatualizada (veja {@link StaleRead}).
+     */
+    public TaskResponseDTO getTask(Long id, Supplier<TaskResponseDTO> loader) {
+        return get("task", tasks, id, loader);
+    }
+
+    /**
+     * Retorna várias tarefas de uma vez: as que estão no cache dentro do TTL curto são servidas diretamente,
+     * e as demais são carregadas em uma única chamada ao {@code loader} e guardadas no cache.
+     * Se o banco estiver indisponível e todas as tarefas ausentes tiverem uma cópia desatualizada,
+     * as cópias são servidas (veja {@link StaleRead}).
+     * @param ids Os IDs das tarefas.
+     * @param loader Função que carrega do banco as tarefas dos IDs informados (IDs inexistentes são omitidos).
+     * @return Um mapa (ID -> tarefa) com as tarefas encontradas.
+     */
+    public Map<Long, TaskResponseDTO> getTasks(Collection<Long> ids, Function<Set<Long>, List<TaskResponseDTO>> loader) {
+        Map<Long, TaskResponseDTO> result = new HashMap<>();
+        Map<Long, Entry<TaskResponseDTO>> staleEntries = new HashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+        long now = ticker.getAsLong();
+        for (Long id : ids) {
+            Entry<TaskResponseDTO> entry = tasks.getIfPresent(id);
+            if (entry != null && now - entry.loadedAt() < softTtlNanos) {
+                result.put(id, entry.value());
+            } else {
+                missing.add(id);
+                if (entry != null) {
+                    staleEntries.put(id, entry);
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        long loadGeneration = generation.get();
+        boolean cacheable = !replicaMayBeStale.getAsBoolean();
+        List<TaskResponseDTO> loaded;
+        try {
+            loaded = loadThroughBreaker(() -> loader.apply(missing));
+        } catch (DatabaseUnavailableException e) {
+            if (staleEntries.size() < missing.size()) {
+                throw e;
+            }
+            long maxAge = staleEntries.values().stream().mapToLong(entry -> now - entry.loadedAt()).max().orElse(0);
+            StaleRead.mark(new StaleRead(TimeUnit.NANOSECONDS.toSeconds(maxAge), true));
+            staleEntries.forEach((id, entry) -> result.put(id, entry.value()));
+            return result;
+        }
+
+        long loadedAt = ticker.getAsLong();
+        for (TaskResponseDTO task : loaded) {
+            result.put(task.id(), task);
+            if (cacheable) {
+                tasks.put(task.id(), new Entry<>(task, loadedAt));
+            }
+        }
+        if (generation.get() != loadGeneration) {
+            // Uma escrita foi confirmada durante o carregamento: os valores podem estar desatualizados.
+            loaded.forEach(task -> tasks.invalidate(task.id()));
+        }
+        return result;
+    }
+
+    /**
+     * Retorna uma página de tarefas do cache ou a carrega do banco.
+     * @param key Os parâmetros normalizados da paginação.
+     * @param loader Função que carrega a página do banco.
+     * @return A página, possivelmente desatualizada (veja {@link StaleRead}).
+     */
+    public Page<TaskResponseDTO> getPage(List<Object> key, Supplier<Page<TaskResponseDTO>> loader) {
+        return get("page", pages, key, loader);
+    }
+
+    /**
+     * Remove do cache a tarefa alterada e todas as páginas, após o commit da transação de escrita.
+     * @param event O evento de alteração da tarefa.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        generation.incrementAndGet();
+        tasks.invalidate(event.taskId());
+        pages.invalidateAll();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private <K, V> V get(String kind, Cache<K, Entry<V>> cache, K key, Supplier<V> loader) {
+        Entry<V> entry = cache.getIfPresent(key);
+        if (entry == null) {
+            return load(cache, key, loader);
+        }
+        long age = ticker.getAsLong() - entry.loadedAt();
+        if (age < softTtlNanos) {
+            return entry.value();
+        }
+        if (circuitBreaker.isOpen()) {
+            StaleRead.mark(new StaleRead(TimeUnit.NANOSECONDS.toSeconds(age), true));
+            return entry.value();
+        }
+        scheduleRefresh(kind, cache, key, loader);
+        StaleRead.mark(new StaleRead(TimeUnit.NANOSECONDS.toSeconds(age), false));
+        return entry.value();
+    }
+
+    /**
+     * Carrega o valor do banco passando pelo circuit breaker e o guarda no cache.
+     */
+    private <K, V> V load(Cache<K, Entry<V>> cache, K key, Supplier<V> loader) {
+        long loadGeneration = generation.get();
+        boolean cacheable = !replicaMayBeStale.getAsBoolean();
+        V value = loadThroughBreaker(loader);
+        if (!cacheable) {
+            // Logo após uma escrita, a réplica pode estar atrasada: o valor atende só esta requisição.
+            return value;
+        }
+        Entry<V> loaded = new Entry<>(value, ticker.getAsLong());
+        cache.put(key, loaded);
+        if (generation.get() != loadGeneration) {
+            // Uma escrita foi confirmada durante o carregamento: o valor pode estar desatualizado.
+            cache.asMap().remove(key, loaded);
+        }
+        return value;
+    }
+
+    /**
+     * Executa a carga passando pelo circuit breaker, convertendo falhas de infraestrutura
+     * em {@link DatabaseUnavailableException}.
+     */
+    private <V> V loadThroughBreaker(Supplier<V> loader) {
+        if (!circuitBreaker.allowRequest()) {
+            throw new DatabaseUnavailableException("The database is temporarily unavailable. Please try again later.");
+        }
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException e) {
+            circuitBreaker.recordFailure(e);
+            if (CircuitBreaker.isInfrastructureFailure(e)) {
+                throw new DatabaseUnavailableException("The database is temporarily unavailable. Please try again later.", e);
+            }
+            throw e;
+        }
+        circuitBreaker.recordSuccess();
+        return value;
+    }
+
+    /**
+     * Agenda uma única atualização em segundo plano para a chave. Se ela falhar, a entrada
+     * desatualizada continua sendo servida até o TTL longo.
+     */
+    private <K, V> void scheduleRefresh(String kind, Cache<K, Entry<V>> cache, K key, Supplier<V> loader) {
+        List<Object> refreshKey = List.of(kind, key);
+        if (!refreshing.add(refreshKey)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(cache, key, loader);
+                } catch (TaskNotFoundException e) {
+                    cache.invalidate(key);
+                } catch (RuntimeException e) {
+                    log.warn("Background refresh of {} failed; serving the cached value: {}", refreshKey, e.getMessage());
+                } finally {
+                    refreshing.remove(refreshKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(refreshKey);
+        }
+    }
+
+    private static BooleanSupplier replicaMayBeStale(ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        ReadYourWritesTracker tracker = readYourWritesTracker.getIfAvailable();
+        return tracker != null ? tracker::replicaMayBeStale : () -> false;
+    }
+
+    private static ExecutorService newRefreshExecutor(int threads) {
+        var counter = new AtomicLong();
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1000), runnable -> {
+            Thread thread = new Thread(runnable, "task-read-refresh-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Valor em cache junto com o instante (em nanossegundos do ticker) em que foi carregado.
+     */
+    private record Entry<V>(V value, long loadedAt) {
+    }
+}
@@ -0,0 +1,164 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.cache;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangedEvent;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.page.PageResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.datasource.ReadYourWritesTracker;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache das respostas JSON já serializadas das leituras de tarefas ({@code GET /tasks/{id}} e {@code GET /tasks}).
+ * Em um acerto, os bytes são enviados diretamente, sem nova consulta ou serialização.
+ * <p>
+ * Toda escrita em tarefas incrementa uma geração (versão) do cache e, após o commit, remove a tarefa alterada
+ * e todas as páginas. Uma resposta carregada durante uma escrita concorrente não é mantida no cache,
+ * pois a geração terá mudado.
+ * <p>
+ * Com uma réplica de leitura configurada, respostas carregadas até {@code max-lag} depois de uma escrita confirmada
+ * nesta instância também não são guardadas, pois podem ter sido lidas de uma réplica atrasada.
+ */
+@Component
+@Slf4j
+public class TaskResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, CachedResponse> tasks;
+    private final Cache<PageKey, CachedResponse> pages;
+    private final AtomicLong generation = new AtomicLong();
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public TaskResponseCache(ObjectMapper objectMapper,
+                             @Value("${app.cache.task-responses.max-entries:10000}") long maxEntries,
+                             @Value("${app.cache.task-responses.ttl:60s}") Duration ttl,
+                             ObjectProvider<MeterRegistry> meterRegistry,
+                             ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        this.objectMapper = objectMapper;
+        this.readYourWritesTracker = readYourWritesTracker.getIfAvailable();
+        this.tasks = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterWrite(ttl).recordStats().build();
+        this.pages = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterWrite(ttl).recordStats().build();
+        meterRegistry.ifAvailable(registry -> {
+            CaffeineCacheMetrics.monitor(registry, tasks, "task.responses.byId");
+            CaffeineCacheMetrics.monitor(registry, pages, "task.responses.pages");
+        });
+    }
+
+    /**
+     * Retorna a resposta em cache de uma tarefa, carregando e serializando-a em caso de falta.
+     * @param id O ID da tarefa.
+     * @param loader Função que carrega a tarefa (e lança exceção se ela não existir).
+     * @return A resposta serializada.
+     */
+    public CachedResponse getTask(Long id, Supplier<TaskResponseDTO> loader) {
+        return get(tasks, id, loader);
+    }
+
+    /**
+     * Retorna a resposta em cache de uma página de tarefas, carregando e serializando-a em caso de falta.
+     * @param pageable A paginação solicitada.
+     * @param loader Função que carrega a página.
+     * @return A resposta serializada.
+     */
+    public CachedResponse getPage(Pageable pageable, Supplier<PageResponseDTO<TaskResponseDTO>> loader) {
+        return get(pages, PageKey.of(pageable), loader);
+    }
+
+    /**
+     * Remove do cache a tarefa alterada e todas as páginas, após o commit da transação de escrita.
+     * @param event O evento de alteração da tarefa.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        generation.incrementAndGet();
+        tasks.invalidate(event.taskId());
+        pages.invalidateAll();
+        log.debug("Invalidated cached responses for task {} ({})", event.taskId(), event.type());
+    }
+
+    /**
+     * Remove todas as respostas do cache.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        tasks.invalidateAll();
+        pages.invalidateAll();
+    }
+
+    /**
+     * Indica se a resposta servida pelo cache (JSON) é a preferida pelo cliente, de acordo com o cabeçalho Accept.
+     * Quando outro formato é preferido (ex: Protobuf), a requisição deve seguir pela negociação de conteúdo padrão.
+     * @param requestHeaders Os cabeçalhos da requisição.
+     * @return true se JSON for aceitável e tiver a maior preferência.
+     */
+    public static boolean prefersJson(HttpHeaders requestHeaders) {
+        List<MediaType> accepted;
+        try {
+            accepted = requestHeaders.getAccept();
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        if (accepted.isEmpty()) {
+            return true;
+        }
+        return accepted.stream()
+                .max(Comparator.comparingDouble(MediaType::getQualityValue))
+                .filter(best -> best.getQualityValue() > 0 && best.isCompatibleWith(MediaType.APPLICATION_JSON))
+                .isPresent();
+    }
+
+    private <K> CachedResponse get(Cache<K, CachedResponse> cache, K key, Supplier<?> loader) {
+        CachedResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long loadGeneration = generation.get();
+        boolean replicaMayBeStale = readYourWritesTracker != null && readYourWritesTracker.replicaMayBeStale();
+        CachedResponse loaded = new CachedResponse(serialize(loader.get()));
+        if (replicaMayBeStale || StaleRead.current().isPresent()) {
+            // Dados desatualizados são servidos apenas a esta requisição, sem ocupar o cache de respostas.
+            return loaded;
+        }
+        cache.put(key, loaded);
+        if (generation.get() != loadGeneration) {
+            // Uma escrita foi confirmada durante o carregamento: o valor pode estar desatualizado.
+            cache.asMap().remove(key, loaded);
+        }
+        return loaded;
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize cached response", e);
+        }
+    }
+
+    /**
+     * Chave de uma página em cache: número, tamanho e ordenação.
+     */
+    private record PageKey(int number, int size, String sort) {
+        static PageKey of(Pageable pageable) {
+            return new PageKey(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().toString());
+        }
+    }
+}
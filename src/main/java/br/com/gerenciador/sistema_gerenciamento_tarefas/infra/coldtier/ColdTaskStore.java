@@ -0,0 +1,197 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.coldtier;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.Task;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Armazenamento frio de tarefas: segmentos imutáveis ({@link TaskSegment}), colunares e comprimidos, em disco local.
+ * <p>
+ * Recebe as tarefas antigas retiradas da tabela {@code tasks} pela política de retenção e as serve nas buscas
+ * por ID que não as encontram no banco. Cada lote arquivado vira um novo segmento; os segmentos nunca são
+ * alterados, apenas removidos inteiros quando todas as suas tarefas passam do prazo de expurgo.
+ * Na inicialização, apenas os rodapés (índices esparsos) dos segmentos existentes são lidos.
+ */
+@Component
+@Slf4j
+public class ColdTaskStore {
+
+    private final Path directory;
+    private final int blockSize;
+    private final List<TaskSegment> segments = new CopyOnWriteArrayList<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public ColdTaskStore(MeterRegistry meterRegistry,
+                         @Value("${app.cold-tier.directory:./data/cold-tasks}") Path directory,
+                         @Value("${app.cold-tier.block-size:512}") int blockSize) {
+        this.directory = directory;
+        this.blockSize = blockSize;
+        this.hits = meterRegistry.counter("cold.lookups", "result", "hit");
+        this.misses = meterRegistry.counter("cold.lookups", "result", "miss");
+        meterRegistry.gauge("cold.segments", segments, List::size);
+        loadSegments();
+    }
+
+    /**
+     * Grava as tarefas em um novo segmento. O segmento só fica visível depois de gravado por completo.
+     * Dentro de uma transação, o segmento é removido se ela for desfeita: as tarefas continuam no banco e seriam
+     * arquivadas de novo na próxima execução, e uma cópia esquecida no armazenamento frio voltaria a ser servida
+     * se a tarefa fosse excluída depois.
+     * @param tasks As tarefas, em ordem crescente de ID.
+     * @throws UncheckedIOException se o segmento não puder ser gravado.
+     */
+    public synchronized void append(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        long sequence = segments.stream().mapToLong(TaskSegment::sequence).max().orElse(0) + 1;
+        try {
+            Files.createDirectories(directory);
+            TaskSegment segment = TaskSegment.write(directory, sequence, tasks, blockSize);
+            segments.add(segment);
+            removeOnRollback(segment);
+            log.info("Wrote cold task segment {} with {} tasks in {} blocks (IDs {} to {}).", segment.path().getFileName(),
+                    segment.rowCount(), segment.blockCount(), tasks.get(0).getId(), tasks.get(tasks.size() - 1).getId());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write cold task segment " + sequence, e);
+        }
+    }
+
+    /**
+     * Busca uma tarefa arquivada pelo ID, do segmento mais recente para o mais antigo.
+     * @param id O ID da tarefa.
+     * @return A tarefa, se estiver arquivada.
+     */
+    public Optional<TaskResponseDTO> find(Long id) {
+        // Cópia da lista: um expurgo concorrente pode remover segmentos durante a busca.
+        TaskSegment[] snapshot = segments.toArray(new TaskSegment[0]);
+        for (int i = snapshot.length - 1; i >= 0; i--) {
+            TaskSegment segment = snapshot[i];
+            try {
+                Optional<TaskResponseDTO> task = segment.find(id);
+                if (task.isPresent()) {
+                    hits.increment();
+                    return task;
+                }
+            } catch (IOException e) {
+                log.error("Failed to read cold task segment {}.", segment.path(), e);
+            }
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Remove os segmentos cujas tarefas foram todas criadas antes da data informada.
+     * @param threshold A data limite.
+     * @return O número de tarefas removidas.
+     */
+    public int purgeCreatedBefore(LocalDateTime threshold) {
+        return purgeCreatedBefore(threshold, ids -> {
+        });
+    }
+
+    /**
+     * Remove os segmentos cujas tarefas foram todas criadas antes da data informada, informando antes de cada
+     * remoção os IDs das tarefas do segmento. Se {@code beforeRemoval} falhar, o segmento é mantido e o expurgo
+     * é interrompido; os segmentos restantes são expurgados na próxima execução.
+     * @param threshold A data limite.
+     * @param beforeRemoval Recebe os IDs das tarefas de cada segmento, antes de ele ser removido.
+     * @return O número de tarefas removidas.
+     * @throws UncheckedIOException se as tarefas de um segmento não puderem ser lidas.
+     */
+    public synchronized int purgeCreatedBefore(LocalDateTime threshold, Consumer<List<Long>> beforeRemoval) {
+        int purged = 0;
+        for (TaskSegment segment : List.copyOf(segments)) {
+            if (!segment.maxCreationDate().isBefore(threshold)) {
+                continue;
+            }
+            try {
+                beforeRemoval.accept(segment.readAll().stream().map(TaskResponseDTO::id).toList());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read cold task segment " + segment.path(), e);
+            }
+            try {
+                segments.remove(segment);
+                Files.deleteIfExists(segment.path());
+                purged += segment.rowCount();
+                log.info("Purged cold task segment {} ({} tasks).", segment.path().getFileName(), segment.rowCount());
+            } catch (IOException e) {
+                log.error("Failed to delete cold task segment {}.", segment.path(), e);
+            }
+        }
+        return purged;
+    }
+
+    private void removeOnRollback(TaskSegment segment) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    remove(segment);
+                }
+            }
+        });
+    }
+
+    private synchronized void remove(TaskSegment segment) {
+        segments.remove(segment);
+        try {
+            Files.deleteIfExists(segment.path());
+            log.info("Removed cold task segment {} after its archive transaction rolled back.", segment.path().getFileName());
+        } catch (IOException e) {
+            log.error("Failed to delete cold task segment {} after a rollback.", segment.path(), e);
+        }
+    }
+
+    /**
+     * Retorna o número de segmentos.
+     */
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    private void loadSegments() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        List<TaskSegment> loaded = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + TaskSegment.EXTENSION)) {
+            for (Path file : files) {
+                try {
+                    loaded.add(TaskSegment.open(file));
+                } catch (IOException e) {
+                    log.error("Ignoring unreadable cold task segment {}.", file, e);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list cold task segments in " + directory, e);
+        }
+        loaded.sort(Comparator.comparingLong(TaskSegment::sequence));
+        segments.addAll(loaded);
+        log.info("Loaded {} cold task segments from {}.", loaded.size(), directory);
+    }
+}
@@ -0,0 +1,388 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.coldtier;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.Task;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Arquivo de segmento do armazenamento frio de tarefas: imutável, colunar e comprimido.
+ * <p>
+ * As tarefas de um segmento são gravadas em ordem de ID, em blocos de até {@code blockSize} linhas. Cada bloco
+ * guarda suas colunas separadamente (IDs em deltas, datas de criação, estados de conclusão em bits, títulos e
+ * descrições) e é comprimido com Deflate. O rodapé traz um índice esparso (o primeiro e o último ID e a posição
+ * de cada bloco), de modo que uma busca por ID lê e descomprime apenas um bloco.
+ * <pre>
+ * [bloco 0][bloco 1]...[rodapé][posição do rodapé: long][MAGIC: int]
+ * </pre>
+ */
+final class TaskSegment {
+
+    static final String EXTENSION = ".tseg";
+    private static final int MAGIC = 0x54534731; // "TSG1"
+    private static final int TRAILER_SIZE = Long.BYTES + Integer.BYTES;
+
+    private final Path path;
+    private final long sequence;
+    private final int rowCount;
+    private final long minId;
+    private final long maxId;
+    private final LocalDateTime maxCreationDate;
+    private final long[] blockFirstIds;
+    private final long[] blockLastIds;
+    private final long[] blockOffsets;
+    private final int[] blockLengths;
+
+    private TaskSegment(Path path, long sequence, int rowCount, long minId, long maxId, LocalDateTime maxCreationDate,
+                        long[] blockFirstIds, long[] blockLastIds, long[] blockOffsets, int[] blockLengths) {
+        this.path = path;
+        this.sequence = sequence;
+        this.rowCount = rowCount;
+        this.minId = minId;
+        this.maxId = maxId;
+        this.maxCreationDate = maxCreationDate;
+        this.blockFirstIds = blockFirstIds;
+        this.blockLastIds = blockLastIds;
+        this.blockOffsets = blockOffsets;
+        this.blockLengths = blockLengths;
+    }
+
+    /**
+     * Grava um novo segmento com as tarefas informadas, já ordenadas por ID.
+     * O arquivo é gravado com um nome temporário, sincronizado com o disco e só então renomeado,
+     * de modo que um segmento visível está sempre completo.
+     * @param directory O diretório dos segmentos.
+     * @param sequence O número do segmento, que define o nome do arquivo.
+     * @param tasks As tarefas, em ordem crescente de ID.
+     * @param blockSize O número máximo de tarefas por bloco.
+     * @return O segmento gravado.
+     */
+    static TaskSegment write(Path directory, long sequence, List<Task> tasks, int blockSize) throws IOException {
+        Path target = directory.resolve(fileName(sequence));
+        Path temporary = directory.resolve(fileName(sequence) + ".tmp");
+        int blockCount = (tasks.size() + blockSize - 1) / blockSize;
+        long[] firstIds = new long[blockCount];
+        long[] lastIds = new long[blockCount];
+        long[] offsets = new long[blockCount];
+        int[] lengths = new int[blockCount];
+        LocalDateTime maxCreationDate = LocalDateTime.MIN;
+
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        for (int block = 0; block < blockCount; block++) {
+            List<Task> rows = tasks.subList(block * blockSize, Math.min(tasks.size(), (block + 1) * blockSize));
+            byte[] compressed = encodeBlock(rows);
+            firstIds[block] = rows.get(0).getId();
+            lastIds[block] = rows.get(rows.size() - 1).getId();
+            offsets[block] = file.size();
+            lengths[block] = compressed.length;
+            file.write(compressed);
+            for (Task task : rows) {
+                if (task.getCreationDate().isAfter(maxCreationDate)) {
+                    maxCreationDate = task.getCreationDate();
+                }
+            }
+        }
+
+        long footerOffset = file.size();
+        DataOutputStream footer = new DataOutputStream(file);
+        footer.writeInt(tasks.size());
+        footer.writeLong(epochSecond(maxCreationDate));
+        footer.writeInt(maxCreationDate.getNano());
+        footer.writeInt(blockCount);
+        for (int block = 0; block < blockCount; block++) {
+            footer.writeLong(firstIds[block]);
+            footer.writeLong(lastIds[block]);
+            footer.writeLong(offsets[block]);
+            footer.writeInt(lengths[block]);
+        }
+        footer.writeLong(footerOffset);
+        footer.writeInt(MAGIC);
+        footer.flush();
+
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            ByteBuffer bytes = ByteBuffer.wrap(file.toByteArray());
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+        return new TaskSegment(target, sequence, tasks.size(), firstIds[0], lastIds[blockCount - 1], maxCreationDate,
+                firstIds, lastIds, offsets, lengths);
+    }
+
+    /**
+     * Abre um segmento existente, lendo apenas o rodapé (o índice esparso).
+     * @param path O arquivo do segmento.
+     * @return O segmento.
+     * @throws IOException se o arquivo não puder ser lido ou não for um segmento válido.
+     */
+    static TaskSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < TRAILER_SIZE) {
+                throw new IOException("Invalid task segment (too short): " + path);
+            }
+            ByteBuffer trailer = read(channel, size - TRAILER_SIZE, TRAILER_SIZE);
+            long footerOffset = trailer.getLong();
+            if (trailer.getInt() != MAGIC || footerOffset < 0 || footerOffset > size - TRAILER_SIZE) {
+                throw new IOException("Invalid task segment (bad trailer): " + path);
+            }
+            ByteBuffer footer = read(channel, footerOffset, (int) (size - TRAILER_SIZE - footerOffset));
+            int rowCount = footer.getInt();
+            LocalDateTime maxCreationDate = LocalDateTime.ofEpochSecond(footer.getLong(), footer.getInt(), ZoneOffset.UTC);
+            int blockCount = footer.getInt();
+            long[] firstIds = new long[blockCount];
+            long[] lastIds = new long[blockCount];
+            long[] offsets = new long[blockCount];
+            int[] lengths = new int[blockCount];
+            for (int block = 0; block < blockCount; block++) {
+                firstIds[block] = footer.getLong();
+                lastIds[block] = footer.getLong();
+                offsets[block] = footer.getLong();
+                lengths[block] = footer.getInt();
+            }
+            return new TaskSegment(path, sequence(path), rowCount, firstIds[0], lastIds[blockCount - 1], maxCreationDate,
+                    firstIds, lastIds, offsets, lengths);
+        }
+    }
+
+    /**
+     * Busca uma tarefa pelo ID, lendo e descomprimindo apenas o bloco que pode contê-la.
+     * @param id O ID da tarefa.
+     * @return A tarefa, se estiver neste segmento.
+     */
+    Optional<TaskResponseDTO> find(long id) throws IOException {
+        if (id < minId || id > maxId) {
+            return Optional.empty();
+        }
+        int block = findBlock(id);
+        if (block < 0) {
+            return Optional.empty();
+        }
+        ByteBuffer compressed;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            compressed = read(channel, blockOffsets[block], blockLengths[block]);
+        }
+        return decodeBlock(compressed.array()).stream()
+                .filter(task -> task.id() == id)
+                .findFirst();
+    }
+
+    /**
+     * Lê todas as tarefas do segmento, em ordem de ID.
+     */
+    List<TaskResponseDTO> readAll() throws IOException {
+        List<TaskResponseDTO> tasks = new ArrayList<>(rowCount);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            for (int block = 0; block < blockOffsets.length; block++) {
+                tasks.addAll(decodeBlock(read(channel, blockOffsets[block], blockLengths[block]).array()));
+            }
+        }
+        return tasks;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long sequence() {
+        return sequence;
+    }
+
+    int rowCount() {
+        return rowCount;
+    }
+
+    int blockCount() {
+        return blockOffsets.length;
+    }
+
+    LocalDateTime maxCreationDate() {
+        return maxCreationDate;
+    }
+
+    static String fileName(long sequence) {
+        return "tasks-%012d%s".formatted(sequence, EXTENSION);
+    }
+
+    private static long sequence(Path path) throws IOException {
+        String name = path.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring("tasks-".length(), name.length() - EXTENSION.length()));
+        } catch (RuntimeException e) {
+            throw new IOException("Invalid task segment name: " + name, e);
+        }
+    }
+
+    // Busca binária no índice esparso: o bloco cujo intervalo [primeiro ID, último ID] contém o ID.
+    private int findBlock(long id) {
+        int low = 0;
+        int high = blockFirstIds.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (blockLastIds[mid] < id) {
+                low = mid + 1;
+            } else if (blockFirstIds[mid] > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private static byte[] encodeBlock(List<Task> rows) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(compressed, deflater))) {
+            out.writeInt(rows.size());
+            // Coluna de IDs: o primeiro completo, os demais como diferença para o anterior
+            long previousId = 0;
+            for (Task task : rows) {
+                writeVarLong(out, task.getId() - previousId);
+                previousId = task.getId();
+            }
+            // Coluna de datas de criação: segundos como diferença para a anterior (com sinal) e nanossegundos
+            long previousSecond = 0;
+            for (Task task : rows) {
+                long second = epochSecond(task.getCreationDate());
+                writeVarLong(out, zigZag(second - previousSecond));
+                writeVarLong(out, task.getCreationDate().getNano());
+                previousSecond = second;
+            }
+            // Coluna de conclusão: um bit por tarefa
+            byte[] completed = new byte[(rows.size() + 7) / 8];
+            for (int i = 0; i < rows.size(); i++) {
+                if (Boolean.TRUE.equals(rows.get(i).getCompleted())) {
+                    completed[i / 8] |= (byte) (1 << (i % 8));
+                }
+            }
+            out.write(completed);
+            // Colunas de texto: todos os títulos e depois todas as descrições
+            for (Task task : rows) {
+                writeString(out, task.getTitle());
+            }
+            for (Task task : rows) {
+                writeString(out, task.getDescription());
+            }
+        } finally {
+            deflater.end();
+        }
+        return compressed.toByteArray();
+    }
+
+    private static List<TaskResponseDTO> decodeBlock(byte[] compressed) throws IOException {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(compressed)))) {
+            int rows = in.readInt();
+            long[] ids = new long[rows];
+            long previousId = 0;
+            for (int i = 0; i < rows; i++) {
+                previousId += readVarLong(in);
+                ids[i] = previousId;
+            }
+            LocalDateTime[] creationDates = new LocalDateTime[rows];
+            long previousSecond = 0;
+            for (int i = 0; i < rows; i++) {
+                previousSecond += unZigZag(readVarLong(in));
+                creationDates[i] = LocalDateTime.ofEpochSecond(previousSecond, (int) readVarLong(in), ZoneOffset.UTC);
+            }
+            byte[] completed = in.readNBytes((rows + 7) / 8);
+            String[] titles = new String[rows];
+            for (int i = 0; i < rows; i++) {
+                titles[i] = readString(in);
+            }
+            List<TaskResponseDTO> tasks = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                boolean done = (completed[i / 8] & (1 << (i % 8))) != 0;
+                tasks.add(new TaskResponseDTO(ids[i], titles[i], readString(in), creationDates[i], done));
+            }
+            return tasks;
+        }
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of task segment.");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static long epochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static void writeString(OutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length + 1L);
+        out.write(bytes);
+    }
+
+    private static String readString(InputStream in) throws IOException {
+        long length = readVarLong(in);
+        if (length == 0) {
+            return null;
+        }
+        return new String(in.readNBytes((int) (length - 1)), StandardCharsets.UTF_8);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new IOException("Unexpected end of task segment block.");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length number in task segment block.");
+    }
+}
@@ -0,0 +1,133 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.concurrency;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa leituras idênticas e concorrentes em uma única carga ("single-flight").
+ * A primeira requisição para uma chave executa a carga; as que chegam enquanto ela está em andamento
+ * aguardam o mesmo resultado (ou a mesma exceção), em vez de consultarem o banco novamente.
+ * <p>
+ * Se a carga em andamento demorar mais que o tempo limite, a requisição que aguardava desiste de
+ * esperar e executa sua própria carga, para que uma consulta travada não bloqueie todas as outras.
+ * <p>
+ * Leituras feitas dentro de uma transação de escrita (ex: um lote atômico) nunca são agrupadas: o resultado
+ * poderia conter alterações ainda não confirmadas, ou deixar de conter as da própria transação. As transações
+ * somente leitura só enxergam dados confirmados, então as leituras nelas continuam agrupadas.
+ * <p>
+ * Após o commit de cada escrita de tarefa, as cargas em andamento deixam de aceitar novas requisições: elas podem
+ * ter começado antes do commit, e uma requisição que chega depois dele deve ver a escrita. As requisições que já
+ * aguardavam continuam recebendo o resultado delas. Essa remoção roda antes da invalidação dos caches de leitura,
+ * para que a verificação de geração dos caches descarte qualquer valor antigo obtido de uma carga anterior.
+ */
+@Component
+@Slf4j
+public class RequestCoalescer {
+
+    private final ConcurrentMap<List<Object>, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Duration timeout;
+    private final MeterRegistry meterRegistry;
+
+    public RequestCoalescer(MeterRegistry meterRegistry,
+                            @Value("${app.read-coalescing.timeout:5s}") Duration timeout) {
+        this.meterRegistry = meterRegistry;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Executa a carga, ou aguarda a carga idêntica já em andamento.
+     *
+     * @param operation O nome da operação (ex: "getTaskById"), usado na chave e nas métricas.
+     * @param key Os parâmetros normalizados da requisição. Devem implementar equals e hashCode.
+     * @param loader A carga a ser executada.
+     * @return O resultado da carga.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Object key, Supplier<T> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            counter("task.reads.uncoalesced", operation).increment();
+            return loader.get();
+        }
+        List<Object> flightKey = List.of(operation, key);
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, own);
+
+        if (existing == null) {
+            return lead(flightKey, own, loader);
+        }
+
+        counter("task.reads.coalesced", operation).increment();
+        try {
+            return (T) existing.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Coalesced load failed", e.getCause());
+        } catch (TimeoutException | CancellationException e) {
+            counter("task.reads.coalescing.timeouts", operation).increment();
+            log.warn("Timed out after {} waiting for in-flight {} {}; loading independently.", timeout, operation, key);
+            return loader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for in-flight " + operation, e);
+        }
+    }
+
+    /**
+     * Impede que novas requisições aguardem as cargas iniciadas antes do commit de uma escrita de tarefa.
+     * @param event O evento de alteração da tarefa.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onTaskChanged(TaskChangedEvent event) {
+        inFlight.clear();
+    }
+
+    /**
+     * Retorna a quantidade de cargas em andamento no momento.
+     * @return O número de chaves em voo.
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private <T> T lead(List<Object> flightKey, CompletableFuture<Object> own, Supplier<T> loader) {
+        counter("task.reads.loads", (String) flightKey.get(0)).increment();
+        try {
+            T result = loader.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, own);
+        }
+    }
+
+    private Counter counter(String name, String operation) {
+        return meterRegistry.counter(name, "operation", operation);
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.config;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.serialization.ProtobufDtoHttpMessageConverter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Configuração da negociação de conteúdo para formatos binários.
+ * Além de JSON, a API aceita e retorna {@code application/cbor}, {@code application/x-jackson-smile}
+ * e {@code application/x-protobuf}, conforme os cabeçalhos Content-Type e Accept da requisição.
+ */
+@Configuration
+public class ContentNegotiationConfiguration implements WebMvcConfigurer {
+
+    /**
+     * Conversor CBOR construído a partir do mesmo builder do ObjectMapper JSON,
+     * para que módulos e serializadores customizados também valham para este formato.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Conversor Smile construído a partir do mesmo builder do ObjectMapper JSON,
+     * para que módulos e serializadores customizados também valham para este formato.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * Adiciona o conversor Protobuf ao final da lista, para que JSON continue sendo
+     * o formato padrão quando o cliente não especifica o cabeçalho Accept.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new ProtobufDtoHttpMessageConverter());
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.config;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.id.IdGenerator;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.id.IdGenerators;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.id.TsidGenerator;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.id.UuidV7Generator;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskIdSequence;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Configuração dos geradores de IDs das entidades ({@code app.ids.tasks}: tsid ou sequence;
+ * {@code app.ids.users}: uuidv7 ou random). Os geradores também são publicados no {@link IdGenerators},
+ * de onde o Hibernate os obtém ao gravar as entidades.
+ */
+@Configuration
+@Slf4j
+public class IdGeneratorConfiguration {
+
+    /**
+     * Padrão para tarefas: TSID gerado na aplicação, sem ida ao banco. Cada instância precisa de um
+     * {@code app.ids.node-id} próprio, e a inicialização falha se ele não for informado: com o mesmo nó, duas
+     * instâncias podem gerar o mesmo ID no mesmo milissegundo.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.ids.tasks", havingValue = "tsid", matchIfMissing = true)
+    public IdGenerator<Long> tsidTaskIdGenerator(@Value("${app.ids.node-id:#{null}}") Integer nodeId) {
+        if (nodeId == null) {
+            throw new IllegalStateException("app.ids.node-id (ID_NODE_ID) must be set to a node id unique to this "
+                    + "instance when task IDs are TSIDs (app.ids.tasks=tsid).");
+        }
+        log.info("Task IDs generated as TSIDs by node {}.", nodeId);
+        return new TsidGenerator(nodeId);
+    }
+
+    /**
+     * IDs de tarefas da sequência {@code task_ids} do banco (comportamento anterior): uma ida ao banco por ID.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.ids.tasks", havingValue = "sequence")
+    public IdGenerator<Long> sequenceTaskIdGenerator(TaskIdSequence taskIdSequence) {
+        log.info("Task IDs generated by the task_ids database sequence.");
+        return taskIdSequence::next;
+    }
+
+    /**
+     * Padrão para usuários: UUIDv7, ordenado no tempo.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.ids.users", havingValue = "uuidv7", matchIfMissing = true)
+    public IdGenerator<UUID> uuidV7UserIdGenerator() {
+        return new UuidV7Generator();
+    }
+
+    /**
+     * UUIDs aleatórios (versão 4), como antes.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.ids.users", havingValue = "random")
+    public IdGenerator<UUID> randomUserIdGenerator() {
+        return UUID::randomUUID;
+    }
+
+    /**
+     * Registro consultado pelo Hibernate, pelo container de beans da SessionFactory.
+     */
+    @Bean
+    public IdGenerators idGenerators(IdGenerator<Long> taskIdGenerator, IdGenerator<UUID> userIdGenerator) {
+        return new IdGenerators(Map.of(Long.class, taskIdGenerator, UUID.class, userIdGenerator));
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração adicional do Jackson (serialização JSON).
+ * Os módulos declarados como Bean são registrados automaticamente no ObjectMapper do Spring Boot.
+ */
+@Configuration
+public class JacksonConfiguration {
+
+    /**
+     * Registra o módulo Blackbird, que substitui o acesso por reflexão aos getters e construtores
+     * por lambdas geradas via {@code LambdaMetafactory}, reduzindo o custo de (de)serialização.
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.config;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.outbox.FileOutboxSink;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.outbox.HttpOutboxSink;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.outbox.InMemoryOutboxSink;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.outbox.OutboxSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuração do destino dos eventos do outbox transacional ({@code app.outbox.sink}: memory, file ou http).
+ */
+@Configuration
+public class OutboxConfiguration {
+
+    /**
+     * Destino padrão: guarda os eventos mais recentes em memória.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.outbox.sink", havingValue = "memory", matchIfMissing = true)
+    public OutboxSink inMemoryOutboxSink(@Value("${app.outbox.memory.capacity:1000}") int capacity) {
+        return new InMemoryOutboxSink(capacity);
+    }
+
+    /**
+     * Acrescenta os eventos a um arquivo JSON Lines.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.outbox.sink", havingValue = "file")
+    public OutboxSink fileOutboxSink(@Value("${app.outbox.file.path}") Path path, ObjectMapper objectMapper) {
+        return new FileOutboxSink(path, objectMapper);
+    }
+
+    /**
+     * Envia os eventos, em lotes, para um endpoint HTTP.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.outbox.sink", havingValue = "http")
+    public OutboxSink httpOutboxSink(@Value("${app.outbox.http.url}") URI url,
+                                     @Value("${app.outbox.http.timeout:10s}") Duration timeout,
+                                     ObjectMapper objectMapper) {
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+        return new HttpOutboxSink(httpClient, url, timeout, objectMapper);
+    }
+}
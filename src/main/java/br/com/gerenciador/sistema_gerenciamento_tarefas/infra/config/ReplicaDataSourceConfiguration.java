@@ -0,0 +1,74 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.config;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.datasource.DataSourceRoute;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.datasource.ReadWriteRoutingDataSource;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.datasource.ReadYourWritesTracker;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Separação de leituras e escritas entre o banco primário e uma réplica, habilitada ao configurar
+ * {@code app.datasource.replica.url}. Sem ela, a aplicação usa apenas o DataSource padrão ({@code spring.datasource}).
+ * <p>
+ * O DataSource da aplicação (usado pelo JPA, pelo JdbcTemplate e pelo Flyway) passa a ser o
+ * {@link ReadWriteRoutingDataSource}, envolvido por um {@link LazyConnectionDataSourceProxy}: fora de transações
+ * e em transações de escrita, o primário; em transações somente leitura, a réplica.
+ * <p>
+ * Com a rota decidida por transação, a sessão do Hibernate não pode manter a conexão entre transações: com o
+ * open-in-view, a mesma sessão atende a requisição inteira, e uma escrita depois de uma leitura (ex: um lote com GET
+ * e DELETE) reutilizaria a conexão da réplica. Por isso, a conexão é devolvida ao fim de cada transação
+ * ({@code DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION}), e a transação seguinte escolhe a sua rota de novo.
+ */
+@Configuration
+@ConditionalOnExpression("!'${app.datasource.replica.url:}'.isBlank()")
+@Slf4j
+public class ReplicaDataSourceConfiguration {
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(@Value("${app.datasource.replica.max-lag:2s}") Duration maxLag,
+                                                       @Value("${app.datasource.replica.max-sessions:100000}") int maxSessions) {
+        return new ReadYourWritesTracker(maxLag, maxSessions);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties primaryProperties,
+                                 @Value("${app.datasource.replica.url}") String replicaUrl,
+                                 @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String replicaUsername,
+                                 @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String replicaPassword,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        DataSource primary = primaryProperties.initializeDataSourceBuilder().build();
+        DataSource replica = DataSourceBuilder.create()
+                .url(replicaUrl)
+                .username(replicaUsername)
+                .password(replicaPassword)
+                .build();
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(readYourWritesTracker);
+        routing.setTargetDataSources(Map.of(DataSourceRoute.PRIMARY, primary, DataSourceRoute.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        log.info("Read-only transactions will be routed to the replica at {}.", replicaUrl);
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
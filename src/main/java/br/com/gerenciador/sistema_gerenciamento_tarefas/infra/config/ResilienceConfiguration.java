@@ -0,0 +1,24 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.config;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.resilience.CircuitBreaker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuração dos mecanismos de resiliência no acesso ao banco de dados.
+ */
+@Configuration
+public class ResilienceConfiguration {
+
+    /**
+     * Circuit breaker usado pelas leituras de tarefas.
+     */
+    @Bean
+    public CircuitBreaker databaseCircuitBreaker(@Value("${app.resilience.database.failure-threshold:5}") int failureThreshold,
+                                                 @Value("${app.resilience.database.open-duration:10s}") Duration openDuration) {
+        return new CircuitBreaker("database", failureThreshold, openDuration);
+    }
+}
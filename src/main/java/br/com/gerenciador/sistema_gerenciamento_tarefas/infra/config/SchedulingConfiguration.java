@@ -0,0 +1,12 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita a execução das tarefas agendadas ({@code @Scheduled}), como a compactação dos registros de exclusão.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
@@ -0,0 +1,9 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.datasource;
+
+/**
+ * Destinos do {@link ReadWriteRoutingDataSource}: o banco primário (leituras e escritas) ou a réplica (somente leitura).
+ */
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
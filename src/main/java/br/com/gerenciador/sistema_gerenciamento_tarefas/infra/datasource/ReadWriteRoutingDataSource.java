@@ -0,0 +1,53 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * DataSource que envia as transações somente leitura ({@code @Transactional(readOnly = true)}) para a réplica e todo
+ * o resto para o banco primário. Sessões que escreveram recentemente ({@link ReadYourWritesTracker}) leem do primário.
+ * <p>
+ * A decisão usa o estado da transação atual, que só é conhecido depois que ela começa; por isso este DataSource deve
+ * ser envolvido por um {@code LazyConnectionDataSourceProxy}, que adia a obtenção da conexão até o primeiro comando.
+ * Cada transação de escrita que chega ao primário registra, ao ser confirmada, uma escrita da sessão atual.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadWriteRoutingDataSource(ReadYourWritesTracker readYourWritesTracker) {
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return DataSourceRoute.PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWriteTracking();
+            return DataSourceRoute.PRIMARY;
+        }
+        return readYourWritesTracker.requiresPrimary() ? DataSourceRoute.PRIMARY : DataSourceRoute.REPLICA;
+    }
+
+    private void registerWriteTracking() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(readYourWritesTracker)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(readYourWritesTracker, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.recordWrite();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(readYourWritesTracker);
+            }
+        });
+    }
+}
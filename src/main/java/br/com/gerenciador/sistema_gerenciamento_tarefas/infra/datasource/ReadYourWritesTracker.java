@@ -0,0 +1,77 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Garante que cada sessão leia as próprias escritas: depois que uma transação de escrita de uma sessão é confirmada,
+ * as leituras dessa sessão continuam no banco primário até que a réplica possa tê-la alcançado ({@code max-lag}).
+ * <p>
+ * A sessão é o usuário autenticado (a API não guarda estado entre requisições além do token JWT), e o token de
+ * consistência é o instante da última escrita confirmada, mantido em memória por {@code max-lag}. Requisições sem
+ * usuário autenticado não são rastreadas.
+ * <p>
+ * O instante da última escrita confirmada na instância (de qualquer sessão) também é mantido, para os caches de
+ * leitura compartilhados entre sessões, que não devem guardar valores lidos da réplica antes de ela alcançar as
+ * escritas ({@link #replicaMayBeStale()}).
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Long> lastWrites;
+    private final Ticker ticker;
+    private final long maxLagNanos;
+    private final AtomicLong lastWrite;
+
+    public ReadYourWritesTracker(Duration maxLag, int maxSessions) {
+        this(maxLag, maxSessions, Ticker.systemTicker());
+    }
+
+    ReadYourWritesTracker(Duration maxLag, int maxSessions, Ticker ticker) {
+        this.lastWrites = Caffeine.newBuilder()
+                .expireAfterWrite(maxLag)
+                .maximumSize(maxSessions)
+                .ticker(ticker)
+                .build();
+        this.ticker = ticker;
+        this.maxLagNanos = maxLag.toNanos();
+        this.lastWrite = new AtomicLong(ticker.read() - maxLagNanos);
+    }
+
+    /**
+     * Registra uma escrita confirmada da sessão atual.
+     */
+    public void recordWrite() {
+        lastWrite.set(ticker.read());
+        String session = currentSession();
+        if (session != null) {
+            lastWrites.put(session, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Indica se a sessão atual escreveu recentemente e, por isso, deve ler do banco primário.
+     */
+    public boolean requiresPrimary() {
+        String session = currentSession();
+        return session != null && lastWrites.getIfPresent(session) != null;
+    }
+
+    /**
+     * Indica se alguma escrita foi confirmada nesta instância há menos de {@code max-lag}, ou seja, se uma leitura
+     * da réplica ainda pode não refletir todas as escritas conhecidas.
+     */
+    public boolean replicaMayBeStale() {
+        return ticker.read() - lastWrite.get() < maxLagNanos;
+    }
+
+    private static String currentSession() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando a requisição combina parâmetros de consulta que não podem ser usados juntos
+ * (ex: {@code fields} e {@code engine} em {@code GET /tasks}).
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class ConflictingQueryParametersException extends RuntimeException {
+    public ConflictingQueryParametersException(String message) {
+        super(message);
+    }
+}
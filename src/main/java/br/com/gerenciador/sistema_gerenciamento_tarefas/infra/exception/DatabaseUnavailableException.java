@@ -0,0 +1,19 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando o banco de dados está indisponível (ou o circuit breaker está aberto)
+ * e não há uma cópia em cache que possa ser servida no lugar.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class DatabaseUnavailableException extends RuntimeException {
+    public DatabaseUnavailableException(String message) {
+        super(message);
+    }
+
+    public DatabaseUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -5,6 +5,7 @@ import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.exception.Validation
 import com.auth0.jwt.exceptions.JWTCreationException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -13,6 +14,7 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.HttpMediaTypeNotSupportedException; // Importar
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
@@ -78,6 +80,16 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * Handler para TaskArchivedException. Retorna 409 Conflict.
+     */
+    @ExceptionHandler(TaskArchivedException.class)
+    public ResponseEntity<ErrorResponseDTO> threatTaskArchived(TaskArchivedException ex, HttpServletRequest request) {
+        log.warn(ex.getMessage());
+        ErrorResponseDTO errorResponse = buildErrorResponse(HttpStatus.CONFLICT, ex.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     /**
      * Handler para UserNotFoundException. Retorna 404 Not Found.
      */
@@ -88,6 +100,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * Handler para WebhookNotFoundException. Retorna 404 Not Found.
+     */
+    @ExceptionHandler(WebhookNotFoundException.class)
+    public ResponseEntity<ErrorResponseDTO> threatWebhookNotFound(WebhookNotFoundException ex, HttpServletRequest request) {
+        log.warn(ex.getMessage());
+        ErrorResponseDTO errorResponse = buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    /**
+     * Handler para TaskJobNotFoundException. Retorna 404 Not Found.
+     */
+    @ExceptionHandler(TaskJobNotFoundException.class)
+    public ResponseEntity<ErrorResponseDTO> threatTaskJobNotFound(TaskJobNotFoundException ex, HttpServletRequest request) {
+        log.warn(ex.getMessage());
+        ErrorResponseDTO errorResponse = buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
     /**
      * Handler para UsernameNotFoundException do Spring Security. Retorna 404 Not Found.
      */
@@ -98,6 +130,58 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * Handler para DatabaseUnavailableException. Retorna 503 Service Unavailable.
+     */
+    @ExceptionHandler(DatabaseUnavailableException.class)
+    public ResponseEntity<ErrorResponseDTO> threatDatabaseUnavailable(DatabaseUnavailableException ex, HttpServletRequest request) {
+        log.error("Database unavailable: {}", ex.getCause() != null ? ex.getCause().getMessage() : ex.getMessage());
+        ErrorResponseDTO errorResponse = buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
+    /**
+     * Handler para TaskIngestQueueFullException. Retorna 503 Service Unavailable com o cabeçalho Retry-After.
+     */
+    @ExceptionHandler(TaskIngestQueueFullException.class)
+    public ResponseEntity<ErrorResponseDTO> threatTaskIngestQueueFull(TaskIngestQueueFullException ex, HttpServletRequest request) {
+        log.warn(ex.getMessage());
+        ErrorResponseDTO errorResponse = buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(errorResponse);
+    }
+
+    /**
+     * Handler para parâmetros de consulta inválidos (ex: intervalo de datas, seleção de campos, mecanismo de leitura,
+     * lista de IDs ou parâmetros que não podem ser combinados). Retorna 400 Bad Request.
+     */
+    @ExceptionHandler({InvalidDateRangeException.class, InvalidFieldSelectionException.class, UnsupportedReadEngineException.class,
+            InvalidIdListException.class, InvalidSyncRequestException.class, ConflictingQueryParametersException.class})
+    public ResponseEntity<ErrorResponseDTO> threatInvalidQueryParameter(RuntimeException ex, HttpServletRequest request) {
+        log.warn(ex.getMessage());
+        ErrorResponseDTO errorResponse = buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), request.getRequestURI());
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
+    /**
+     * Handler para InvalidBatchRequestException. Retorna 400 Bad Request.
+     */
+    @ExceptionHandler(InvalidBatchRequestException.class)
+    public ResponseEntity<ErrorResponseDTO> threatInvalidBatchRequest(InvalidBatchRequestException ex, HttpServletRequest request) {
+        log.warn(ex.getMessage());
+        ErrorResponseDTO errorResponse = buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), request.getRequestURI());
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
+    /**
+     * Handler para InvalidTaskJobException. Retorna 400 Bad Request.
+     */
+    @ExceptionHandler(InvalidTaskJobException.class)
+    public ResponseEntity<ErrorResponseDTO> threatInvalidTaskJob(InvalidTaskJobException ex, HttpServletRequest request) {
+        log.warn(ex.getMessage());
+        ErrorResponseDTO errorResponse = buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), request.getRequestURI());
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
     /**
      * Handler para UserAlreadyExistsException. Retorna 409 Conflict.
      */
@@ -154,6 +238,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    /**
+     * Handler para parâmetros obrigatórios ausentes na URL. Retorna 400 Bad Request.
+     */
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<ErrorResponseDTO> threatMissingParameterError(MissingServletRequestParameterException ex, HttpServletRequest request) {
+        String message = "Missing required URL parameter: " + ex.getParameterName();
+        log.warn(message);
+        ErrorResponseDTO errorResponse = buildErrorResponse(HttpStatus.BAD_REQUEST, message, request.getRequestURI());
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
     /**
      * Handler para corpo de requisição ausente ou malformado. Retorna 400 Bad Request.
      */
@@ -0,0 +1,15 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando um lote de operações ({@code POST /batch}) é inválido
+ * (ex: operações demais, método ou caminho não suportado), antes de qualquer operação ser executada.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidBatchRequestException extends RuntimeException {
+    public InvalidBatchRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando a seleção de campos informada pelo cliente (parâmetro {@code fields}) é inválida.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidFieldSelectionException extends RuntimeException {
+    public InvalidFieldSelectionException(String message) {
+        super(message);
+    }
+}
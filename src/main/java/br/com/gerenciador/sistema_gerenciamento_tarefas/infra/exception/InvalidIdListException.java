@@ -0,0 +1,15 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando a lista de IDs informada pelo cliente (parâmetro {@code ids}) é vazia,
+ * contém valores inválidos ou excede o limite permitido.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidIdListException extends RuntimeException {
+    public InvalidIdListException(String message) {
+        super(message);
+    }
+}
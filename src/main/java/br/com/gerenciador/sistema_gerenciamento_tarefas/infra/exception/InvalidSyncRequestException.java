@@ -0,0 +1,14 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando os parâmetros da sincronização incremental ({@code since} e {@code limit}) são inválidos.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidSyncRequestException extends RuntimeException {
+    public InvalidSyncRequestException(String message) {
+        super(message);
+    }
+}
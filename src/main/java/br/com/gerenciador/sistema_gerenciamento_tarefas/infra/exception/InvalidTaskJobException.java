@@ -0,0 +1,15 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando uma operação em massa sobre tarefas ({@code POST /tasks/jobs}) é inválida
+ * (ex: nenhum filtro informado).
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidTaskJobException extends RuntimeException {
+    public InvalidTaskJobException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada ao tentar alterar ou deletar uma tarefa já movida para o armazenamento frio,
+ * onde as tarefas ficam apenas para leitura.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class TaskArchivedException extends RuntimeException {
+    public TaskArchivedException(String message) {
+        super(message);
+    }
+}
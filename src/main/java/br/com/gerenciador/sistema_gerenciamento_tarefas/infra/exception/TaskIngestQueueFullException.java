@@ -0,0 +1,15 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando a fila de criação assíncrona de tarefas está cheia.
+ * O cliente deve tentar novamente mais tarde (ou usar a criação síncrona).
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class TaskIngestQueueFullException extends RuntimeException {
+    public TaskIngestQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando o mecanismo de leitura solicitado não é suportado pelo banco de dados em uso.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class UnsupportedReadEngineException extends RuntimeException {
+    public UnsupportedReadEngineException(String message) {
+        super(message);
+    }
+}
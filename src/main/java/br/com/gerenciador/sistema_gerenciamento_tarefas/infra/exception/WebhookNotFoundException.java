@@ -0,0 +1,14 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando uma assinatura de webhook não é encontrada no sistema.
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class WebhookNotFoundException extends RuntimeException {
+    public WebhookNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca o ID de uma entidade como gerado pela aplicação, pelo {@link IdGenerator} registrado para o tipo do campo
+ * (veja {@link IdGenerators}). O ID é atribuído no {@code persist}, sem ida ao banco, o que também permite
+ * agrupar os {@code INSERT}s em batch. IDs já preenchidos são mantidos.
+ */
+@IdGeneratorType(RegisteredIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface GeneratedId {
+}
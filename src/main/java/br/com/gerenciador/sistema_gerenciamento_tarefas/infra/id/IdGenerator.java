@@ -0,0 +1,18 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.id;
+
+/**
+ * SPI dos geradores de IDs das entidades. As implementações devem ser thread-safe e gerar IDs únicos sem consultar
+ * o banco; as entidades marcadas com {@link GeneratedId} recebem o ID do gerador registrado em {@link IdGenerators}
+ * para o tipo do campo, antes do {@code INSERT}.
+ *
+ * @param <T> O tipo do ID (ex: {@code Long}, {@code UUID}).
+ */
+@FunctionalInterface
+public interface IdGenerator<T> {
+
+    /**
+     * Gera um novo ID.
+     * @return O ID gerado.
+     */
+    T nextId();
+}
@@ -0,0 +1,44 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.id;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Registro dos geradores de IDs por tipo de ID, consultado pelo {@link RegisteredIdGenerator} do Hibernate.
+ * <p>
+ * A aplicação publica o registro como bean ({@code IdGeneratorConfiguration}), e cada SessionFactory o obtém pelo
+ * seu próprio container de beans; assim, SessionFactories de contextos diferentes (ex: testes) não compartilham
+ * geradores. Sem um registro no container (ex: Hibernate sem Spring), usa os geradores padrão do construtor sem
+ * argumentos.
+ */
+public class IdGenerators {
+
+    private final Map<Class<?>, IdGenerator<?>> generators;
+
+    /**
+     * Registro com os geradores padrão: TSID do nó 0 para {@code Long} e UUIDv7 para {@code UUID}.
+     */
+    public IdGenerators() {
+        this(Map.of(Long.class, new TsidGenerator(0), UUID.class, new UuidV7Generator()));
+    }
+
+    /**
+     * @param generators Os geradores, por tipo de ID.
+     */
+    public IdGenerators(Map<Class<?>, IdGenerator<?>> generators) {
+        this.generators = Map.copyOf(generators);
+    }
+
+    /**
+     * Retorna o gerador dos IDs do tipo informado.
+     * @throws IllegalArgumentException se não houver gerador para o tipo.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> IdGenerator<T> get(Class<T> type) {
+        IdGenerator<T> generator = (IdGenerator<T>) generators.get(type);
+        if (generator == null) {
+            throw new IllegalArgumentException("No ID generator registered for " + type.getName());
+        }
+        return generator;
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.hibernate.resource.beans.container.spi.BeanContainer;
+import org.hibernate.resource.beans.internal.FallbackBeanInstanceProducer;
+import org.hibernate.resource.beans.spi.ManagedBeanRegistry;
+import org.hibernate.service.ServiceRegistry;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.EnumSet;
+
+/**
+ * Adaptador entre o Hibernate e os geradores de {@link IdGenerators}, usado pelos IDs marcados com {@link GeneratedId}.
+ * <p>
+ * O registro é obtido do container de beans da própria SessionFactory (com o Spring, o bean {@link IdGenerators}
+ * do contexto), no primeiro ID gerado: a SessionFactory é criada antes de o contexto terminar de subir.
+ */
+public class RegisteredIdGenerator implements BeforeExecutionGenerator {
+
+    private static final BeanContainer.LifecycleOptions SHARED_BEAN = new BeanContainer.LifecycleOptions() {
+        @Override
+        public boolean canUseCachedReferences() {
+            return true;
+        }
+
+        @Override
+        public boolean useJpaCompliantCreation() {
+            return false;
+        }
+    };
+
+    private final Class<?> idType;
+    private final ServiceRegistry serviceRegistry;
+    private volatile IdGenerator<?> generator;
+
+    public RegisteredIdGenerator(GeneratedId annotation, Member member, CustomIdGeneratorCreationContext context) {
+        this.idType = member instanceof Field field ? field.getType() : ((Method) member).getReturnType();
+        this.serviceRegistry = context.getServiceRegistry();
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return currentValue != null ? currentValue : generator().nextId();
+    }
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+        return true;
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EnumSet.of(EventType.INSERT);
+    }
+
+    private IdGenerator<?> generator() {
+        IdGenerator<?> resolved = generator;
+        if (resolved == null) {
+            resolved = registry().get(idType);
+            generator = resolved;
+        }
+        return resolved;
+    }
+
+    private IdGenerators registry() {
+        BeanContainer beanContainer = serviceRegistry.requireService(ManagedBeanRegistry.class).getBeanContainer();
+        if (beanContainer == null) {
+            return new IdGenerators();
+        }
+        return beanContainer.getBean(IdGenerators.class, SHARED_BEAN, FallbackBeanInstanceProducer.INSTANCE).getBeanInstance();
+    }
+}
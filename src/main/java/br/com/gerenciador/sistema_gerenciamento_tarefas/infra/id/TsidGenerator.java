@@ -0,0 +1,73 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.id;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Gerador de IDs numéricos ordenados no tempo (TSID, no estilo Snowflake), sem locks e sem acesso ao banco.
+ * <p>
+ * Formato (53 bits, do mais para o menos significativo): 41 bits de milissegundos desde 2024-01-01 (cerca de
+ * 69 anos), 4 bits do nó (até 16 instâncias da aplicação) e 8 bits de contador (256 IDs por milissegundo por nó).
+ * Os IDs cabem em 53 bits para continuarem exatos em clientes JavaScript, que representam números JSON como double.
+ * <p>
+ * O último ID gerado fica em um {@link AtomicLong} atualizado por compare-and-set. Quando o contador de um
+ * milissegundo se esgota (ou o relógio volta), o gerador avança para o milissegundo seguinte: os IDs de um nó são
+ * sempre crescentes, e os de nós diferentes nunca colidem.
+ */
+public final class TsidGenerator implements IdGenerator<Long> {
+
+    public static final int NODE_BITS = 4;
+    public static final int COUNTER_BITS = 8;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    private static final int TIME_SHIFT = NODE_BITS + COUNTER_BITS;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+    private final long nodeBits;
+    private final LongSupplier clock;
+    private final AtomicLong last = new AtomicLong();
+
+    public TsidGenerator(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    TsidGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node ID must be between 0 and " + MAX_NODE_ID + ".");
+        }
+        this.nodeBits = (long) nodeId << COUNTER_BITS;
+        this.clock = clock;
+    }
+
+    @Override
+    public Long nextId() {
+        while (true) {
+            long previous = last.get();
+            long candidate = ((clock.getAsLong() - EPOCH_MILLIS) << TIME_SHIFT) | nodeBits;
+            if (candidate <= previous) {
+                candidate = (previous & COUNTER_MASK) < COUNTER_MASK
+                        ? previous + 1
+                        : (((previous >>> TIME_SHIFT) + 1) << TIME_SHIFT) | nodeBits;
+            }
+            if (last.compareAndSet(previous, candidate)) {
+                return candidate;
+            }
+        }
+    }
+
+    /**
+     * Retorna o instante (em milissegundos desde 1970) codificado no ID.
+     */
+    public static long timestampOf(long id) {
+        return (id >>> TIME_SHIFT) + EPOCH_MILLIS;
+    }
+
+    /**
+     * Retorna o nó que gerou o ID.
+     */
+    public static int nodeOf(long id) {
+        return (int) ((id >>> COUNTER_BITS) & MAX_NODE_ID);
+    }
+}
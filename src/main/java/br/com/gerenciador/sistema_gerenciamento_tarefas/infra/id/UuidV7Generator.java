@@ -0,0 +1,53 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.id;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Gerador de UUIDs versão 7 (RFC 9562): 48 bits de milissegundos desde 1970, seguidos de 12 bits de contador
+ * ({@code rand_a}, método 1 da RFC) e 62 bits aleatórios. Ao contrário dos UUIDs versão 4, os IDs gerados em
+ * sequência são vizinhos no índice da chave primária, então as inserções tocam sempre as últimas páginas da B-tree.
+ * <p>
+ * O instante e o contador do último UUID ficam em um {@link AtomicLong} atualizado por compare-and-set, então os
+ * UUIDs desta instância são estritamente crescentes, mesmo dentro do mesmo milissegundo. A parte aleatória vem de
+ * um {@link SecureRandom}, para que os IDs não possam ser adivinhados.
+ */
+public final class UuidV7Generator implements IdGenerator<UUID> {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+    private final LongSupplier clock;
+    private final SecureRandom random = new SecureRandom();
+    private final AtomicLong last = new AtomicLong();
+
+    public UuidV7Generator() {
+        this(System::currentTimeMillis);
+    }
+
+    UuidV7Generator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public UUID nextId() {
+        long state;
+        while (true) {
+            long previous = last.get();
+            long candidate = clock.getAsLong() << COUNTER_BITS;
+            if (candidate <= previous) {
+                candidate = previous + 1; // o estouro do contador avança o milissegundo
+            }
+            if (last.compareAndSet(previous, candidate)) {
+                state = candidate;
+                break;
+            }
+        }
+        long millis = state >>> COUNTER_BITS;
+        long mostSignificant = (millis << 16) | 0x7000L | (state & COUNTER_MASK);
+        long leastSignificant = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+}
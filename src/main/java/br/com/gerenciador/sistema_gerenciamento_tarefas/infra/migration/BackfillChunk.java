@@ -0,0 +1,9 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.migration;
+
+/**
+ * Resultado de um lote de um {@link BackfillMigration}.
+ * @param rows O número de linhas lidas no lote.
+ * @param lastKey A última chave do lote (o novo ponto de retomada), ignorada se o lote estiver vazio.
+ */
+public record BackfillChunk(int rows, long lastKey) {
+}
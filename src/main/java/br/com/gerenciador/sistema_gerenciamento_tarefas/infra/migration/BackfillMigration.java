@@ -0,0 +1,26 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.migration;
+
+/**
+ * Migração de dados em lote (backfill), executada pelo {@link BackfillMigrationRunner} em segundo plano,
+ * depois da inicialização, em lotes percorridos por chave crescente (geralmente o ID).
+ * <p>
+ * Para criar uma, registre um bean que implemente esta interface. O esquema de que o backfill depende (ex: a nova
+ * coluna, que deve aceitar nulos ou ter um valor padrão) vem antes, em uma migração Flyway comum.
+ */
+public interface BackfillMigration {
+
+    /**
+     * Nome único do backfill, usado como chave do progresso gravado. Não deve mudar depois de publicado.
+     */
+    String name();
+
+    /**
+     * Migra o próximo lote, na transação corrente: as linhas com chave maior que {@code afterKey}, em ordem de chave,
+     * até {@code limit} linhas. Como cada lote é gravado junto com o ponto de retomada, um lote nunca é aplicado
+     * duas vezes; ainda assim, é recomendável que a alteração seja idempotente.
+     * @param afterKey A última chave já migrada (0 no início).
+     * @param limit O tamanho máximo do lote.
+     * @return O número de linhas lidas e a última chave do lote. Menos de {@code limit} linhas encerra o backfill.
+     */
+    BackfillChunk migrateChunk(long afterKey, int limit);
+}
@@ -0,0 +1,195 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.migration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Executa os {@link BackfillMigration} registrados, em segundo plano, depois que a aplicação está pronta.
+ * <p>
+ * Os backfills ficam fora do Flyway: a inicialização só espera pelas migrações de esquema (validadas pelo
+ * Hibernate), e os backfills longos continuam depois, com o progresso gravado em {@code backfill_migrations}.
+ * Cada lote roda em uma transação curta que bloqueia a linha do backfill, migra o lote e grava o ponto de retomada;
+ * assim, um backfill interrompido (reinício ou falha) continua do ponto exato no próximo início, e instâncias
+ * diferentes da aplicação nunca processam o mesmo lote. Entre os lotes há uma pausa, para deixar espaço para as
+ * demais escritas, e o progresso é registrado no log a cada {@code progress-interval}.
+ * <p>
+ * Os backfills rodam um de cada vez, na ordem dos beans, em uma única thread virtual.
+ */
+@Component
+@Slf4j
+public class BackfillMigrationRunner {
+
+    private static final String INSERT = """
+            INSERT INTO backfill_migrations (name, status, last_key, processed, started_at, updated_at)
+            SELECT ?, ?, 0, 0, ?, ? WHERE NOT EXISTS (SELECT 1 FROM backfill_migrations WHERE name = ?)
+            """;
+    private static final String SELECT_FOR_UPDATE =
+            "SELECT status, last_key, processed FROM backfill_migrations WHERE name = ? FOR UPDATE";
+    private static final String UPDATE_PROGRESS = """
+            UPDATE backfill_migrations
+            SET status = ?, last_key = ?, processed = ?, error = NULL, updated_at = ?, finished_at = ?
+            WHERE name = ?
+            """;
+    private static final String UPDATE_FAILED =
+            "UPDATE backfill_migrations SET status = ?, error = ?, updated_at = ? WHERE name = ?";
+
+    private final List<BackfillMigration> migrations;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final Duration pause;
+    private final Duration progressInterval;
+    private final Executor executor;
+
+    @Autowired
+    public BackfillMigrationRunner(List<BackfillMigration> migrations, JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                   @Value("${app.backfill.enabled:true}") boolean enabled,
+                                   @Value("${app.backfill.chunk-size:1000}") int chunkSize,
+                                   @Value("${app.backfill.pause:50ms}") Duration pause,
+                                   @Value("${app.backfill.progress-interval:30s}") Duration progressInterval) {
+        this(migrations, jdbcTemplate, transactionManager, meterRegistry, enabled, chunkSize, pause, progressInterval,
+                Executors.newSingleThreadExecutor(Thread.ofVirtual().name("backfill-", 0).factory()));
+    }
+
+    BackfillMigrationRunner(List<BackfillMigration> migrations, JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry, boolean enabled,
+                            int chunkSize, Duration pause, Duration progressInterval, Executor executor) {
+        this.migrations = migrations;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.pause = pause;
+        this.progressInterval = progressInterval;
+        this.executor = executor;
+    }
+
+    /**
+     * Inicia, em segundo plano, os backfills ainda não concluídos.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || migrations.isEmpty()) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                for (BackfillMigration migration : migrations) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        return;
+                    }
+                    run(migration);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Aplicação em encerramento: os backfills continuam no próximo início.
+            log.debug("Backfill migrations not started: the application is shutting down.");
+        }
+    }
+
+    /**
+     * Indica se o backfill já foi concluído, para o código que depende dos dados migrados.
+     * @param name O nome do backfill.
+     */
+    public boolean isCompleted(String name) {
+        List<String> status = jdbcTemplate.queryForList("SELECT status FROM backfill_migrations WHERE name = ?",
+                String.class, name);
+        return !status.isEmpty() && BackfillStatus.COMPLETED.name().equals(status.get(0));
+    }
+
+    /**
+     * Executa um backfill lote a lote até terminar, falhar ou a thread ser interrompida.
+     * @param migration O backfill.
+     */
+    void run(BackfillMigration migration) {
+        String name = migration.name();
+        long lastLog = System.nanoTime();
+        try {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.update(INSERT, name, BackfillStatus.RUNNING.name(), now, now, name);
+            Progress progress;
+            do {
+                progress = transactionTemplate.execute(status -> processChunk(migration));
+                if (progress == null || progress.status() == BackfillStatus.COMPLETED) {
+                    break;
+                }
+                if (System.nanoTime() - lastLog >= progressInterval.toNanos()) {
+                    log.info("Backfill {} in progress: {} rows migrated, up to key {}.", name, progress.processed(),
+                            progress.lastKey());
+                    lastLog = System.nanoTime();
+                }
+                if (!pause.isZero()) {
+                    Thread.sleep(pause);
+                }
+            } while (!Thread.currentThread().isInterrupted());
+        } catch (InterruptedException e) {
+            // Encerramento: o ponto de retomada já está gravado, e o backfill continua no próximo início.
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Backfill {} failed; it will resume from its last checkpoint on the next start.", name, e);
+            String error = e.getMessage() != null && e.getMessage().length() > 1000 ? e.getMessage().substring(0, 1000) : e.getMessage();
+            jdbcTemplate.update(UPDATE_FAILED, BackfillStatus.FAILED.name(), new SqlParameterValue(Types.VARCHAR, error),
+                    Timestamp.valueOf(LocalDateTime.now()), name);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Migra o próximo lote do backfill e grava o ponto de retomada, na transação corrente.
+     */
+    private Progress processChunk(BackfillMigration migration) {
+        String name = migration.name();
+        Progress current = jdbcTemplate.queryForObject(SELECT_FOR_UPDATE, (rs, rowNum) -> new Progress(
+                BackfillStatus.valueOf(rs.getString("status")), rs.getLong("last_key"), rs.getLong("processed")), name);
+        if (current == null || current.status() == BackfillStatus.COMPLETED) {
+            return current;
+        }
+
+        BackfillChunk chunk = migration.migrateChunk(current.lastKey(), chunkSize);
+        long lastKey = chunk.rows() > 0 ? chunk.lastKey() : current.lastKey();
+        long processed = current.processed() + chunk.rows();
+        LocalDateTime now = LocalDateTime.now();
+        boolean finished = chunk.rows() < chunkSize;
+        BackfillStatus status = finished ? BackfillStatus.COMPLETED : BackfillStatus.RUNNING;
+        jdbcTemplate.update(UPDATE_PROGRESS, status.name(), lastKey, processed, Timestamp.valueOf(now),
+                new SqlParameterValue(Types.TIMESTAMP, finished ? Timestamp.valueOf(now) : null), name);
+        meterRegistry.counter("backfill.rows", "name", name).increment(chunk.rows());
+        if (finished) {
+            log.info("Backfill {} completed: {} rows migrated.", name, processed);
+        }
+        return new Progress(status, lastKey, processed);
+    }
+
+    private record Progress(BackfillStatus status, long lastKey, long processed) {
+    }
+}
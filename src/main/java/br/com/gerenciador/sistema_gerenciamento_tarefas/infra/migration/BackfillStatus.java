@@ -0,0 +1,10 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.migration;
+
+/**
+ * Estado de um backfill na tabela {@code backfill_migrations}.
+ */
+public enum BackfillStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
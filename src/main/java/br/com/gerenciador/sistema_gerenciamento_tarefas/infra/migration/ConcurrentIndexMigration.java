@@ -0,0 +1,102 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.List;
+
+/**
+ * Base das migrações Flyway que criam um índice sem bloquear as escritas na tabela.
+ * <p>
+ * No PostgreSQL, o índice é criado com {@code CREATE INDEX CONCURRENTLY}, fora de transação (o Flyway executa
+ * a migração sem transação, e {@code spring.flyway.postgresql.transactional-lock=false} evita que o lock do próprio
+ * Flyway faça a criação esperar para sempre). Em tabelas particionadas, onde {@code CONCURRENTLY} não é aceito, o
+ * índice é criado apenas na tabela pai ({@code ON ONLY}) e, em seguida, de forma concorrente em cada partição, que é
+ * anexada a ele; o índice da tabela pai fica válido quando todas as partições estão anexadas, e as partições
+ * criadas depois recebem o índice automaticamente.
+ * <p>
+ * A migração pode ser repetida depois de uma falha: um índice inválido deixado por uma criação concorrente
+ * interrompida é removido e recriado, e os índices já prontos são mantidos. Nos demais bancos, usa um
+ * {@code CREATE INDEX} comum.
+ */
+@Slf4j
+public abstract class ConcurrentIndexMigration extends BaseJavaMigration {
+
+    private static final int MAX_IDENTIFIER_LENGTH = 63;
+
+    private final String indexName;
+    private final String table;
+    private final String columns;
+
+    /**
+     * @param indexName O nome do índice (os índices das partições recebem o nome da partição como sufixo).
+     * @param table A tabela.
+     * @param columns A lista de colunas do índice, como no SQL (ex: {@code "completed, id"}).
+     */
+    protected ConcurrentIndexMigration(String indexName, String table, String columns) {
+        this.indexName = indexName;
+        this.table = table;
+        this.columns = columns;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+        String product = context.getConnection().getMetaData().getDatabaseProductName();
+        if (!"PostgreSQL".equalsIgnoreCase(product)) {
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS " + indexName + " ON " + table + " (" + columns + ")");
+            return;
+        }
+        if (!isPartitioned(jdbcTemplate)) {
+            createConcurrently(jdbcTemplate, indexName, table);
+            return;
+        }
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS " + indexName + " ON ONLY " + table + " (" + columns + ")");
+        for (String partition : partitions(jdbcTemplate)) {
+            String partitionIndex = indexName + "_" + partition;
+            if (partitionIndex.length() > MAX_IDENTIFIER_LENGTH) {
+                throw new IllegalStateException("Index name too long for partition " + partition + ": " + partitionIndex);
+            }
+            createConcurrently(jdbcTemplate, partitionIndex, partition);
+            jdbcTemplate.execute("ALTER INDEX " + indexName + " ATTACH PARTITION " + partitionIndex);
+        }
+    }
+
+    private void createConcurrently(JdbcTemplate jdbcTemplate, String name, String target) {
+        List<Boolean> valid = jdbcTemplate.queryForList("""
+                SELECT i.indisvalid FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid
+                WHERE c.relname = ? AND pg_table_is_visible(c.oid)
+                """, Boolean.class, name);
+        if (!valid.isEmpty() && !valid.get(0)) {
+            log.warn("Dropping invalid index {} left by an interrupted build.", name);
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY " + name);
+        }
+        log.info("Creating index {} on {} concurrently.", name, target);
+        jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + name + " ON " + target + " (" + columns + ")");
+    }
+
+    private boolean isPartitioned(JdbcTemplate jdbcTemplate) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("""
+                SELECT EXISTS (SELECT 1 FROM pg_partitioned_table p JOIN pg_class c ON c.oid = p.partrelid
+                               WHERE c.relname = ? AND pg_table_is_visible(c.oid))
+                """, Boolean.class, table));
+    }
+
+    private List<String> partitions(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                JOIN pg_class p ON p.oid = i.inhparent
+                WHERE p.relname = ? AND pg_table_is_visible(p.oid)
+                ORDER BY c.relname
+                """, String.class, table);
+    }
+}
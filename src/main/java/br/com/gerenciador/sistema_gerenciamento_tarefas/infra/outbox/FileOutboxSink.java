@@ -0,0 +1,48 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.outbox;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.outbox.OutboxMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * {@link OutboxSink} que acrescenta os eventos a um arquivo, um objeto JSON por linha (JSON Lines).
+ * Cada lote é gravado com uma única escrita e sincronizado com o disco antes de ser confirmado.
+ */
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public FileOutboxSink(Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void deliver(List<OutboxMessage> messages) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        for (OutboxMessage message : messages) {
+            buffer.write(objectMapper.writeValueAsBytes(message));
+            buffer.write('\n');
+        }
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.outbox;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.outbox.OutboxMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@link OutboxSink} que envia cada lote como um array JSON em um único {@code POST}.
+ * Qualquer resposta fora da faixa 2xx é tratada como falha, e o lote é reenviado mais tarde.
+ */
+public class HttpOutboxSink implements OutboxSink {
+
+    private final HttpClient httpClient;
+    private final URI endpoint;
+    private final Duration timeout;
+    private final ObjectMapper objectMapper;
+
+    public HttpOutboxSink(HttpClient httpClient, URI endpoint, Duration timeout, ObjectMapper objectMapper) {
+        this.httpClient = httpClient;
+        this.endpoint = endpoint;
+        this.timeout = timeout;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void deliver(List<OutboxMessage> messages) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(endpoint)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(messages)))
+                .build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Outbox endpoint responded with status " + response.statusCode() + ".");
+        }
+    }
+}
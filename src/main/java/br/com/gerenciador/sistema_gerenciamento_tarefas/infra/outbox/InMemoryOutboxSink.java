@@ -0,0 +1,46 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.outbox;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.outbox.OutboxMessage;
+
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * {@link OutboxSink} que guarda em memória os eventos entregues mais recentes.
+ * É o destino padrão e serve como stub local em desenvolvimento e nos testes.
+ */
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final int capacity;
+    private final Deque<OutboxMessage> delivered = new ArrayDeque<>();
+
+    public InMemoryOutboxSink(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void deliver(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            if (delivered.size() == capacity) {
+                delivered.removeFirst();
+            }
+            delivered.addLast(message);
+        }
+    }
+
+    /**
+     * Retorna uma cópia dos eventos entregues, do mais antigo ao mais recente.
+     */
+    public synchronized List<OutboxMessage> delivered() {
+        return new ArrayList<>(delivered);
+    }
+
+    /**
+     * Descarta os eventos guardados.
+     */
+    public synchronized void clear() {
+        delivered.clear();
+    }
+}
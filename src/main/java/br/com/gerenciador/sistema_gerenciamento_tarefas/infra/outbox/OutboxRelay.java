@@ -0,0 +1,107 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.outbox;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.outbox.OutboxMessage;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Entrega os eventos do outbox transacional ao {@link OutboxSink} configurado.
+ * <p>
+ * Cada lote é lido com {@code FOR UPDATE SKIP LOCKED}, entregue e removido na mesma transação, então
+ * várias instâncias da aplicação podem drenar o outbox em paralelo sem entregar o mesmo lote duas vezes.
+ * Se a entrega falhar, o lote é mantido e reagendado com espera exponencial; como a falha pode ocorrer
+ * depois de o destino ter recebido os eventos, a entrega é "pelo menos uma vez". Os eventos de um mesmo
+ * agregado são entregues na ordem em que foram gravados.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final boolean enabled;
+    private final Counter deliveredCounter;
+    private final Counter failedCounter;
+
+    public OutboxRelay(OutboxRepository outboxRepository, OutboxSink sink, PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${app.outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${app.outbox.relay.initial-backoff:1s}") Duration initialBackoff,
+                       @Value("${app.outbox.relay.max-backoff:5m}") Duration maxBackoff,
+                       @Value("${app.outbox.relay.enabled:true}") boolean enabled) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.enabled = enabled;
+        this.deliveredCounter = meterRegistry.counter("outbox.delivered");
+        this.failedCounter = meterRegistry.counter("outbox.failed");
+    }
+
+    /**
+     * Drena o outbox até não restarem eventos prontos para entrega ou até uma entrega falhar.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.relay.poll-interval:PT1S}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+        int total = 0;
+        int delivered;
+        do {
+            delivered = relayBatch();
+            total += delivered;
+        } while (delivered > 0);
+        if (total > 0) {
+            log.debug("Outbox relay delivered {} events.", total);
+        }
+    }
+
+    /**
+     * Entrega um único lote.
+     * @return A quantidade de eventos entregues (0 se não havia eventos ou se a entrega falhou).
+     */
+    public int relayBatch() {
+        Integer delivered = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxMessage> batch = outboxRepository.lockNextBatch(batchSize, now);
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            try {
+                sink.deliver(batch);
+            } catch (Exception e) {
+                log.warn("Failed to deliver {} outbox events (first ID {}): {}", batch.size(), batch.get(0).id(), e.toString());
+                outboxRepository.markFailed(batch, message -> now.plus(backoff(message.attempts())), e.toString());
+                failedCounter.increment(batch.size());
+                return 0;
+            }
+            outboxRepository.delete(batch);
+            deliveredCounter.increment(batch.size());
+            return batch.size();
+        });
+        return delivered == null ? 0 : delivered;
+    }
+
+    private Duration backoff(int previousAttempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(previousAttempts, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
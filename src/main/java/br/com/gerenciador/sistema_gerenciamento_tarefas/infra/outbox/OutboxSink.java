@@ -0,0 +1,20 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.outbox;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.outbox.OutboxMessage;
+
+import java.util.List;
+
+/**
+ * Destino dos eventos do outbox transacional, escolhido pela propriedade {@code app.outbox.sink}.
+ */
+public interface OutboxSink {
+
+    /**
+     * Entrega um lote de eventos, em ordem de ID. Se qualquer entrega falhar, a exceção faz o lote inteiro
+     * ser reenviado mais tarde; por isso o destino pode receber o mesmo evento mais de uma vez.
+     *
+     * @param messages Os eventos a serem entregues.
+     * @throws Exception Se a entrega falhar.
+     */
+    void deliver(List<OutboxMessage> messages) throws Exception;
+}
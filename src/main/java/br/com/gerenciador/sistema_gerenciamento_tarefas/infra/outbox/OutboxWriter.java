@@ -0,0 +1,60 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.outbox;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangedEvent;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.UserChangedEvent;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.OutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * Grava no outbox transacional as alterações de tarefas e usuários.
+ * Diferente dos caches, ouve os eventos de forma síncrona, dentro da transação da escrita: o evento só
+ * existe se a escrita for confirmada, e uma falha ao gravá-lo desfaz a escrita.
+ */
+@Component
+public class OutboxWriter {
+
+    public static final String TASK_AGGREGATE = "task";
+    public static final String USER_AGGREGATE = "user";
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    public OutboxWriter(OutboxRepository outboxRepository, ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.clock = Clock.systemDefaultZone();
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskChanged(TaskChangedEvent event) {
+        append(TASK_AGGREGATE, String.valueOf(event.taskId()), event.type().name(), event.task());
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onUserChanged(UserChangedEvent event) {
+        append(USER_AGGREGATE, String.valueOf(event.userId()), event.type().name(), event.user());
+    }
+
+    private void append(String aggregateType, String aggregateId, String changeType, Object state) {
+        String eventType = aggregateType + "." + changeType.toLowerCase();
+        String payload;
+        try {
+            payload = state == null ? null : objectMapper.writeValueAsString(state);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        outboxRepository.append(aggregateType, aggregateId, eventType, payload, LocalDateTime.now(clock));
+    }
+}
@@ -0,0 +1,132 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.TransactionException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker simples para o acesso ao banco de dados.
+ * <p>
+ * Após {@code failureThreshold} falhas de infraestrutura consecutivas, o circuito abre e as chamadas
+ * são recusadas imediatamente durante {@code openDuration}. Em seguida, uma única chamada de teste
+ * é permitida (meio-aberto): se tiver sucesso, o circuito fecha; se falhar, volta a abrir.
+ * Erros de negócio (ex: tarefa não encontrada) não contam como falha.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    /**
+     * Estados possíveis do circuito.
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier ticker;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong();
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration) {
+        this(name, failureThreshold, openDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, int failureThreshold, Duration openDuration, LongSupplier ticker) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.ticker = ticker;
+    }
+
+    /**
+     * Indica se uma chamada pode ser feita agora.
+     * Com o circuito aberto e o tempo de espera esgotado, permite uma única chamada de teste.
+     * @return true se a chamada for permitida.
+     */
+    public boolean allowRequest() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && ticker.getAsLong() - openedAt.get() >= openDurationNanos) {
+            // Apenas a thread que fizer a transição executa a chamada de teste.
+            if (state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+                log.info("Circuit breaker '{}' is half-open; trying the database again.", name);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Indica se o circuito está aberto (ou aguardando o resultado da chamada de teste).
+     * @return true se as chamadas estão sendo recusadas.
+     */
+    public boolean isOpen() {
+        return state.get() != State.CLOSED;
+    }
+
+    /**
+     * Retorna o estado atual do circuito.
+     * @return O estado do circuito.
+     */
+    public State getState() {
+        return state.get();
+    }
+
+    /**
+     * Registra uma chamada bem-sucedida, fechando o circuito.
+     */
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        if (state.getAndSet(State.CLOSED) != State.CLOSED) {
+            log.info("Circuit breaker '{}' closed; the database is reachable again.", name);
+        }
+    }
+
+    /**
+     * Registra o resultado de uma chamada que falhou. Apenas falhas de infraestrutura do banco
+     * (veja {@link #isInfrastructureFailure}) contam para a abertura do circuito.
+     * @param failure A exceção lançada pela chamada.
+     */
+    public void recordFailure(Throwable failure) {
+        if (!isInfrastructureFailure(failure)) {
+            // A chamada chegou ao banco: a falha é de negócio, não de disponibilidade.
+            recordSuccess();
+            return;
+        }
+        if (state.get() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt.set(ticker.getAsLong());
+            if (state.getAndSet(State.OPEN) != State.OPEN) {
+                log.warn("Circuit breaker '{}' opened after a database failure: {}", name, failure.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Indica se a exceção representa uma falha de disponibilidade do banco (conexão, timeout, failover),
+     * e não um erro de negócio ou de uso da API.
+     * @param failure A exceção a ser classificada.
+     * @return true se for uma falha de infraestrutura.
+     */
+    public static boolean isInfrastructureFailure(Throwable failure) {
+        return failure instanceof DataAccessResourceFailureException
+                || failure instanceof TransientDataAccessException
+                || failure instanceof RecoverableDataAccessException
+                || failure instanceof TransactionException;
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Serviço responsável por carregar os dados de um usuário para o Spring Security.
@@ -31,6 +32,7 @@ public class AuthorizationService implements UserDetailsService {
      * @throws UsernameNotFoundException se o usuário não puder ser encontrado no banco de dados.
      */
     @Override
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         return userRepository.findByLogin(username)
                 .orElseThrow(() -> new UsernameNotFoundException("The user with the username: " + username + ". Not found in the database."));
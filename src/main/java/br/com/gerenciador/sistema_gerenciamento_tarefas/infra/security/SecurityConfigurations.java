@@ -2,6 +2,7 @@ package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security;
 
 import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.CustomAccessDeniedHandler;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.CustomAuthenticationEntryPoint;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -41,6 +42,9 @@ public class SecurityConfigurations {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorize -> authorize
+                        // Continuações assíncronas (ex: feed SSE) de requisições já autorizadas
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Endpoints públicos
                         .requestMatchers(HttpMethod.POST, "/auth/login").permitAll()
                         .requestMatchers(HttpMethod.POST, "/auth/register").permitAll()
@@ -52,13 +56,28 @@ public class SecurityConfigurations {
                         .requestMatchers(HttpMethod.PATCH, "/users/{id}/role").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/users/{id}").hasRole("ADMIN")
                         
+                        // Operações em massa sobre tarefas (antes das regras de /tasks/{id})
+                        .requestMatchers("/tasks/jobs", "/tasks/jobs/**").hasRole("ADMIN")
+
                         // Endpoints de tarefas
+                        .requestMatchers(HttpMethod.GET, "/tasks/range").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/tasks/stream").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/tasks/changes").authenticated()
                         .requestMatchers(HttpMethod.GET, "/tasks/{id}").authenticated()
                         .requestMatchers(HttpMethod.GET, "/tasks").authenticated()
                         .requestMatchers(HttpMethod.POST, "/tasks").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/tasks/{id}").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/tasks/{id}").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PATCH, "/tasks/{id}/conclude").hasRole("ADMIN")
+
+                        // Assinaturas de webhooks
+                        .requestMatchers("/webhooks", "/webhooks/**").hasRole("ADMIN")
+
+                        // Lotes de operações (cada operação é autorizada individualmente pelas regras acima)
+                        .requestMatchers(HttpMethod.POST, "/batch").authenticated()
+
+                        // API GraphQL (as consultas de usuários verificam a role no próprio resolver)
+                        .requestMatchers(HttpMethod.POST, "/graphql").authenticated()
                         
                         // Regra de fallback
                         .anyRequest().authenticated()
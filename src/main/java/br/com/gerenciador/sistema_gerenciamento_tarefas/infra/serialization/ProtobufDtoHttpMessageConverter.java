@@ -0,0 +1,107 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.serialization;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.exception.ErrorResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.page.PageResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskCreateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskUpdateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.user.UserResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.TaskCreateRequest;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.TaskUpdateRequest;
+import com.google.protobuf.Message;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Set;
+
+/**
+ * Conversor HTTP que lê e escreve os DTOs da API no formato Protobuf
+ * ({@code application/x-protobuf}), usando as mensagens definidas em {@code tasks.proto}.
+ * Suporta a leitura de {@link TaskCreateDTO} e {@link TaskUpdateDTO} e a escrita de
+ * {@link TaskResponseDTO}, {@link UserResponseDTO}, suas páginas ({@link PageResponseDTO})
+ * e de {@link ErrorResponseDTO}.
+ */
+public class ProtobufDtoHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+    public static final MediaType PROTOBUF_STANDARD = new MediaType("application", "protobuf");
+
+    private static final Set<Class<?>> READABLE_TYPES = Set.of(TaskCreateDTO.class, TaskUpdateDTO.class);
+    private static final Set<Class<?>> WRITABLE_TYPES = Set.of(TaskResponseDTO.class, UserResponseDTO.class,
+            ErrorResponseDTO.class, PageResponseDTO.class);
+    private static final Set<Class<?>> PAGE_ELEMENT_TYPES = Set.of(TaskResponseDTO.class, UserResponseDTO.class);
+
+    public ProtobufDtoHttpMessageConverter() {
+        super(PROTOBUF, PROTOBUF_STANDARD);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return READABLE_TYPES.contains(clazz) || WRITABLE_TYPES.contains(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return READABLE_TYPES.contains(ResolvableType.forType(type).resolve()) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        ResolvableType resolvableType = type != null ? ResolvableType.forType(type) : ResolvableType.forClass(clazz);
+        Class<?> rawType = resolvableType.resolve(clazz);
+        if (rawType == null || !WRITABLE_TYPES.contains(rawType)) {
+            return false;
+        }
+        if (rawType == PageResponseDTO.class) {
+            Class<?> elementType = resolvableType.as(PageResponseDTO.class).getGeneric(0).resolve();
+            if (elementType != null && !PAGE_ELEMENT_TYPES.contains(elementType)) {
+                return false;
+            }
+        }
+        return canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        return readInternal(ResolvableType.forType(type).resolve(Object.class), inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try {
+            if (clazz == TaskCreateDTO.class) {
+                return ProtobufDtoMapper.toDto(TaskCreateRequest.parseFrom(inputMessage.getBody()));
+            }
+            if (clazz == TaskUpdateDTO.class) {
+                return ProtobufDtoMapper.toDto(TaskUpdateRequest.parseFrom(inputMessage.getBody()));
+            }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw new HttpMessageNotReadableException("Invalid Protobuf message: " + e.getMessage(), e, inputMessage);
+        }
+        throw new HttpMessageNotReadableException("Protobuf reading is not supported for " + clazz.getName(), inputMessage);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        Message message = switch (body) {
+            case TaskResponseDTO task -> ProtobufDtoMapper.toProto(task);
+            case UserResponseDTO user -> ProtobufDtoMapper.toProto(user);
+            case ErrorResponseDTO error -> ProtobufDtoMapper.toProto(error);
+            // Uma página vazia é codificada da mesma forma como TaskPage ou UserPage.
+            case PageResponseDTO<?> page when page.content().stream().allMatch(UserResponseDTO.class::isInstance) && !page.content().isEmpty() ->
+                    ProtobufDtoMapper.toUserPage((PageResponseDTO<UserResponseDTO>) page);
+            case PageResponseDTO<?> page when page.content().stream().allMatch(TaskResponseDTO.class::isInstance) ->
+                    ProtobufDtoMapper.toTaskPage((PageResponseDTO<TaskResponseDTO>) page);
+            default -> throw new HttpMessageNotWritableException("Protobuf writing is not supported for " + body.getClass().getName());
+        };
+        message.writeTo(outputMessage.getBody());
+    }
+}
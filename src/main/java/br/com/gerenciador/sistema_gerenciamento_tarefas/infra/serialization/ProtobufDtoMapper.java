@@ -0,0 +1,187 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.serialization;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.exception.ErrorResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.exception.ValidationErrorDetailDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.page.PageMetadataDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.page.PageResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskCreateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskUpdateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.user.UserResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.ErrorResponse;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.PageMetadata;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.Task;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.TaskCreateRequest;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.TaskPage;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.TaskUpdateRequest;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.User;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.UserPage;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.ValidationErrorDetail;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Classe de utilitário para converter os DTOs da API nas mensagens Protobuf
+ * definidas em {@code tasks.proto}, e vice-versa.
+ * Esta classe não pode ser instanciada e contém apenas métodos estáticos.
+ */
+public final class ProtobufDtoMapper {
+
+    /**
+     * Construtor privado para prevenir a instanciação da classe.
+     */
+    private ProtobufDtoMapper() {
+        // Previne a instanciação
+    }
+
+    /**
+     * Converte um {@link TaskResponseDTO} na mensagem {@link Task}.
+     * @param task O DTO a ser convertido.
+     * @return A mensagem Protobuf equivalente.
+     */
+    public static Task toProto(TaskResponseDTO task) {
+        Task.Builder builder = Task.newBuilder();
+        if (task.id() != null) {
+            builder.setId(task.id());
+        }
+        if (task.title() != null) {
+            builder.setTitle(task.title());
+        }
+        if (task.description() != null) {
+            builder.setDescription(task.description());
+        }
+        if (task.creationDate() != null) {
+            builder.setCreationDate(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(task.creationDate()));
+        }
+        if (task.completed() != null) {
+            builder.setCompleted(task.completed());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Converte a mensagem {@link Task} em um {@link TaskResponseDTO}.
+     * @param task A mensagem a ser convertida.
+     * @return O DTO equivalente.
+     */
+    public static TaskResponseDTO toDto(Task task) {
+        return new TaskResponseDTO(
+                task.getId(),
+                task.getTitle(),
+                task.hasDescription() ? task.getDescription() : null,
+                task.getCreationDate().isEmpty() ? null : LocalDateTime.parse(task.getCreationDate()),
+                task.getCompleted()
+        );
+    }
+
+    /**
+     * Converte a mensagem {@link TaskCreateRequest} em um {@link TaskCreateDTO}.
+     * @param request A mensagem a ser convertida.
+     * @return O DTO equivalente.
+     */
+    public static TaskCreateDTO toDto(TaskCreateRequest request) {
+        return new TaskCreateDTO(request.getTitle(), request.hasDescription() ? request.getDescription() : null);
+    }
+
+    /**
+     * Converte a mensagem {@link TaskUpdateRequest} em um {@link TaskUpdateDTO}.
+     * Campos ausentes na mensagem são convertidos em {@code null} (não atualizados).
+     * @param request A mensagem a ser convertida.
+     * @return O DTO equivalente.
+     */
+    public static TaskUpdateDTO toDto(TaskUpdateRequest request) {
+        return new TaskUpdateDTO(
+                request.hasTitle() ? request.getTitle() : null,
+                request.hasDescription() ? request.getDescription() : null,
+                request.hasCompleted() ? request.getCompleted() : null
+        );
+    }
+
+    /**
+     * Converte um {@link UserResponseDTO} na mensagem {@link User}.
+     * @param user O DTO a ser convertido.
+     * @return A mensagem Protobuf equivalente.
+     */
+    public static User toProto(UserResponseDTO user) {
+        User.Builder builder = User.newBuilder();
+        if (user.id() != null) {
+            builder.setId(user.id().toString());
+        }
+        if (user.login() != null) {
+            builder.setLogin(user.login());
+        }
+        if (user.role() != null) {
+            builder.setRole(user.role().name());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Converte uma página de tarefas na mensagem {@link TaskPage}.
+     * @param page A página a ser convertida.
+     * @return A mensagem Protobuf equivalente.
+     */
+    public static TaskPage toTaskPage(PageResponseDTO<TaskResponseDTO> page) {
+        TaskPage.Builder builder = TaskPage.newBuilder().setPage(toProto(page.page()));
+        page.content().forEach(task -> builder.addContent(toProto(task)));
+        return builder.build();
+    }
+
+    /**
+     * Converte uma página de usuários na mensagem {@link UserPage}.
+     * @param page A página a ser convertida.
+     * @return A mensagem Protobuf equivalente.
+     */
+    public static UserPage toUserPage(PageResponseDTO<UserResponseDTO> page) {
+        UserPage.Builder builder = UserPage.newBuilder().setPage(toProto(page.page()));
+        page.content().forEach(user -> builder.addContent(toProto(user)));
+        return builder.build();
+    }
+
+    /**
+     * Converte os metadados de paginação na mensagem {@link PageMetadata}.
+     * @param page Os metadados a serem convertidos.
+     * @return A mensagem Protobuf equivalente.
+     */
+    public static PageMetadata toProto(PageMetadataDTO page) {
+        return PageMetadata.newBuilder()
+                .setSize(page.size())
+                .setNumber(page.number())
+                .setTotalElements(page.totalElements())
+                .setTotalPages(page.totalPages())
+                .build();
+    }
+
+    /**
+     * Converte um {@link ErrorResponseDTO} na mensagem {@link ErrorResponse}.
+     * Apenas detalhes do tipo {@link ValidationErrorDetailDTO} são incluídos.
+     * @param error O DTO a ser convertido.
+     * @return A mensagem Protobuf equivalente.
+     */
+    public static ErrorResponse toProto(ErrorResponseDTO error) {
+        ErrorResponse.Builder builder = ErrorResponse.newBuilder().setStatus(error.status());
+        if (error.timestamp() != null) {
+            builder.setTimestamp(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(error.timestamp()));
+        }
+        if (error.error() != null) {
+            builder.setError(error.error());
+        }
+        if (error.message() != null) {
+            builder.setMessage(error.message());
+        }
+        if (error.path() != null) {
+            builder.setPath(error.path());
+        }
+        List<?> details = error.details() == null ? List.of() : error.details();
+        for (Object detail : details) {
+            if (detail instanceof ValidationErrorDetailDTO(String field, String message)) {
+                builder.addDetails(ValidationErrorDetail.newBuilder()
+                        .setField(field == null ? "" : field)
+                        .setMessage(message == null ? "" : message));
+            }
+        }
+        return builder.build();
+    }
+}
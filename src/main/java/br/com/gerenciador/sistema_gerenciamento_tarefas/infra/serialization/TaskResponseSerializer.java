@@ -0,0 +1,59 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.serialization;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Serializador pré-construído para {@link TaskResponseDTO}.
+ * Escreve os campos diretamente, com nomes pré-codificados, sem introspecção
+ * do record a cada serialização. Produz o mesmo JSON da serialização padrão.
+ */
+@JsonComponent
+public class TaskResponseSerializer extends StdSerializer<TaskResponseDTO> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString CREATION_DATE = new SerializedString("creationDate");
+    private static final SerializableString COMPLETED = new SerializedString("completed");
+
+    public TaskResponseSerializer() {
+        super(TaskResponseDTO.class);
+    }
+
+    @Override
+    public void serialize(TaskResponseDTO task, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(task);
+        generator.writeFieldName(ID);
+        if (task.id() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(task.id());
+        }
+        generator.writeFieldName(TITLE);
+        generator.writeString(task.title());
+        generator.writeFieldName(DESCRIPTION);
+        generator.writeString(task.description());
+        generator.writeFieldName(CREATION_DATE);
+        if (task.creationDate() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(task.creationDate()));
+        }
+        generator.writeFieldName(COMPLETED);
+        if (task.completed() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeBoolean(task.completed());
+        }
+        generator.writeEndObject();
+    }
+}
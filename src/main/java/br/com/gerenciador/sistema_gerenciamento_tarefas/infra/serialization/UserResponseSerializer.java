@@ -0,0 +1,40 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.serialization;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.user.UserResponseDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * Serializador pré-construído para {@link UserResponseDTO}.
+ * Escreve os campos diretamente, com nomes pré-codificados, sem introspecção
+ * do record a cada serialização. Produz o mesmo JSON da serialização padrão.
+ */
+@JsonComponent
+public class UserResponseSerializer extends StdSerializer<UserResponseDTO> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString LOGIN = new SerializedString("login");
+    private static final SerializableString ROLE = new SerializedString("role");
+
+    public UserResponseSerializer() {
+        super(UserResponseDTO.class);
+    }
+
+    @Override
+    public void serialize(UserResponseDTO user, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(user);
+        generator.writeFieldName(ID);
+        generator.writeString(user.id() == null ? null : user.id().toString());
+        generator.writeFieldName(LOGIN);
+        generator.writeString(user.login());
+        generator.writeFieldName(ROLE);
+        generator.writeString(user.role() == null ? null : user.role().name());
+        generator.writeEndObject();
+    }
+}
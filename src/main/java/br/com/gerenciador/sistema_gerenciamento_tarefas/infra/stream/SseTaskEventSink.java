@@ -0,0 +1,47 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.stream;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskStreamEventDTO;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * {@link TaskEventSink} que escreve os eventos em uma conexão Server-Sent Events.
+ * Cada alteração é enviada com o nome do tipo (ex: {@code created}) e o número de sequência como {@code id}.
+ */
+public class SseTaskEventSink implements TaskEventSink {
+
+    private static final Map<String, String> RESET_MESSAGE = Map.of(
+            "message", "Events after the given Last-Event-ID are no longer available; reload the tasks.");
+
+    private final SseEmitter emitter;
+
+    public SseTaskEventSink(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void send(TaskStreamEventDTO event) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(String.valueOf(event.id()))
+                .name(event.type().name().toLowerCase())
+                .data(event, MediaType.APPLICATION_JSON));
+    }
+
+    @Override
+    public void sendHeartbeat() throws IOException {
+        emitter.send(SseEmitter.event().comment("heartbeat"));
+    }
+
+    @Override
+    public void sendReset() throws IOException {
+        emitter.send(SseEmitter.event().name("reset").data(RESET_MESSAGE, MediaType.APPLICATION_JSON));
+    }
+
+    @Override
+    public void close() {
+        emitter.complete();
+    }
+}
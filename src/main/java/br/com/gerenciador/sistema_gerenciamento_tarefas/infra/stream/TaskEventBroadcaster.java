@@ -0,0 +1,334 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.stream;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangedEvent;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskStreamEventDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Distribui as alterações de tarefas para os assinantes do feed de alterações ({@code GET /tasks/stream}).
+ * <p>
+ * As alterações são recebidas após o commit de cada escrita e numeradas em ordem por um único despachante,
+ * que as guarda em um buffer circular (para a retomada via {@code Last-Event-ID}) e as copia para a fila
+ * de cada assinante. Nenhuma etapa usa locks: o despachante e o envio de cada assinante rodam em
+ * threads virtuais, e uma flag atômica garante que haja no máximo uma execução de cada por vez.
+ * <p>
+ * A fila de cada assinante é limitada ({@code subscriber-buffer}). Um cliente lento que deixa a fila
+ * encher é desconectado, em vez de atrasar os demais ou acumular memória; ele pode reconectar
+ * informando o último evento recebido.
+ */
+@Component
+@Slf4j
+public class TaskEventBroadcaster {
+
+    private static final Object HEARTBEAT = new Object();
+
+    private final Executor executor;
+    private final Clock clock;
+    private final int subscriberBuffer;
+    private final Counter droppedSubscribers;
+
+    private final Queue<PendingEvent> inbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+    private final AtomicReferenceArray<TaskStreamEventDTO> history;
+    private final AtomicLong lastEventId = new AtomicLong();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private ScheduledExecutorService heartbeatScheduler;
+
+    @Autowired
+    public TaskEventBroadcaster(MeterRegistry meterRegistry,
+                                @Value("${app.task-stream.replay-size:1000}") int replaySize,
+                                @Value("${app.task-stream.subscriber-buffer:256}") int subscriberBuffer,
+                                @Value("${app.task-stream.heartbeat:15s}") Duration heartbeat) {
+        this(meterRegistry, replaySize, subscriberBuffer,
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("task-stream-", 0).factory()),
+                Clock.systemUTC());
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("task-stream-heartbeat")
+                .daemon(true)
+                .factory());
+        heartbeatScheduler.scheduleAtFixedRate(this::sendHeartbeats,
+                heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    TaskEventBroadcaster(MeterRegistry meterRegistry, int replaySize, int subscriberBuffer,
+                         Executor executor, Clock clock) {
+        this.executor = executor;
+        this.clock = clock;
+        this.subscriberBuffer = subscriberBuffer;
+        this.history = new AtomicReferenceArray<>(replaySize);
+        this.droppedSubscribers = meterRegistry.counter("task.stream.dropped");
+        meterRegistry.gauge("task.stream.subscribers", subscribers, Set::size);
+    }
+
+    /**
+     * Assinatura do feed de alterações, usada para encerrá-la.
+     */
+    public interface Subscription {
+
+        /**
+         * Remove o assinante e encerra a conexão. Chamadas repetidas são ignoradas.
+         */
+        void cancel();
+    }
+
+    /**
+     * Registra um novo assinante.
+     * Se {@code lastEventId} for informado, os eventos posteriores a ele ainda guardados no buffer circular
+     * são reenviados antes dos novos. Se esses eventos já foram descartados (ou o ID não é conhecido, como
+     * após um reinício da aplicação), o assinante recebe um aviso de reset e passa a receber apenas os novos.
+     * @param sink O destino dos eventos.
+     * @param lastEventId O ID do último evento recebido pelo cliente, ou null para receber apenas os novos.
+     * @return A assinatura criada.
+     */
+    public Subscription subscribe(TaskEventSink sink, Long lastEventId) {
+        Subscriber subscriber = new Subscriber(sink);
+        // Registra antes de ler o histórico: um evento publicado entre as duas etapas chega pela fila
+        // do assinante e, se também estiver no histórico, é descartado pelo ID no envio.
+        subscribers.add(subscriber);
+        long currentId = this.lastEventId.get();
+        subscriber.lastSentId = currentId;
+
+        if (lastEventId != null && lastEventId != currentId) {
+            List<TaskStreamEventDTO> replay = eventsAfter(lastEventId, currentId);
+            try {
+                if (replay == null) {
+                    log.info("Task stream resume from event {} is no longer possible; sending reset.", lastEventId);
+                    sink.sendReset();
+                } else {
+                    log.debug("Replaying {} task events after event {}.", replay.size(), lastEventId);
+                    for (TaskStreamEventDTO event : replay) {
+                        sink.send(event);
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                log.debug("Task stream subscriber disconnected during replay: {}", e.getMessage());
+                subscriber.cancel();
+                return subscriber;
+            }
+        }
+
+        subscriber.start();
+        log.info("New task stream subscriber registered ({} active).", subscribers.size());
+        return subscriber;
+    }
+
+    /**
+     * Ouve as alterações de tarefas e as encaminha aos assinantes após o commit.
+     * O {@code fallbackExecution} permite receber eventos publicados fora de uma transação.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        inbox.offer(new PendingEvent(event, clock.instant()));
+        if (dispatching.compareAndSet(false, true)) {
+            submit(this::dispatch, dispatching);
+        }
+    }
+
+    /**
+     * Retorna o número de assinantes ativos.
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Envia um sinal de vida a todos os assinantes.
+     */
+    void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(HEARTBEAT);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (heartbeatScheduler != null) {
+            heartbeatScheduler.shutdownNow();
+        }
+        subscribers.forEach(Subscriber::cancel);
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    // Executado por no máximo uma thread por vez (garantido pela flag 'dispatching').
+    private void dispatch() {
+        do {
+            PendingEvent pending;
+            while ((pending = inbox.poll()) != null) {
+                publish(pending);
+            }
+            dispatching.set(false);
+        } while (!inbox.isEmpty() && dispatching.compareAndSet(false, true));
+    }
+
+    private void publish(PendingEvent pending) {
+        long id = lastEventId.get() + 1;
+        TaskChangedEvent change = pending.change();
+        TaskStreamEventDTO event = new TaskStreamEventDTO(id, change.type(), change.taskId(), change.task(), pending.occurredAt());
+        history.set(slot(id), event);
+        lastEventId.set(id);
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    /**
+     * Retorna os eventos com ID entre {@code afterId} (exclusivo) e {@code upToId} (inclusivo),
+     * ou null se algum deles já foi sobrescrito no buffer circular.
+     */
+    private List<TaskStreamEventDTO> eventsAfter(long afterId, long upToId) {
+        if (afterId < 0 || afterId > upToId || upToId - afterId > history.length()) {
+            return null;
+        }
+        List<TaskStreamEventDTO> events = new ArrayList<>((int) (upToId - afterId));
+        for (long id = afterId + 1; id <= upToId; id++) {
+            TaskStreamEventDTO event = history.get(slot(id));
+            if (event == null || event.id() != id) {
+                return null;
+            }
+            events.add(event);
+        }
+        return events;
+    }
+
+    private int slot(long id) {
+        return (int) (id % history.length());
+    }
+
+    private void submit(Runnable task, AtomicBoolean runningFlag) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // Aplicação em encerramento: os assinantes já foram desconectados.
+            runningFlag.set(false);
+        }
+    }
+
+    private record PendingEvent(TaskChangedEvent change, Instant occurredAt) {
+    }
+
+    private final class Subscriber implements Subscription {
+
+        private final TaskEventSink sink;
+        private final Queue<Object> buffer = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger buffered = new AtomicInteger();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean started;
+
+        // Alterado apenas no registro (antes de 'started') e pela thread de envio.
+        private long lastSentId;
+
+        private Subscriber(TaskEventSink sink) {
+            this.sink = sink;
+        }
+
+        private void offer(Object item) {
+            if (closed.get()) {
+                return;
+            }
+            if (buffered.incrementAndGet() > subscriberBuffer) {
+                log.warn("Dropping task stream subscriber with {} undelivered events.", subscriberBuffer);
+                droppedSubscribers.increment();
+                cancel();
+                return;
+            }
+            buffer.offer(item);
+            if (started) {
+                scheduleSend();
+            }
+        }
+
+        private void start() {
+            started = true;
+            scheduleSend();
+        }
+
+        private void scheduleSend() {
+            if (!closed.get() && sending.compareAndSet(false, true)) {
+                submit(this::drain, sending);
+            }
+        }
+
+        // Executado por no máximo uma thread por vez (garantido pela flag 'sending').
+        private void drain() {
+            do {
+                Object item;
+                while (!closed.get() && (item = buffer.poll()) != null) {
+                    buffered.decrementAndGet();
+                    deliver(item);
+                }
+                sending.set(false);
+            } while (!closed.get() && !buffer.isEmpty() && sending.compareAndSet(false, true));
+        }
+
+        private void deliver(Object item) {
+            try {
+                if (item == HEARTBEAT) {
+                    sink.sendHeartbeat();
+                } else if (item instanceof TaskStreamEventDTO event && event.id() > lastSentId) {
+                    sink.send(event);
+                    lastSentId = event.id();
+                }
+            } catch (IOException | RuntimeException e) {
+                log.debug("Task stream subscriber disconnected: {}", e.getMessage());
+                cancel();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            subscribers.remove(this);
+            buffer.clear();
+            try {
+                // O encerramento pode bloquear enquanto um envio para um cliente lento estiver em andamento,
+                // por isso não é feito na thread do despachante.
+                executor.execute(this::closeSink);
+            } catch (RejectedExecutionException e) {
+                closeSink();
+            }
+        }
+
+        private void closeSink() {
+            try {
+                sink.close();
+            } catch (RuntimeException e) {
+                log.debug("Failed to close task stream subscriber: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.stream;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskStreamEventDTO;
+
+import java.io.IOException;
+
+/**
+ * Destino dos eventos de um assinante do feed de alterações de tarefas (ex: uma conexão SSE).
+ * Os métodos de envio nunca são chamados concorrentemente para um mesmo destino.
+ */
+public interface TaskEventSink {
+
+    /**
+     * Envia uma alteração de tarefa.
+     * @param event O evento a ser enviado.
+     * @throws IOException Se a conexão com o cliente foi perdida.
+     */
+    void send(TaskStreamEventDTO event) throws IOException;
+
+    /**
+     * Envia um sinal de vida, para manter a conexão aberta em proxies e detectar clientes desconectados.
+     * @throws IOException Se a conexão com o cliente foi perdida.
+     */
+    void sendHeartbeat() throws IOException;
+
+    /**
+     * Avisa o cliente de que os eventos posteriores ao {@code Last-Event-ID} informado não estão mais
+     * disponíveis, e que ele deve recarregar as tarefas antes de continuar consumindo o feed.
+     * @throws IOException Se a conexão com o cliente foi perdida.
+     */
+    void sendReset() throws IOException;
+
+    /**
+     * Encerra a conexão com o cliente.
+     */
+    void close();
+}
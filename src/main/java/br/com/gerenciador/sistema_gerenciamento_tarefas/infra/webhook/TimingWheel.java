@@ -0,0 +1,151 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.webhook;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Agendador de tarefas atrasadas baseado em uma roda de tempo (hashed timing wheel).
+ * <p>
+ * A roda tem um número fixo de posições, cada uma correspondendo a um intervalo ({@code tick}). Uma tarefa
+ * é colocada na posição do instante em que vence e executada quando o ponteiro passa por ela na volta
+ * certa. Agendar e vencer custam O(1), independentemente da quantidade de tarefas pendentes, e uma única
+ * thread controla todos os prazos; as tarefas vencidas rodam no {@code executor}. A precisão é de um tick.
+ */
+@Slf4j
+public class TimingWheel implements AutoCloseable {
+
+    private final long tickNanos;
+    private final List<List<Timeout>> buckets;
+    private final Queue<Timeout> inbox = new ConcurrentLinkedQueue<>();
+    private final Executor executor;
+    private volatile long currentTick;
+    private volatile boolean running;
+    private Thread worker;
+
+    /**
+     * @param tick A duração de cada posição da roda (a precisão dos prazos).
+     * @param wheelSize O número de posições da roda. Prazos maiores que {@code tick * wheelSize} dão mais de uma volta.
+     * @param executor O executor das tarefas vencidas.
+     */
+    public TimingWheel(Duration tick, int wheelSize, Executor executor) {
+        if (tick.isNegative() || tick.isZero() || wheelSize < 1) {
+            throw new IllegalArgumentException("The tick must be positive and the wheel must have at least one bucket.");
+        }
+        this.tickNanos = tick.toNanos();
+        this.executor = executor;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Inicia a thread que avança a roda a cada tick.
+     */
+    public synchronized TimingWheel start() {
+        if (worker == null) {
+            running = true;
+            worker = Thread.ofPlatform().name("timing-wheel").daemon(true).start(this::run);
+        }
+        return this;
+    }
+
+    /**
+     * Agenda uma tarefa para rodar após o atraso informado (arredondado para cima, em ticks).
+     */
+    public void schedule(Runnable task, Duration delay) {
+        long ticks = Math.max(1, (delay.toNanos() + tickNanos - 1) / tickNanos);
+        inbox.offer(new Timeout(currentTick + ticks, task));
+    }
+
+    /**
+     * Retorna a quantidade de tarefas agendadas que ainda não venceram.
+     */
+    public int pendingCount() {
+        int pending = inbox.size();
+        synchronized (buckets) {
+            for (List<Timeout> bucket : buckets) {
+                pending += bucket.size();
+            }
+        }
+        return pending;
+    }
+
+    @Override
+    public synchronized void close() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker = null;
+        }
+    }
+
+    /**
+     * Avança a roda em um tick e executa as tarefas vencidas.
+     * Chamado pela thread da roda; os testes podem chamá-lo diretamente, sem {@link #start()}.
+     */
+    void tick() {
+        List<Runnable> expired = new ArrayList<>();
+        synchronized (buckets) {
+            long tick = currentTick + 1;
+            currentTick = tick;
+            Timeout timeout;
+            while ((timeout = inbox.poll()) != null) {
+                if (timeout.deadline() <= tick) {
+                    expired.add(timeout.task());
+                } else {
+                    buckets.get(slot(timeout.deadline())).add(timeout);
+                }
+            }
+            Iterator<Timeout> bucket = buckets.get(slot(tick)).iterator();
+            while (bucket.hasNext()) {
+                timeout = bucket.next();
+                if (timeout.deadline() <= tick) {
+                    bucket.remove();
+                    expired.add(timeout.task());
+                }
+            }
+        }
+        for (Runnable task : expired) {
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                log.debug("Discarding expired timer task: executor is shut down.");
+            }
+        }
+    }
+
+    private void run() {
+        long start = System.nanoTime();
+        long ticks = 0;
+        while (running) {
+            long wait = start + (ticks + 1) * tickNanos - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+                continue;
+            }
+            ticks++;
+            try {
+                tick();
+            } catch (RuntimeException e) {
+                log.error("Timing wheel tick failed.", e);
+            }
+        }
+    }
+
+    private int slot(long tick) {
+        return (int) (tick % buckets.size());
+    }
+
+    private record Timeout(long deadline, Runnable task) {
+    }
+}
@@ -0,0 +1,312 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.webhook;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangedEvent;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.webhook.WebhookSubscription;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.webhook.WebhookEventDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.WebhookSubscriptionRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Entrega as alterações de tarefas aos webhooks cadastrados.
+ * <p>
+ * As alterações são recebidas após o commit de cada escrita e acumuladas em uma fila por endpoint. Cada
+ * endpoint recebe lotes de até {@code batch-size} eventos, enviados quando o lote enche ou após a espera
+ * {@code linger}, com o {@link HttpClient} assíncrono: nenhuma thread fica bloqueada aguardando a resposta.
+ * No máximo {@code max-concurrency} lotes ficam em andamento por endpoint (incluindo os que aguardam nova
+ * tentativa), e eventos além de {@code max-pending} pendentes são descartados. Falhas são reenviadas com
+ * espera exponencial agendada em uma {@link TimingWheel}, até {@code max-attempts} tentativas.
+ * <p>
+ * As assinaturas são carregadas na inicialização e recarregadas do banco a cada {@code refresh-interval}, para que
+ * as assinaturas cadastradas ou removidas em outra instância também passem a valer nesta.
+ * <p>
+ * A entrega é feita em memória, sem garantia após um reinício. Para entrega garantida, use o outbox
+ * transacional ({@code app.outbox.sink}).
+ */
+@Component
+@Slf4j
+public class WebhookDispatcher {
+
+    private final WebhookSubscriptionRepository webhookSubscriptionRepository;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final TimingWheel timingWheel;
+    private final Clock clock;
+    private final Settings settings;
+    private final Map<Long, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final AtomicLong registrations = new AtomicLong();
+
+    private final Timer successfulRequests;
+    private final Timer failedRequests;
+    private final Timer deliveryLatency;
+    private final Counter deliveredEvents;
+    private final Counter overflowedEvents;
+    private final Counter exhaustedEvents;
+
+    /**
+     * Configuração da entrega (ver as propriedades {@code app.webhook.*}).
+     */
+    record Settings(int batchSize, Duration linger, int maxConcurrency, int maxPending, Duration requestTimeout,
+                    Duration initialBackoff, Duration maxBackoff, int maxAttempts) {
+    }
+
+    @Autowired
+    public WebhookDispatcher(WebhookSubscriptionRepository webhookSubscriptionRepository, ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.webhook.batch-size:50}") int batchSize,
+                             @Value("${app.webhook.linger:200ms}") Duration linger,
+                             @Value("${app.webhook.max-concurrency:2}") int maxConcurrency,
+                             @Value("${app.webhook.max-pending:10000}") int maxPending,
+                             @Value("${app.webhook.request-timeout:10s}") Duration requestTimeout,
+                             @Value("${app.webhook.initial-backoff:1s}") Duration initialBackoff,
+                             @Value("${app.webhook.max-backoff:5m}") Duration maxBackoff,
+                             @Value("${app.webhook.max-attempts:8}") int maxAttempts,
+                             @Value("${app.webhook.tick:50ms}") Duration tick) {
+        this(webhookSubscriptionRepository,
+                HttpClient.newBuilder().connectTimeout(requestTimeout).build(),
+                objectMapper, meterRegistry,
+                new TimingWheel(tick, 512, Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("webhook-", 0).factory())).start(),
+                Clock.systemUTC(),
+                new Settings(batchSize, linger, maxConcurrency, maxPending, requestTimeout, initialBackoff, maxBackoff, maxAttempts));
+    }
+
+    WebhookDispatcher(WebhookSubscriptionRepository webhookSubscriptionRepository, HttpClient httpClient, ObjectMapper objectMapper,
+                      MeterRegistry meterRegistry, TimingWheel timingWheel, Clock clock, Settings settings) {
+        this.webhookSubscriptionRepository = webhookSubscriptionRepository;
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.timingWheel = timingWheel;
+        this.clock = clock;
+        this.settings = settings;
+        this.successfulRequests = meterRegistry.timer("webhook.request", "outcome", "success");
+        this.failedRequests = meterRegistry.timer("webhook.request", "outcome", "failure");
+        this.deliveryLatency = meterRegistry.timer("webhook.delivery.latency");
+        this.deliveredEvents = meterRegistry.counter("webhook.events.delivered");
+        this.overflowedEvents = meterRegistry.counter("webhook.events.dropped", "reason", "overflow");
+        this.exhaustedEvents = meterRegistry.counter("webhook.events.dropped", "reason", "retries-exhausted");
+        meterRegistry.gauge("webhook.events.pending", endpoints,
+                map -> map.values().stream().mapToInt(endpoint -> endpoint.pendingCount.get()).sum());
+    }
+
+    /**
+     * Carrega as assinaturas cadastradas quando a aplicação termina de iniciar.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSubscriptions() {
+        refreshSubscriptions();
+        log.info("Loaded {} webhook subscriptions.", endpoints.size());
+    }
+
+    /**
+     * Recarrega as assinaturas do banco: passa a entregar aos endpoints cadastrados em outras instâncias e deixa de
+     * entregar aos removidos. Os endpoints registrados durante a leitura são mantidos, porque a leitura pode não
+     * ter visto o seu cadastro.
+     */
+    @Scheduled(fixedDelayString = "${app.webhook.refresh-interval:PT30S}", initialDelayString = "${app.webhook.refresh-interval:PT30S}")
+    public void refreshSubscriptions() {
+        long registeredBefore = registrations.get();
+        List<WebhookSubscription> subscriptions = webhookSubscriptionRepository.findAll();
+        Set<Long> ids = new HashSet<>();
+        for (WebhookSubscription subscription : subscriptions) {
+            ids.add(subscription.getId());
+            register(subscription);
+        }
+        for (Endpoint endpoint : List.copyOf(endpoints.values())) {
+            if (!ids.contains(endpoint.subscriptionId) && endpoint.registration <= registeredBefore) {
+                unregister(endpoint.subscriptionId);
+            }
+        }
+    }
+
+    /**
+     * Passa a entregar as alterações ao endpoint da assinatura. Registrar de novo uma assinatura já registrada
+     * não tem efeito.
+     */
+    public void register(WebhookSubscription subscription) {
+        endpoints.computeIfAbsent(subscription.getId(),
+                id -> new Endpoint(id, URI.create(subscription.getUrl()), registrations.incrementAndGet()));
+    }
+
+    /**
+     * Deixa de entregar as alterações ao endpoint da assinatura. Os eventos pendentes são descartados.
+     */
+    public void unregister(Long subscriptionId) {
+        Endpoint endpoint = endpoints.remove(subscriptionId);
+        if (endpoint != null) {
+            endpoint.removed = true;
+            endpoint.pending.clear();
+        }
+    }
+
+    /**
+     * Ouve as alterações de tarefas e as enfileira para cada endpoint após o commit.
+     * O {@code fallbackExecution} permite receber eventos publicados fora de uma transação.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (endpoints.isEmpty()) {
+            return;
+        }
+        WebhookEventDTO webhookEvent = new WebhookEventDTO(event.type(), event.taskId(), event.task(), clock.instant());
+        for (Endpoint endpoint : endpoints.values()) {
+            endpoint.offer(webhookEvent);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        timingWheel.close();
+    }
+
+    private Duration backoff(int attempt) {
+        Duration delay = settings.initialBackoff().multipliedBy(1L << Math.min(attempt - 1, 20));
+        return delay.compareTo(settings.maxBackoff()) > 0 ? settings.maxBackoff() : delay;
+    }
+
+    private final class Endpoint {
+
+        private final long subscriptionId;
+        private final URI uri;
+        private final Queue<WebhookEventDTO> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicBoolean lingering = new AtomicBoolean();
+        private final long registration;
+        private volatile boolean removed;
+
+        private Endpoint(long subscriptionId, URI uri, long registration) {
+            this.subscriptionId = subscriptionId;
+            this.uri = uri;
+            this.registration = registration;
+        }
+
+        private void offer(WebhookEventDTO event) {
+            if (pendingCount.incrementAndGet() > settings.maxPending()) {
+                pendingCount.decrementAndGet();
+                overflowedEvents.increment();
+                log.warn("Dropping webhook event for subscription {}: {} events already pending.", subscriptionId, settings.maxPending());
+                return;
+            }
+            pending.offer(event);
+            if (pendingCount.get() >= settings.batchSize()) {
+                flush();
+            } else if (lingering.compareAndSet(false, true)) {
+                timingWheel.schedule(() -> {
+                    lingering.set(false);
+                    flush();
+                }, settings.linger());
+            }
+        }
+
+        private void flush() {
+            while (!removed && !pending.isEmpty() && tryAcquire()) {
+                List<WebhookEventDTO> batch = new ArrayList<>(settings.batchSize());
+                WebhookEventDTO event;
+                while (batch.size() < settings.batchSize() && (event = pending.poll()) != null) {
+                    batch.add(event);
+                }
+                pendingCount.addAndGet(-batch.size());
+                if (batch.isEmpty()) {
+                    inFlight.decrementAndGet();
+                    return;
+                }
+                send(batch, 1);
+            }
+        }
+
+        private boolean tryAcquire() {
+            int current;
+            do {
+                current = inFlight.get();
+                if (current >= settings.maxConcurrency()) {
+                    return false;
+                }
+            } while (!inFlight.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        private void release() {
+            inFlight.decrementAndGet();
+            flush();
+        }
+
+        private void send(List<WebhookEventDTO> batch, int attempt) {
+            if (removed) {
+                inFlight.decrementAndGet();
+                return;
+            }
+            HttpRequest request;
+            try {
+                request = HttpRequest.newBuilder(uri)
+                        .timeout(settings.requestTimeout())
+                        .header("Content-Type", "application/json")
+                        .header("X-Webhook-Subscription", String.valueOf(subscriptionId))
+                        .header("X-Webhook-Attempt", String.valueOf(attempt))
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(batch)))
+                        .build();
+            } catch (JsonProcessingException e) {
+                log.error("Failed to serialize webhook batch for subscription {}.", subscriptionId, e);
+                exhaustedEvents.increment(batch.size());
+                release();
+                return;
+            }
+            long start = System.nanoTime();
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> onResponse(batch, attempt, start, response, error));
+        }
+
+        private void onResponse(List<WebhookEventDTO> batch, int attempt, long start, HttpResponse<Void> response, Throwable error) {
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            if (error == null && response.statusCode() / 100 == 2) {
+                successfulRequests.record(elapsed);
+                deliveryLatency.record(Duration.between(batch.get(0).occurredAt(), clock.instant()));
+                deliveredEvents.increment(batch.size());
+                release();
+                return;
+            }
+            failedRequests.record(elapsed);
+            String failure = error != null ? error.toString() : "status " + response.statusCode();
+            if (attempt >= settings.maxAttempts() || removed) {
+                log.warn("Giving up on {} webhook events for subscription {} after {} attempts: {}", batch.size(), subscriptionId, attempt, failure);
+                exhaustedEvents.increment(batch.size());
+                release();
+                return;
+            }
+            Duration delay = backoff(attempt);
+            log.debug("Webhook delivery to subscription {} failed ({}); retrying in {}.", subscriptionId, failure, delay);
+            timingWheel.schedule(() -> send(batch, attempt + 1), delay);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.repository;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.outbox.OutboxMessage;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Acesso à tabela {@code outbox_events} do outbox transacional, via SQL preparado.
+ */
+@Repository
+public class OutboxRepository {
+
+    private static final String INSERT = """
+            INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload, created_at, next_attempt_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    // Seleciona apenas o evento pendente mais antigo de cada agregado: um evento só é entregue depois que todos os
+    // anteriores do mesmo agregado foram entregues, mesmo com vários relays (as linhas bloqueadas por outro relay
+    // continuam visíveis para o NOT EXISTS e seguram os eventos seguintes).
+    private static final String LOCK_NEXT_BATCH = """
+            SELECT e.id, e.aggregate_type, e.aggregate_id, e.event_type, e.payload, e.created_at, e.attempts
+            FROM outbox_events e
+            WHERE e.next_attempt_at <= ?
+              AND NOT EXISTS (SELECT 1 FROM outbox_events p
+                              WHERE p.aggregate_type = e.aggregate_type AND p.aggregate_id = e.aggregate_id AND p.id < e.id)
+            ORDER BY e.id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String DELETE = "DELETE FROM outbox_events WHERE id = ?";
+    private static final String MARK_FAILED =
+            "UPDATE outbox_events SET attempts = attempts + 1, next_attempt_at = ?, last_error = ? WHERE id = ?";
+    private static final String COUNT = "SELECT count(*) FROM outbox_events";
+
+    private static final RowMapper<OutboxMessage> ROW_MAPPER = (rs, rowNum) -> new OutboxMessage(
+            rs.getLong("id"),
+            rs.getString("aggregate_type"),
+            rs.getString("aggregate_id"),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getTimestamp("created_at").toLocalDateTime(),
+            rs.getInt("attempts"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OutboxRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Grava um evento no outbox. Deve ser chamado dentro da transação da escrita que o originou.
+     *
+     * @param aggregateType O tipo do agregado alterado.
+     * @param aggregateId O ID do agregado alterado.
+     * @param eventType O tipo do evento.
+     * @param payload O estado do agregado em JSON, ou null.
+     * @param now A data e hora da gravação.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String aggregateType, String aggregateId, String eventType, String payload, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.update(INSERT, aggregateType, aggregateId, eventType, payload, timestamp, timestamp);
+    }
+
+    /**
+     * Bloqueia e retorna, em ordem de ID, os próximos eventos prontos para entrega, ignorando os já
+     * bloqueados por outro relay. Os bloqueios duram até o fim da transação atual.
+     *
+     * @param limit O número máximo de eventos.
+     * @param now A data e hora atual; eventos aguardando uma nova tentativa depois dela são ignorados.
+     * @return Os eventos bloqueados.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<OutboxMessage> lockNextBatch(int limit, LocalDateTime now) {
+        return jdbcTemplate.query(LOCK_NEXT_BATCH, ROW_MAPPER, Timestamp.valueOf(now), limit);
+    }
+
+    /**
+     * Remove os eventos entregues.
+     */
+    public void delete(List<OutboxMessage> messages) {
+        jdbcTemplate.batchUpdate(DELETE, messages, messages.size(), (ps, message) -> ps.setLong(1, message.id()));
+    }
+
+    /**
+     * Registra uma falha de entrega, agendando a próxima tentativa de cada evento.
+     *
+     * @param messages Os eventos cuja entrega falhou.
+     * @param nextAttempt Função que calcula a data da próxima tentativa a partir do evento.
+     * @param error A mensagem de erro da entrega.
+     */
+    public void markFailed(List<OutboxMessage> messages, Function<OutboxMessage, LocalDateTime> nextAttempt, String error) {
+        jdbcTemplate.batchUpdate(MARK_FAILED, messages, messages.size(), (ps, message) -> {
+            ps.setTimestamp(1, Timestamp.valueOf(nextAttempt.apply(message)));
+            ps.setString(2, error);
+            ps.setLong(3, message.id());
+        });
+    }
+
+    /**
+     * Retorna a quantidade de eventos ainda não entregues.
+     */
+    public long countPending() {
+        return jdbcTemplate.queryForObject(COUNT, Long.class);
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.repository;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.Task;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Gravação em lote de tarefas novas com IDs já gerados pela aplicação, em um único
+ * {@code INSERT} preparado e executado em batch pelo driver JDBC.
+ */
+@Repository
+public class TaskBatchWriter {
+
+    private static final String INSERT = """
+            INSERT INTO tasks (id, title, description, creation_date, completed, change_seq)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insere as tarefas. Deve ser chamado dentro de uma transação.
+     * @param tasks As tarefas, com ID e número de sequência de alteração preenchidos.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void insertAll(List<Task> tasks) {
+        jdbcTemplate.batchUpdate(INSERT, tasks, tasks.size(), (ps, task) -> {
+            ps.setLong(1, task.getId());
+            ps.setString(2, task.getTitle());
+            ps.setString(3, task.getDescription());
+            ps.setTimestamp(4, Timestamp.valueOf(task.getCreationDate()));
+            ps.setBoolean(5, task.getCompleted());
+            ps.setLong(6, task.getChangeSeq());
+        });
+    }
+}
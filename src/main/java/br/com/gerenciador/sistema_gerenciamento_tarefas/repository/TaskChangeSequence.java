@@ -0,0 +1,82 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Contador das alterações de tarefas, guardado na linha única da tabela {@code task_sync_state}.
+ * <p>
+ * O incremento bloqueia a linha até o fim da transação que o fez, então as escritas de tarefas
+ * confirmam na mesma ordem dos números que receberam. Assim, um cliente que já leu até o número N
+ * nunca deixa de ver uma alteração com número menor que seja confirmada depois da leitura.
+ * Para evitar deadlocks, o número deve ser obtido antes de a transação alterar qualquer tarefa.
+ */
+@Repository
+public class TaskChangeSequence {
+
+    private static final String INCREMENT = "UPDATE task_sync_state SET last_change_seq = last_change_seq + ? WHERE id = 1";
+    private static final String SELECT_LAST = "SELECT last_change_seq FROM task_sync_state WHERE id = 1";
+    private static final String SELECT_COMPACTED = "SELECT compacted_change_seq FROM task_sync_state WHERE id = 1";
+    private static final String ADVANCE_COMPACTED =
+            "UPDATE task_sync_state SET compacted_change_seq = ? WHERE id = 1 AND compacted_change_seq < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskChangeSequence(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Reserva o próximo número de sequência. Deve ser chamado dentro da transação da escrita.
+     * @return O número reservado.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long next() {
+        return reserve(1);
+    }
+
+    /**
+     * Reserva um bloco de números de sequência consecutivos. Deve ser chamado dentro da transação da escrita.
+     * @param count A quantidade de números.
+     * @return O último número do bloco; o bloco vai de {@code retorno - count + 1} até o retorno.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long reserve(int count) {
+        jdbcTemplate.update(INCREMENT, count);
+        return jdbcTemplate.queryForObject(SELECT_LAST, Long.class);
+    }
+
+    /**
+     * Bloqueia o contador até o fim da transação corrente, sem reservar números: as demais escritas de tarefas
+     * esperam para receber o seu número. Deve ser chamado dentro da transação, antes de alterar qualquer tarefa.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lock() {
+        jdbcTemplate.update(INCREMENT, 0);
+    }
+
+    /**
+     * Retorna o último número de sequência emitido (e já confirmado).
+     */
+    public long last() {
+        return jdbcTemplate.queryForObject(SELECT_LAST, Long.class);
+    }
+
+    /**
+     * Retorna o maior número de sequência cujos registros de exclusão já foram compactados.
+     * Clientes sincronizados antes desse ponto podem ter perdido exclusões.
+     */
+    public long compacted() {
+        return jdbcTemplate.queryForObject(SELECT_COMPACTED, Long.class);
+    }
+
+    /**
+     * Avança o ponto de compactação. Valores menores que o atual são ignorados.
+     * @param changeSeq O maior número de sequência dos registros de exclusão removidos.
+     */
+    public void advanceCompacted(long changeSeq) {
+        jdbcTemplate.update(ADVANCE_COMPACTED, changeSeq, changeSeq);
+    }
+}
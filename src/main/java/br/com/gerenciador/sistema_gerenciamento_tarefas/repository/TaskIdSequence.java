@@ -0,0 +1,42 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Acesso à sequência {@code task_ids}, que gera os IDs das tarefas quando {@code app.ids.tasks=sequence}
+ * (o padrão são TSIDs gerados na aplicação). Cada ID custa uma ida ao banco.
+ */
+@Repository
+@Slf4j
+public class TaskIdSequence {
+
+    private static final String NEXT_VALUE_POSTGRES = "SELECT nextval('task_ids')";
+    private static final String NEXT_VALUE_STANDARD = "VALUES NEXT VALUE FOR task_ids";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile String nextValueSql;
+
+    public TaskIdSequence(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Reserva o próximo ID. A reserva não é desfeita se a tarefa não chegar a ser gravada.
+     * @return O ID reservado.
+     */
+    public long next() {
+        return jdbcTemplate.queryForObject(nextValueSql(), Long.class);
+    }
+
+    private String nextValueSql() {
+        if (nextValueSql == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+            nextValueSql = "PostgreSQL".equalsIgnoreCase(product) ? NEXT_VALUE_POSTGRES : NEXT_VALUE_STANDARD;
+            log.debug("Database product detected for the task ID sequence: {}", product);
+        }
+        return nextValueSql;
+    }
+}
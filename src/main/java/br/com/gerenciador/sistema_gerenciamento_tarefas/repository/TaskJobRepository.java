@@ -0,0 +1,38 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.repository;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.job.TaskJob;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.job.TaskJobStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositório para a entidade {@link TaskJob}.
+ */
+public interface TaskJobRepository extends JpaRepository<TaskJob, Long> {
+
+    /**
+     * Busca uma operação bloqueando sua linha até o fim da transação ({@code SELECT ... FOR UPDATE}).
+     * Cada lote e cada cancelamento bloqueiam a operação, de modo que um cancelamento nunca é sobrescrito
+     * pelo progresso de um lote em andamento.
+     *
+     * @param id O ID da operação.
+     * @return A operação, se existir.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select j from TaskJob j where j.id = :id")
+    Optional<TaskJob> findByIdForUpdate(Long id);
+
+    /**
+     * Busca, em ordem de ID, as operações nos estados informados.
+     *
+     * @param statuses Os estados procurados.
+     * @return Uma lista de operações ordenadas por ID.
+     */
+    List<TaskJob> findByStatusInOrderById(Collection<TaskJobStatus> statuses);
+}
@@ -0,0 +1,165 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.repository;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskField;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.UnsupportedReadEngineException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Leitor da listagem de tarefas que escreve o JSON da página diretamente em um {@link JsonGenerator},
+ * a partir de uma consulta SQL preparada. Não cria entidades, DTOs nem {@code PageImpl}.
+ * O JSON produzido segue o formato {@code {"content": [...], "page": {...}}}.
+ */
+@Repository
+@Slf4j
+public class TaskJsonReader {
+
+    private static final String SELECT_COLUMNS = "SELECT id, title, description, creation_date, completed FROM tasks";
+    private static final String COUNT_TASKS = "SELECT count(*) FROM tasks";
+    private static final int FETCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public TaskJsonReader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Escreve uma página da listagem de tarefas como um objeto JSON.
+     * Deve ser chamado dentro de uma transação, para que a contagem e a página sejam lidas da mesma conexão.
+     *
+     * @param pageable Objeto de paginação. A ordenação aceita apenas os campos de {@link TaskField}.
+     * @param engine O mecanismo de leitura a ser usado.
+     * @param generator O gerador JSON onde a página será escrita.
+     * @throws IOException Se ocorrer um erro ao escrever a resposta.
+     * @throws UnsupportedReadEngineException se o mecanismo não for suportado pelo banco de dados em uso.
+     */
+    public void writePage(Pageable pageable, TaskReadEngine engine, JsonGenerator generator) throws IOException {
+        if (engine == TaskReadEngine.JSON_AGG && !isPostgres()) {
+            throw new UnsupportedReadEngineException("The JSON_AGG read engine requires a PostgreSQL database.");
+        }
+        long total = jdbcTemplate.queryForObject(COUNT_TASKS, Long.class);
+
+        generator.writeStartObject();
+        generator.writeFieldName("content");
+        if (engine == TaskReadEngine.JSON_AGG) {
+            writeContentWithJsonAgg(pageable, generator);
+        } else {
+            writeContentWithJdbc(pageable, generator);
+        }
+        writePageMetadata(pageable, total, generator);
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    private void writeContentWithJdbc(Pageable pageable, JsonGenerator generator) throws IOException {
+        String sql = SELECT_COLUMNS + orderBy(pageable.getSort(), TaskField::getColumnName) + limitOffset(pageable);
+        generator.writeStartArray();
+        try {
+            jdbcTemplate.query(con -> {
+                var statement = con.prepareStatement(sql);
+                statement.setFetchSize(FETCH_SIZE);
+                bindLimitOffset(pageable, statement);
+                return statement;
+            }, (RowCallbackHandler) rs -> writeRow(rs, generator));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        generator.writeEndArray();
+    }
+
+    private void writeContentWithJsonAgg(Pageable pageable, JsonGenerator generator) throws IOException {
+        String sql = "SELECT coalesce(json_agg(t" + orderBy(pageable.getSort(), field -> '"' + field.getAttributeName() + '"') + "), '[]'::json)::text"
+                + " FROM (SELECT id, title, description, creation_date AS \"creationDate\", completed FROM tasks"
+                + orderBy(pageable.getSort(), TaskField::getColumnName) + limitOffset(pageable) + ") t";
+        String content = jdbcTemplate.query(con -> {
+            var statement = con.prepareStatement(sql);
+            bindLimitOffset(pageable, statement);
+            return statement;
+        }, rs -> rs.next() ? rs.getString(1) : "[]");
+        generator.writeRawValue(content);
+    }
+
+    private void writeRow(ResultSet rs, JsonGenerator generator) throws SQLException {
+        try {
+            generator.writeStartObject();
+            generator.writeNumberField("id", rs.getLong(1));
+            generator.writeStringField("title", rs.getString(2));
+            generator.writeStringField("description", rs.getString(3));
+            Timestamp creationDate = rs.getTimestamp(4);
+            if (creationDate == null) {
+                generator.writeNullField("creationDate");
+            } else {
+                generator.writeStringField("creationDate", DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(creationDate.toLocalDateTime()));
+            }
+            generator.writeBooleanField("completed", rs.getBoolean(5));
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writePageMetadata(Pageable pageable, long total, JsonGenerator generator) throws IOException {
+        int size = pageable.isPaged() ? pageable.getPageSize() : (int) total;
+        generator.writeObjectFieldStart("page");
+        generator.writeNumberField("size", size);
+        generator.writeNumberField("number", pageable.isPaged() ? pageable.getPageNumber() : 0);
+        generator.writeNumberField("totalElements", total);
+        generator.writeNumberField("totalPages", size == 0 ? 1 : (int) Math.ceil((double) total / size));
+        generator.writeEndObject();
+    }
+
+    /**
+     * Monta a cláusula ORDER BY a partir da ordenação solicitada, aceitando apenas campos conhecidos
+     * (os nomes nunca são concatenados diretamente no SQL).
+     */
+    private String orderBy(Sort sort, Function<TaskField, String> columnOf) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            TaskField field = TaskField.fromAttributeName(order.getProperty());
+            orders.add(columnOf.apply(field) + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        return " ORDER BY " + String.join(", ", orders);
+    }
+
+    private String limitOffset(Pageable pageable) {
+        return pageable.isPaged() ? " LIMIT ? OFFSET ?" : "";
+    }
+
+    private void bindLimitOffset(Pageable pageable, PreparedStatement statement) throws SQLException {
+        if (pageable.isPaged()) {
+            statement.setInt(1, pageable.getPageSize());
+            statement.setLong(2, pageable.getOffset());
+        }
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+            postgres = "PostgreSQL".equalsIgnoreCase(product);
+            log.debug("Database product detected for JSON read engine: {}", product);
+        }
+        return postgres;
+    }
+}
@@ -0,0 +1,115 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Acesso às partições mensais da tabela {@code tasks} (particionada por {@code creation_date} no PostgreSQL).
+ * A criação das partições é feita pela função {@code create_task_partitions}, definida na migração que particionou
+ * a tabela; as partições mensais se chamam {@code tasks_AAAA_MM}. Em bancos sem particionamento (ex: H2 nos testes),
+ * {@link #isPartitioned()} retorna {@code false} e os demais métodos não devem ser chamados.
+ */
+@Repository
+@Slf4j
+public class TaskPartitionRepository {
+
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("tasks_(\\d{4})_(\\d{2})");
+
+    private static final String IS_PARTITIONED = "SELECT to_regclass('tasks_default') IS NOT NULL";
+    private static final String CREATE_PARTITIONS = "SELECT create_task_partitions(?, ?)";
+    private static final String FIND_PARTITIONS = """
+            SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'tasks'::regclass ORDER BY c.relname
+            """;
+
+    private static final String RECORD_TOMBSTONES = """
+            INSERT INTO task_tombstones (task_id, change_seq, deleted_at)
+            SELECT id, ? + ROW_NUMBER() OVER (ORDER BY id) - 1, ? FROM %s
+            ON CONFLICT (task_id) DO UPDATE SET change_seq = EXCLUDED.change_seq, deleted_at = EXCLUDED.deleted_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean partitioned;
+
+    public TaskPartitionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Indica se a tabela {@code tasks} é particionada (PostgreSQL com a migração de particionamento aplicada).
+     */
+    public boolean isPartitioned() {
+        if (partitioned == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+            partitioned = "PostgreSQL".equalsIgnoreCase(product)
+                    && Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_PARTITIONED, Boolean.class));
+            log.debug("Task table partitioning detected: {} ({})", partitioned, product);
+        }
+        return partitioned;
+    }
+
+    /**
+     * Cria as partições mensais de {@code from} até {@code to} (inclusive) que ainda não existirem.
+     * @return O número de partições criadas.
+     */
+    public int createPartitions(YearMonth from, YearMonth to) {
+        Integer created = jdbcTemplate.queryForObject(CREATE_PARTITIONS, Integer.class,
+                Date.valueOf(from.atDay(1)), Date.valueOf(to.atDay(1)));
+        return Objects.requireNonNullElse(created, 0);
+    }
+
+    /**
+     * Lista, em ordem cronológica, os meses que têm uma partição anexada (sem a partição padrão).
+     */
+    public List<YearMonth> findMonthlyPartitions() {
+        return jdbcTemplate.queryForList(FIND_PARTITIONS, String.class).stream()
+                .map(MONTHLY_PARTITION::matcher)
+                .filter(Matcher::matches)
+                .map(m -> YearMonth.of(Integer.parseInt(m.group(1)), Integer.parseInt(m.group(2))))
+                .toList();
+    }
+
+    /**
+     * Conta as tarefas da partição do mês informado.
+     */
+    public int countPartitionRows(YearMonth month) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + partitionName(month), Integer.class);
+        return Objects.requireNonNullElse(count, 0);
+    }
+
+    /**
+     * Registra a saída de todas as tarefas da partição do mês informado em {@code task_tombstones}, com números de
+     * sequência consecutivos a partir de {@code firstChangeSeq}, em ordem de ID.
+     * @return O número de registros gravados.
+     */
+    public int recordTombstones(YearMonth month, long firstChangeSeq, LocalDateTime deletedAt) {
+        return jdbcTemplate.update(RECORD_TOMBSTONES.formatted(partitionName(month)), firstChangeSeq,
+                Timestamp.valueOf(deletedAt));
+    }
+
+    /**
+     * Desanexa a partição do mês informado. Ela continua existindo como uma tabela independente, fora das consultas
+     * sobre {@code tasks}, e pode ser arquivada ou removida ({@code DROP TABLE}) separadamente.
+     */
+    public void detachPartition(YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE tasks DETACH PARTITION " + partitionName(month));
+    }
+
+    /**
+     * Retorna o nome da partição do mês informado.
+     */
+    public static String partitionName(YearMonth month) {
+        return "tasks_%04d_%02d".formatted(month.getYear(), month.getMonthValue());
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.repository;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskField;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Fragmento do {@link TaskRepository} com consultas de projeção dinâmica.
+ * Apenas as colunas correspondentes aos campos selecionados são lidas do banco,
+ * o que evita trafegar colunas grandes (como a descrição) quando não são necessárias.
+ */
+public interface TaskProjectionRepository {
+
+    /**
+     * Lista as tarefas de forma paginada, lendo apenas os campos selecionados.
+     * @param fields Os campos a serem lidos.
+     * @param pageable Objeto de paginação.
+     * @return Uma página de mapas (nome do campo -> valor), na ordem dos campos selecionados.
+     */
+    Page<Map<String, Object>> findAllProjected(Set<TaskField> fields, Pageable pageable);
+
+    /**
+     * Busca uma tarefa pelo ID, lendo apenas os campos selecionados.
+     * @param id O ID da tarefa.
+     * @param fields Os campos a serem lidos.
+     * @return Um Optional com o mapa (nome do campo -> valor) da tarefa, ou vazio se não encontrada.
+     */
+    Optional<Map<String, Object>> findProjectedById(Long id, Set<TaskField> fields);
+}
@@ -0,0 +1,86 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.repository;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.Task;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Implementação do {@link TaskProjectionRepository} com a Criteria API do JPA,
+ * montando um SELECT apenas com as colunas dos campos selecionados.
+ */
+class TaskProjectionRepositoryImpl implements TaskProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Map<String, Object>> findAllProjected(Set<TaskField> fields, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+        query.multiselect(selectionsOf(fields, root));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<Map<String, Object>> content = typedQuery.getResultList().stream()
+                .map(tuple -> toMap(fields, tuple))
+                .toList();
+
+        return PageableExecutionUtils.getPage(content, pageable, this::countAll);
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findProjectedById(Long id, Set<TaskField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+        query.multiselect(selectionsOf(fields, root));
+        query.where(cb.equal(root.get(TaskField.ID.getAttributeName()), id));
+
+        return entityManager.createQuery(query).getResultStream()
+                .findFirst()
+                .map(tuple -> toMap(fields, tuple));
+    }
+
+    private List<Selection<?>> selectionsOf(Set<TaskField> fields, Root<Task> root) {
+        return fields.stream()
+                .<Selection<?>>map(field -> root.get(field.getAttributeName()).alias(field.getAttributeName()))
+                .toList();
+    }
+
+    private Map<String, Object> toMap(Set<TaskField> fields, Tuple tuple) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (TaskField field : fields) {
+            values.put(field.getAttributeName(), tuple.get(field.getAttributeName()));
+        }
+        return values;
+    }
+
+    private long countAll() {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        query.select(cb.count(query.from(Task.class)));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
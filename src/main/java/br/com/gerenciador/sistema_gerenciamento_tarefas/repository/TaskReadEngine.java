@@ -0,0 +1,16 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.repository;
+
+/**
+ * Mecanismos alternativos de leitura da listagem de tarefas, que escrevem o JSON
+ * da resposta diretamente, sem passar por entidades, DTOs ou {@code PageImpl}.
+ */
+public enum TaskReadEngine {
+    /**
+     * Executa uma consulta SQL preparada e escreve cada linha do ResultSet no JSON da resposta.
+     */
+    JDBC,
+    /**
+     * Gera o JSON da página no próprio banco com {@code json_agg}. Disponível apenas no PostgreSQL.
+     */
+    JSON_AGG
+}
@@ -1,12 +1,111 @@
 package br.com.gerenciador.sistema_gerenciamento_tarefas.repository;
 
 import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.Task;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repositório para a entidade Task.
  * Fornece métodos CRUD (Create, Read, Update, Delete) e de paginação
- * para operações com tarefas no banco de dados.
+ * para operações com tarefas no banco de dados, além das consultas de projeção
+ * dinâmica de {@link TaskProjectionRepository}.
  */
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskProjectionRepository {
+
+    /**
+     * Busca, em ordem de ID, as tarefas criadas no intervalo semiaberto [from, to).
+     * Os resultados são projetados diretamente em DTOs (sem entidades gerenciadas) e lidos
+     * do banco em lotes através de um cursor, servido pelo índice BRIN de {@code creation_date}.
+     * O Stream retornado deve ser consumido dentro de uma transação e fechado após o uso.
+     *
+     * @param from Início do intervalo (inclusivo).
+     * @param to Fim do intervalo (exclusivo).
+     * @return Um Stream de DTOs de resposta de tarefa ordenados por ID.
+     */
+    @Query("""
+            select new br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO(
+                t.id, t.title, t.description, t.creationDate, t.completed)
+            from Task t
+            where t.creationDate >= :from and t.creationDate < :to
+            order by t.id
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<TaskResponseDTO> streamByCreationDateRange(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Busca, em ordem de ID, as próximas tarefas com ID maior que {@code afterId} (paginação por chave).
+     * Diferente da paginação por offset, cada lote é lido diretamente pelo índice da chave primária
+     * e não exige uma consulta de contagem.
+     *
+     * @param afterId O último ID já lido (use 0 para começar do início).
+     * @param limit O número máximo de tarefas retornadas.
+     * @return Uma lista de DTOs de resposta de tarefa ordenados por ID.
+     */
+    @Query("""
+            select new br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO(
+                t.id, t.title, t.description, t.creationDate, t.completed)
+            from Task t
+            where t.id > :afterId
+            order by t.id
+            """)
+    List<TaskResponseDTO> findNextAfterId(Long afterId, Limit limit);
+
+    /**
+     * Busca as tarefas com os IDs informados em uma única consulta ({@code IN}), projetadas diretamente em DTOs.
+     * A ordem do resultado não é garantida; IDs inexistentes são simplesmente omitidos.
+     *
+     * @param ids Os IDs das tarefas.
+     * @return Uma lista de DTOs de resposta das tarefas encontradas.
+     */
+    @Query("""
+            select new br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO(
+                t.id, t.title, t.description, t.creationDate, t.completed)
+            from Task t
+            where t.id in :ids
+            """)
+    List<TaskResponseDTO> findAllResponsesByIdIn(Collection<Long> ids);
+
+    /**
+     * Busca, em ordem de sequência, as tarefas criadas ou alteradas depois do número de sequência {@code afterSeq}
+     * e até {@code upToSeq}.
+     *
+     * @param afterSeq O último número de sequência já sincronizado pelo cliente.
+     * @param upToSeq O maior número de sequência retornado (o último confirmado no início da sincronização).
+     * @param limit O número máximo de tarefas retornadas.
+     * @return Uma lista de tarefas ordenadas pelo número de sequência da última alteração.
+     */
+    @Query("select t from Task t where t.changeSeq > :afterSeq and t.changeSeq <= :upToSeq order by t.changeSeq")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Task> findChangedBetween(long afterSeq, long upToSeq, Limit limit);
+
+    /**
+     * Busca, em ordem de ID, o próximo lote de tarefas de uma operação em massa: tarefas com ID maior que
+     * {@code afterId}, criadas antes de {@code createdBefore} e com o estado de conclusão em {@code completed}.
+     * Cada lote é lido pelo índice da chave primária a partir do ponto de retomada (paginação por chave).
+     *
+     * @param afterId O último ID já processado.
+     * @param createdBefore Apenas tarefas criadas antes desta data.
+     * @param completed Os estados de conclusão aceitos.
+     * @param limit O tamanho do lote.
+     * @return Uma lista de tarefas ordenadas por ID.
+     */
+    @Query("""
+            select t from Task t
+            where t.id > :afterId and t.creationDate < :createdBefore and t.completed in :completed
+            order by t.id
+            """)
+    List<Task> findJobChunk(long afterId, LocalDateTime createdBefore, Collection<Boolean> completed, Limit limit);
 }
@@ -0,0 +1,41 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.repository;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repositório para os registros de exclusão de tarefas ({@link TaskTombstone}).
+ */
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    /**
+     * Busca, em ordem de sequência, as exclusões com número de sequência maior que {@code afterSeq} e até {@code upToSeq}.
+     *
+     * @param afterSeq O último número de sequência já sincronizado pelo cliente.
+     * @param upToSeq O maior número de sequência retornado (o último confirmado no início da sincronização).
+     * @param limit O número máximo de registros retornados.
+     * @return Uma lista de registros de exclusão.
+     */
+    @Query("select t from TaskTombstone t where t.changeSeq > :afterSeq and t.changeSeq <= :upToSeq order by t.changeSeq")
+    List<TaskTombstone> findChangedBetween(long afterSeq, long upToSeq, Limit limit);
+
+    /**
+     * Retorna o maior número de sequência entre as exclusões feitas antes de {@code cutoff}, ou null se não houver nenhuma.
+     */
+    @Query("select max(t.changeSeq) from TaskTombstone t where t.deletedAt < :cutoff")
+    Long findMaxChangeSeqDeletedBefore(LocalDateTime cutoff);
+
+    /**
+     * Remove os registros de exclusão com número de sequência até {@code changeSeq} (inclusivo).
+     * @return A quantidade de registros removidos.
+     */
+    @Modifying
+    @Query("delete from TaskTombstone t where t.changeSeq <= :changeSeq")
+    int deleteUpTo(long changeSeq);
+}
@@ -0,0 +1,10 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.repository;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.webhook.WebhookSubscription;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Repositório para a entidade {@link WebhookSubscription}.
+ */
+public interface WebhookSubscriptionRepository extends JpaRepository<WebhookSubscription, Long> {
+}
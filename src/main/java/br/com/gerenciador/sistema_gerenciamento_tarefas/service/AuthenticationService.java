@@ -1,19 +1,24 @@
 package br.com.gerenciador.sistema_gerenciamento_tarefas.service;
 
 import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.User;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.UserChangeType;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.UserChangedEvent;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.UserRole;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.authentication.AuthenticationDTO;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.authentication.RegisterDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.user.UserResponseDTO;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.UserAlreadyExistsException;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.TokenService;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.validation.ValidationUtils;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Slf4j
@@ -23,12 +28,15 @@ public class AuthenticationService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final TokenService tokenService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AuthenticationService(AuthenticationManager authenticationManager, UserRepository userRepository, PasswordEncoder passwordEncoder, TokenService tokenService) {
+    public AuthenticationService(AuthenticationManager authenticationManager, UserRepository userRepository, PasswordEncoder passwordEncoder,
+                                 TokenService tokenService, ApplicationEventPublisher eventPublisher) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.tokenService = tokenService;
+        this.eventPublisher = eventPublisher;
     }
 
     public String login(AuthenticationDTO data) {
@@ -42,6 +50,7 @@ public class AuthenticationService {
         return token;
     }
 
+    @Transactional
     public User register(RegisterDTO data) {
         ValidationUtils.validateNotNull(data, "RegisterDTO");
         log.info("Request received to register user: {}", data.login());
@@ -55,6 +64,7 @@ public class AuthenticationService {
         User newUser = new User(data.login(), encryptedPassword, UserRole.USER);
 
         userRepository.save(newUser);
+        eventPublisher.publishEvent(new UserChangedEvent(newUser.getId(), UserChangeType.CREATED, new UserResponseDTO(newUser)));
         log.info("User '{}' registered successfully with role {}.", newUser.getLogin(), newUser.getRole());
         return newUser;
     }
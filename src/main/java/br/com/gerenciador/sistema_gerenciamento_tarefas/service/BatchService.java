@@ -0,0 +1,135 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.service;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.batch.BatchOperationDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.batch.BatchRequestDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.batch.BatchResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.batch.BatchResultDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.batch.BatchRequestDispatcher;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.InvalidBatchRequestException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.validation.ValidationUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Serviço que executa lotes de operações ({@code POST /batch}) sobre as rotas de tarefas e usuários,
+ * permitindo que clientes em redes de alta latência troquem várias chamadas sequenciais por uma só.
+ */
+@Service
+@Slf4j
+public class BatchService {
+
+    private static final Set<String> SUPPORTED_METHODS = Set.of("GET", "POST", "PUT", "PATCH", "DELETE");
+    private static final Pattern SUPPORTED_PATH = Pattern.compile("^/(tasks|users)([/?].*)?$");
+
+    private final BatchRequestDispatcher dispatcher;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxOperations;
+
+    public BatchService(BatchRequestDispatcher dispatcher, PlatformTransactionManager transactionManager,
+                        @Value("${app.batch.max-operations:50}") int maxOperations) {
+        this.dispatcher = dispatcher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxOperations = maxOperations;
+    }
+
+    /**
+     * Executa as operações do lote, na ordem informada, em nome do usuário autenticado.
+     * Cada operação passa pelas mesmas regras de autorização e validação de uma chamada individual,
+     * e a falha de uma operação não impede as seguintes, a menos que o lote seja atômico.
+     * Em um lote atômico, todas as operações rodam em uma única transação: a primeira falha
+     * desfaz as anteriores, e as seguintes não são executadas (status 424 Failed Dependency).
+     * @param batch O lote de operações.
+     * @return Um DTO com um resultado por operação, na ordem da requisição.
+     * @throws InvalidBatchRequestException se o lote for grande demais ou tiver uma operação não suportada.
+     */
+    public BatchResponseDTO executeBatch(BatchRequestDTO batch) {
+        ValidationUtils.validateNotNull(batch, "BatchRequestDTO");
+        validate(batch);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        List<BatchOperationDTO> operations = batch.operations();
+        log.info("Executing a batch of {} operations (atomic: {}) for user {}", operations.size(), batch.atomic(), authentication.getName());
+
+        if (!batch.atomic()) {
+            List<BatchResultDTO> results = operations.stream()
+                    .map(operation -> dispatcher.dispatch(normalize(operation), authentication))
+                    .toList();
+            return new BatchResponseDTO(false, results);
+        }
+
+        return transactionTemplate.execute(status -> {
+            List<BatchResultDTO> results = new ArrayList<>();
+            for (BatchOperationDTO operation : operations) {
+                BatchResultDTO result = dispatcher.dispatch(normalize(operation), authentication);
+                results.add(result);
+                if (result.status() >= 400) {
+                    log.warn("Batch operation {} {} failed with status {}; rolling back the batch.",
+                            operation.method(), operation.path(), result.status());
+                    status.setRollbackOnly();
+                    while (results.size() < operations.size()) {
+                        results.add(new BatchResultDTO(HttpStatus.FAILED_DEPENDENCY.value(), null, null));
+                    }
+                    return new BatchResponseDTO(true, results);
+                }
+            }
+            return new BatchResponseDTO(false, results);
+        });
+    }
+
+    private void validate(BatchRequestDTO batch) {
+        List<BatchOperationDTO> operations = batch.operations();
+        if (operations.size() > maxOperations) {
+            throw new InvalidBatchRequestException("A batch must not contain more than " + maxOperations + " operations.");
+        }
+        for (int i = 0; i < operations.size(); i++) {
+            BatchOperationDTO operation = operations.get(i);
+            String method = operation.method().toUpperCase();
+            if (!SUPPORTED_METHODS.contains(method)) {
+                throw new InvalidBatchRequestException("Unsupported method in batch operation " + i + ": " + operation.method());
+            }
+            if (!SUPPORTED_PATH.matcher(operation.path()).matches()) {
+                throw new InvalidBatchRequestException("Batch operation " + i + " must target /tasks or /users: " + operation.path());
+            }
+            if (batch.atomic() && method.equals("GET")) {
+                // Leituras dentro da transação poderiam guardar em cache dados que seriam desfeitos.
+                throw new InvalidBatchRequestException("Atomic batches only accept write operations (operation " + i + " is a GET).");
+            }
+            if (batch.atomic() && isAsync(operation.path())) {
+                // A criação assíncrona é gravada depois, fora da transação do lote, e não seria desfeita com ele.
+                throw new InvalidBatchRequestException("Atomic batches do not accept asynchronous operations (operation " + i + ").");
+            }
+        }
+    }
+
+    /**
+     * Verifica se a operação pede a criação assíncrona, lendo os parâmetros já decodificados,
+     * como o {@code BatchSubRequest} os entrega ao controller ({@code ?async=%74rue} também conta).
+     */
+    private boolean isAsync(String path) {
+        return UriComponentsBuilder.fromUriString(path).build().getQueryParams().entrySet().stream()
+                .filter(parameter -> decode(parameter.getKey()).equals("async"))
+                .flatMap(parameter -> parameter.getValue().stream())
+                .anyMatch(value -> value != null && decode(value).equalsIgnoreCase("true"));
+    }
+
+    private static String decode(String value) {
+        return UriUtils.decode(value, StandardCharsets.UTF_8);
+    }
+
+    private BatchOperationDTO normalize(BatchOperationDTO operation) {
+        return new BatchOperationDTO(operation.method().toUpperCase(), operation.path(), operation.body());
+    }
+}
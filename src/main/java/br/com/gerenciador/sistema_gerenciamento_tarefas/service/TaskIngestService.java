@@ -0,0 +1,299 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.service;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.Task;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangeType;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangedEvent;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskCreateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.TaskIngestQueueFullException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.id.IdGenerator;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.resilience.CircuitBreaker;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.validation.ValidationUtils;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskBatchWriter;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskChangeSequence;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Criação assíncrona de tarefas com commit em grupo ({@code POST /tasks?async=true}).
+ * <p>
+ * Cada criação gera o ID da tarefa ({@link IdGenerator}), entra em uma fila limitada e sem locks e é
+ * respondida imediatamente. Uma única thread grava a fila em lotes de até {@code batch-size} tarefas, cada lote
+ * em uma única transação, assim que o lote enche ou {@code linger} após a chegada da tarefa mais antiga. Sob carga,
+ * o custo do commit (a espera pela gravação do log no disco) é dividido por todas as tarefas do lote.
+ * <p>
+ * Com a fila cheia, novas criações são recusadas ({@link TaskIngestQueueFullException}). Se um lote falhar porque o
+ * banco está indisponível ({@link CircuitBreaker#isInfrastructureFailure}), o lote inteiro é gravado de novo após
+ * uma espera exponencial ({@code retry-backoff}, até {@code max-retry-backoff}), sem limite de tentativas: as tarefas
+ * já foram aceitas, e a fila cheia faz as novas criações serem recusadas enquanto isso. Se o lote falhar por outro
+ * motivo, as tarefas são regravadas uma a uma, para que uma tarefa inválida não descarte as demais. As tarefas ainda
+ * na fila são perdidas se a aplicação parar de forma abrupta; em um encerramento normal, a fila é gravada antes
+ * (com o banco indisponível, a espera pelo encerramento é limitada a 30 segundos).
+ */
+@Service
+@Slf4j
+public class TaskIngestService {
+
+    private final IdGenerator<Long> taskIdGenerator;
+    private final TaskChangeSequence taskChangeSequence;
+    private final TaskBatchWriter taskBatchWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int capacity;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final long retryBackoffNanos;
+    private final long maxRetryBackoffNanos;
+
+    private final Queue<PendingTask> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Counter committedTasks;
+    private final Counter failedTasks;
+    private final Counter rejectedTasks;
+    private final Counter retriedBatches;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private volatile Thread committer;
+
+    // Lote aguardando uma nova tentativa depois de uma falha do banco (acessado apenas pela thread que grava).
+    private List<Task> retryBatch = List.of();
+    private int retryAttempts;
+    private long retryAt;
+
+    public TaskIngestService(IdGenerator<Long> taskIdGenerator, TaskChangeSequence taskChangeSequence, TaskBatchWriter taskBatchWriter,
+                             ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.task-ingest.capacity:10000}") int capacity,
+                             @Value("${app.task-ingest.batch-size:500}") int batchSize,
+                             @Value("${app.task-ingest.linger:10ms}") Duration linger,
+                             @Value("${app.task-ingest.retry-backoff:100ms}") Duration retryBackoff,
+                             @Value("${app.task-ingest.max-retry-backoff:5s}") Duration maxRetryBackoff) {
+        this.taskIdGenerator = taskIdGenerator;
+        this.taskChangeSequence = taskChangeSequence;
+        this.taskBatchWriter = taskBatchWriter;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.lingerNanos = linger.toNanos();
+        this.retryBackoffNanos = retryBackoff.toNanos();
+        this.maxRetryBackoffNanos = maxRetryBackoff.toNanos();
+        this.committedTasks = meterRegistry.counter("task.ingest.committed");
+        this.failedTasks = meterRegistry.counter("task.ingest.failed");
+        this.rejectedTasks = meterRegistry.counter("task.ingest.rejected");
+        this.retriedBatches = meterRegistry.counter("task.ingest.retries");
+        this.flushTimer = meterRegistry.timer("task.ingest.flush");
+        meterRegistry.gauge("task.ingest.queued", queued);
+    }
+
+    /**
+     * Inicia a thread que grava a fila.
+     */
+    @PostConstruct
+    public synchronized void start() {
+        if (committer == null) {
+            running = true;
+            committer = Thread.ofPlatform().name("task-ingest-committer").daemon(true).start(this::run);
+        }
+    }
+
+    /**
+     * Para a thread de gravação depois de gravar as tarefas ainda na fila.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        Thread thread = committer;
+        if (thread == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(Duration.ofSeconds(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        committer = null;
+    }
+
+    /**
+     * Reserva um ID e enfileira a criação de uma tarefa, que será gravada em um dos próximos lotes.
+     * A tarefa só fica visível nas leituras depois da gravação.
+     * @param data DTO com os dados de criação.
+     * @return A tarefa como será gravada, com o ID reservado.
+     * @throws TaskIngestQueueFullException se a fila estiver cheia.
+     */
+    public TaskResponseDTO createTaskAsync(TaskCreateDTO data) {
+        ValidationUtils.validateNotNull(data, "TaskCreateDTO");
+        int position = queued.incrementAndGet();
+        if (position > capacity) {
+            queued.decrementAndGet();
+            rejectedTasks.increment();
+            throw new TaskIngestQueueFullException("The task ingest queue is full. Retry later or create the task synchronously.");
+        }
+        Task task;
+        try {
+            task = new Task(taskIdGenerator.nextId(), data.title(), data.description(), LocalDateTime.now(), false);
+        } catch (RuntimeException e) {
+            queued.decrementAndGet();
+            throw e;
+        }
+        queue.offer(new PendingTask(task, System.nanoTime()));
+        log.debug("Task {} queued for group commit ({} queued).", task.getId(), position);
+        // Acorda a thread de gravação quando a fila deixa de estar vazia (para contar a espera) ou quando o lote enche.
+        if (position == 1 || position == batchSize) {
+            Thread thread = committer;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+        return new TaskResponseDTO(task);
+    }
+
+    /**
+     * Retorna a quantidade de tarefas aguardando gravação.
+     */
+    public int queuedCount() {
+        return queued.get();
+    }
+
+    /**
+     * Grava o lote aguardando uma nova tentativa ou, se não houver, um lote com as tarefas mais antigas da fila.
+     * @return A quantidade de tarefas do lote.
+     */
+    int flush() {
+        List<Task> batch = nextBatch();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        flushTimer.record(() -> write(batch));
+        return batch.size();
+    }
+
+    private List<Task> nextBatch() {
+        if (!retryBatch.isEmpty()) {
+            List<Task> batch = retryBatch;
+            retryBatch = List.of();
+            return batch;
+        }
+        List<Task> batch = new ArrayList<>(Math.min(batchSize, Math.max(queued.get(), 1)));
+        PendingTask pending;
+        while (batch.size() < batchSize && (pending = queue.poll()) != null) {
+            batch.add(pending.task());
+        }
+        return batch;
+    }
+
+    private void write(List<Task> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(batch));
+        } catch (RuntimeException e) {
+            if (CircuitBreaker.isInfrastructureFailure(e)) {
+                retryLater(batch, e);
+                return;
+            }
+            log.warn("Failed to commit a batch of {} queued tasks; retrying them one by one: {}", batch.size(), e.getMessage());
+            insertOneByOne(batch);
+            return;
+        }
+        retryAttempts = 0;
+        committedTasks.increment(batch.size());
+        queued.addAndGet(-batch.size());
+        log.debug("Committed {} queued tasks in one transaction.", batch.size());
+    }
+
+    /**
+     * Grava as tarefas uma a uma, descartando apenas as que falham pelos próprios dados. Se o banco ficar
+     * indisponível no meio do caminho, as tarefas restantes voltam a aguardar uma nova tentativa.
+     */
+    private void insertOneByOne(List<Task> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            Task task = batch.get(i);
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(List.of(task)));
+                committedTasks.increment();
+            } catch (RuntimeException e) {
+                if (CircuitBreaker.isInfrastructureFailure(e)) {
+                    retryLater(batch.subList(i, batch.size()), e);
+                    return;
+                }
+                failedTasks.increment();
+                log.error("Failed to create queued task with reserved ID {}.", task.getId(), e);
+            }
+            queued.decrementAndGet();
+        }
+        retryAttempts = 0;
+    }
+
+    private void retryLater(List<Task> batch, RuntimeException failure) {
+        retryBatch = List.copyOf(batch);
+        long backoff = Math.min(retryBackoffNanos << Math.min(retryAttempts, 20), maxRetryBackoffNanos);
+        retryAttempts++;
+        retryAt = System.nanoTime() + backoff;
+        retriedBatches.increment();
+        log.warn("Database unavailable while committing {} queued tasks; retrying in {} ms: {}", batch.size(),
+                TimeUnit.NANOSECONDS.toMillis(backoff), failure.getMessage());
+    }
+
+    private void insert(List<Task> tasks) {
+        long changeSeq = taskChangeSequence.reserve(tasks.size()) - tasks.size();
+        for (Task task : tasks) {
+            task.setChangeSeq(++changeSeq);
+        }
+        taskBatchWriter.insertAll(tasks);
+        for (Task task : tasks) {
+            eventPublisher.publishEvent(new TaskChangedEvent(task.getId(), TaskChangeType.CREATED, new TaskResponseDTO(task)));
+        }
+    }
+
+    private void run() {
+        while (running || !queue.isEmpty() || !retryBatch.isEmpty()) {
+            if (!retryBatch.isEmpty()) {
+                long backoffLeft = retryAt - System.nanoTime();
+                if (backoffLeft > 0) {
+                    LockSupport.parkNanos(this, backoffLeft);
+                    continue;
+                }
+            } else {
+                PendingTask oldest = queue.peek();
+                if (oldest == null) {
+                    LockSupport.park(this);
+                    continue;
+                }
+                long waited = System.nanoTime() - oldest.enqueuedAt();
+                if (running && queued.get() < batchSize && waited < lingerNanos) {
+                    LockSupport.parkNanos(this, lingerNanos - waited);
+                    continue;
+                }
+            }
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                log.error("Task ingest committer failed.", e);
+            }
+        }
+    }
+
+    private record PendingTask(Task task, long enqueuedAt) {
+    }
+}
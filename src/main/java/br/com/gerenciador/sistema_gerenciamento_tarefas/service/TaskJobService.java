@@ -0,0 +1,276 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.service;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.job.TaskJob;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.job.TaskJobAction;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.job.TaskJobStatus;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.Task;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.job.TaskJobCreateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.job.TaskJobResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.InvalidTaskJobException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.TaskJobNotFoundException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.validation.ValidationUtils;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskJobRepository;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Serviço das operações em massa sobre tarefas ({@code POST /tasks/jobs}), como "concluir todas as tarefas
+ * criadas antes de X" ou "excluir todas as tarefas concluídas".
+ * <p>
+ * Cada operação percorre as tarefas selecionadas em ordem de ID, em lotes de {@code chunk-size} tarefas lidos
+ * a partir do último ID processado (paginação por chave). Cada lote roda em uma transação curta, que também
+ * grava o ponto de retomada; assim os locks de linha duram apenas um lote, e uma operação interrompida por um
+ * reinício continua do ponto exato quando a aplicação volta. Cada lote bloqueia a linha da operação, de modo
+ * que um cancelamento é visto no lote seguinte e nunca é sobrescrito pelo progresso.
+ * <p>
+ * As operações rodam em threads virtuais, uma por operação, com uma pausa opcional entre os lotes para
+ * deixar espaço para as demais escritas.
+ */
+@Service
+@Slf4j
+public class TaskJobService {
+
+    private static final List<TaskJobStatus> UNFINISHED = List.of(TaskJobStatus.PENDING, TaskJobStatus.RUNNING);
+
+    private final TaskJobRepository taskJobRepository;
+    private final TaskRepository taskRepository;
+    private final TaskService taskService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+    private final Duration pause;
+    private final Executor executor;
+
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public TaskJobService(TaskJobRepository taskJobRepository, TaskRepository taskRepository, TaskService taskService,
+                          PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                          @Value("${app.task-jobs.chunk-size:500}") int chunkSize,
+                          @Value("${app.task-jobs.pause:10ms}") Duration pause) {
+        this(taskJobRepository, taskRepository, taskService, transactionManager, meterRegistry, chunkSize, pause,
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("task-job-", 0).factory()));
+    }
+
+    TaskJobService(TaskJobRepository taskJobRepository, TaskRepository taskRepository, TaskService taskService,
+                   PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                   int chunkSize, Duration pause, Executor executor) {
+        this.taskJobRepository = taskJobRepository;
+        this.taskRepository = taskRepository;
+        this.taskService = taskService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+        this.pause = pause;
+        this.executor = executor;
+    }
+
+    /**
+     * Cria uma operação em massa e inicia sua execução em segundo plano.
+     * Sem {@code createdBefore}, a operação se limita às tarefas criadas antes da sua própria criação.
+     * Dentro de uma transação (ex: um lote atômico), a execução só começa depois do commit, quando a operação já
+     * está visível para a thread que a processa; se a transação for desfeita, a operação nunca começa.
+     * @param data DTO com a ação e os filtros.
+     * @return O DTO da operação criada, ainda pendente.
+     * @throws InvalidTaskJobException se nenhum filtro for informado.
+     */
+    public TaskJobResponseDTO createJob(TaskJobCreateDTO data) {
+        ValidationUtils.validateNotNull(data, "TaskJobCreateDTO");
+        if (data.createdBefore() == null && data.completed() == null) {
+            throw new InvalidTaskJobException("At least one filter (createdBefore or completed) is required.");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime createdBefore = data.createdBefore() != null ? data.createdBefore() : now;
+        TaskJob job = taskJobRepository.save(new TaskJob(data.action(), createdBefore, data.completed(), now));
+        log.info("Created task job {}: {} tasks created before {} (completed: {}).",
+                job.getId(), job.getAction(), job.getCreatedBefore(), job.getCompleted());
+        submitAfterCommit(job.getId());
+        return new TaskJobResponseDTO(job);
+    }
+
+    /**
+     * Lista todas as operações em massa, em ordem de ID.
+     * @return Uma lista de TaskJobResponseDTO.
+     */
+    public List<TaskJobResponseDTO> listJobs() {
+        log.info("Listing all task jobs.");
+        return taskJobRepository.findAll(Sort.by("id")).stream()
+                .map(TaskJobResponseDTO::new)
+                .toList();
+    }
+
+    /**
+     * Busca o estado e o progresso de uma operação em massa.
+     * @param id O ID da operação.
+     * @return O DTO da operação.
+     * @throws TaskJobNotFoundException se a operação não for encontrada.
+     */
+    public TaskJobResponseDTO getJob(Long id) {
+        ValidationUtils.validateNotNull(id, "Task job ID");
+        return taskJobRepository.findById(id)
+                .map(TaskJobResponseDTO::new)
+                .orElseThrow(() -> new TaskJobNotFoundException("Task job not found with ID: " + id));
+    }
+
+    /**
+     * Cancela uma operação em massa. O lote em andamento termina normalmente, e os lotes já processados
+     * não são desfeitos. Cancelar uma operação já terminada não tem efeito.
+     * @param id O ID da operação.
+     * @return O DTO da operação após o cancelamento.
+     * @throws TaskJobNotFoundException se a operação não for encontrada.
+     */
+    public TaskJobResponseDTO cancelJob(Long id) {
+        ValidationUtils.validateNotNull(id, "Task job ID");
+        return transactionTemplate.execute(status -> {
+            TaskJob job = taskJobRepository.findByIdForUpdate(id)
+                    .orElseThrow(() -> new TaskJobNotFoundException("Task job not found with ID: " + id));
+            if (!job.getStatus().isFinished()) {
+                job.cancel(LocalDateTime.now());
+                log.info("Task job {} cancelled after {} tasks.", id, job.getProcessed());
+            }
+            return new TaskJobResponseDTO(job);
+        });
+    }
+
+    /**
+     * Retoma, na inicialização, as operações que estavam pendentes ou em andamento quando a aplicação parou.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeJobs() {
+        List<TaskJob> jobs = taskJobRepository.findByStatusInOrderById(UNFINISHED);
+        for (TaskJob job : jobs) {
+            log.info("Resuming task job {} after task ID {}.", job.getId(), job.getLastTaskId());
+            submit(job.getId());
+        }
+    }
+
+    /**
+     * Executa uma operação lote a lote até terminar, ser cancelada ou a thread ser interrompida.
+     * @param id O ID da operação.
+     */
+    void runJob(Long id) {
+        try {
+            boolean more = true;
+            while (more && !Thread.currentThread().isInterrupted()) {
+                more = Boolean.TRUE.equals(transactionTemplate.execute(status -> processChunk(id)));
+                if (more && !pause.isZero()) {
+                    Thread.sleep(pause);
+                }
+            }
+        } catch (InterruptedException e) {
+            // Encerramento: o ponto de retomada já está gravado, e a operação continua no próximo início.
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Task job {} failed.", id, e);
+            transactionTemplate.executeWithoutResult(status -> taskJobRepository.findByIdForUpdate(id)
+                    .ifPresent(job -> job.fail(e.getMessage(), LocalDateTime.now())));
+        } finally {
+            running.remove(id);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Processa o próximo lote da operação, na transação corrente.
+     * @return true se ainda pode haver tarefas a processar.
+     */
+    private boolean processChunk(Long id) {
+        TaskJob job = taskJobRepository.findByIdForUpdate(id).orElse(null);
+        if (job == null || job.getStatus().isFinished()) {
+            return false;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (job.getStatus() == TaskJobStatus.PENDING) {
+            job.start(now);
+        }
+
+        List<Boolean> completed = completedFilter(job);
+        List<Task> chunk = completed.isEmpty() ? List.of()
+                : taskRepository.findJobChunk(job.getLastTaskId(), job.getCreatedBefore(), completed, Limit.of(chunkSize));
+        if (!chunk.isEmpty()) {
+            if (job.getAction() == TaskJobAction.CONCLUDE) {
+                taskService.concludeAll(chunk);
+            } else {
+                taskService.deleteAll(chunk);
+            }
+            job.advance(chunk.get(chunk.size() - 1).getId(), chunk.size(), now);
+            meterRegistry.counter("task.jobs.processed", "action", job.getAction().name()).increment(chunk.size());
+            log.debug("Task job {} processed {} tasks up to ID {}.", id, job.getProcessed(), job.getLastTaskId());
+        }
+
+        if (chunk.size() < chunkSize) {
+            job.complete(now);
+            log.info("Task job {} completed: {} tasks processed.", id, job.getProcessed());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Retorna os estados de conclusão selecionados pela operação. A conclusão ignora as tarefas já concluídas.
+     */
+    private static List<Boolean> completedFilter(TaskJob job) {
+        List<Boolean> accepted = job.getCompleted() != null ? List.of(job.getCompleted()) : List.of(true, false);
+        if (job.getAction() == TaskJobAction.CONCLUDE) {
+            return accepted.contains(false) ? List.of(false) : List.of();
+        }
+        return accepted;
+    }
+
+    /**
+     * Inicia a operação depois do commit da transação corrente ou, sem transação, imediatamente.
+     */
+    private void submitAfterCommit(Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(id);
+            }
+        });
+    }
+
+    private void submit(Long id) {
+        if (!running.add(id)) {
+            return;
+        }
+        try {
+            executor.execute(() -> runJob(id));
+        } catch (RejectedExecutionException e) {
+            // Aplicação em encerramento: a operação é retomada no próximo início.
+            running.remove(id);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.service;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskChangeSequence;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskPartitionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Manutenção das partições mensais da tabela {@code tasks}: cria com antecedência as partições dos próximos meses
+ * (para que as novas tarefas nunca caiam na partição padrão) e, opcionalmente, desanexa as partições mais antigas
+ * que o prazo configurado. Desanexar é uma operação de metadados: os dados não são apagados nem reescritos.
+ * <p>
+ * Para a sincronização incremental, as tarefas de uma partição desanexada saem da tabela {@code tasks} como em uma
+ * exclusão: na mesma transação do {@code DETACH}, cada uma recebe um registro de exclusão em
+ * {@code task_tombstones}, com números de sequência próprios. O contador de sequência fica bloqueado durante essa
+ * transação, então nenhuma escrita de tarefa recebe um número entre os reservados. Não são publicados eventos de
+ * alteração por tarefa (webhooks e outbox), já que um mês inteiro sai de uma vez.
+ * <p>
+ * Roda na inicialização e depois periodicamente; não faz nada quando o banco não é particionado (ex: H2).
+ */
+@Service
+@Slf4j
+public class TaskPartitionService {
+
+    private final TaskPartitionRepository taskPartitionRepository;
+    private final TaskChangeSequence taskChangeSequence;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final int detachAfterMonths;
+
+    public TaskPartitionService(TaskPartitionRepository taskPartitionRepository, TaskChangeSequence taskChangeSequence,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.partitioning.months-ahead:3}") int monthsAhead,
+                                @Value("${app.partitioning.detach-after-months:0}") int detachAfterMonths) {
+        this.taskPartitionRepository = taskPartitionRepository;
+        this.taskChangeSequence = taskChangeSequence;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.monthsAhead = monthsAhead;
+        this.detachAfterMonths = detachAfterMonths;
+    }
+
+    /**
+     * Executa a manutenção das partições em relação ao mês atual.
+     */
+    @Scheduled(fixedDelayString = "${app.partitioning.interval:PT12H}")
+    public void maintainPartitions() {
+        if (!taskPartitionRepository.isPartitioned()) {
+            return;
+        }
+        YearMonth current = YearMonth.now();
+        createAhead(current);
+        if (detachAfterMonths > 0) {
+            detachBefore(current.minusMonths(detachAfterMonths));
+        }
+    }
+
+    /**
+     * Garante que existam as partições do mês informado e dos {@code months-ahead} meses seguintes.
+     * @param current O mês de referência.
+     * @return O número de partições criadas.
+     */
+    public int createAhead(YearMonth current) {
+        int created = taskPartitionRepository.createPartitions(current, current.plusMonths(monthsAhead));
+        if (created > 0) {
+            log.info("Created {} task partitions up to {}.", created, current.plusMonths(monthsAhead));
+        }
+        return created;
+    }
+
+    /**
+     * Desanexa as partições dos meses anteriores ao mês informado, registrando a saída das suas tarefas.
+     * Cada partição é desanexada em uma transação própria; uma falha em uma partição é registrada e não impede as demais.
+     * @param firstKept O primeiro mês que permanece anexado.
+     * @return Os meses cujas partições foram desanexadas.
+     */
+    public List<YearMonth> detachBefore(YearMonth firstKept) {
+        List<YearMonth> detached = new ArrayList<>();
+        for (YearMonth month : taskPartitionRepository.findMonthlyPartitions()) {
+            if (!month.isBefore(firstKept)) {
+                continue;
+            }
+            try {
+                Integer tombstones = transactionTemplate.execute(status -> detach(month));
+                detached.add(month);
+                log.info("Detached task partition {} ({} tasks recorded as removed).",
+                        TaskPartitionRepository.partitionName(month), tombstones);
+            } catch (DataAccessException e) {
+                log.error("Failed to detach task partition {}.", TaskPartitionRepository.partitionName(month), e);
+            }
+        }
+        return detached;
+    }
+
+    /**
+     * Registra a saída das tarefas da partição e a desanexa, na transação corrente.
+     * @return O número de tarefas registradas como removidas.
+     */
+    private int detach(YearMonth month) {
+        taskChangeSequence.lock();
+        int count = taskPartitionRepository.countPartitionRows(month);
+        if (count > 0) {
+            long firstChangeSeq = taskChangeSequence.reserve(count) - count + 1;
+            taskPartitionRepository.recordTombstones(month, firstChangeSeq, LocalDateTime.now());
+        }
+        taskPartitionRepository.detachPartition(month);
+        return count;
+    }
+}
@@ -0,0 +1,128 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.service;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.Task;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.coldtier.ColdTaskStore;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Política de retenção das tarefas: move as tarefas concluídas antigas da tabela {@code tasks} para o
+ * armazenamento frio ({@link ColdTaskStore}) e, opcionalmente, expurga o armazenamento frio após um segundo prazo.
+ * <p>
+ * As tarefas concluídas criadas antes de {@code retention} são percorridas em ordem de ID, em lotes de
+ * {@code chunk-size}. Cada lote é gravado em um novo segmento e só então removido da tabela, na mesma transação:
+ * se a gravação falhar, nada é removido; se o commit falhar, a cópia fria fica duplicada, mas a tarefa continua
+ * sendo servida pelo banco.
+ * <p>
+ * Para os clientes, uma tarefa arquivada sai da listagem e da sincronização incremental (o arquivamento registra a
+ * saída em {@code task_tombstones} e publica um evento {@code ARCHIVED}), mas continua disponível, apenas para
+ * leitura, nas buscas por ID; alterá-la ou excluí-la resulta em 409 Conflict. O expurgo registra novamente a saída
+ * e publica um evento {@code PURGED} para cada tarefa, na transação que antecede a remoção do segmento.
+ */
+@Service
+@Slf4j
+public class TaskRetentionService {
+
+    private static final List<Boolean> COMPLETED = List.of(true);
+
+    private final TaskRepository taskRepository;
+    private final TaskService taskService;
+    private final ColdTaskStore coldTaskStore;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration retention;
+    private final Duration purgeAfter;
+    private final int chunkSize;
+    private final Counter archivedTasks;
+    private final Counter purgedTasks;
+
+    public TaskRetentionService(TaskRepository taskRepository, TaskService taskService, ColdTaskStore coldTaskStore,
+                                PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                @Value("${app.cold-tier.enabled:false}") boolean enabled,
+                                @Value("${app.cold-tier.retention:365d}") Duration retention,
+                                @Value("${app.cold-tier.purge-after:0d}") Duration purgeAfter,
+                                @Value("${app.cold-tier.chunk-size:1000}") int chunkSize) {
+        this.taskRepository = taskRepository;
+        this.taskService = taskService;
+        this.coldTaskStore = coldTaskStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.retention = retention;
+        this.purgeAfter = purgeAfter;
+        this.chunkSize = chunkSize;
+        this.archivedTasks = meterRegistry.counter("cold.tasks.archived");
+        this.purgedTasks = meterRegistry.counter("cold.tasks.purged");
+    }
+
+    /**
+     * Executa a política de retenção, se habilitada: arquiva as tarefas concluídas antigas e expurga
+     * o armazenamento frio, se houver prazo de expurgo.
+     */
+    @Scheduled(fixedDelayString = "${app.cold-tier.interval:PT6H}", initialDelayString = "${app.cold-tier.interval:PT6H}")
+    public void applyRetention() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        archiveCompletedBefore(now.minus(retention));
+        if (!purgeAfter.isZero()) {
+            purgeCreatedBefore(now.minus(purgeAfter));
+        }
+    }
+
+    /**
+     * Move para o armazenamento frio, em lotes, as tarefas concluídas criadas antes da data informada.
+     * @param cutoff A data limite.
+     * @return O número de tarefas arquivadas.
+     */
+    public int archiveCompletedBefore(LocalDateTime cutoff) {
+        log.info("Archiving completed tasks created before {}.", cutoff);
+        int archived = 0;
+        long afterId = 0;
+        while (true) {
+            long from = afterId;
+            List<Task> chunk = transactionTemplate.execute(status -> {
+                List<Task> tasks = taskRepository.findJobChunk(from, cutoff, COMPLETED, Limit.of(chunkSize));
+                coldTaskStore.append(tasks);
+                taskService.archiveAll(tasks);
+                return tasks;
+            });
+            if (chunk == null || chunk.isEmpty()) {
+                break;
+            }
+            archived += chunk.size();
+            archivedTasks.increment(chunk.size());
+            afterId = chunk.get(chunk.size() - 1).getId();
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+        log.info("Archived {} completed tasks to the cold tier.", archived);
+        return archived;
+    }
+
+    /**
+     * Expurga do armazenamento frio os segmentos cujas tarefas foram todas criadas antes da data informada.
+     * @param threshold A data limite.
+     * @return O número de tarefas expurgadas.
+     */
+    public int purgeCreatedBefore(LocalDateTime threshold) {
+        int purged = coldTaskStore.purgeCreatedBefore(threshold,
+                ids -> transactionTemplate.executeWithoutResult(status -> taskService.recordPurged(ids)));
+        purgedTasks.increment(purged);
+        log.info("Purged {} cold tasks created before {}.", purged, threshold);
+        return purged;
+    }
+}
@@ -1,19 +1,58 @@
 package br.com.gerenciador.sistema_gerenciamento_tarefas.service;
 
 import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.Task;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangeType;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangedEvent;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskField;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskTombstone;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskCreateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskDailyCountDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskLookupItemDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskLookupResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskRangeResponseDTO;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskUpdateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.InvalidDateRangeException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.InvalidIdListException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.cache.TaskReadCache;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.coldtier.ColdTaskStore;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.concurrency.RequestCoalescer;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.TaskArchivedException;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.TaskNotFoundException;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.validation.ValidationUtils;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskChangeSequence;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskJsonReader;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskReadEngine;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskRepository;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskTombstoneRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Serviço que encapsula a lógica de negócio para operações relacionadas a tarefas.
@@ -21,40 +60,211 @@ import java.time.LocalDateTime;
 @Service
 @Slf4j
 public class TaskService {
+    /**
+     * Tamanho máximo, em dias, do intervalo aceito por {@link #listTasksByCreationDateRange}.
+     */
+    public static final long MAX_RANGE_DAYS = 92;
+
+    /**
+     * Quantidade máxima de IDs aceita por {@link #getTasksByIds}.
+     */
+    public static final int MAX_LOOKUP_IDS = 200;
+
     private final TaskRepository taskRepository;
+    private final TaskJsonReader taskJsonReader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RequestCoalescer requestCoalescer;
+    private final TaskReadCache taskReadCache;
+    private final TaskChangeSequence taskChangeSequence;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final ColdTaskStore coldTaskStore;
+    private final TransactionTemplate readOnlyTransaction;
 
-    public TaskService(TaskRepository taskRepository) {
+    public TaskService(TaskRepository taskRepository, TaskJsonReader taskJsonReader, ApplicationEventPublisher eventPublisher,
+                       RequestCoalescer requestCoalescer, TaskReadCache taskReadCache,
+                       TaskChangeSequence taskChangeSequence, TaskTombstoneRepository taskTombstoneRepository,
+                       ColdTaskStore coldTaskStore, PlatformTransactionManager transactionManager) {
         this.taskRepository = taskRepository;
+        this.taskJsonReader = taskJsonReader;
+        this.eventPublisher = eventPublisher;
+        this.requestCoalescer = requestCoalescer;
+        this.taskReadCache = taskReadCache;
+        this.taskChangeSequence = taskChangeSequence;
+        this.taskTombstoneRepository = taskTombstoneRepository;
+        this.coldTaskStore = coldTaskStore;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     /**
      * Lista todas as tarefas de forma paginada.
+     * A página é servida do cache de leituras (possivelmente desatualizada, veja {@link TaskReadCache}),
+     * e requisições idênticas e concorrentes compartilham uma única consulta ao banco.
+     * Apenas a carga roda em uma transação somente leitura: um acerto no cache não ocupa uma conexão do banco.
      * @param page Objeto de paginação.
      * @return Uma página de DTOs de resposta de tarefa.
      */
     public Page<TaskResponseDTO> listAllTasks(Pageable page) {
         ValidationUtils.validateNotNull(page, "Pageable object");
         log.info("Listing all tasks for page request: {}", page);
-        return taskRepository.findAll(page)
-                .map(TaskResponseDTO::new);
+        List<Object> key = List.of(page.getPageNumber(), page.getPageSize(), page.getSort().toString());
+        return taskReadCache.getPage(key, () -> requestCoalescer.execute("listAllTasks", key, () -> readOnly(() -> taskRepository.findAll(page)
+                .map(TaskResponseDTO::new))));
+    }
+
+    /**
+     * Lista todas as tarefas de forma paginada, lendo do banco apenas os campos selecionados.
+     * @param page Objeto de paginação.
+     * @param fields Os campos a serem retornados.
+     * @return Uma página de mapas (nome do campo -> valor).
+     */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> listAllTasks(Pageable page, Set<TaskField> fields) {
+        ValidationUtils.validateNotNull(page, "Pageable object");
+        ValidationUtils.validateNotNull(fields, "Task fields");
+        log.info("Listing all tasks with fields {} for page request: {}", fields, page);
+        return taskRepository.findAllProjected(fields, page);
+    }
+
+    /**
+     * Lista o próximo lote de tarefas com ID maior que {@code afterId}, em ordem de ID.
+     * Usado para percorrer todas as tarefas em lotes sem o custo de offset e contagem.
+     * @param afterId O último ID já lido (use 0 para começar do início).
+     * @param limit O tamanho máximo do lote.
+     * @return Uma lista de DTOs de resposta de tarefa ordenados por ID.
+     */
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> listTasksAfter(Long afterId, int limit) {
+        ValidationUtils.validateNotNull(afterId, "Last task ID");
+        log.debug("Listing up to {} tasks after ID {}", limit, afterId);
+        return taskRepository.findNextAfterId(afterId, Limit.of(limit));
+    }
+
+    /**
+     * Escreve uma página da listagem de tarefas diretamente como JSON, usando um mecanismo de leitura
+     * alternativo (sem entidades, DTOs ou {@code PageImpl}).
+     * Este método é transacional (somente leitura), para que a contagem e a página venham da mesma conexão.
+     * @param page Objeto de paginação.
+     * @param engine O mecanismo de leitura a ser usado.
+     * @param generator O gerador JSON onde a página será escrita.
+     * @throws IOException Se ocorrer um erro ao escrever a resposta.
+     */
+    @Transactional(readOnly = true)
+    public void writeAllTasks(Pageable page, TaskReadEngine engine, JsonGenerator generator) throws IOException {
+        ValidationUtils.validateNotNull(page, "Pageable object");
+        ValidationUtils.validateNotNull(engine, "Read engine");
+        ValidationUtils.validateNotNull(generator, "JSON generator");
+        log.info("Writing all tasks with the {} read engine for page request: {}", engine, page);
+        taskJsonReader.writePage(page, engine, generator);
+    }
+
+    /**
+     * Lista as tarefas criadas entre duas datas (inclusivas), em ordem de ID,
+     * junto com a quantidade de tarefas criadas em cada dia do intervalo.
+     * As tarefas são lidas do banco como um Stream e agregadas em uma única passagem.
+     * Este método é transacional (somente leitura), pois o Stream exige uma conexão aberta.
+     * @param from O primeiro dia do intervalo.
+     * @param to O último dia do intervalo.
+     * @return Um DTO com as tarefas do intervalo e os totais por dia.
+     * @throws InvalidDateRangeException se o intervalo for invertido ou maior que {@link #MAX_RANGE_DAYS} dias.
+     */
+    @Transactional(readOnly = true)
+    public TaskRangeResponseDTO listTasksByCreationDateRange(LocalDate from, LocalDate to) {
+        ValidationUtils.validateNotNull(from, "Start date");
+        ValidationUtils.validateNotNull(to, "End date");
+        if (from.isAfter(to)) {
+            throw new InvalidDateRangeException("Start date must not be after end date.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new InvalidDateRangeException("Date range must not exceed " + MAX_RANGE_DAYS + " days.");
+        }
+        log.info("Listing tasks created between {} and {}", from, to);
+
+        List<TaskResponseDTO> tasks = new ArrayList<>();
+        Map<LocalDate, Long> countsByDay = new TreeMap<>();
+        try (Stream<TaskResponseDTO> stream = taskRepository.streamByCreationDateRange(from.atStartOfDay(), to.plusDays(1).atStartOfDay())) {
+            stream.forEach(task -> {
+                tasks.add(task);
+                countsByDay.merge(task.creationDate().toLocalDate(), 1L, Long::sum);
+            });
+        }
+
+        List<TaskDailyCountDTO> dailyCounts = countsByDay.entrySet().stream()
+                .map(entry -> new TaskDailyCountDTO(entry.getKey(), entry.getValue()))
+                .toList();
+        log.debug("Found {} tasks in {} distinct days.", tasks.size(), dailyCounts.size());
+        return new TaskRangeResponseDTO(from, to, tasks.size(), dailyCounts, tasks);
     }
 
     /**
      * Busca uma tarefa pelo seu ID.
+     * A tarefa é servida do cache de leituras (possivelmente desatualizada, veja {@link TaskReadCache}),
+     * e requisições concorrentes para o mesmo ID compartilham uma única consulta ao banco.
+     * Tarefas antigas já movidas pela política de retenção são buscadas no armazenamento frio ({@link ColdTaskStore}).
+     * Apenas a carga roda em uma transação somente leitura: um acerto no cache não ocupa uma conexão do banco.
      * @param id O ID da tarefa.
      * @return Um DTO de resposta da tarefa.
      */
     public TaskResponseDTO getTaskById(Long id) {
         ValidationUtils.validateNotNull(id, "Task ID");
         log.info("Fetching task by ID: {}", id);
-        Task taskFound = getTaskByIdOrThrow(id);
+        return taskReadCache.getTask(id, () -> requestCoalescer.execute("getTaskById", id,
+                () -> readOnly(() -> taskRepository.findById(id).map(TaskResponseDTO::new))
+                        .or(() -> coldTaskStore.find(id))
+                        .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + id))));
+    }
 
-        return new TaskResponseDTO(taskFound);
+    /**
+     * Busca várias tarefas pelos seus IDs de uma só vez.
+     * As tarefas presentes no cache de leituras são servidas diretamente, e as demais
+     * são lidas do banco em uma única consulta ({@code IN}); as que não estão no banco são buscadas no armazenamento frio.
+     * @param ids Os IDs das tarefas (IDs repetidos são considerados uma única vez).
+     * @return Um DTO com um resultado por ID, na ordem da requisição, indicando se a tarefa foi encontrada.
+     * @throws InvalidIdListException se a lista for vazia, contiver IDs nulos ou exceder {@link #MAX_LOOKUP_IDS} IDs.
+     */
+    public TaskLookupResponseDTO getTasksByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new InvalidIdListException("At least one task ID must be informed.");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidIdListException("Task IDs must not be empty.");
+        }
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        if (distinctIds.size() > MAX_LOOKUP_IDS) {
+            throw new InvalidIdListException("At most " + MAX_LOOKUP_IDS + " task IDs can be fetched at once.");
+        }
+        log.info("Fetching {} tasks by ID.", distinctIds.size());
+
+        Map<Long, TaskResponseDTO> tasksById = taskReadCache.getTasks(distinctIds, this::findResponsesByIds);
+        List<TaskLookupItemDTO> results = distinctIds.stream()
+                .map(id -> new TaskLookupItemDTO(id, tasksById.containsKey(id), tasksById.get(id)))
+                .toList();
+        int found = (int) results.stream().filter(TaskLookupItemDTO::found).count();
+        log.debug("Found {} of {} requested tasks.", found, results.size());
+        return new TaskLookupResponseDTO(results, found, results.size() - found);
+    }
+
+    /**
+     * Busca uma tarefa pelo seu ID, lendo do banco apenas os campos selecionados.
+     * Tarefas arquivadas são buscadas no armazenamento frio, como em {@link #getTaskById(Long)}.
+     * @param id O ID da tarefa.
+     * @param fields Os campos a serem retornados.
+     * @return Um mapa (nome do campo -> valor) com os dados da tarefa.
+     * @throws TaskNotFoundException se a tarefa não for encontrada.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getTaskById(Long id, Set<TaskField> fields) {
+        ValidationUtils.validateNotNull(id, "Task ID");
+        ValidationUtils.validateNotNull(fields, "Task fields");
+        log.info("Fetching task by ID: {} with fields {}", id, fields);
+        return taskRepository.findProjectedById(id, fields)
+                .or(() -> coldTaskStore.find(id).map(task -> project(task, fields)))
+                .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + id));
     }
 
     /**
      * Cria uma nova tarefa.
-     * Este método é transacional.
+     * Este método é transacional e publica um {@link TaskChangedEvent}.
      * @param data DTO com os dados de criação.
      * @return Um DTO de resposta da tarefa recém-criada.
      */
@@ -64,16 +274,19 @@ public class TaskService {
         log.info("Creating a new task.");
         log.debug("Task creation data: {}", data);
         Task task = new Task(null, data.title(), data.description(), LocalDateTime.now(), false);
+        task.setChangeSeq(taskChangeSequence.next());
 
         log.debug("Saving the new task to the database.");
         Task savedTask = taskRepository.save(task);
         log.info("New task created with ID: {}", savedTask.getId());
-        return new TaskResponseDTO(savedTask);
+        TaskResponseDTO response = new TaskResponseDTO(savedTask);
+        eventPublisher.publishEvent(new TaskChangedEvent(savedTask.getId(), TaskChangeType.CREATED, response));
+        return response;
     }
 
     /**
      * Atualiza uma tarefa existente.
-     * Este método é transacional.
+     * Este método é transacional e publica um {@link TaskChangedEvent}.
      * @param id O ID da tarefa a ser atualizada.
      * @param data DTO com os dados de atualização.
      * @return Um DTO de resposta da tarefa atualizada.
@@ -86,14 +299,43 @@ public class TaskService {
         log.debug("Task update data: {}", data);
         Task taskFound = getTaskByIdOrThrow(id);
 
+        taskFound.setChangeSeq(taskChangeSequence.next());
         taskFound.updateInfo(data);
         log.info("Task with ID {} updated successfully.", id);
-        return new TaskResponseDTO(taskFound);
+        TaskResponseDTO response = new TaskResponseDTO(taskFound);
+        eventPublisher.publishEvent(new TaskChangedEvent(id, TaskChangeType.UPDATED, response));
+        return response;
+    }
+
+    /**
+     * Aplica, em uma única alteração, escritas de tipos diferentes combinadas pelo {@link TaskWriteCoalescer}
+     * (ex: uma atualização e uma conclusão na mesma janela).
+     * Este método é transacional e publica um {@link TaskChangedEvent} para cada tipo de alteração, na ordem informada.
+     * @param id O ID da tarefa a ser alterada.
+     * @param data DTO com as escritas combinadas.
+     * @param changeTypes Os tipos de alteração das escritas combinadas.
+     * @return Um DTO de resposta da tarefa alterada.
+     */
+    @Transactional
+    public TaskResponseDTO applyCoalescedWrites(Long id, TaskUpdateDTO data, Collection<TaskChangeType> changeTypes) {
+        ValidationUtils.validateNotNull(id, "Task ID");
+        ValidationUtils.validateNotNull(data, "TaskUpdateDTO");
+        log.info("Applying {} coalesced writes to task with ID: {}", changeTypes, id);
+        Task taskFound = getTaskByIdOrThrow(id);
+
+        taskFound.setChangeSeq(taskChangeSequence.next());
+        taskFound.updateInfo(data);
+        TaskResponseDTO response = new TaskResponseDTO(taskFound);
+        for (TaskChangeType changeType : changeTypes) {
+            eventPublisher.publishEvent(new TaskChangedEvent(id, changeType, response));
+        }
+        return response;
     }
 
     /**
      * Deleta uma tarefa.
-     * Este método é transacional.
+     * Este método é transacional, publica um {@link TaskChangedEvent} e registra a exclusão
+     * para a sincronização incremental ({@link TaskTombstone}).
      * @param id O ID da tarefa a ser deletada.
      */
     @Transactional
@@ -101,13 +343,16 @@ public class TaskService {
         ValidationUtils.validateNotNull(id, "Task ID");
         log.info("Deleting task with ID: {}", id);
         Task taskFound = getTaskByIdOrThrow(id);
+        long changeSeq = taskChangeSequence.next();
         taskRepository.delete(taskFound);
+        taskTombstoneRepository.save(new TaskTombstone(id, changeSeq, LocalDateTime.now()));
+        eventPublisher.publishEvent(new TaskChangedEvent(id, TaskChangeType.DELETED, null));
         log.info("Task with ID {} deleted successfully.", id);
     }
     
     /**
      * Marca uma tarefa como concluída.
-     * Este método é transacional.
+     * Este método é transacional e publica um {@link TaskChangedEvent}.
      * @param id O ID da tarefa a ser concluída.
      * @return Um DTO de resposta da tarefa atualizada.
      */
@@ -116,20 +361,162 @@ public class TaskService {
         ValidationUtils.validateNotNull(id, "Task ID");
         log.info("Concluding task with ID: {}", id);
         Task taskFound = getTaskByIdOrThrow(id);
+        taskFound.setChangeSeq(taskChangeSequence.next());
         taskFound.setCompleted(true);
         log.info("Task with ID {} has been marked as concluded.", id);
-        return new TaskResponseDTO(taskFound);
+        TaskResponseDTO response = new TaskResponseDTO(taskFound);
+        eventPublisher.publishEvent(new TaskChangedEvent(id, TaskChangeType.CONCLUDED, response));
+        return response;
     }
     
+    /**
+     * Conclui um lote de tarefas já carregadas, usado pelas operações em massa.
+     * Deve ser chamado dentro da transação do lote; publica um {@link TaskChangedEvent} por tarefa.
+     * @param tasks As tarefas a serem concluídas.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void concludeAll(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        long changeSeq = taskChangeSequence.reserve(tasks.size()) - tasks.size();
+        for (Task task : tasks) {
+            task.setChangeSeq(++changeSeq);
+            task.setCompleted(true);
+        }
+        for (Task task : tasks) {
+            eventPublisher.publishEvent(new TaskChangedEvent(task.getId(), TaskChangeType.CONCLUDED, new TaskResponseDTO(task)));
+        }
+        log.info("Concluded {} tasks in bulk (IDs {} to {}).", tasks.size(), tasks.get(0).getId(), tasks.get(tasks.size() - 1).getId());
+    }
+
+    /**
+     * Exclui um lote de tarefas já carregadas em um único comando, usado pelas operações em massa.
+     * Deve ser chamado dentro da transação do lote; registra as exclusões ({@link TaskTombstone})
+     * e publica um {@link TaskChangedEvent} por tarefa.
+     * @param tasks As tarefas a serem excluídas.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deleteAll(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        long changeSeq = taskChangeSequence.reserve(tasks.size()) - tasks.size();
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskTombstone> tombstones = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            tombstones.add(new TaskTombstone(task.getId(), ++changeSeq, now));
+        }
+        taskRepository.deleteAllInBatch(tasks);
+        taskTombstoneRepository.saveAll(tombstones);
+        for (Task task : tasks) {
+            eventPublisher.publishEvent(new TaskChangedEvent(task.getId(), TaskChangeType.DELETED, null));
+        }
+        log.info("Deleted {} tasks in bulk (IDs {} to {}).", tasks.size(), tasks.get(0).getId(), tasks.get(tasks.size() - 1).getId());
+    }
+
+    /**
+     * Remove da tabela um lote de tarefas já copiadas para o armazenamento frio, usado pela política de retenção.
+     * Deve ser chamado dentro da transação do lote; registra as saídas ({@link TaskTombstone}), para que a
+     * sincronização incremental remova as tarefas dos clientes como a listagem, e publica um {@link TaskChangedEvent}
+     * por tarefa. As tarefas continuam disponíveis para leitura por ID.
+     * @param tasks As tarefas arquivadas.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void archiveAll(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        long changeSeq = taskChangeSequence.reserve(tasks.size()) - tasks.size();
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskTombstone> tombstones = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            tombstones.add(new TaskTombstone(task.getId(), ++changeSeq, now));
+        }
+        taskRepository.deleteAllInBatch(tasks);
+        taskTombstoneRepository.saveAll(tombstones);
+        for (Task task : tasks) {
+            eventPublisher.publishEvent(new TaskChangedEvent(task.getId(), TaskChangeType.ARCHIVED, new TaskResponseDTO(task)));
+        }
+        log.info("Archived {} tasks (IDs {} to {}).", tasks.size(), tasks.get(0).getId(), tasks.get(tasks.size() - 1).getId());
+    }
+
+    /**
+     * Registra o expurgo de tarefas do armazenamento frio, usado pela política de retenção.
+     * Deve ser chamado dentro de uma transação, antes da remoção do segmento; registra (ou renova) a exclusão
+     * de cada tarefa ({@link TaskTombstone}) e publica um {@link TaskChangedEvent} por tarefa.
+     * @param ids Os IDs das tarefas expurgadas.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordPurged(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        long changeSeq = taskChangeSequence.reserve(ids.size()) - ids.size();
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskTombstone> tombstones = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            tombstones.add(new TaskTombstone(id, ++changeSeq, now));
+        }
+        taskTombstoneRepository.saveAll(tombstones);
+        for (Long id : ids) {
+            eventPublisher.publishEvent(new TaskChangedEvent(id, TaskChangeType.PURGED, null));
+        }
+        log.info("Recorded the purge of {} archived tasks.", ids.size());
+    }
+
     /**
      * Método auxiliar para buscar uma tarefa pelo ID ou lançar uma exceção se não encontrada.
      * @param id O ID da tarefa.
      * @return A entidade Task encontrada.
+     * @throws TaskArchivedException se a tarefa estiver no armazenamento frio, onde fica apenas para leitura.
      * @throws TaskNotFoundException se a tarefa não for encontrada.
      */
     private Task getTaskByIdOrThrow(Long id) {
         log.debug("Fetching task with ID {} from database.", id);
-        return taskRepository.findById(id)
-                .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + id));
+        return taskRepository.findById(id).orElseThrow(() -> coldTaskStore.find(id).isPresent()
+                ? new TaskArchivedException("Task with ID " + id + " is archived and can no longer be changed.")
+                : new TaskNotFoundException("Task not found with ID: " + id));
+    }
+
+    /**
+     * Lê do banco as tarefas com os IDs informados e, para os IDs não encontrados, busca no armazenamento frio.
+     */
+    /**
+     * Executa a consulta em uma transação somente leitura (roteada para a réplica, quando configurada).
+     * As leituras servidas pelo {@link TaskReadCache} abrem a transação apenas na carga: um acerto no cache não
+     * ocupa uma conexão, e, com o banco fora do ar, a entrada desatualizada é servida em vez de a leitura falhar ao
+     * iniciar a transação. Dentro de uma transação de escrita, a consulta participa dela.
+     */
+    private <T> T readOnly(Supplier<T> query) {
+        return readOnlyTransaction.execute(status -> query.get());
+    }
+
+    private List<TaskResponseDTO> findResponsesByIds(Collection<Long> ids) {
+        List<TaskResponseDTO> found = new ArrayList<>(readOnly(() -> taskRepository.findAllResponsesByIdIn(ids)));
+        Set<Long> foundIds = found.stream().map(TaskResponseDTO::id).collect(Collectors.toSet());
+        for (Long id : ids) {
+            if (!foundIds.contains(id)) {
+                coldTaskStore.find(id).ifPresent(found::add);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Monta o mapa (nome do campo -> valor) dos campos selecionados de uma tarefa, no mesmo formato das projeções do banco.
+     */
+    private static Map<String, Object> project(TaskResponseDTO task, Set<TaskField> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (TaskField field : fields) {
+            values.put(field.getAttributeName(), switch (field) {
+                case ID -> task.id();
+                case TITLE -> task.title();
+                case DESCRIPTION -> task.description();
+                case CREATION_DATE -> task.creationDate();
+                case COMPLETED -> task.completed();
+            });
+        }
+        return values;
     }
 }
@@ -0,0 +1,126 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.service;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.Task;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskTombstone;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskChangesResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.InvalidSyncRequestException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskChangeSequence;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskRepository;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskTombstoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serviço da sincronização incremental de tarefas.
+ * Cada escrita de tarefa recebe um número de sequência crescente ({@link TaskChangeSequence}), e as exclusões
+ * deixam um registro ({@link TaskTombstone}). Um cliente informa o último token recebido e recebe apenas o
+ * que mudou desde então, de modo que o tráfego acompanha o volume de alterações, não o tamanho da base.
+ */
+@Service
+@Slf4j
+public class TaskSyncService {
+
+    /**
+     * Quantidade máxima de alterações retornadas por chamada de {@link #getChanges}.
+     */
+    public static final int MAX_CHANGES_LIMIT = 1000;
+
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final TaskChangeSequence taskChangeSequence;
+    private final Duration tombstoneRetention;
+
+    public TaskSyncService(TaskRepository taskRepository, TaskTombstoneRepository taskTombstoneRepository,
+                           TaskChangeSequence taskChangeSequence,
+                           @Value("${app.sync.tombstone-retention:30d}") Duration tombstoneRetention) {
+        this.taskRepository = taskRepository;
+        this.taskTombstoneRepository = taskTombstoneRepository;
+        this.taskChangeSequence = taskChangeSequence;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    /**
+     * Retorna as tarefas criadas, alteradas ou excluídas depois do token informado, em ordem de alteração.
+     * Sem token, ou com um token anterior à compactação das exclusões, retorna todas as tarefas com
+     * {@code reset = true}, e o cliente deve descartar suas tarefas locais.
+     * @param since O token da última sincronização, ou null para a primeira.
+     * @param limit O número máximo de alterações retornadas (1 a {@value #MAX_CHANGES_LIMIT}).
+     * @return As alterações e o token para a próxima sincronização.
+     * @throws InvalidSyncRequestException se o token ou o limite forem inválidos.
+     */
+    @Transactional(readOnly = true)
+    public TaskChangesResponseDTO getChanges(Long since, int limit) {
+        if (since != null && since < 0) {
+            throw new InvalidSyncRequestException("The sync token must not be negative.");
+        }
+        if (limit < 1 || limit > MAX_CHANGES_LIMIT) {
+            throw new InvalidSyncRequestException("The limit must be between 1 and " + MAX_CHANGES_LIMIT + ".");
+        }
+        log.info("Fetching task changes since token {} (limit {}).", since, limit);
+
+        // Lido antes das alterações: toda escrita com número até aqui já foi confirmada e será vista pelas consultas abaixo.
+        // As duas consultas param nesse número: cada uma vê o banco em um instante diferente (READ COMMITTED), e uma
+        // escrita confirmada entre elas, vista por apenas uma, faria o token pular uma alteração que a outra não viu.
+        long lastCommitted = taskChangeSequence.last();
+        boolean reset = since == null || since < taskChangeSequence.compacted();
+        long afterSeq = reset ? -1 : since;
+
+        List<Task> tasks = taskRepository.findChangedBetween(afterSeq, lastCommitted, Limit.of(limit + 1));
+        // Em um reset o cliente parte do zero, então as exclusões anteriores não interessam.
+        List<TaskTombstone> tombstones = reset ? List.of()
+                : taskTombstoneRepository.findChangedBetween(afterSeq, lastCommitted, Limit.of(limit + 1));
+
+        List<TaskResponseDTO> changed = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        long token = Math.max(afterSeq, 0);
+        int t = 0;
+        int d = 0;
+        while (changed.size() + deleted.size() < limit && (t < tasks.size() || d < tombstones.size())) {
+            boolean nextIsTask = d >= tombstones.size()
+                    || (t < tasks.size() && tasks.get(t).getChangeSeq() < tombstones.get(d).getChangeSeq());
+            if (nextIsTask) {
+                Task task = tasks.get(t++);
+                changed.add(new TaskResponseDTO(task));
+                token = Math.max(token, task.getChangeSeq());
+            } else {
+                TaskTombstone tombstone = tombstones.get(d++);
+                deleted.add(tombstone.getTaskId());
+                token = Math.max(token, tombstone.getChangeSeq());
+            }
+        }
+        boolean hasMore = t < tasks.size() || d < tombstones.size();
+        if (!hasMore) {
+            token = Math.max(token, lastCommitted);
+        }
+
+        log.info("Returning {} changed and {} deleted tasks (reset: {}, has more: {}).", changed.size(), deleted.size(), reset, hasMore);
+        return new TaskChangesResponseDTO(changed, deleted, token, reset, hasMore);
+    }
+
+    /**
+     * Remove os registros de exclusão mais antigos que o período de retenção e avança o ponto de compactação.
+     * Clientes com um token anterior a esse ponto passam a receber um reset na próxima sincronização.
+     */
+    @Scheduled(fixedDelayString = "${app.sync.compaction-interval:PT1H}", initialDelayString = "${app.sync.compaction-interval:PT1H}")
+    @Transactional
+    public void compactTombstones() {
+        Long upTo = taskTombstoneRepository.findMaxChangeSeqDeletedBefore(LocalDateTime.now().minus(tombstoneRetention));
+        if (upTo == null) {
+            log.debug("No task tombstones older than {} to compact.", tombstoneRetention);
+            return;
+        }
+        int removed = taskTombstoneRepository.deleteUpTo(upTo);
+        taskChangeSequence.advanceCompacted(upTo);
+        log.info("Compacted {} task tombstones up to change sequence {}.", removed, upTo);
+    }
+}
@@ -0,0 +1,224 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.service;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangeType;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskUpdateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.validation.ValidationUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Agrupa escritas rápidas e sucessivas na mesma tarefa ({@code PUT /tasks/{id}} e {@code /conclude}).
+ * <p>
+ * Com o agrupamento habilitado, a primeira escrita em uma tarefa abre uma caixa de entrada para o ID e
+ * aguarda a janela configurada; as escritas que chegam nesse intervalo entram na mesma caixa. Ao fim da
+ * janela, as escritas são combinadas em memória com a mesma semântica de {@code Task.updateInfo} (campos
+ * informados por último prevalecem) e aplicadas em uma única transação, e todas as requisições recebem o
+ * resultado combinado (ou a mesma exceção).
+ * <p>
+ * As aplicações passam por locks particionados por ID, de modo que as caixas de uma mesma tarefa são
+ * aplicadas uma por vez e na ordem em que foram fechadas. Desabilitado, cada escrita vai direto ao {@link TaskService}.
+ * <p>
+ * Escritas feitas dentro de uma transação já aberta (ex: um lote atômico) também vão direto ao serviço: na caixa de
+ * entrada, seriam aplicadas por outra thread, em outra transação, fora do alcance do rollback do chamador (e
+ * poderiam esperar por locks que a própria transação do chamador mantém).
+ */
+@Service
+@Slf4j
+public class TaskWriteCoalescer {
+
+    private static final int STRIPES = 64;
+    private static final TaskUpdateDTO CONCLUDE = new TaskUpdateDTO(null, null, true);
+
+    private final TaskService taskService;
+    private final boolean enabled;
+    private final Duration window;
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+    private final ConcurrentMap<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Counter coalescedWrites;
+    private final Counter flushes;
+    private final DistributionSummary batchSize;
+
+    @Autowired
+    public TaskWriteCoalescer(TaskService taskService,
+                              ObjectProvider<MeterRegistry> meterRegistry,
+                              @Value("${app.write-coalescing.enabled:false}") boolean enabled,
+                              @Value("${app.write-coalescing.window:5ms}") Duration window) {
+        this(taskService, meterRegistry.getIfAvailable(SimpleMeterRegistry::new), enabled, window);
+    }
+
+    TaskWriteCoalescer(TaskService taskService, MeterRegistry meterRegistry, boolean enabled, Duration window) {
+        this.taskService = taskService;
+        this.enabled = enabled;
+        this.window = window;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.coalescedWrites = meterRegistry.counter("task.writes.coalesced");
+        this.flushes = meterRegistry.counter("task.writes.flushes");
+        this.batchSize = meterRegistry.summary("task.writes.batch.size");
+        meterRegistry.gauge("task.writes.pending", pending);
+    }
+
+    /**
+     * Atualiza uma tarefa, combinando a atualização com as demais recebidas na mesma janela.
+     * @param id O ID da tarefa a ser atualizada.
+     * @param data DTO com os novos dados da tarefa.
+     * @return O estado da tarefa após a aplicação de todas as escritas combinadas.
+     */
+    public TaskResponseDTO updateTask(Long id, TaskUpdateDTO data) {
+        if (bypass()) {
+            return taskService.updateTask(id, data);
+        }
+        ValidationUtils.validateNotNull(data, "TaskUpdateDTO");
+        return submit(id, data, TaskChangeType.UPDATED);
+    }
+
+    /**
+     * Conclui uma tarefa, combinando a conclusão com as demais escritas recebidas na mesma janela.
+     * @param id O ID da tarefa a ser concluída.
+     * @return O estado da tarefa após a aplicação de todas as escritas combinadas.
+     */
+    public TaskResponseDTO concludeTask(Long id) {
+        if (bypass()) {
+            return taskService.concludeTask(id);
+        }
+        return submit(id, CONCLUDE, TaskChangeType.CONCLUDED);
+    }
+
+    /**
+     * Combina duas atualizações como se fossem aplicadas em sequência por {@code Task.updateInfo}:
+     * os campos informados (e não em branco) na mais recente prevalecem.
+     * @param earlier A atualização mais antiga.
+     * @param later A atualização mais recente.
+     * @return A atualização equivalente às duas.
+     */
+    static TaskUpdateDTO merge(TaskUpdateDTO earlier, TaskUpdateDTO later) {
+        return new TaskUpdateDTO(
+                hasText(later.title()) ? later.title() : earlier.title(),
+                hasText(later.description()) ? later.description() : earlier.description(),
+                later.completed() != null ? later.completed() : earlier.completed());
+    }
+
+    /**
+     * Retorna o número de escritas aguardando o fim da janela.
+     */
+    int pendingCount() {
+        return pending.get();
+    }
+
+    private boolean bypass() {
+        return !enabled || TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    private TaskResponseDTO submit(Long id, TaskUpdateDTO data, TaskChangeType changeType) {
+        ValidationUtils.validateNotNull(id, "Task ID");
+        PendingWrite write = new PendingWrite(data, changeType, new CompletableFuture<>());
+        pending.incrementAndGet();
+        Mailbox mailbox = mailboxes.compute(id, (key, current) -> {
+            Mailbox target = current != null ? current : new Mailbox(write);
+            target.writes.add(write);
+            return target;
+        });
+
+        if (mailbox.first == write) {
+            flushAfterWindow(id, mailbox);
+        }
+        try {
+            return write.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Coalesced write failed for task " + id, e.getCause());
+        }
+    }
+
+    private void flushAfterWindow(Long id, Mailbox mailbox) {
+        try {
+            Thread.sleep(window);
+        } catch (InterruptedException e) {
+            // Aplica imediatamente: as demais requisições da caixa aguardam este resultado.
+            Thread.currentThread().interrupt();
+        }
+
+        ReentrantLock lock = stripes[Math.floorMod(id.hashCode(), STRIPES)];
+        lock.lock();
+        try {
+            // Fechada sob o lock: uma caixa aberta depois desta só é aplicada quando esta terminar.
+            mailboxes.remove(id, mailbox);
+            apply(id, mailbox.writes);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void apply(Long id, List<PendingWrite> writes) {
+        pending.addAndGet(-writes.size());
+        flushes.increment();
+        batchSize.record(writes.size());
+        coalescedWrites.increment(writes.size() - 1);
+        if (writes.size() > 1) {
+            log.debug("Coalesced {} writes into one update of task {}.", writes.size(), id);
+        }
+
+        try {
+            // Cada tipo de escrita da caixa gera o seu evento (ex: uma conclusão continua publicando CONCLUDED).
+            Set<TaskChangeType> changeTypes = new LinkedHashSet<>();
+            writes.forEach(write -> changeTypes.add(write.changeType()));
+            TaskUpdateDTO merged = writes.stream()
+                    .map(PendingWrite::data)
+                    .reduce(TaskWriteCoalescer::merge)
+                    .orElseThrow();
+            TaskResponseDTO result;
+            if (changeTypes.equals(Set.of(TaskChangeType.CONCLUDED))) {
+                result = taskService.concludeTask(id);
+            } else if (changeTypes.equals(Set.of(TaskChangeType.UPDATED))) {
+                result = taskService.updateTask(id, merged);
+            } else {
+                result = taskService.applyCoalescedWrites(id, merged, changeTypes);
+            }
+            writes.forEach(write -> write.result().complete(result));
+        } catch (RuntimeException | Error e) {
+            writes.forEach(write -> write.result().completeExceptionally(e));
+        }
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private record PendingWrite(TaskUpdateDTO data, TaskChangeType changeType, CompletableFuture<TaskResponseDTO> result) {
+    }
+
+    // A lista é alterada apenas dentro do compute do mapa, e lida depois que a caixa é removida dele.
+    private static final class Mailbox {
+        private final PendingWrite first;
+        private final List<PendingWrite> writes = new ArrayList<>();
+
+        private Mailbox(PendingWrite first) {
+            this.first = first;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package br.com.gerenciador.sistema_gerenciamento_tarefas.service;
 
 import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.User;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.UserChangeType;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.UserChangedEvent;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.UserRole;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.user.UserResponseDTO;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.user.UserUpdateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.InvalidIdListException;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.LastAdminDeletionNotAllowedException;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.LastAdminDemotionNotAllowedException;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.SelfDeletionNotAllowedException;
@@ -13,12 +16,15 @@ import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.validation.Validat
 import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -27,15 +33,22 @@ import java.util.UUID;
 @Service
 @Slf4j
 public class UserService {
+    /**
+     * Quantidade máxima de IDs aceita por {@link #getUsersByIds}.
+     */
+    public static final int MAX_LOOKUP_IDS = 200;
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public UserService(UserRepository userRepository,
-                       PasswordEncoder passwordEncoder) {
+                       PasswordEncoder passwordEncoder,
+                       ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -44,6 +57,7 @@ public class UserService {
      * @param pageable O objeto de paginação contendo informações de página, tamanho e ordenação.
      * @return Uma página (Page) de UserResponseDTO com os dados públicos dos usuários.
      */
+    @Transactional(readOnly = true)
     public Page<UserResponseDTO> getAllUsers(Pageable pageable) {
         ValidationUtils.validateNotNull(pageable, "Pageable object");
         log.debug("Fetching all users from database with pagination: {}", pageable);
@@ -58,6 +72,7 @@ public class UserService {
      * @return Um UserResponseDTO com os dados públicos do usuário.
      * @throws UserNotFoundException se nenhum usuário for encontrado com o ID fornecido.
      */
+    @Transactional(readOnly = true)
     public UserResponseDTO getUserById(UUID id) {
         ValidationUtils.validateNotNull(id, "User ID");
         log.debug("Fetching user by ID: {}", id);
@@ -66,9 +81,28 @@ public class UserService {
         return new UserResponseDTO(user);
     }
 
+    /**
+     * Busca vários usuários pelos seus IDs em uma única consulta.
+     *
+     * @param ids Os UUIDs dos usuários (no máximo {@link #MAX_LOOKUP_IDS}).
+     * @return Uma lista de UserResponseDTO dos usuários encontrados, sem ordem definida. IDs inexistentes são omitidos.
+     * @throws InvalidIdListException se a coleção exceder {@link #MAX_LOOKUP_IDS} IDs.
+     */
+    @Transactional(readOnly = true)
+    public List<UserResponseDTO> getUsersByIds(Collection<UUID> ids) {
+        ValidationUtils.validateNotNull(ids, "User IDs");
+        if (ids.size() > MAX_LOOKUP_IDS) {
+            throw new InvalidIdListException("At most " + MAX_LOOKUP_IDS + " user IDs can be fetched at once.");
+        }
+        log.debug("Fetching {} users by ID.", ids.size());
+        return userRepository.findAllById(ids).stream()
+                .map(UserResponseDTO::new)
+                .toList();
+    }
+
     /**
      * Atualiza a role de um usuário específico.
-     * Este método é transacional.
+     * Este método é transacional e publica um {@link UserChangedEvent}.
      *
      * @param id O UUID do usuário a ter a role atualizada.
      * @param newRole A nova role a ser atribuída ao usuário.
@@ -101,12 +135,14 @@ public class UserService {
 
         user.assignRole(newRole);
         log.info("User ID: {} role updated to {}", id, newRole);
-        return new UserResponseDTO(user);
+        UserResponseDTO response = new UserResponseDTO(user);
+        eventPublisher.publishEvent(new UserChangedEvent(id, UserChangeType.UPDATED, response));
+        return response;
     }
 
     /**
      * Atualiza as informações de um usuário (login e/ou senha).
-     * Este método é transacional.
+     * Este método é transacional e publica um {@link UserChangedEvent}.
      *
      * @param id O UUID do usuário a ser atualizado.
      * @param data DTO com os dados de atualização (login e/ou senha).
@@ -140,12 +176,14 @@ public class UserService {
         }
 
         log.info("User with ID: {} updated successfully.", id);
-        return new UserResponseDTO(user);
+        UserResponseDTO response = new UserResponseDTO(user);
+        eventPublisher.publishEvent(new UserChangedEvent(id, UserChangeType.UPDATED, response));
+        return response;
     }
 
     /**
      * Deleta um usuário do sistema.
-     * Este método é transacional.
+     * Este método é transacional e publica um {@link UserChangedEvent}.
      *
      * @param id O UUID do usuário a ser deletado.
      * @param currentUser O usuário atualmente autenticado realizando a operação.
@@ -174,6 +212,7 @@ public class UserService {
         }
 
         userRepository.delete(userToDelete);
+        eventPublisher.publishEvent(new UserChangedEvent(id, UserChangeType.DELETED, null));
         log.info("User with ID: {} deleted successfully.", id);
     }
 
@@ -0,0 +1,92 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.service;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.webhook.WebhookSubscription;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.webhook.WebhookCreateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.webhook.WebhookResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.WebhookNotFoundException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.webhook.WebhookDispatcher;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.WebhookSubscriptionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Serviço para o cadastro de assinaturas de webhooks.
+ * As assinaturas cadastradas ou removidas passam a valer no {@link WebhookDispatcher} desta instância logo após o
+ * commit (uma transação desfeita não altera as entregas) e nas demais instâncias no próximo recarregamento.
+ */
+@Service
+@Slf4j
+public class WebhookService {
+
+    private final WebhookSubscriptionRepository webhookSubscriptionRepository;
+    private final WebhookDispatcher webhookDispatcher;
+
+    public WebhookService(WebhookSubscriptionRepository webhookSubscriptionRepository, WebhookDispatcher webhookDispatcher) {
+        this.webhookSubscriptionRepository = webhookSubscriptionRepository;
+        this.webhookDispatcher = webhookDispatcher;
+    }
+
+    /**
+     * Lista todas as assinaturas de webhooks, em ordem de ID.
+     * @return Uma lista de WebhookResponseDTO.
+     */
+    public List<WebhookResponseDTO> listWebhooks() {
+        log.info("Listing all webhook subscriptions.");
+        return webhookSubscriptionRepository.findAll(Sort.by("id")).stream()
+                .map(WebhookResponseDTO::new)
+                .toList();
+    }
+
+    /**
+     * Cadastra uma nova assinatura de webhook.
+     * @param data DTO com a URL do endpoint.
+     * @return O DTO da assinatura criada.
+     */
+    @Transactional
+    public WebhookResponseDTO createWebhook(WebhookCreateDTO data) {
+        log.info("Creating a new webhook subscription.");
+        WebhookSubscription subscription = webhookSubscriptionRepository.save(new WebhookSubscription(null, data.url(), LocalDateTime.now()));
+        afterCommit(() -> webhookDispatcher.register(subscription));
+        log.info("New webhook subscription created with ID: {}", subscription.getId());
+        return new WebhookResponseDTO(subscription);
+    }
+
+    /**
+     * Remove uma assinatura de webhook. Os eventos ainda não entregues a ela são descartados.
+     * @param id O ID da assinatura.
+     * @throws WebhookNotFoundException se a assinatura não for encontrada.
+     */
+    @Transactional
+    public void deleteWebhook(Long id) {
+        log.info("Attempting to delete webhook subscription with ID: {}", id);
+        if (!webhookSubscriptionRepository.existsById(id)) {
+            throw new WebhookNotFoundException("Webhook subscription not found with ID: " + id);
+        }
+        webhookSubscriptionRepository.deleteById(id);
+        afterCommit(() -> webhookDispatcher.unregister(id));
+        log.info("Webhook subscription with ID {} deleted successfully.", id);
+    }
+
+    /**
+     * Executa a ação depois do commit da transação corrente ou, sem transação, imediatamente.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,16 @@
+package db.migration;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.migration.ConcurrentIndexMigration;
+
+/**
+ * Índice de {@code tasks} por estado de conclusão e ID, usado pelas leituras em lotes que filtram as tarefas
+ * concluídas ou pendentes em ordem de ID (operações em massa e retenção). Criado sem bloquear as escritas.
+ * <p>
+ * As migrações Java ficam no pacote {@code db.migration}, que o Flyway percorre junto com os scripts SQL.
+ */
+public class V12__Index_tasks_by_completion extends ConcurrentIndexMigration {
+
+    public V12__Index_tasks_by_completion() {
+        super("idx_tasks_completed_id", "tasks", "completed, id");
+    }
+}
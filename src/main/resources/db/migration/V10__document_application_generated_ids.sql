@@ -0,0 +1,5 @@
+-- Os IDs passam a ser gerados pela aplicação (app.ids.tasks e app.ids.users); os tipos das colunas não mudam.
+-- O DEFAULT de tasks.id (sequência task_ids) continua valendo para inserções feitas fora da aplicação e para
+-- app.ids.tasks=sequence: os valores da sequência ficam muito abaixo dos TSIDs, então as duas origens não colidem.
+COMMENT ON COLUMN tasks.id IS 'TSID (53 bits: milissegundos desde 2024-01-01, nó, contador) ou valor da sequência task_ids';
+COMMENT ON COLUMN users.id IS 'UUIDv7 (ordenado no tempo) gerado pela aplicação';
@@ -0,0 +1,13 @@
+-- Progresso das migrações de dados em lote (backfills), executadas em segundo plano depois da inicialização.
+-- Ficam fora do histórico do Flyway, para que a aplicação suba sem esperar por elas.
+-- A coluna last_key é o ponto de retomada: todas as linhas com chave até ela já foram migradas.
+CREATE TABLE backfill_migrations (
+    name VARCHAR(100) PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    last_key BIGINT NOT NULL DEFAULT 0,
+    processed BIGINT NOT NULL DEFAULT 0,
+    error VARCHAR(1000),
+    started_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP
+);
@@ -0,0 +1,23 @@
+-- Sincronização incremental de tarefas (GET /tasks/changes).
+-- Cada escrita recebe o próximo número de sequência de task_sync_state; as tarefas existentes
+-- recebem o próprio ID, e o contador começa a partir do maior deles.
+ALTER TABLE tasks ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+UPDATE tasks SET change_seq = id;
+CREATE INDEX idx_tasks_change_seq ON tasks (change_seq);
+
+-- Registro das exclusões, para que os clientes saibam quais tarefas remover.
+CREATE TABLE task_tombstones (
+    task_id BIGINT PRIMARY KEY,
+    change_seq BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL
+);
+CREATE INDEX idx_task_tombstones_change_seq ON task_tombstones (change_seq);
+
+-- Linha única com o último número de sequência emitido e o maior já removido pela compactação dos registros de exclusão.
+CREATE TABLE task_sync_state (
+    id SMALLINT PRIMARY KEY,
+    last_change_seq BIGINT NOT NULL,
+    compacted_change_seq BIGINT NOT NULL
+);
+INSERT INTO task_sync_state (id, last_change_seq, compacted_change_seq)
+SELECT 1, COALESCE(MAX(id), 0), 0 FROM tasks;
@@ -0,0 +1,19 @@
+-- Outbox transacional: eventos de alteração de tarefas e usuários, gravados na mesma transação da escrita
+-- e entregues aos destinos externos pelo relay. Cada linha é removida após a entrega.
+CREATE TABLE outbox_events (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    aggregate_type VARCHAR(32) NOT NULL,
+    aggregate_id VARCHAR(64) NOT NULL,
+    event_type VARCHAR(64) NOT NULL,
+    payload TEXT,
+    created_at TIMESTAMP NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error TEXT
+);
+
+-- Busca dos próximos eventos prontos para entrega, em ordem de ID.
+CREATE INDEX idx_outbox_events_next_attempt ON outbox_events (next_attempt_at, id);
+
+-- Verificação de eventos anteriores pendentes do mesmo agregado (ordem por agregado).
+CREATE INDEX idx_outbox_events_aggregate ON outbox_events (aggregate_type, aggregate_id, id);
@@ -0,0 +1,6 @@
+-- Assinaturas de webhooks: endpoints que recebem as alterações de tarefas, cadastrados por administradores.
+CREATE TABLE webhook_subscriptions (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    url VARCHAR(2048) NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
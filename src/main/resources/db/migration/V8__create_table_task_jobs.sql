@@ -0,0 +1,17 @@
+-- Operações em massa sobre tarefas (ex: concluir ou excluir por filtro), executadas em lotes em segundo plano.
+-- A coluna last_task_id é o ponto de retomada: todas as tarefas com ID até ela já foram processadas.
+CREATE TABLE task_jobs (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    action VARCHAR(20) NOT NULL,
+    created_before TIMESTAMP NOT NULL,
+    completed BOOLEAN,
+    status VARCHAR(20) NOT NULL,
+    last_task_id BIGINT NOT NULL DEFAULT 0,
+    processed BIGINT NOT NULL DEFAULT 0,
+    error VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP
+);
+
+CREATE INDEX idx_task_jobs_status ON task_jobs (status);
@@ -0,0 +1,303 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.controller;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskCreateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.batch.BatchRequestDispatcher;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.cache.TaskResponseCache;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.CustomAccessDeniedHandler;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.CustomAuthenticationEntryPoint;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.TaskNotFoundException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.AuthorizationService;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.SecurityConfigurations;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.SecurityFilter;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.TokenService;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.UserRepository;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.service.BatchService;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.service.TaskIngestService;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.service.TaskService;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.service.TaskWriteCoalescer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração da camada web para o {@link BatchController}.
+ * As operações do lote são entregues ao {@link TaskController} real, com o {@link TaskService} simulado.
+ */
+@WebMvcTest({BatchController.class, TaskController.class})
+@Import({SecurityConfigurations.class, SecurityFilter.class, CustomAccessDeniedHandler.class, CustomAuthenticationEntryPoint.class,
+        TaskResponseCache.class, BatchService.class, BatchRequestDispatcher.class, TaskWriteCoalescer.class})
+class BatchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TaskService taskService;
+
+    @MockBean
+    private TaskIngestService taskIngestService;
+
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private UserRepository userRepository;
+    @MockBean
+    private TokenService tokenService;
+    @MockBean
+    private AuthorizationService authorizationService;
+
+    @Autowired
+    private TaskResponseCache taskResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        // O cache é compartilhado entre os testes do mesmo contexto
+        taskResponseCache.invalidateAll();
+    }
+
+    // --- Testes de Sucesso ---
+
+    @Test
+    @DisplayName("Should execute mixed operations in order and return one result per operation (ADMIN)")
+    @WithMockUser(roles = "ADMIN")
+    void executeBatch_shouldExecuteOperationsInOrder() throws Exception {
+        // Arrange
+        var created = createMockTaskResponseDTO(1L, false);
+        when(taskService.createTask(any(TaskCreateDTO.class))).thenReturn(created);
+        when(taskService.concludeTask(1L)).thenReturn(createMockTaskResponseDTO(1L, true));
+        when(taskService.getTaskById(1L)).thenReturn(createMockTaskResponseDTO(1L, true));
+
+        String batch = """
+                {"operations": [
+                    {"method": "POST", "path": "/tasks", "body": {"title": "Task 1", "description": "Description 1"}},
+                    {"method": "PATCH", "path": "/tasks/1/conclude"},
+                    {"method": "GET", "path": "/tasks/1"}
+                ]}
+                """;
+
+        // Act & Assert
+        mockMvc.perform(post("/batch").contentType(MediaType.APPLICATION_JSON).content(batch))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rolledBack", is(false)))
+                .andExpect(jsonPath("$.results", hasSize(3)))
+                .andExpect(jsonPath("$.results[0].status", is(201)))
+                .andExpect(jsonPath("$.results[0].headers.Location", containsString("/tasks/1")))
+                .andExpect(jsonPath("$.results[0].body.title", is("Task 1")))
+                .andExpect(jsonPath("$.results[1].status", is(200)))
+                .andExpect(jsonPath("$.results[1].body.completed", is(true)))
+                .andExpect(jsonPath("$.results[2].status", is(200)))
+                .andExpect(jsonPath("$.results[2].body.id", is(1)));
+        var inOrder = inOrder(taskService);
+        inOrder.verify(taskService).createTask(any(TaskCreateDTO.class));
+        inOrder.verify(taskService).concludeTask(1L);
+        inOrder.verify(taskService).getTaskById(1L);
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should report validation and not-found errors per operation without stopping the batch (ADMIN)")
+    @WithMockUser(roles = "ADMIN")
+    void executeBatch_shouldReportErrorsPerOperation() throws Exception {
+        // Arrange
+        when(taskService.getTaskById(99L)).thenThrow(new TaskNotFoundException("Task not found with ID: 99"));
+        when(taskService.concludeTask(1L)).thenReturn(createMockTaskResponseDTO(1L, true));
+
+        String batch = """
+                {"operations": [
+                    {"method": "POST", "path": "/tasks", "body": {"title": "", "description": "Description"}},
+                    {"method": "GET", "path": "/tasks/99"},
+                    {"method": "PATCH", "path": "/tasks/1/conclude"}
+                ]}
+                """;
+
+        // Act & Assert
+        mockMvc.perform(post("/batch").contentType(MediaType.APPLICATION_JSON).content(batch))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].status", is(400)))
+                .andExpect(jsonPath("$.results[0].body.details[0].field", is("title")))
+                .andExpect(jsonPath("$.results[1].status", is(404)))
+                .andExpect(jsonPath("$.results[1].body.message", is("Task not found with ID: 99")))
+                .andExpect(jsonPath("$.results[1].body.path", is("/tasks/99")))
+                .andExpect(jsonPath("$.results[2].status", is(200)));
+        verify(taskService, never()).createTask(any());
+    }
+
+    @Test
+    @DisplayName("Should roll back an atomic batch on the first failure and skip the remaining operations (ADMIN)")
+    @WithMockUser(roles = "ADMIN")
+    void executeBatch_atomic_shouldRollBackOnFailure() throws Exception {
+        // Arrange
+        var transaction = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(transaction);
+        when(taskService.createTask(any(TaskCreateDTO.class))).thenReturn(createMockTaskResponseDTO(1L, false));
+        when(taskService.concludeTask(99L)).thenThrow(new TaskNotFoundException("Task not found with ID: 99"));
+
+        String batch = """
+                {"atomic": true, "operations": [
+                    {"method": "POST", "path": "/tasks", "body": {"title": "Task 1", "description": "Description 1"}},
+                    {"method": "PATCH", "path": "/tasks/99/conclude"},
+                    {"method": "DELETE", "path": "/tasks/1"}
+                ]}
+                """;
+
+        // Act & Assert
+        mockMvc.perform(post("/batch").contentType(MediaType.APPLICATION_JSON).content(batch))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rolledBack", is(true)))
+                .andExpect(jsonPath("$.results[*].status", contains(201, 404, 424)));
+        assertTrue(transaction.isRollbackOnly());
+        verify(taskService, never()).deleteTask(anyLong());
+    }
+
+    // --- Testes de Erro de Validação do Lote ---
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when an operation targets an unsupported route")
+    @WithMockUser(roles = "ADMIN")
+    void executeBatch_shouldReturnBadRequest_whenPathIsNotSupported() throws Exception {
+        // Arrange
+        String batch = """
+                {"operations": [
+                    {"method": "POST", "path": "/tasks", "body": {"title": "Task 1", "description": "Description 1"}},
+                    {"method": "POST", "path": "/auth/login", "body": {"login": "admin", "password": "admin"}}
+                ]}
+                """;
+
+        // Act & Assert
+        mockMvc.perform(post("/batch").contentType(MediaType.APPLICATION_JSON).content(batch))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Batch operation 1 must target /tasks or /users: /auth/login")));
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when the batch has too many operations")
+    @WithMockUser(roles = "ADMIN")
+    void executeBatch_shouldReturnBadRequest_whenBatchIsTooLarge() throws Exception {
+        // Arrange
+        String operation = "{\"method\": \"GET\", \"path\": \"/tasks/1\"}";
+        String batch = "{\"operations\": [" + String.join(",", Collections.nCopies(51, operation)) + "]}";
+
+        // Act & Assert
+        mockMvc.perform(post("/batch").contentType(MediaType.APPLICATION_JSON).content(batch))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("A batch must not contain more than 50 operations.")));
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when an atomic batch contains a read")
+    @WithMockUser(roles = "ADMIN")
+    void executeBatch_atomic_shouldReturnBadRequest_whenBatchContainsRead() throws Exception {
+        // Arrange
+        String batch = """
+                {"atomic": true, "operations": [{"method": "GET", "path": "/tasks/1"}]}
+                """;
+
+        // Act & Assert
+        mockMvc.perform(post("/batch").contentType(MediaType.APPLICATION_JSON).content(batch))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Atomic batches only accept write operations (operation 0 is a GET).")));
+        verifyNoInteractions(taskService, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when an atomic batch contains an asynchronous creation")
+    @WithMockUser(roles = "ADMIN")
+    void executeBatch_atomic_shouldReturnBadRequest_whenBatchContainsAsyncCreation() throws Exception {
+        // Arrange
+        String batch = """
+                {"atomic": true, "operations": [
+                    {"method": "DELETE", "path": "/tasks/1"},
+                    {"method": "POST", "path": "/tasks?async=true", "body": {"title": "Task", "description": "Description"}}
+                ]}
+                """;
+
+        // Act & Assert
+        mockMvc.perform(post("/batch").contentType(MediaType.APPLICATION_JSON).content(batch))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Atomic batches do not accept asynchronous operations (operation 1).")));
+        verifyNoInteractions(taskService, taskIngestService, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when an atomic batch contains a percent-encoded asynchronous creation")
+    @WithMockUser(roles = "ADMIN")
+    void executeBatch_atomic_shouldReturnBadRequest_whenAsyncParameterIsEncoded() throws Exception {
+        // Arrange
+        String batch = """
+                {"atomic": true, "operations": [
+                    {"method": "POST", "path": "/tasks?%61sync=%74rue", "body": {"title": "Task", "description": "Description"}}
+                ]}
+                """;
+
+        // Act & Assert
+        mockMvc.perform(post("/batch").contentType(MediaType.APPLICATION_JSON).content(batch))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Atomic batches do not accept asynchronous operations (operation 0).")));
+        verifyNoInteractions(taskService, taskIngestService, transactionManager);
+    }
+
+    // --- Testes de Segurança ---
+
+    @Test
+    @DisplayName("Should apply the authorization rules to each operation (USER)")
+    @WithMockUser(roles = "USER")
+    void executeBatch_shouldForbidAdminOperations_forUserRole() throws Exception {
+        // Arrange
+        when(taskService.getTaskById(1L)).thenReturn(createMockTaskResponseDTO(1L, false));
+
+        String batch = """
+                {"operations": [
+                    {"method": "GET", "path": "/tasks/1"},
+                    {"method": "DELETE", "path": "/tasks/1"}
+                ]}
+                """;
+
+        // Act & Assert
+        mockMvc.perform(post("/batch").contentType(MediaType.APPLICATION_JSON).content(batch))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].status", is(200)))
+                .andExpect(jsonPath("$.results[1].status", is(403)))
+                .andExpect(jsonPath("$.results[1].body.message", is("Access denied. You do not have permission to access this resource.")));
+        verify(taskService, never()).deleteTask(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should return 401 Unauthorized when the batch is sent without authentication")
+    void executeBatch_shouldReturnUnauthorized_whenNotAuthenticated() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"operations\": [{\"method\": \"GET\", \"path\": \"/tasks/1\"}]}"))
+                .andExpect(status().isUnauthorized());
+        verifyNoInteractions(taskService);
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private TaskResponseDTO createMockTaskResponseDTO(Long id, boolean completed) {
+        return new TaskResponseDTO(id, "Task 1", "Description 1", LocalDateTime.now(), completed);
+    }
+}
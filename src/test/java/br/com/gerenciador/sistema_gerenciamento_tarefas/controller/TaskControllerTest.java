@@ -1,18 +1,43 @@
 package br.com.gerenciador.sistema_gerenciamento_tarefas.controller;
 
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangeType;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangedEvent;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskField;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskCreateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskDailyCountDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskLookupItemDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskLookupResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskRangeResponseDTO;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskUpdateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.cache.StaleRead;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.cache.TaskResponseCache;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.CustomAccessDeniedHandler;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.CustomAuthenticationEntryPoint;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.DatabaseUnavailableException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.InvalidDateRangeException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.InvalidIdListException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.TaskIngestQueueFullException;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.TaskNotFoundException;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.AuthorizationService;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.SecurityConfigurations;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.SecurityFilter;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.TokenService;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.serialization.ProtobufDtoHttpMessageConverter;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.serialization.ProtobufDtoMapper;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.Task;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.TaskCreateRequest;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.TaskPage;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskReadEngine;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.service.TaskIngestService;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.service.TaskService;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.service.TaskWriteCoalescer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -31,11 +56,18 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import java.io.ByteArrayInputStream;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -46,7 +78,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Testes de integração da camada web para o {@link TaskController}.
  */
 @WebMvcTest(TaskController.class)
-@Import({SecurityConfigurations.class, SecurityFilter.class, CustomAccessDeniedHandler.class, CustomAuthenticationEntryPoint.class})
+@Import({SecurityConfigurations.class, SecurityFilter.class, CustomAccessDeniedHandler.class, CustomAuthenticationEntryPoint.class, TaskResponseCache.class,
+        TaskWriteCoalescer.class})
 class TaskControllerTest {
 
     @Autowired
@@ -55,6 +88,9 @@ class TaskControllerTest {
     @MockBean
     private TaskService taskService;
 
+    @MockBean
+    private TaskIngestService taskIngestService;
+
     @MockBean
     private UserRepository userRepository;
     @MockBean
@@ -65,6 +101,15 @@ class TaskControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private TaskResponseCache taskResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        // O cache é compartilhado entre os testes do mesmo contexto
+        taskResponseCache.invalidateAll();
+    }
+
     // --- Testes de Sucesso ---
 
     @Test
@@ -80,7 +125,11 @@ class TaskControllerTest {
         mockMvc.perform(get("/tasks").contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content", hasSize(1)))
-                .andExpect(jsonPath("$.content[0].id", is(mockTask.id().intValue())));
+                .andExpect(jsonPath("$.content[0].id", is(mockTask.id().intValue())))
+                .andExpect(jsonPath("$.page.totalElements", is(1)))
+                .andExpect(jsonPath("$.page.totalPages", is(1)))
+                .andExpect(jsonPath("$.pageable").doesNotExist())
+                .andExpect(jsonPath("$.sort").doesNotExist());
     }
 
     @Test
@@ -99,8 +148,246 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.title", is(mockTask.title())));
     }
 
+    @Test
+    @DisplayName("Should return 200 OK with tasks and daily counts for a date range (USER)")
+    @WithMockUser(roles = "USER")
+    void listTasksByCreationDateRange_shouldReturnOkWithTasksAndDailyCounts() throws Exception {
+        // Arrange
+        var mockTask = createMockTaskResponseDTO();
+        LocalDate day = mockTask.creationDate().toLocalDate();
+        var range = new TaskRangeResponseDTO(day, day, 1, List.of(new TaskDailyCountDTO(day, 1)), List.of(mockTask));
+        when(taskService.listTasksByCreationDateRange(day, day)).thenReturn(range);
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/range")
+                        .param("from", day.toString())
+                        .param("to", day.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(1)))
+                .andExpect(jsonPath("$.dailyCounts[0].date", is(day.toString())))
+                .andExpect(jsonPath("$.dailyCounts[0].count", is(1)))
+                .andExpect(jsonPath("$.tasks[0].id", is(mockTask.id().intValue())));
+    }
+
+    @Test
+    @DisplayName("Should return only the selected fields when listing tasks with ?fields (USER)")
+    @WithMockUser(roles = "USER")
+    void listAllTasks_withFields_shouldReturnOnlySelectedFields() throws Exception {
+        // Arrange
+        var fields = EnumSet.of(TaskField.ID, TaskField.TITLE, TaskField.COMPLETED);
+        Page<Map<String, Object>> page = new PageImpl<>(List.of(Map.of("id", 1L, "title", "Task 1", "completed", false)));
+        when(taskService.listAllTasks(any(Pageable.class), eq(fields))).thenReturn(page);
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks").param("fields", "id,title,completed"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title", is("Task 1")))
+                .andExpect(jsonPath("$.content[0].description").doesNotExist());
+        verify(taskService, never()).listAllTasks(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should return only the selected fields when getting a task with ?fields (USER)")
+    @WithMockUser(roles = "USER")
+    void getTaskById_withFields_shouldReturnOnlySelectedFields() throws Exception {
+        // Arrange
+        when(taskService.getTaskById(1L, EnumSet.of(TaskField.ID, TaskField.TITLE))).thenReturn(Map.of("id", 1L, "title", "Task 1"));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/1").param("fields", "title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(1)))
+                .andExpect(jsonPath("$.title", is("Task 1")))
+                .andExpect(jsonPath("$.description").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should write the page directly as JSON when an alternative read engine is requested (USER)")
+    @WithMockUser(roles = "USER")
+    void listAllTasks_withEngine_shouldWriteJsonDirectly() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            JsonGenerator generator = invocation.getArgument(2);
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("content");
+            generator.writeStartObject();
+            generator.writeNumberField("id", 1);
+            generator.writeEndObject();
+            generator.writeEndArray();
+            generator.writeEndObject();
+            return null;
+        }).when(taskService).writeAllTasks(any(Pageable.class), eq(TaskReadEngine.JDBC), any(JsonGenerator.class));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks").param("engine", "JDBC"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content[0].id", is(1)));
+        verify(taskService, never()).listAllTasks(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should return the tasks in request order with not-found markers when fetching by ?ids (USER)")
+    @WithMockUser(roles = "USER")
+    void getTasksByIds_shouldReturnResultsInRequestOrder() throws Exception {
+        // Arrange
+        var mockTask = createMockTaskResponseDTO();
+        var lookup = new TaskLookupResponseDTO(List.of(
+                new TaskLookupItemDTO(99L, false, null),
+                new TaskLookupItemDTO(1L, true, mockTask)), 1, 1);
+        when(taskService.getTasksByIds(List.of(99L, 1L))).thenReturn(lookup);
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks").param("ids", "99,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].id", is(99)))
+                .andExpect(jsonPath("$.results[0].found", is(false)))
+                .andExpect(jsonPath("$.results[0].task").doesNotExist())
+                .andExpect(jsonPath("$.results[1].id", is(1)))
+                .andExpect(jsonPath("$.results[1].found", is(true)))
+                .andExpect(jsonPath("$.results[1].task.title", is(mockTask.title())))
+                .andExpect(jsonPath("$.found", is(1)))
+                .andExpect(jsonPath("$.notFound", is(1)));
+        verify(taskService, never()).listAllTasks(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should return 202 Accepted with the reserved ID when creating a task asynchronously (ADMIN)")
+    @WithMockUser(roles = "ADMIN")
+    void createTaskAsync_shouldReturnAcceptedWithReservedId() throws Exception {
+        // Arrange
+        var acceptedTask = new TaskResponseDTO(42L, "Task 1", "Description 1", LocalDateTime.now(), false);
+        when(taskIngestService.createTaskAsync(new TaskCreateDTO("Task 1", "Description 1"))).thenReturn(acceptedTask);
+
+        // Act & Assert
+        mockMvc.perform(post("/tasks").param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskCreateDTO("Task 1", "Description 1"))))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "http://localhost/tasks/42"))
+                .andExpect(jsonPath("$.id", is(42)));
+        verify(taskService, never()).createTask(any());
+    }
+
     // --- Testes de Erro de Negócio e Validação ---
 
+    @Test
+    @DisplayName("Should return 503 Service Unavailable with Retry-After when the async create queue is full (ADMIN)")
+    @WithMockUser(roles = "ADMIN")
+    void createTaskAsync_shouldReturnServiceUnavailable_whenQueueIsFull() throws Exception {
+        // Arrange
+        when(taskIngestService.createTaskAsync(any())).thenThrow(new TaskIngestQueueFullException("The task ingest queue is full."));
+
+        // Act & Assert
+        mockMvc.perform(post("/tasks").param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskCreateDTO("Task 1", "Description 1"))))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.message", is("The task ingest queue is full.")));
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when the read engine is unknown")
+    @WithMockUser(roles = "USER")
+    void listAllTasks_withEngine_shouldReturnBadRequest_whenEngineIsUnknown() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/tasks").param("engine", "ORACLE"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Invalid URL parameter: engine")));
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when ?fields is combined with ?engine")
+    @WithMockUser(roles = "USER")
+    void listAllTasks_shouldReturnBadRequest_whenFieldsAndEngineAreCombined() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/tasks").param("fields", "title").param("engine", "JDBC"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Only one of the fields, engine and ids parameters can be used.")));
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when ?ids is combined with ?fields or ?engine")
+    @WithMockUser(roles = "USER")
+    void getTasksByIds_shouldReturnBadRequest_whenCombinedWithFieldsOrEngine() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/tasks").param("ids", "1,2").param("fields", "title"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Only one of the fields, engine and ids parameters can be used.")));
+        mockMvc.perform(get("/tasks").param("ids", "1,2").param("engine", "JDBC"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Only one of the fields, engine and ids parameters can be used.")));
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when ?fields contains an unknown field")
+    @WithMockUser(roles = "USER")
+    void listAllTasks_withFields_shouldReturnBadRequest_whenFieldIsUnknown() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/tasks").param("fields", "id,secret"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Unknown task field: secret")));
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when ?ids exceeds the allowed number of IDs")
+    @WithMockUser(roles = "USER")
+    void getTasksByIds_shouldReturnBadRequest_whenTooManyIds() throws Exception {
+        // Arrange
+        String errorMessage = "At most " + TaskService.MAX_LOOKUP_IDS + " task IDs can be fetched at once.";
+        when(taskService.getTasksByIds(anyList())).thenThrow(new InvalidIdListException(errorMessage));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks").param("ids", "1,2,3"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is(errorMessage)));
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when ?ids contains a non-numeric value")
+    @WithMockUser(roles = "USER")
+    void getTasksByIds_shouldReturnBadRequest_whenIdIsNotNumeric() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/tasks").param("ids", "1,abc"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when the date range is invalid")
+    @WithMockUser(roles = "USER")
+    void listTasksByCreationDateRange_shouldReturnBadRequest_whenRangeIsInvalid() throws Exception {
+        // Arrange
+        String errorMessage = "Start date must not be after end date.";
+        when(taskService.listTasksByCreationDateRange(any(LocalDate.class), any(LocalDate.class)))
+                .thenThrow(new InvalidDateRangeException(errorMessage));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/range")
+                        .param("from", "2024-02-01")
+                        .param("to", "2024-01-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status", is(400)))
+                .andExpect(jsonPath("$.message", is(errorMessage)))
+                .andExpect(jsonPath("$.path", is("/tasks/range")));
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when a date range parameter is missing")
+    @WithMockUser(roles = "USER")
+    void listTasksByCreationDateRange_shouldReturnBadRequest_whenParameterIsMissing() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/tasks/range").param("from", "2024-01-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Missing required URL parameter: to")));
+        verify(taskService, never()).listTasksByCreationDateRange(any(), any());
+    }
+
     @Test
     @DisplayName("Should return 404 Not Found when task does not exist (ADMIN)")
     @WithMockUser(roles = "ADMIN")
@@ -148,6 +435,215 @@ class TaskControllerTest {
         );
     }
 
+    // --- Testes do Cache de Respostas ---
+
+    @Test
+    @DisplayName("Should serve repeated reads of a task from the response cache")
+    @WithMockUser(roles = "USER")
+    void getTaskById_shouldServeRepeatedReadsFromCache() throws Exception {
+        // Arrange
+        var mockTask = createMockTaskResponseDTO();
+        when(taskService.getTaskById(mockTask.id())).thenReturn(mockTask);
+
+        // Act & Assert
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/tasks/" + mockTask.id()))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.title", is(mockTask.title())));
+        }
+        verify(taskService, times(1)).getTaskById(mockTask.id());
+    }
+
+    @Test
+    @DisplayName("Should reload a cached task after a change event")
+    @WithMockUser(roles = "USER")
+    void getTaskById_shouldReload_afterTaskChangedEvent() throws Exception {
+        // Arrange
+        var mockTask = createMockTaskResponseDTO();
+        var updatedTask = new TaskResponseDTO(mockTask.id(), "Updated", mockTask.description(), mockTask.creationDate(), true);
+        when(taskService.getTaskById(mockTask.id())).thenReturn(mockTask, updatedTask);
+        mockMvc.perform(get("/tasks/" + mockTask.id())).andExpect(jsonPath("$.title", is(mockTask.title())));
+
+        // Act
+        taskResponseCache.onTaskChanged(new TaskChangedEvent(mockTask.id(), TaskChangeType.UPDATED, updatedTask));
+
+        // Assert
+        mockMvc.perform(get("/tasks/" + mockTask.id()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title", is("Updated")));
+    }
+
+    @Test
+    @DisplayName("Should serve a gzip-compressed page when the client accepts gzip")
+    @WithMockUser(roles = "USER")
+    void listAllTasks_shouldServeGzip_whenAccepted() throws Exception {
+        // Arrange
+        List<TaskResponseDTO> tasks = LongStream.rangeClosed(1, 20)
+                .mapToObj(id -> new TaskResponseDTO(id, "Task " + id, "Description " + id, LocalDateTime.now(), false))
+                .toList();
+        when(taskService.listAllTasks(any(Pageable.class))).thenReturn(new PageImpl<>(tasks));
+
+        // Act
+        byte[] body = mockMvc.perform(get("/tasks").header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().stringValues("Vary", hasItem(containsString("Accept-Encoding"))))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            var page = objectMapper.readTree(in);
+            assertEquals(20, page.get("content").size());
+        }
+    }
+
+    @Test
+    @DisplayName("Should add Age and Warning headers and skip the response cache when serving stale data")
+    @WithMockUser(roles = "USER")
+    void getTaskById_shouldAddStaleHeaders_whenServingStaleData() throws Exception {
+        // Arrange
+        var mockTask = createMockTaskResponseDTO();
+        when(taskService.getTaskById(mockTask.id())).thenAnswer(invocation -> {
+            StaleRead.mark(new StaleRead(42, true));
+            return mockTask;
+        });
+
+        // Act & Assert
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/tasks/" + mockTask.id()))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Age", "42"))
+                    .andExpect(header().stringValues("Warning", hasItems(containsString("110"), containsString("111"))));
+        }
+        verify(taskService, times(2)).getTaskById(mockTask.id());
+    }
+
+    @Test
+    @DisplayName("Should return 503 Service Unavailable when the database is down and nothing is cached")
+    @WithMockUser(roles = "USER")
+    void getTaskById_shouldReturnServiceUnavailable_whenDatabaseIsDown() throws Exception {
+        // Arrange
+        when(taskService.getTaskById(1L)).thenThrow(new DatabaseUnavailableException("The database is temporarily unavailable. Please try again later."));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/1"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.status", is(503)))
+                .andExpect(jsonPath("$.message", is("The database is temporarily unavailable. Please try again later.")));
+    }
+
+    // --- Testes de Negociação de Conteúdo ---
+
+    @Test
+    @DisplayName("Should return the task as Protobuf when Accept is application/x-protobuf")
+    @WithMockUser(roles = "USER")
+    void getTaskById_shouldReturnProtobuf_whenRequested() throws Exception {
+        // Arrange
+        var mockTask = createMockTaskResponseDTO();
+        when(taskService.getTaskById(mockTask.id())).thenReturn(mockTask);
+
+        // Act
+        byte[] body = mockMvc.perform(get("/tasks/" + mockTask.id()).accept(ProtobufDtoHttpMessageConverter.PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(ProtobufDtoHttpMessageConverter.PROTOBUF))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        assertEquals(mockTask, ProtobufDtoMapper.toDto(Task.parseFrom(body)));
+    }
+
+    @Test
+    @DisplayName("Should return the page of tasks as Protobuf when Accept is application/x-protobuf")
+    @WithMockUser(roles = "USER")
+    void listAllTasks_shouldReturnProtobufPage_whenRequested() throws Exception {
+        // Arrange
+        var mockTask = createMockTaskResponseDTO();
+        when(taskService.listAllTasks(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(mockTask)));
+
+        // Act
+        byte[] body = mockMvc.perform(get("/tasks").accept(ProtobufDtoHttpMessageConverter.PROTOBUF))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        TaskPage page = TaskPage.parseFrom(body);
+        assertEquals(1, page.getContentCount());
+        assertEquals(mockTask, ProtobufDtoMapper.toDto(page.getContent(0)));
+        assertEquals(1, page.getPage().getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Should accept a Protobuf request body when creating a task (ADMIN)")
+    @WithMockUser(roles = "ADMIN")
+    void createTask_shouldAcceptProtobufBody() throws Exception {
+        // Arrange
+        var mockTask = createMockTaskResponseDTO();
+        when(taskService.createTask(new TaskCreateDTO("Task 1", "Description 1"))).thenReturn(mockTask);
+        byte[] requestBody = TaskCreateRequest.newBuilder().setTitle("Task 1").setDescription("Description 1").build().toByteArray();
+
+        // Act & Assert
+        mockMvc.perform(post("/tasks")
+                        .contentType(ProtobufDtoHttpMessageConverter.PROTOBUF)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id", is(mockTask.id().intValue())));
+    }
+
+    @Test
+    @DisplayName("Should return the task as CBOR when Accept is application/cbor")
+    @WithMockUser(roles = "USER")
+    void getTaskById_shouldReturnCbor_whenRequested() throws Exception {
+        // Arrange
+        var mockTask = createMockTaskResponseDTO();
+        when(taskService.getTaskById(mockTask.id())).thenReturn(mockTask);
+
+        // Act
+        byte[] body = mockMvc.perform(get("/tasks/" + mockTask.id()).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        var cborMapper = new ObjectMapper(new CBORFactory()).findAndRegisterModules();
+        assertEquals(mockTask, cborMapper.readValue(body, TaskResponseDTO.class));
+    }
+
+    @Test
+    @DisplayName("Should return the task as Smile when Accept is application/x-jackson-smile")
+    @WithMockUser(roles = "USER")
+    void getTaskById_shouldReturnSmile_whenRequested() throws Exception {
+        // Arrange
+        var mockTask = createMockTaskResponseDTO();
+        when(taskService.getTaskById(mockTask.id())).thenReturn(mockTask);
+        var smileType = MediaType.parseMediaType("application/x-jackson-smile");
+
+        // Act
+        byte[] body = mockMvc.perform(get("/tasks/" + mockTask.id()).accept(smileType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(smileType))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        var smileMapper = new ObjectMapper(new SmileFactory()).findAndRegisterModules();
+        assertEquals(mockTask, smileMapper.readValue(body, TaskResponseDTO.class));
+    }
+
+    @Test
+    @DisplayName("Should keep JSON as the default format when Accept is not specified")
+    @WithMockUser(roles = "USER")
+    void getTaskById_shouldDefaultToJson() throws Exception {
+        // Arrange
+        var mockTask = createMockTaskResponseDTO();
+        when(taskService.getTaskById(mockTask.id())).thenReturn(mockTask);
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/" + mockTask.id()).accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
     // --- Testes de Segurança ---
 
     @DisplayName("Should return 403 Forbidden when a USER tries to access an admin-only write endpoint")
@@ -174,6 +670,18 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.details").doesNotExist());
     }
 
+    @Test
+    @DisplayName("Should return 403 Forbidden when a USER tries to create a task asynchronously")
+    @WithMockUser(roles = "USER")
+    void createTaskAsync_shouldReturnForbidden_whenUserIsNotAdmin() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/tasks").param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskCreateDTO("Task 1", "Description 1"))))
+                .andExpect(status().isForbidden());
+        verifyNoInteractions(taskIngestService);
+    }
+
     @DisplayName("Should return 200 OK when a USER tries to access a read endpoint")
     @ParameterizedTest
     @MethodSource("readEndpointsProvider")
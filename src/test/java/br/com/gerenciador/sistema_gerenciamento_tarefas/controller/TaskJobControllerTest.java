@@ -0,0 +1,159 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.controller;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.job.TaskJobAction;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.job.TaskJobStatus;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.job.TaskJobCreateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.job.TaskJobResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.CustomAccessDeniedHandler;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.CustomAuthenticationEntryPoint;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.InvalidTaskJobException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.TaskJobNotFoundException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.AuthorizationService;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.SecurityConfigurations;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.SecurityFilter;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.TokenService;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.UserRepository;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.service.TaskJobService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração da camada web para o {@link TaskJobController}.
+ */
+@WebMvcTest(TaskJobController.class)
+@Import({SecurityConfigurations.class, SecurityFilter.class, CustomAccessDeniedHandler.class, CustomAuthenticationEntryPoint.class})
+class TaskJobControllerTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TaskJobService taskJobService;
+
+    @MockBean
+    private UserRepository userRepository;
+    @MockBean
+    private TokenService tokenService;
+    @MockBean
+    private AuthorizationService authorizationService;
+
+    // --- Testes de Sucesso ---
+
+    @Test
+    @DisplayName("Should return 202 Accepted with the Location of the job status (ADMIN)")
+    @WithMockUser(roles = "ADMIN")
+    void createJob_shouldReturnAccepted() throws Exception {
+        // Arrange
+        when(taskJobService.createJob(new TaskJobCreateDTO(TaskJobAction.CONCLUDE, CUTOFF, null)))
+                .thenReturn(job(TaskJobStatus.PENDING, 0));
+
+        // Act & Assert
+        mockMvc.perform(post("/tasks/jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"action\":\"CONCLUDE\",\"createdBefore\":\"2024-01-01T00:00:00\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "http://localhost/tasks/jobs/1"))
+                .andExpect(jsonPath("$.status", is("PENDING")));
+    }
+
+    @Test
+    @DisplayName("Should return 200 OK and the job progress (ADMIN)")
+    @WithMockUser(roles = "ADMIN")
+    void getJob_shouldReturnProgress() throws Exception {
+        // Arrange
+        when(taskJobService.getJob(1L)).thenReturn(job(TaskJobStatus.RUNNING, 1500));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/jobs/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("RUNNING")))
+                .andExpect(jsonPath("$.processed", is(1500)));
+    }
+
+    @Test
+    @DisplayName("Should return 200 OK and the cancelled job (ADMIN)")
+    @WithMockUser(roles = "ADMIN")
+    void cancelJob_shouldReturnCancelledJob() throws Exception {
+        // Arrange
+        when(taskJobService.cancelJob(1L)).thenReturn(job(TaskJobStatus.CANCELLED, 500));
+
+        // Act & Assert
+        mockMvc.perform(post("/tasks/jobs/1/cancel"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("CANCELLED")));
+    }
+
+    // --- Testes de Falha ---
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when the action is missing or no filter is given")
+    @WithMockUser(roles = "ADMIN")
+    void createJob_shouldReturnBadRequest_whenInvalid() throws Exception {
+        // Arrange
+        when(taskJobService.createJob(new TaskJobCreateDTO(TaskJobAction.DELETE, null, null)))
+                .thenThrow(new InvalidTaskJobException("At least one filter (createdBefore or completed) is required."));
+
+        // Act & Assert
+        mockMvc.perform(post("/tasks/jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"completed\":true}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/tasks/jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"action\":\"DELETE\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("At least one filter (createdBefore or completed) is required.")));
+    }
+
+    @Test
+    @DisplayName("Should return 404 Not Found when the job does not exist")
+    @WithMockUser(roles = "ADMIN")
+    void getJob_shouldReturnNotFound_whenJobDoesNotExist() throws Exception {
+        // Arrange
+        when(taskJobService.getJob(99L)).thenThrow(new TaskJobNotFoundException("Task job not found with ID: 99"));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/jobs/99"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", is("Task job not found with ID: 99")));
+    }
+
+    // --- Testes de Segurança ---
+
+    @Test
+    @DisplayName("Should return 403 Forbidden when the user is not an ADMIN")
+    @WithMockUser(roles = "USER")
+    void jobs_shouldReturnForbidden_whenUserIsNotAdmin() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/tasks/jobs/1"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/tasks/jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"action\":\"DELETE\",\"completed\":true}"))
+                .andExpect(status().isForbidden());
+        verifyNoInteractions(taskJobService);
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private static TaskJobResponseDTO job(TaskJobStatus status, long processed) {
+        return new TaskJobResponseDTO(1L, TaskJobAction.CONCLUDE, CUTOFF, null, status, processed, processed,
+                null, CUTOFF, CUTOFF, status.isFinished() ? CUTOFF : null);
+    }
+}
@@ -0,0 +1,123 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.controller;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangeType;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskStreamEventDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.CustomAccessDeniedHandler;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.CustomAuthenticationEntryPoint;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.AuthorizationService;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.SecurityConfigurations;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.SecurityFilter;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.TokenService;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.stream.TaskEventBroadcaster;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.stream.TaskEventSink;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração da camada web para o {@link TaskStreamController}.
+ * O {@link TaskEventBroadcaster} é simulado; os eventos são enviados diretamente ao destino registrado.
+ */
+@WebMvcTest(TaskStreamController.class)
+@Import({SecurityConfigurations.class, SecurityFilter.class, CustomAccessDeniedHandler.class, CustomAuthenticationEntryPoint.class})
+class TaskStreamControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TaskEventBroadcaster broadcaster;
+
+    @MockBean
+    private UserRepository userRepository;
+    @MockBean
+    private TokenService tokenService;
+    @MockBean
+    private AuthorizationService authorizationService;
+
+    // --- Testes de Sucesso ---
+
+    @Test
+    @DisplayName("Should open an event stream and write each change as a named SSE event")
+    @WithMockUser(roles = "USER")
+    void streamTaskChanges_shouldWriteEventsAsSse() throws Exception {
+        // Arrange
+        when(broadcaster.subscribe(any(), isNull())).thenReturn(mock(TaskEventBroadcaster.Subscription.class));
+        var task = new TaskResponseDTO(1L, "Task", "Description", LocalDateTime.of(2024, 1, 1, 10, 0), true);
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/tasks/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ArgumentCaptor<TaskEventSink> sink = ArgumentCaptor.forClass(TaskEventSink.class);
+        verify(broadcaster).subscribe(sink.capture(), isNull());
+        sink.getValue().send(new TaskStreamEventDTO(7L, TaskChangeType.CONCLUDED, 1L, task, Instant.parse("2024-01-01T10:00:00Z")));
+        sink.getValue().sendHeartbeat();
+
+        // Assert
+        String body = result.getResponse().getContentAsString();
+        assertTrue(body.contains("id:7\nevent:concluded\ndata:{\"id\":7,\"type\":\"CONCLUDED\",\"taskId\":1"), body);
+        assertTrue(body.contains(":heartbeat"), body);
+        assertEquals(MediaType.TEXT_EVENT_STREAM_VALUE, result.getResponse().getContentType());
+    }
+
+    @Test
+    @DisplayName("Should resume from the Last-Event-ID header")
+    @WithMockUser(roles = "USER")
+    void streamTaskChanges_shouldPassLastEventIdHeader() throws Exception {
+        // Arrange
+        when(broadcaster.subscribe(any(), eq(41L))).thenReturn(mock(TaskEventBroadcaster.Subscription.class));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/stream").header("Last-Event-ID", "41"))
+                .andExpect(request().asyncStarted());
+        verify(broadcaster).subscribe(any(), eq(41L));
+    }
+
+    @Test
+    @DisplayName("Should resume from the lastEventId query parameter")
+    @WithMockUser(roles = "USER")
+    void streamTaskChanges_shouldPassLastEventIdParameter() throws Exception {
+        // Arrange
+        when(broadcaster.subscribe(any(), eq(12L))).thenReturn(mock(TaskEventBroadcaster.Subscription.class));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/stream").param("lastEventId", "12"))
+                .andExpect(request().asyncStarted());
+        verify(broadcaster).subscribe(any(), eq(12L));
+    }
+
+    // --- Testes de Segurança ---
+
+    @Test
+    @DisplayName("Should return 401 Unauthorized when not authenticated")
+    void streamTaskChanges_shouldReturnUnauthorized_whenNotAuthenticated() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/tasks/stream"))
+                .andExpect(status().isUnauthorized());
+        verifyNoInteractions(broadcaster);
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.controller;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskChangesResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.CustomAccessDeniedHandler;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.CustomAuthenticationEntryPoint;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.InvalidSyncRequestException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.AuthorizationService;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.SecurityConfigurations;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.SecurityFilter;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.TokenService;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.UserRepository;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.service.TaskSyncService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração da camada web para o {@link TaskSyncController}.
+ */
+@WebMvcTest(TaskSyncController.class)
+@Import({SecurityConfigurations.class, SecurityFilter.class, CustomAccessDeniedHandler.class, CustomAuthenticationEntryPoint.class})
+class TaskSyncControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TaskSyncService taskSyncService;
+
+    @MockBean
+    private UserRepository userRepository;
+    @MockBean
+    private TokenService tokenService;
+    @MockBean
+    private AuthorizationService authorizationService;
+
+    // --- Testes de Sucesso ---
+
+    @Test
+    @DisplayName("Should return the changes since the token and the next sync token")
+    @WithMockUser(roles = "USER")
+    void getChanges_shouldReturnChanges() throws Exception {
+        // Arrange
+        var task = new TaskResponseDTO(1L, "Task", "Description", LocalDateTime.of(2024, 1, 1, 10, 0), false);
+        when(taskSyncService.getChanges(10L, 500)).thenReturn(new TaskChangesResponseDTO(List.of(task), List.of(2L), 12L, false, false));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/changes").param("since", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[0].id", is(1)))
+                .andExpect(jsonPath("$.deleted[0]", is(2)))
+                .andExpect(jsonPath("$.syncToken", is(12)))
+                .andExpect(jsonPath("$.reset", is(false)))
+                .andExpect(jsonPath("$.hasMore", is(false)));
+    }
+
+    // --- Testes de Falha ---
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when the sync parameters are invalid")
+    @WithMockUser(roles = "USER")
+    void getChanges_shouldReturnBadRequest_whenParametersAreInvalid() throws Exception {
+        // Arrange
+        when(taskSyncService.getChanges(null, 5000)).thenThrow(new InvalidSyncRequestException("The limit must be between 1 and 1000."));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/changes").param("limit", "5000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("The limit must be between 1 and 1000.")));
+    }
+
+    @Test
+    @DisplayName("Should return 401 Unauthorized when not authenticated")
+    void getChanges_shouldReturnUnauthorized_whenNotAuthenticated() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/tasks/changes"))
+                .andExpect(status().isUnauthorized());
+        verifyNoInteractions(taskSyncService);
+    }
+}
@@ -98,7 +98,9 @@ class UserControllerTest {
         mockMvc.perform(get("/users").contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content", hasSize(1)))
-                .andExpect(jsonPath("$.content[0].login", is("testuser")));
+                .andExpect(jsonPath("$.content[0].login", is("testuser")))
+                .andExpect(jsonPath("$.page.totalElements", is(1)))
+                .andExpect(jsonPath("$.pageable").doesNotExist());
     }
 
     @Test
@@ -0,0 +1,135 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.controller;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.webhook.WebhookCreateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.webhook.WebhookResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.CustomAccessDeniedHandler;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.CustomAuthenticationEntryPoint;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.WebhookNotFoundException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.AuthorizationService;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.SecurityConfigurations;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.SecurityFilter;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.TokenService;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.UserRepository;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.service.WebhookService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração da camada web para o {@link WebhookController}.
+ */
+@WebMvcTest(WebhookController.class)
+@Import({SecurityConfigurations.class, SecurityFilter.class, CustomAccessDeniedHandler.class, CustomAuthenticationEntryPoint.class})
+class WebhookControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private WebhookService webhookService;
+
+    @MockBean
+    private UserRepository userRepository;
+    @MockBean
+    private TokenService tokenService;
+    @MockBean
+    private AuthorizationService authorizationService;
+
+    private final WebhookResponseDTO webhook = new WebhookResponseDTO(1L, "https://example.com/hooks", LocalDateTime.of(2024, 1, 1, 10, 0));
+
+    // --- Testes de Sucesso ---
+
+    @Test
+    @DisplayName("Should return 200 OK and the webhook subscriptions (ADMIN)")
+    @WithMockUser(roles = "ADMIN")
+    void listWebhooks_shouldReturnSubscriptions() throws Exception {
+        // Arrange
+        when(webhookService.listWebhooks()).thenReturn(List.of(webhook));
+
+        // Act & Assert
+        mockMvc.perform(get("/webhooks"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(1)))
+                .andExpect(jsonPath("$[0].url", is("https://example.com/hooks")));
+    }
+
+    @Test
+    @DisplayName("Should return 201 Created with the Location header when creating a subscription (ADMIN)")
+    @WithMockUser(roles = "ADMIN")
+    void createWebhook_shouldReturnCreated() throws Exception {
+        // Arrange
+        when(webhookService.createWebhook(new WebhookCreateDTO("https://example.com/hooks"))).thenReturn(webhook);
+
+        // Act & Assert
+        mockMvc.perform(post("/webhooks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"url\":\"https://example.com/hooks\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Location", "http://localhost/webhooks/1"))
+                .andExpect(jsonPath("$.id", is(1)));
+    }
+
+    @Test
+    @DisplayName("Should return 204 No Content when deleting a subscription (ADMIN)")
+    @WithMockUser(roles = "ADMIN")
+    void deleteWebhook_shouldReturnNoContent() throws Exception {
+        // Act & Assert
+        mockMvc.perform(delete("/webhooks/1"))
+                .andExpect(status().isNoContent());
+        verify(webhookService).deleteWebhook(1L);
+    }
+
+    // --- Testes de Falha ---
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when the URL is not http or https")
+    @WithMockUser(roles = "ADMIN")
+    void createWebhook_shouldReturnBadRequest_whenUrlIsInvalid() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/webhooks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"url\":\"ftp://example.com\"}"))
+                .andExpect(status().isBadRequest());
+        verify(webhookService, never()).createWebhook(any());
+    }
+
+    @Test
+    @DisplayName("Should return 404 Not Found when the subscription does not exist")
+    @WithMockUser(roles = "ADMIN")
+    void deleteWebhook_shouldReturnNotFound_whenSubscriptionDoesNotExist() throws Exception {
+        // Arrange
+        doThrow(new WebhookNotFoundException("Webhook subscription not found with ID: 99")).when(webhookService).deleteWebhook(99L);
+
+        // Act & Assert
+        mockMvc.perform(delete("/webhooks/99"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", is("Webhook subscription not found with ID: 99")));
+    }
+
+    // --- Testes de Segurança ---
+
+    @Test
+    @DisplayName("Should return 403 Forbidden when the user is not an ADMIN")
+    @WithMockUser(roles = "USER")
+    void listWebhooks_shouldReturnForbidden_whenUserIsNotAdmin() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/webhooks"))
+                .andExpect(status().isForbidden());
+        verifyNoInteractions(webhookService);
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.InvalidFieldSelectionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o enum {@link TaskField}.
+ * Foco: Testar a conversão do parâmetro {@code fields} em um conjunto de campos.
+ */
+class TaskFieldTest {
+
+    @Test
+    @DisplayName("parse should return the selected fields in declaration order")
+    void parse_shouldReturnSelectedFieldsInDeclarationOrder() {
+        // Act
+        Set<TaskField> fields = TaskField.parse("completed, title,id");
+
+        // Assert
+        assertEquals(List.of(TaskField.ID, TaskField.TITLE, TaskField.COMPLETED), List.copyOf(fields));
+    }
+
+    @Test
+    @DisplayName("parse should always include the id field")
+    void parse_shouldAlwaysIncludeId() {
+        // Act
+        Set<TaskField> fields = TaskField.parse("title");
+
+        // Assert
+        assertEquals(EnumSet.of(TaskField.ID, TaskField.TITLE), fields);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"   "})
+    @DisplayName("parse should throw InvalidFieldSelectionException when no field is given")
+    void parse_shouldThrowException_whenNoFieldIsGiven(String fields) {
+        // Act & Assert
+        var exception = assertThrows(InvalidFieldSelectionException.class, () -> TaskField.parse(fields));
+        assertEquals("At least one field must be selected.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("parse should throw InvalidFieldSelectionException for an unknown field")
+    void parse_shouldThrowException_whenFieldIsUnknown() {
+        // Act & Assert
+        var exception = assertThrows(InvalidFieldSelectionException.class, () -> TaskField.parse("id,password"));
+        assertEquals("Unknown task field: password", exception.getMessage());
+    }
+}
@@ -0,0 +1,246 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.graphql;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.Task;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.User;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.UserRole;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.cache.TaskReadCache;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.coldtier.ColdTaskStore;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.concurrency.RequestCoalescer;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.config.ResilienceConfiguration;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskChangeSequence;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskJsonReader;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.service.TaskService;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.AutoConfigureGraphQl;
+import org.springframework.boot.test.autoconfigure.graphql.tester.AutoConfigureGraphQlTester;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração da API GraphQL ({@link TaskGraphQlController} e {@link UserGraphQlController}).
+ * Foco: garantir, contando as instruções SQL executadas pelo Hibernate, que as buscas por ID
+ * de uma mesma consulta são agrupadas pelos DataLoaders, e que os limites de consulta são aplicados.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.graphql.max-depth=2",
+        "app.graphql.max-complexity=20"
+})
+@AutoConfigureGraphQl
+@AutoConfigureGraphQlTester
+@Import({GraphQlConfiguration.class, TaskGraphQlController.class, UserGraphQlController.class, GraphQlErrorHandler.class,
+        TaskService.class, UserService.class, TaskJsonReader.class, TaskChangeSequence.class, RequestCoalescer.class, TaskReadCache.class, ColdTaskStore.class,
+        ResilienceConfiguration.class, GraphQlControllersTest.TestConfig.class})
+class GraphQlControllersTest {
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return NoOpPasswordEncoder.getInstance();
+        }
+    }
+
+    @Autowired
+    private GraphQlTester graphQlTester;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // --- Testes de Agrupamento (DataLoader) ---
+
+    @Test
+    @DisplayName("Should resolve N tasks and N users with one SQL statement per type")
+    @WithMockUser(roles = "ADMIN")
+    void query_shouldBatchTaskAndUserLookups() {
+        // Arrange
+        Task first = persistTask("First");
+        Task second = persistTask("Second");
+        Task third = persistTask("Third");
+        User alice = entityManager.persist(new User("alice", "password", UserRole.USER));
+        User bob = entityManager.persist(new User("bob", "password", UserRole.ADMIN));
+        resetStatistics();
+
+        String document = """
+                query {
+                    a: task(id: %d) { title }
+                    b: task(id: %d) { title }
+                    list: tasks(ids: [%d, %d, %d, 999999]) { id title }
+                    users(ids: ["%s", "%s"]) { login role }
+                }
+                """.formatted(first.getId(), second.getId(), first.getId(), second.getId(), third.getId(), alice.getId(), bob.getId());
+
+        // Act
+        GraphQlTester.Response response = graphQlTester.document(document).execute();
+
+        // Assert
+        response.path("a.title").entity(String.class).isEqualTo("First");
+        response.path("b.title").entity(String.class).isEqualTo("Second");
+        response.path("list[*].title").entityList(String.class).containsExactly("First", "Second", "Third");
+        response.path("list[3]").valueIsNull();
+        response.path("users[*].login").entityList(String.class).containsExactly("alice", "bob");
+        response.path("users[1].role").entity(String.class).isEqualTo("ADMIN");
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should not touch the database again for tasks already in the read cache")
+    @WithMockUser(roles = "USER")
+    void query_shouldServeRepeatedTasksFromCache() {
+        // Arrange
+        Task task = persistTask("Cached");
+        String document = "query { task(id: %d) { title } }".formatted(task.getId());
+        graphQlTester.document(document).execute();
+        resetStatistics();
+
+        // Act
+        GraphQlTester.Response response = graphQlTester.document(document).execute();
+
+        // Assert
+        response.path("task.title").entity(String.class).isEqualTo("Cached");
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    // --- Testes de Limites de Consulta ---
+
+    @Test
+    @DisplayName("Should reject queries deeper than the configured limit before touching the database")
+    @WithMockUser(roles = "USER")
+    void query_shouldRejectTooDeepQueries() {
+        // Arrange
+        resetStatistics();
+
+        // Act & Assert
+        graphQlTester.document("query { taskPage { content { id } } }")
+                .execute()
+                .errors()
+                .expect(error -> error.getMessage().contains("maximum query depth exceeded"))
+                .verify();
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should reject queries more complex than the configured limit before touching the database")
+    @WithMockUser(roles = "USER")
+    void query_shouldRejectTooComplexQueries() {
+        // Arrange
+        StringBuilder document = new StringBuilder("query {");
+        for (int i = 0; i < 11; i++) {
+            document.append(" t").append(i).append(": task(id: ").append(i + 1).append(") { title }");
+        }
+        document.append(" }");
+        resetStatistics();
+
+        // Act & Assert
+        graphQlTester.document(document.toString())
+                .execute()
+                .errors()
+                .expect(error -> error.getMessage().contains("maximum query complexity exceeded"))
+                .verify();
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should return BAD_REQUEST when more task IDs than allowed are requested")
+    @WithMockUser(roles = "USER")
+    void tasks_shouldReturnBadRequest_whenTooManyIds() {
+        // Arrange
+        String ids = IntStream.rangeClosed(1, TaskService.MAX_LOOKUP_IDS + 1)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        // Act & Assert
+        graphQlTester.document("query { tasks(ids: [" + ids + "]) { id } }")
+                .execute()
+                .errors()
+                .expect(error -> error.getErrorType() == ErrorType.BAD_REQUEST)
+                .verify();
+    }
+
+    // --- Testes de Segurança ---
+
+    @Test
+    @DisplayName("Should return FORBIDDEN when a USER queries other users")
+    @WithMockUser(roles = "USER")
+    void users_shouldReturnForbidden_forUserRole() {
+        // Act & Assert
+        graphQlTester.document("query { user(id: \"00000000-0000-0000-0000-000000000000\") { login } }")
+                .execute()
+                .errors()
+                .expect(error -> error.getErrorType() == ErrorType.FORBIDDEN)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should return the authenticated user for the 'me' query")
+    void me_shouldReturnAuthenticatedUser() {
+        // Arrange
+        User user = entityManager.persist(new User("carol", "password", UserRole.USER));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+
+        // Act & Assert
+        graphQlTester.document("query { me { login role } }")
+                .execute()
+                .path("me.login").entity(String.class).isEqualTo("carol")
+                .path("me.role").entity(String.class).isEqualTo("USER");
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private Task persistTask(String title) {
+        return entityManager.persist(new Task(null, title, "Description", LocalDateTime.of(2024, 1, 1, 10, 0), false));
+    }
+
+    private void resetStatistics() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+}
@@ -0,0 +1,301 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.grpc;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.User;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.UserRole;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskCreateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.TaskArchivedException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.TaskNotFoundException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.TokenService;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.CreateTasksResponse;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.ListTasksRequest;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.Task;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.TaskCreateRequest;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.TaskIdRequest;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.TaskServiceGrpc;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.UserRepository;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.service.TaskService;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes do {@link TaskGrpcService} e do {@link GrpcAuthenticationInterceptor}
+ * usando o transporte gRPC em memória (in-process).
+ */
+class TaskGrpcServiceTest {
+
+    private static final String ADMIN_TOKEN = "admin-token";
+    private static final String USER_TOKEN = "user-token";
+
+    private final TaskService taskService = mock(TaskService.class);
+    private final TokenService tokenService = mock(TokenService.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(tokenService.validateToken(anyString())).thenReturn("");
+        when(tokenService.validateToken(ADMIN_TOKEN)).thenReturn("admin");
+        when(tokenService.validateToken(USER_TOKEN)).thenReturn("user");
+        when(userRepository.findByLogin("admin")).thenReturn(Optional.of(new User("admin", "p", UserRole.ADMIN)));
+        when(userRepository.findByLogin("user")).thenReturn(Optional.of(new User("user", "p", UserRole.USER)));
+
+        var service = new TaskGrpcService(taskService, Validation.buildDefaultValidatorFactory().getValidator());
+        var interceptor = new GrpcAuthenticationInterceptor(tokenService, userRepository);
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(ServerInterceptors.intercept(service, interceptor))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    // --- Testes de Autenticação e Autorização ---
+
+    @Test
+    @DisplayName("Should fail with UNAUTHENTICATED when no token is sent")
+    void shouldReturnUnauthenticated_whenTokenIsMissing() {
+        // Act
+        var exception = assertThrows(StatusRuntimeException.class,
+                () -> TaskServiceGrpc.newBlockingStub(channel).getTask(TaskIdRequest.newBuilder().setId(1L).build()));
+
+        // Assert
+        assertEquals(Status.Code.UNAUTHENTICATED, exception.getStatus().getCode());
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    @DisplayName("Should fail with UNAUTHENTICATED when the token is invalid")
+    void shouldReturnUnauthenticated_whenTokenIsInvalid() {
+        // Act
+        var exception = assertThrows(StatusRuntimeException.class,
+                () -> blockingStub("invalid").getTask(TaskIdRequest.newBuilder().setId(1L).build()));
+
+        // Assert
+        assertEquals(Status.Code.UNAUTHENTICATED, exception.getStatus().getCode());
+    }
+
+    @Test
+    @DisplayName("Should fail with PERMISSION_DENIED when a USER calls a write method")
+    void shouldReturnPermissionDenied_whenUserCallsWriteMethod() {
+        // Act
+        var exception = assertThrows(StatusRuntimeException.class,
+                () -> blockingStub(USER_TOKEN).deleteTask(TaskIdRequest.newBuilder().setId(1L).build()));
+
+        // Assert
+        assertEquals(Status.Code.PERMISSION_DENIED, exception.getStatus().getCode());
+        verifyNoInteractions(taskService);
+    }
+
+    // --- Testes das Operações Unárias ---
+
+    @Test
+    @DisplayName("GetTask should return the task for an authenticated USER")
+    void getTask_shouldReturnTask() {
+        // Arrange
+        var dto = createTaskResponseDTO(1L);
+        when(taskService.getTaskById(1L)).thenReturn(dto);
+
+        // Act
+        Task result = blockingStub(USER_TOKEN).getTask(TaskIdRequest.newBuilder().setId(1L).build());
+
+        // Assert
+        assertEquals(1L, result.getId());
+        assertEquals(dto.title(), result.getTitle());
+    }
+
+    @Test
+    @DisplayName("GetTask should fail with NOT_FOUND when the task does not exist")
+    void getTask_shouldReturnNotFound_whenTaskDoesNotExist() {
+        // Arrange
+        when(taskService.getTaskById(99L)).thenThrow(new TaskNotFoundException("Task not found with ID: 99"));
+
+        // Act
+        var exception = assertThrows(StatusRuntimeException.class,
+                () -> blockingStub(USER_TOKEN).getTask(TaskIdRequest.newBuilder().setId(99L).build()));
+
+        // Assert
+        assertEquals(Status.Code.NOT_FOUND, exception.getStatus().getCode());
+        assertEquals("Task not found with ID: 99", exception.getStatus().getDescription());
+    }
+
+    @Test
+    @DisplayName("DeleteTask should fail with FAILED_PRECONDITION when the task is archived")
+    void deleteTask_shouldReturnFailedPrecondition_whenTaskIsArchived() {
+        // Arrange
+        doThrow(new TaskArchivedException("Task with ID 1 is archived and can no longer be changed."))
+                .when(taskService).deleteTask(1L);
+
+        // Act
+        var exception = assertThrows(StatusRuntimeException.class,
+                () -> blockingStub(ADMIN_TOKEN).deleteTask(TaskIdRequest.newBuilder().setId(1L).build()));
+
+        // Assert
+        assertEquals(Status.Code.FAILED_PRECONDITION, exception.getStatus().getCode());
+        assertEquals("Task with ID 1 is archived and can no longer be changed.", exception.getStatus().getDescription());
+    }
+
+    @Test
+    @DisplayName("CreateTask should fail with INVALID_ARGUMENT when the title is too short")
+    void createTask_shouldReturnInvalidArgument_whenTitleIsInvalid() {
+        // Act
+        var exception = assertThrows(StatusRuntimeException.class,
+                () -> blockingStub(ADMIN_TOKEN).createTask(TaskCreateRequest.newBuilder().setTitle("a").build()));
+
+        // Assert
+        assertEquals(Status.Code.INVALID_ARGUMENT, exception.getStatus().getCode());
+        assertTrue(exception.getStatus().getDescription().contains("O título deve ter entre 3 e 255 caracteres"));
+        verify(taskService, never()).createTask(any());
+    }
+
+    // --- Testes dos Streams ---
+
+    @Test
+    @DisplayName("ListTasks should stream all tasks across keyset batches")
+    void listTasks_shouldStreamAllTasksAcrossBatches() {
+        // Arrange
+        when(taskService.listTasksAfter(0L, 2)).thenReturn(List.of(createTaskResponseDTO(1L), createTaskResponseDTO(2L)));
+        when(taskService.listTasksAfter(2L, 2)).thenReturn(List.of(createTaskResponseDTO(3L)));
+
+        // Act
+        List<Long> ids = new ArrayList<>();
+        blockingStub(USER_TOKEN).listTasks(ListTasksRequest.newBuilder().setPageSize(2).build())
+                .forEachRemaining(task -> ids.add(task.getId()));
+
+        // Assert
+        assertEquals(List.of(1L, 2L, 3L), ids);
+        verify(taskService, times(2)).listTasksAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("ListTasks should stop at the requested limit")
+    void listTasks_shouldStopAtLimit() {
+        // Arrange
+        when(taskService.listTasksAfter(0L, 3)).thenReturn(LongStream.rangeClosed(1, 3).mapToObj(this::createTaskResponseDTO).toList());
+
+        // Act
+        List<Long> ids = new ArrayList<>();
+        blockingStub(USER_TOKEN).listTasks(ListTasksRequest.newBuilder().setPageSize(10).setLimit(3).build())
+                .forEachRemaining(task -> ids.add(task.getId()));
+
+        // Assert
+        assertEquals(List.of(1L, 2L, 3L), ids);
+        verify(taskService, times(1)).listTasksAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("CreateTasks should create every streamed task and return their IDs")
+    void createTasks_shouldCreateEveryStreamedTask() throws Exception {
+        // Arrange
+        when(taskService.createTask(eq(new TaskCreateDTO("Task 1", null)))).thenReturn(createTaskResponseDTO(10L));
+        when(taskService.createTask(eq(new TaskCreateDTO("Task 2", "Description")))).thenReturn(createTaskResponseDTO(11L));
+        var response = new CompletableFuture<CreateTasksResponse>();
+
+        // Act
+        StreamObserver<TaskCreateRequest> requests = asyncStub(ADMIN_TOKEN).createTasks(futureObserver(response));
+        requests.onNext(TaskCreateRequest.newBuilder().setTitle("Task 1").build());
+        requests.onNext(TaskCreateRequest.newBuilder().setTitle("Task 2").setDescription("Description").build());
+        requests.onCompleted();
+
+        // Assert
+        CreateTasksResponse result = response.get(5, TimeUnit.SECONDS);
+        assertEquals(2, result.getCreatedCount());
+        assertEquals(List.of(10L, 11L), result.getIdsList());
+    }
+
+    @Test
+    @DisplayName("CreateTasks should fail with INVALID_ARGUMENT and stop at the first invalid task")
+    void createTasks_shouldStopAtFirstInvalidTask() {
+        // Arrange
+        when(taskService.createTask(any())).thenReturn(createTaskResponseDTO(10L));
+        var response = new CompletableFuture<CreateTasksResponse>();
+
+        // Act
+        StreamObserver<TaskCreateRequest> requests = asyncStub(ADMIN_TOKEN).createTasks(futureObserver(response));
+        requests.onNext(TaskCreateRequest.newBuilder().setTitle("Task 1").build());
+        requests.onNext(TaskCreateRequest.newBuilder().setTitle("a").build());
+        requests.onNext(TaskCreateRequest.newBuilder().setTitle("Task 3").build());
+        requests.onCompleted();
+
+        // Assert
+        var exception = assertThrows(Exception.class, () -> response.get(5, TimeUnit.SECONDS));
+        assertEquals(Status.Code.INVALID_ARGUMENT, Status.fromThrowable(exception.getCause()).getCode());
+        verify(taskService, times(1)).createTask(any());
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private TaskServiceGrpc.TaskServiceBlockingStub blockingStub(String token) {
+        return TaskServiceGrpc.newBlockingStub(channel).withInterceptors(MetadataUtils.newAttachHeadersInterceptor(bearer(token)));
+    }
+
+    private TaskServiceGrpc.TaskServiceStub asyncStub(String token) {
+        return TaskServiceGrpc.newStub(channel).withInterceptors(MetadataUtils.newAttachHeadersInterceptor(bearer(token)));
+    }
+
+    private Metadata bearer(String token) {
+        var headers = new Metadata();
+        headers.put(Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER), "Bearer " + token);
+        return headers;
+    }
+
+    private <T> StreamObserver<T> futureObserver(CompletableFuture<T> future) {
+        return new StreamObserver<>() {
+            @Override
+            public void onNext(T value) {
+                future.complete(value);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                future.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                // O valor já foi entregue em onNext
+            }
+        };
+    }
+
+    private TaskResponseDTO createTaskResponseDTO(long id) {
+        return new TaskResponseDTO(id, "Task " + id, "Description " + id, LocalDateTime.now(), false);
+    }
+}
@@ -0,0 +1,249 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.cache;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangeType;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangedEvent;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.DatabaseUnavailableException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.resilience.CircuitBreaker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o {@link TaskReadCache}.
+ * Usa um relógio controlado e um executor síncrono, para que a atualização em segundo plano
+ * rode imediatamente e de forma determinística.
+ */
+class TaskReadCacheTest {
+
+    private static final Duration SOFT_TTL = Duration.ofSeconds(5);
+    private static final Duration HARD_TTL = Duration.ofMinutes(5);
+
+    private final AtomicLong now = new AtomicLong();
+    private final List<Runnable> pendingRefreshes = new ArrayList<>();
+    private final CircuitBreaker breaker = new CircuitBreaker("database", 2, Duration.ofSeconds(30));
+    private final AtomicBoolean replicaMayBeStale = new AtomicBoolean();
+    private final TaskReadCache cache = new TaskReadCache(breaker, SOFT_TTL, HARD_TTL, 100, pendingRefreshes::add, now::get,
+            replicaMayBeStale::get);
+
+    @BeforeEach
+    void setUp() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should serve a fresh entry without reloading it")
+    void getTask_shouldServeFreshEntry() {
+        // Arrange
+        var loads = new AtomicInteger();
+        Supplier<TaskResponseDTO> loader = () -> createTask("v" + loads.incrementAndGet());
+        cache.getTask(1L, loader);
+        advance(SOFT_TTL.minusSeconds(1));
+
+        // Act
+        TaskResponseDTO result = cache.getTask(1L, loader);
+
+        // Assert
+        assertEquals("v1", result.title());
+        assertEquals(1, loads.get());
+        assertTrue(StaleRead.current().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should serve a stale entry while a single background refresh runs")
+    void getTask_shouldServeStaleAndRefreshInBackground() {
+        // Arrange
+        var loads = new AtomicInteger();
+        Supplier<TaskResponseDTO> loader = () -> createTask("v" + loads.incrementAndGet());
+        cache.getTask(1L, loader);
+        advance(SOFT_TTL.plusSeconds(2));
+
+        // Act
+        TaskResponseDTO first = cache.getTask(1L, loader);
+        TaskResponseDTO second = cache.getTask(1L, loader);
+        runPendingRefreshes();
+        TaskResponseDTO afterRefresh = cache.getTask(1L, loader);
+
+        // Assert
+        assertEquals("v1", first.title());
+        assertEquals("v1", second.title());
+        assertEquals("v2", afterRefresh.title());
+        assertEquals(2, loads.get());
+        assertEquals(Optional.of(new StaleRead(7, false)), StaleRead.current());
+    }
+
+    @Test
+    @DisplayName("Should keep serving the stale entry, flagged as revalidation failed, while the database is down")
+    void getTask_shouldServeStale_whenDatabaseIsDown() {
+        // Arrange
+        cache.getTask(1L, () -> createTask("cached"));
+        advance(SOFT_TTL.plusSeconds(1));
+        Supplier<TaskResponseDTO> failingLoader = () -> {
+            throw new DataAccessResourceFailureException("Connection refused");
+        };
+
+        // Act
+        for (int i = 0; i < 2; i++) {
+            cache.getTask(1L, failingLoader);
+            runPendingRefreshes();
+        }
+        TaskResponseDTO result = cache.getTask(1L, failingLoader);
+
+        // Assert
+        assertEquals("cached", result.title());
+        assertTrue(breaker.isOpen());
+        assertTrue(pendingRefreshes.isEmpty());
+        assertTrue(StaleRead.current().orElseThrow().revalidationFailed());
+    }
+
+    @Test
+    @DisplayName("Should fail with DatabaseUnavailableException on a miss while the database is down")
+    void getTask_shouldThrowDatabaseUnavailable_onMissWhenDatabaseIsDown() {
+        // Arrange
+        Supplier<TaskResponseDTO> failingLoader = () -> {
+            throw new DataAccessResourceFailureException("Connection refused");
+        };
+
+        // Act & Assert
+        assertThrows(DatabaseUnavailableException.class, () -> cache.getTask(1L, failingLoader));
+        assertThrows(DatabaseUnavailableException.class, () -> cache.getTask(1L, failingLoader));
+        assertTrue(breaker.isOpen());
+        var exception = assertThrows(DatabaseUnavailableException.class, () -> cache.getTask(1L, () -> createTask("never")));
+        assertNull(exception.getCause());
+    }
+
+    @Test
+    @DisplayName("Should not serve entries older than the hard TTL")
+    void getTask_shouldReload_afterHardTtl() {
+        // Arrange
+        cache.getTask(1L, () -> createTask("old"));
+        advance(HARD_TTL.plusSeconds(1));
+
+        // Act
+        TaskResponseDTO result = cache.getTask(1L, () -> createTask("new"));
+
+        // Assert
+        assertEquals("new", result.title());
+        assertTrue(StaleRead.current().isEmpty());
+    }
+
+    @Test
+    @DisplayName("getTasks should serve cached tasks and load only the missing ones in a single call")
+    void getTasks_shouldLoadOnlyMissingTasks() {
+        // Arrange
+        cache.getTask(1L, () -> createTask("cached"));
+        List<Set<Long>> loadedIds = new ArrayList<>();
+
+        // Act
+        Map<Long, TaskResponseDTO> result = cache.getTasks(List.of(1L, 2L, 3L), ids -> {
+            loadedIds.add(Set.copyOf(ids));
+            return List.of(createTask(2L, "loaded"));
+        });
+
+        // Assert
+        assertEquals(List.of(Set.of(2L, 3L)), loadedIds);
+        assertEquals("cached", result.get(1L).title());
+        assertEquals("loaded", result.get(2L).title());
+        assertFalse(result.containsKey(3L));
+        assertEquals("loaded", cache.getTask(2L, () -> createTask(2L, "never")).title());
+    }
+
+    @Test
+    @DisplayName("getTasks should serve stale copies when the database is down and every missing task has one")
+    void getTasks_shouldServeStale_whenDatabaseIsDown() {
+        // Arrange
+        cache.getTask(1L, () -> createTask("cached"));
+        advance(SOFT_TTL.plusSeconds(1));
+        Function<Set<Long>, List<TaskResponseDTO>> failingLoader = ids -> {
+            throw new DataAccessResourceFailureException("Connection refused");
+        };
+
+        // Act
+        Map<Long, TaskResponseDTO> result = cache.getTasks(List.of(1L), failingLoader);
+
+        // Assert
+        assertEquals("cached", result.get(1L).title());
+        assertTrue(StaleRead.current().orElseThrow().revalidationFailed());
+        assertThrows(DatabaseUnavailableException.class, () -> cache.getTasks(List.of(1L, 2L), failingLoader));
+    }
+
+    @Test
+    @DisplayName("Should drop the changed task after a change event")
+    void onTaskChanged_shouldInvalidateTask() {
+        // Arrange
+        cache.getTask(1L, () -> createTask("old"));
+
+        // Act
+        cache.onTaskChanged(new TaskChangedEvent(1L, TaskChangeType.UPDATED, null));
+
+        // Assert
+        assertEquals("new", cache.getTask(1L, () -> createTask("new")).title());
+    }
+
+    @Test
+    @DisplayName("Should not keep values loaded while the replica may still lag behind a recent write")
+    void getTask_shouldNotCache_whileReplicaMayBeStale() {
+        // Arrange
+        var loads = new AtomicInteger();
+        Supplier<TaskResponseDTO> loader = () -> createTask("v" + loads.incrementAndGet());
+        replicaMayBeStale.set(true);
+
+        // Act
+        TaskResponseDTO first = cache.getTask(1L, loader);
+        cache.getTasks(List.of(2L), ids -> List.of(createTask(2L, "batch")));
+        replicaMayBeStale.set(false);
+        TaskResponseDTO second = cache.getTask(1L, loader);
+        TaskResponseDTO third = cache.getTask(1L, loader);
+
+        // Assert
+        assertEquals("v1", first.title());
+        assertEquals("v2", second.title());
+        assertEquals("v2", third.title());
+        assertEquals("fresh", cache.getTasks(List.of(2L), ids -> List.of(createTask(2L, "fresh"))).get(2L).title());
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+
+    private void runPendingRefreshes() {
+        List<Runnable> refreshes = new ArrayList<>(pendingRefreshes);
+        pendingRefreshes.clear();
+        refreshes.forEach(Runnable::run);
+    }
+
+    private TaskResponseDTO createTask(String title) {
+        return createTask(1L, title);
+    }
+
+    private TaskResponseDTO createTask(Long id, String title) {
+        return new TaskResponseDTO(id, title, null, LocalDateTime.of(2024, 1, 1, 10, 0), false);
+    }
+}
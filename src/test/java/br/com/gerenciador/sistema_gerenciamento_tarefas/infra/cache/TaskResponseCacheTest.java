@@ -0,0 +1,134 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.cache;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangeType;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangedEvent;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.datasource.ReadYourWritesTracker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o {@link TaskResponseCache} e o {@link CachedResponse}.
+ */
+class TaskResponseCacheTest {
+
+    private final TaskResponseCache cache = newCache(new StaticListableBeanFactory());
+
+    @Test
+    @DisplayName("Should not keep a response loaded while a write was committed")
+    void getTask_shouldNotCacheResponse_whenWriteCommittedDuringLoad() {
+        // Arrange
+        var loads = new AtomicInteger();
+
+        // Act
+        cache.getTask(1L, () -> {
+            loads.incrementAndGet();
+            cache.onTaskChanged(new TaskChangedEvent(1L, TaskChangeType.UPDATED, null));
+            return createTask(1L);
+        });
+        cache.getTask(1L, () -> {
+            loads.incrementAndGet();
+            return createTask(1L);
+        });
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should not keep a response loaded while the replica may still lag behind a recent write")
+    void getTask_shouldNotCacheResponse_whileReplicaMayBeStale() {
+        // Arrange
+        var tracker = new ReadYourWritesTracker(Duration.ofMinutes(1), 100);
+        var beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("readYourWritesTracker", tracker);
+        TaskResponseCache replicaCache = newCache(beanFactory);
+        var loads = new AtomicInteger();
+        tracker.recordWrite();
+
+        // Act
+        for (int i = 0; i < 2; i++) {
+            replicaCache.getTask(1L, () -> {
+                loads.incrementAndGet();
+                return createTask(1L);
+            });
+        }
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should reuse the lazily compressed gzip variant")
+    void cachedResponse_shouldReuseGzipVariant() {
+        // Arrange
+        var response = new CachedResponse(new byte[CachedResponse.MIN_COMPRESSION_SIZE]);
+
+        // Act & Assert
+        assertSame(response.gzip(), response.gzip());
+        assertTrue(response.gzip().length < CachedResponse.MIN_COMPRESSION_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should not compress responses smaller than the minimum size")
+    void cachedResponse_shouldNotCompressSmallResponses() {
+        // Arrange
+        var response = new CachedResponse(new byte[10]);
+        var headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+        // Act & Assert
+        assertNull(response.toResponseEntity(headers).getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    @DisplayName("Should parse Accept-Encoding honoring q=0")
+    void accepts_shouldHonorZeroQuality() {
+        assertTrue(CachedResponse.accepts("gzip, deflate, br", "gzip"));
+        assertTrue(CachedResponse.accepts("deflate;q=0.5", "deflate"));
+        assertFalse(CachedResponse.accepts("gzip;q=0, deflate", "gzip"));
+        assertFalse(CachedResponse.accepts("br", "gzip"));
+        assertFalse(CachedResponse.accepts(null, "gzip"));
+        assertTrue(CachedResponse.accepts("gzip;q=abc", "gzip"));
+    }
+
+    @Test
+    @DisplayName("Should prefer JSON only when it is the client's most preferred acceptable type")
+    void prefersJson_shouldFollowAcceptHeader() {
+        assertTrue(TaskResponseCache.prefersJson(acceptHeaders()));
+        assertTrue(TaskResponseCache.prefersJson(acceptHeaders(MediaType.ALL)));
+        assertTrue(TaskResponseCache.prefersJson(acceptHeaders(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR)));
+        assertFalse(TaskResponseCache.prefersJson(acceptHeaders(MediaType.APPLICATION_CBOR, MediaType.APPLICATION_JSON)));
+        assertFalse(TaskResponseCache.prefersJson(acceptHeaders(MediaType.APPLICATION_XML)));
+    }
+
+    private HttpHeaders acceptHeaders(MediaType... types) {
+        var headers = new HttpHeaders();
+        if (types.length > 0) {
+            headers.setAccept(List.of(types));
+        }
+        return headers;
+    }
+
+    private static TaskResponseCache newCache(StaticListableBeanFactory beanFactory) {
+        return new TaskResponseCache(new ObjectMapper().registerModule(new JavaTimeModule()), 100, Duration.ofMinutes(1),
+                beanFactory.getBeanProvider(MeterRegistry.class), beanFactory.getBeanProvider(ReadYourWritesTracker.class));
+    }
+
+    private TaskResponseDTO createTask(long id) {
+        return new TaskResponseDTO(id, "Task " + id, null, LocalDateTime.now(), false);
+    }
+}
@@ -0,0 +1,177 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.coldtier;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.Task;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o {@link ColdTaskStore} e o formato dos segmentos ({@link TaskSegment}).
+ */
+class ColdTaskStoreTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2020, 1, 1, 10, 0, 0, 123_456_000);
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // --- Testes de Gravação e Leitura ---
+
+    @Test
+    @DisplayName("Should find every archived task by ID across blocks, including null descriptions and unicode text")
+    void find_shouldReturnArchivedTasksAcrossBlocks() throws IOException {
+        // Arrange
+        ColdTaskStore store = newStore();
+        List<Task> tasks = tasks(1, 25, BASE);
+        tasks.add(new Task(40L, "Tarefa concluída ✓", null, BASE.plusDays(30), false));
+
+        // Act
+        store.append(tasks);
+
+        // Assert
+        TaskSegment segment = TaskSegment.open(directory.resolve(TaskSegment.fileName(1)));
+        assertEquals(3, segment.blockCount());
+        assertEquals(26, segment.rowCount());
+        for (Task task : tasks) {
+            assertEquals(Optional.of(new TaskResponseDTO(task)), store.find(task.getId()));
+        }
+        assertEquals(new TaskResponseDTO(40L, "Tarefa concluída ✓", null, BASE.plusDays(30), false), store.find(40L).orElseThrow());
+        assertEquals(27.0, meterRegistry.counter("cold.lookups", "result", "hit").count());
+    }
+
+    @Test
+    @DisplayName("Should report a miss for IDs outside or between the archived ones")
+    void find_shouldReturnEmpty_whenIdIsNotArchived() {
+        // Arrange
+        ColdTaskStore store = newStore();
+        store.append(List.of(task(10, BASE), task(20, BASE)));
+
+        // Act & Assert
+        assertTrue(store.find(5L).isEmpty());
+        assertTrue(store.find(15L).isEmpty());
+        assertTrue(store.find(25L).isEmpty());
+        assertEquals(3.0, meterRegistry.counter("cold.lookups", "result", "miss").count());
+    }
+
+    @Test
+    @DisplayName("Should reload the existing segments from disk and keep numbering new ones after them")
+    void constructor_shouldLoadExistingSegments() {
+        // Arrange
+        newStore().append(List.of(task(1, BASE)));
+        newStore().append(List.of(task(2, BASE)));
+
+        // Act
+        ColdTaskStore reopened = newStore();
+
+        // Assert
+        assertEquals(2, reopened.segmentCount());
+        assertEquals(1L, reopened.find(1L).orElseThrow().id());
+        assertEquals(2L, reopened.find(2L).orElseThrow().id());
+        assertTrue(Files.exists(directory.resolve(TaskSegment.fileName(2))));
+    }
+
+    @Test
+    @DisplayName("Should ignore a corrupted segment file without losing the valid ones")
+    void constructor_shouldIgnoreCorruptedSegments() throws IOException {
+        // Arrange
+        newStore().append(List.of(task(1, BASE)));
+        Files.write(directory.resolve(TaskSegment.fileName(2)), new byte[]{1, 2, 3});
+
+        // Act
+        ColdTaskStore reopened = newStore();
+
+        // Assert
+        assertEquals(1, reopened.segmentCount());
+        assertTrue(reopened.find(1L).isPresent());
+    }
+
+    // --- Testes de Transação ---
+
+    @Test
+    @DisplayName("Should remove a segment written inside a transaction that rolls back and keep it when it commits")
+    void append_shouldRemoveSegment_whenTransactionRollsBack() {
+        // Arrange
+        ColdTaskStore store = newStore();
+
+        // Act
+        inTransaction(() -> store.append(List.of(task(1, BASE))), TransactionSynchronization.STATUS_ROLLED_BACK);
+        inTransaction(() -> store.append(List.of(task(2, BASE))), TransactionSynchronization.STATUS_COMMITTED);
+
+        // Assert
+        assertEquals(1, store.segmentCount());
+        assertTrue(store.find(1L).isEmpty());
+        assertTrue(store.find(2L).isPresent());
+        assertEquals(1, newStore().segmentCount());
+        assertTrue(newStore().find(1L).isEmpty());
+    }
+
+    // --- Testes de Expurgo ---
+
+    @Test
+    @DisplayName("Should purge only the segments whose tasks were all created before the threshold")
+    void purgeCreatedBefore_shouldRemoveWholeOldSegments() {
+        // Arrange
+        ColdTaskStore store = newStore();
+        store.append(List.of(task(1, BASE), task(2, BASE.plusDays(1))));
+        store.append(List.of(task(3, BASE), task(4, BASE.plusDays(10))));
+
+        // Act
+        int purged = store.purgeCreatedBefore(BASE.plusDays(5));
+
+        // Assert
+        assertEquals(2, purged);
+        assertEquals(1, store.segmentCount());
+        assertTrue(store.find(1L).isEmpty());
+        assertTrue(store.find(3L).isPresent());
+        assertFalse(Files.exists(directory.resolve(TaskSegment.fileName(1))));
+    }
+
+    // --- Métodos Auxiliares ---
+
+    /**
+     * Executa a ação com a sincronização de transações ativa e encerra a transação simulada com o status informado.
+     */
+    private static void inTransaction(Runnable action, int completionStatus) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            action.run();
+            TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                    completionStatus);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private ColdTaskStore newStore() {
+        return new ColdTaskStore(meterRegistry, directory, 10);
+    }
+
+    private static List<Task> tasks(long firstId, int count, LocalDateTime creationDate) {
+        List<Task> tasks = new ArrayList<>();
+        for (long id = firstId; id < firstId + count; id++) {
+            tasks.add(task(id, creationDate.plusHours(id)));
+        }
+        return tasks;
+    }
+
+    private static Task task(long id, LocalDateTime creationDate) {
+        return new Task(id, "Task " + id, "Description " + id, creationDate, true);
+    }
+}
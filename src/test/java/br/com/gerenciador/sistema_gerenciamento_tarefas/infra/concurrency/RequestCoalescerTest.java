@@ -0,0 +1,211 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.concurrency;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangeType;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o {@link RequestCoalescer}.
+ */
+class RequestCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Concurrent identical requests should share a single load")
+    void execute_shouldShareSingleLoad_forConcurrentIdenticalRequests() throws Exception {
+        // Arrange
+        var coalescer = new RequestCoalescer(meterRegistry, Duration.ofSeconds(5));
+        var loads = new AtomicInteger();
+        var release = new CountDownLatch(1);
+
+        // Act
+        List<Future<String>> results = submitAll(() -> coalescer.execute("getTaskById", 1L, () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "task";
+        }));
+        waitUntilFollowersJoined(CALLERS - 1);
+        release.countDown();
+
+        // Assert
+        for (Future<String> result : results) {
+            assertEquals("task", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(CALLERS - 1, coalescedCount());
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("Requests with different keys should not be coalesced")
+    void execute_shouldNotCoalesce_differentKeys() {
+        // Arrange
+        var coalescer = new RequestCoalescer(meterRegistry, Duration.ofSeconds(5));
+
+        // Act
+        String first = coalescer.execute("getTaskById", 1L, () -> coalescer.execute("getTaskById", 2L, () -> "inner"));
+
+        // Assert
+        assertEquals("inner", first);
+        assertEquals(0, coalescedCount());
+    }
+
+    @Test
+    @DisplayName("Followers should receive the same exception thrown by the load")
+    void execute_shouldPropagateLoadException_toFollowers() throws Exception {
+        // Arrange
+        var coalescer = new RequestCoalescer(meterRegistry, Duration.ofSeconds(5));
+        var release = new CountDownLatch(1);
+
+        // Act
+        List<Future<String>> results = submitAll(() -> coalescer.execute("getTaskById", 1L, () -> {
+            await(release);
+            throw new IllegalStateException("not found");
+        }));
+        waitUntilFollowersJoined(CALLERS - 1);
+        release.countDown();
+
+        // Assert
+        for (Future<String> result : results) {
+            var exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertEquals("not found", exception.getCause().getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("A follower should load independently when the in-flight load exceeds the timeout")
+    void execute_shouldLoadIndependently_whenWaitTimesOut() throws Exception {
+        // Arrange
+        var coalescer = new RequestCoalescer(meterRegistry, Duration.ofMillis(50));
+        var release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> coalescer.execute("getTaskById", 1L, () -> {
+            await(release);
+            return "slow";
+        }));
+        while (coalescer.inFlightCount() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // Act
+        String follower = coalescer.execute("getTaskById", 1L, () -> "fast");
+        release.countDown();
+
+        // Assert
+        assertEquals("fast", follower);
+        assertEquals("slow", leader.get(5, TimeUnit.SECONDS));
+        assertEquals(1, meterRegistry.counter("task.reads.coalescing.timeouts", "operation", "getTaskById").count());
+    }
+
+    @Test
+    @DisplayName("Reads inside a read-write transaction should load on their own, never sharing results")
+    void execute_shouldNotCoalesce_insideReadWriteTransaction() throws Exception {
+        // Arrange
+        var coalescer = new RequestCoalescer(meterRegistry, Duration.ofSeconds(5));
+        var release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> coalescer.execute("getTaskById", 1L, () -> {
+            await(release);
+            return "committed";
+        }));
+        while (coalescer.inFlightCount() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // Act
+        String inTransaction;
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            inTransaction = coalescer.execute("getTaskById", 1L, () -> "uncommitted");
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        release.countDown();
+
+        // Assert
+        assertEquals("uncommitted", inTransaction);
+        assertEquals("committed", leader.get(5, TimeUnit.SECONDS));
+        assertEquals(0, coalescedCount());
+        assertEquals(1, meterRegistry.counter("task.reads.uncoalesced", "operation", "getTaskById").count());
+    }
+
+    @Test
+    @DisplayName("A request arriving after a committed write should not join a load started before it")
+    void execute_shouldNotJoinLoadStartedBeforeCommittedWrite() throws Exception {
+        // Arrange
+        var coalescer = new RequestCoalescer(meterRegistry, Duration.ofSeconds(5));
+        var release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> coalescer.execute("getTaskById", 1L, () -> {
+            await(release);
+            return "before write";
+        }));
+        while (coalescer.inFlightCount() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // Act
+        coalescer.onTaskChanged(new TaskChangedEvent(1L, TaskChangeType.UPDATED, null));
+        String afterWrite = coalescer.execute("getTaskById", 1L, () -> "after write");
+        release.countDown();
+
+        // Assert
+        assertEquals("after write", afterWrite);
+        assertEquals("before write", leader.get(5, TimeUnit.SECONDS));
+        assertEquals(0, coalescedCount());
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private List<Future<String>> submitAll(Callable<String> call) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(call));
+        }
+        return results;
+    }
+
+    private void waitUntilFollowersJoined(int followers) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescedCount() < followers && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private double coalescedCount() {
+        return meterRegistry.counter("task.reads.coalesced", "operation", "getTaskById").count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.config;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.cache.TaskReadCache;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.coldtier.ColdTaskStore;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.concurrency.RequestCoalescer;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskChangeSequence;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskJsonReader;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.service.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Testes de integração da {@link ReplicaDataSourceConfiguration} com o JPA, usando dois bancos H2 com o mesmo
+ * esquema como primário e réplica.
+ * Cada teste simula uma requisição com o EntityManager aberto do início ao fim (como o open-in-view faz) e
+ * verifica em qual banco cada operação chegou.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=" + ReplicaDataSourceConfigurationTest.PRIMARY_URL,
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "app.datasource.replica.url=" + ReplicaDataSourceConfigurationTest.REPLICA_URL
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ReplicaDataSourceConfiguration.class, TaskService.class, TaskJsonReader.class, TaskChangeSequence.class,
+        RequestCoalescer.class, TaskReadCache.class, ColdTaskStore.class, ResilienceConfiguration.class,
+        ReplicaDataSourceConfigurationTest.TestConfig.class})
+class ReplicaDataSourceConfigurationTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:replica-config-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:replica-config-replica;DB_CLOSE_DELAY=-1";
+
+    private static final long TASK_ID = 1L;
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final JdbcTemplate primary = new JdbcTemplate(database(PRIMARY_URL));
+    private final JdbcTemplate replica = new JdbcTemplate(database(REPLICA_URL));
+
+    @BeforeAll
+    static void migrateReplica() {
+        // A réplica recebe o mesmo esquema do primário, como na replicação real
+        Flyway.configure()
+                .dataSource(database(REPLICA_URL))
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .load()
+                .migrate();
+    }
+
+    @BeforeEach
+    void setUp() {
+        // O título identifica o banco que atendeu a leitura
+        insertTask(primary, "Primary");
+        insertTask(replica, "Replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (JdbcTemplate database : List.of(primary, replica)) {
+            database.update("DELETE FROM task_tombstones");
+            database.update("DELETE FROM tasks");
+        }
+    }
+
+    // --- Testes de Roteamento ---
+
+    @Test
+    @DisplayName("Should send a write to the primary after a read from the replica in the same request")
+    void shouldWriteToPrimary_afterReplicaReadInSameRequest() {
+        // Act
+        AtomicReference<TaskResponseDTO> read = new AtomicReference<>();
+        inRequest(() -> {
+            read.set(taskService.getTaskById(TASK_ID));
+            taskService.deleteTask(TASK_ID);
+        });
+
+        // Assert
+        assertEquals("Replica", read.get().title());
+        assertEquals(0, countTasks(primary));
+        assertEquals(1, countTasks(replica));
+    }
+
+    // --- Métodos Auxiliares ---
+
+    /**
+     * Executa a ação com um EntityManager vinculado à thread durante toda a execução, como o
+     * {@code OpenEntityManagerInViewInterceptor} faz em uma requisição.
+     */
+    private void inRequest(Runnable action) {
+        var entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            action.run();
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+    }
+
+    private static void insertTask(JdbcTemplate database, String title) {
+        database.update("INSERT INTO tasks (id, title, creation_date, completed) VALUES (?, ?, ?, false)",
+                TASK_ID, title, Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0)));
+    }
+
+    private static int countTasks(JdbcTemplate database) {
+        return database.queryForObject("SELECT COUNT(*) FROM tasks", Integer.class);
+    }
+
+    private static DataSource database(String url) {
+        return new SimpleDriverDataSource(new org.h2.Driver(), url, "sa", "");
+    }
+}
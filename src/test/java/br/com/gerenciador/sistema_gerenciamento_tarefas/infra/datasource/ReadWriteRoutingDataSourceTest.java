@@ -0,0 +1,114 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Testes de integração para o {@link ReadWriteRoutingDataSource}, com dois bancos H2 locais fazendo o papel de
+ * primário e réplica. Cada banco tem uma tabela que identifica a sua origem.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(2);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(new ReadYourWritesTracker(MAX_LAG, 100, nanos::get));
+        routing.setTargetDataSources(Map.of(DataSourceRoute.PRIMARY, primary, DataSourceRoute.REPLICA, replica));
+        routing.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should route read-only transactions to the replica and everything else to the primary")
+    void shouldRouteByTransactionType() {
+        // Act & Assert
+        assertEquals("primary", readWrite.execute(status -> origin()));
+        assertEquals("replica", readOnly.execute(status -> origin()));
+        assertEquals("primary", origin());
+    }
+
+    @Test
+    @DisplayName("Should keep a session's reads on the primary after its own write until the maximum lag passes")
+    void shouldReadYourWrites_untilReplicaCatchesUp() {
+        // Arrange
+        authenticate("alice");
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE origin SET writes = writes + 1"));
+
+        // Act & Assert
+        assertEquals("primary", readOnly.execute(status -> origin()));
+        authenticate("bob");
+        assertEquals("replica", readOnly.execute(status -> origin()));
+
+        authenticate("alice");
+        nanos.addAndGet(MAX_LAG.plusMillis(1).toNanos());
+        assertEquals("replica", readOnly.execute(status -> origin()));
+    }
+
+    @Test
+    @DisplayName("Should not pin the session to the primary when the write transaction is rolled back")
+    void shouldIgnoreRolledBackWrites() {
+        // Arrange
+        authenticate("alice");
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE origin SET writes = writes + 1");
+            status.setRollbackOnly();
+        });
+
+        // Act & Assert
+        assertEquals("replica", readOnly.execute(status -> origin()));
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private String origin() {
+        return jdbcTemplate.queryForObject("SELECT name FROM origin", String.class);
+    }
+
+    private static void authenticate(String login) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(login, null, "ROLE_USER"));
+    }
+
+    private static DataSource database(String name) {
+        SimpleDriverDataSource dataSource = new SimpleDriverDataSource(new org.h2.Driver(),
+                "jdbc:h2:mem:routing-" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE origin (name VARCHAR(16), writes INT)");
+        jdbc.update("INSERT INTO origin VALUES (?, 0)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,97 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.id;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskIdSequence;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Medição da vazão de inserção e do tamanho do índice da chave primária com cada estratégia de ID: sequência do
+ * banco ({@link TaskIdSequence}, uma ida ao banco por ID) contra TSID, e UUID aleatório (versão 4) contra UUIDv7.
+ * As linhas são gravadas em tabelas temporárias do teste, em lotes de {@code BATCH_SIZE}.
+ * <p>
+ * Não roda no build padrão; execute com {@code ./mvnw test -Dtest=IdGenerationBenchmarkTest -Dbenchmark=true}.
+ * Os resultados são registrados no log. O tamanho do índice só é medido no PostgreSQL
+ * ({@code -Dspring.datasource.url=...} com {@code -Dspring.test.database.replace=none}); no H2 em memória, a
+ * diferença entre inserções aleatórias e ordenadas na B-tree fica muito abaixo da real.
+ */
+@Slf4j
+@JdbcTest
+@Import(TaskIdSequence.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class IdGenerationBenchmarkTest {
+
+    private static final int ROWS = 100_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskIdSequence taskIdSequence;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS id_benchmark_long");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS id_benchmark_uuid");
+    }
+
+    @Test
+    @DisplayName("Benchmark: insert throughput and primary key size by ID strategy")
+    void insertThroughputByIdStrategy() {
+        // Aquecimento
+        run("warm-up", "long", "BIGINT", new TsidGenerator(1), ROWS / 10);
+        run("warm-up", "uuid", "UUID", UUID::randomUUID, ROWS / 10);
+
+        run("sequence", "long", "BIGINT", taskIdSequence::next, ROWS);
+        run("tsid", "long", "BIGINT", new TsidGenerator(0), ROWS);
+        run("uuidv4", "uuid", "UUID", UUID::randomUUID, ROWS);
+        run("uuidv7", "uuid", "UUID", new UuidV7Generator(), ROWS);
+    }
+
+    private <T> void run(String strategy, String table, String type, IdGenerator<T> generator, int rows) {
+        String name = "id_benchmark_" + table;
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + name);
+        jdbcTemplate.execute("CREATE TABLE " + name + " (id " + type + " PRIMARY KEY, title VARCHAR(100) NOT NULL)");
+
+        long start = System.nanoTime();
+        for (int inserted = 0; inserted < rows; inserted += BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                batch.add(new Object[]{generator.nextId(), "Task " + (inserted + i)});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO " + name + " (id, title) VALUES (?, ?)", batch);
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertEquals(rows, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + name, Integer.class));
+        log.info("ID benchmark: {} -> {} rows in {} ms ({} rows/s), primary key size: {}.",
+                strategy, rows, elapsed.toMillis(), Math.round(rows / (elapsed.toNanos() / 1e9)), primaryKeySize(name));
+    }
+
+    private String primaryKeySize(String table) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(product)) {
+            return "not measured on " + product;
+        }
+        return jdbcTemplate.queryForObject("SELECT pg_size_pretty(pg_relation_size(?::regclass))", String.class,
+                table + "_pkey");
+    }
+}
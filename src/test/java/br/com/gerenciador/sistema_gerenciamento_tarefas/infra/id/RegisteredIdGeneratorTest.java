@@ -0,0 +1,61 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.id;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.Task;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.User;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.UserRole;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.config.IdGeneratorConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para o {@link RegisteredIdGenerator}: os IDs gravados pelo Hibernate vêm dos geradores
+ * configurados no contexto ({@link IdGeneratorConfiguration}), obtidos pelo container de beans da SessionFactory.
+ */
+@DataJpaTest(properties = "app.ids.node-id=7")
+@Import(IdGeneratorConfiguration.class)
+class RegisteredIdGeneratorTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    // --- Testes de Geração ---
+
+    @Test
+    @DisplayName("Should assign IDs from the generators configured in the application context")
+    void persist_shouldUseConfiguredGenerators() {
+        // Arrange
+        Task task = new Task(null, "Task", "Description", LocalDateTime.now(), false);
+        User user = new User("user", "password", UserRole.USER);
+
+        // Act
+        entityManager.persistAndFlush(task);
+        entityManager.persistAndFlush(user);
+
+        // Assert
+        assertEquals(7, TsidGenerator.nodeOf(task.getId()));
+        assertEquals(7, user.getId().version());
+    }
+
+    // --- Testes de Configuração ---
+
+    @Test
+    @DisplayName("Should fail at startup when TSID task IDs are used without a node ID")
+    void configuration_shouldFail_withoutNodeId() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(IdGeneratorConfiguration.class)
+                .run(context -> {
+                    Throwable failure = context.getStartupFailure();
+                    assertNotNull(failure);
+                    assertTrue(failure.getMessage().contains("app.ids.node-id"));
+                });
+    }
+}
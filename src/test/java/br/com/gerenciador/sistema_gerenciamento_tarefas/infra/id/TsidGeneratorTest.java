@@ -0,0 +1,118 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o {@link TsidGenerator}.
+ * Os testes de formato usam um relógio manual, para controlar o milissegundo de cada ID.
+ */
+class TsidGeneratorTest {
+
+    private static final long NOW = 1_760_000_000_000L;
+
+    // --- Testes de Formato ---
+
+    @Test
+    @DisplayName("Should encode the timestamp and the node, and stay below 2^53")
+    void nextId_shouldEncodeTimestampAndNode() {
+        // Arrange
+        TsidGenerator generator = new TsidGenerator(5, () -> NOW);
+
+        // Act
+        long id = generator.nextId();
+
+        // Assert
+        assertEquals(NOW, TsidGenerator.timestampOf(id));
+        assertEquals(5, TsidGenerator.nodeOf(id));
+        assertTrue(id > 0 && id < (1L << 53));
+    }
+
+    @Test
+    @DisplayName("Should reject node IDs outside the node bits")
+    void constructor_shouldRejectInvalidNodeId() {
+        assertThrows(IllegalArgumentException.class, () -> new TsidGenerator(-1));
+        assertThrows(IllegalArgumentException.class, () -> new TsidGenerator(TsidGenerator.MAX_NODE_ID + 1));
+    }
+
+    // --- Testes de Ordenação ---
+
+    @Test
+    @DisplayName("Should advance to the next millisecond when the counter of the current one is exhausted")
+    void nextId_shouldAdvanceMillisecond_whenCounterOverflows() {
+        // Arrange
+        TsidGenerator generator = new TsidGenerator(3, () -> NOW);
+        int perMillisecond = 1 << TsidGenerator.COUNTER_BITS;
+
+        // Act
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i <= perMillisecond; i++) {
+            ids.add(generator.nextId());
+        }
+
+        // Assert
+        assertEquals(NOW, TsidGenerator.timestampOf(ids.get(perMillisecond - 1)));
+        assertEquals(NOW + 1, TsidGenerator.timestampOf(ids.get(perMillisecond)));
+        assertEquals(3, TsidGenerator.nodeOf(ids.get(perMillisecond)));
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i) > ids.get(i - 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep increasing when the clock goes backwards")
+    void nextId_shouldKeepIncreasing_whenClockGoesBackwards() {
+        // Arrange
+        AtomicLong clock = new AtomicLong(NOW);
+        TsidGenerator generator = new TsidGenerator(0, clock::get);
+        long first = generator.nextId();
+
+        // Act
+        clock.set(NOW - 1_000);
+        long second = generator.nextId();
+
+        // Assert
+        assertTrue(second > first);
+    }
+
+    @Test
+    @DisplayName("Should generate unique IDs across threads, and never collide with another node")
+    void nextId_shouldBeUniqueUnderConcurrency() throws Exception {
+        // Arrange
+        TsidGenerator node0 = new TsidGenerator(0);
+        TsidGenerator node1 = new TsidGenerator(1);
+        Set<Long> ids = new HashSet<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<List<Long>>> results = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                TsidGenerator generator = thread % 2 == 0 ? node0 : node1;
+                results.add(executor.submit(() -> {
+                    List<Long> generated = new ArrayList<>();
+                    for (int i = 0; i < 5_000; i++) {
+                        generated.add(generator.nextId());
+                    }
+                    return generated;
+                }));
+            }
+            for (Future<List<Long>> result : results) {
+                ids.addAll(result.get());
+            }
+        }
+
+        // Assert
+        assertEquals(40_000, ids.size());
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o {@link UuidV7Generator}.
+ */
+class UuidV7GeneratorTest {
+
+    private static final long NOW = 1_760_000_000_000L;
+
+    @Test
+    @DisplayName("Should generate version 7 UUIDs with the RFC variant and the timestamp in the first 48 bits")
+    void nextId_shouldFollowUuidV7Layout() {
+        // Arrange
+        UuidV7Generator generator = new UuidV7Generator(() -> NOW);
+
+        // Act
+        UUID id = generator.nextId();
+
+        // Assert
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(NOW, id.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    @DisplayName("Should generate strictly increasing UUIDs within the same millisecond, even past the counter")
+    void nextId_shouldBeStrictlyIncreasing() {
+        // Arrange
+        UuidV7Generator generator = new UuidV7Generator(() -> NOW);
+
+        // Act
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            ids.add(generator.nextId());
+        }
+
+        // Assert
+        for (int i = 1; i < ids.size(); i++) {
+            // UUID.compareTo compara com sinal; a ordem do índice (e do texto) é a sem sinal
+            assertTrue(ids.get(i).toString().compareTo(ids.get(i - 1).toString()) > 0);
+            assertEquals(7, ids.get(i).version());
+        }
+        assertTrue((ids.get(ids.size() - 1).getMostSignificantBits() >>> 16) > NOW);
+    }
+}
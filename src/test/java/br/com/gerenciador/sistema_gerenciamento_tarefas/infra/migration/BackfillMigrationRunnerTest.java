@@ -0,0 +1,171 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.migration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para o {@link BackfillMigrationRunner}.
+ * Os backfills rodam na própria thread do teste, fora da transação do teste, para que cada lote seja confirmado
+ * como na aplicação; as tabelas são limpas ao final de cada teste.
+ */
+@JdbcTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BackfillMigrationRunnerTest {
+
+    private static final String NAME = "tasks-description";
+    private static final Timestamp CREATED = Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Long> chunkStarts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (long id = 1; id <= 5; id++) {
+            jdbcTemplate.update("INSERT INTO tasks (id, title, creation_date, completed) VALUES (?, ?, ?, false)",
+                    id, "Task " + id, CREATED);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM tasks");
+        jdbcTemplate.update("DELETE FROM backfill_migrations");
+    }
+
+    // --- Testes de Execução ---
+
+    @Test
+    @DisplayName("Should migrate every row in keyset chunks and not run a completed backfill again")
+    void start_shouldMigrateAllRowsInChunks() {
+        // Arrange
+        BackfillMigrationRunner runner = newRunner(new DescriptionBackfill(Long.MAX_VALUE));
+
+        // Act
+        runner.start();
+        runner.start();
+
+        // Assert
+        assertEquals(List.of(0L, 2L, 4L), chunkStarts);
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tasks WHERE description IS NULL", Integer.class));
+        Map<String, Object> row = progress();
+        assertEquals("COMPLETED", row.get("status"));
+        assertEquals(5L, ((Number) row.get("processed")).longValue());
+        assertEquals(5L, ((Number) row.get("last_key")).longValue());
+        assertNotNull(row.get("finished_at"));
+        assertTrue(runner.isCompleted(NAME));
+        assertEquals(5.0, meterRegistry.counter("backfill.rows", "name", NAME).count());
+    }
+
+    @Test
+    @DisplayName("Should resume an interrupted backfill from its persisted checkpoint")
+    void start_shouldResumeFromCheckpoint() {
+        // Arrange
+        jdbcTemplate.update("""
+                INSERT INTO backfill_migrations (name, status, last_key, processed, started_at, updated_at)
+                VALUES (?, 'RUNNING', 3, 3, ?, ?)
+                """, NAME, CREATED, CREATED);
+
+        // Act
+        newRunner(new DescriptionBackfill(Long.MAX_VALUE)).start();
+
+        // Assert
+        assertEquals(List.of(3L, 5L), chunkStarts);
+        assertEquals(List.of(4L, 5L), jdbcTemplate.queryForList(
+                "SELECT id FROM tasks WHERE description IS NOT NULL ORDER BY id", Long.class));
+        assertEquals(5L, ((Number) progress().get("processed")).longValue());
+    }
+
+    // --- Testes de Falha ---
+
+    @Test
+    @DisplayName("Should record a failure, keep the last checkpoint and finish on the next start")
+    void start_shouldRecordFailureAndResumeLater() {
+        // Arrange
+        BackfillMigrationRunner failing = newRunner(new DescriptionBackfill(2));
+
+        // Act
+        failing.start();
+        Map<String, Object> failed = progress();
+        newRunner(new DescriptionBackfill(Long.MAX_VALUE)).start();
+
+        // Assert
+        assertEquals("FAILED", failed.get("status"));
+        assertEquals(2L, ((Number) failed.get("last_key")).longValue());
+        assertNotNull(failed.get("error"));
+        assertEquals(List.of(0L, 2L, 2L, 4L), chunkStarts);
+        assertEquals("COMPLETED", progress().get("status"));
+        assertNull(progress().get("error"));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tasks WHERE description IS NULL", Integer.class));
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private BackfillMigrationRunner newRunner(BackfillMigration migration) {
+        return new BackfillMigrationRunner(List.of(migration), jdbcTemplate, transactionManager, meterRegistry,
+                true, 2, Duration.ZERO, Duration.ZERO, Runnable::run);
+    }
+
+    private Map<String, Object> progress() {
+        return jdbcTemplate.queryForMap("SELECT * FROM backfill_migrations WHERE name = ?", NAME);
+    }
+
+    /**
+     * Backfill de teste: preenche a descrição das tarefas, em ordem de ID. Falha ao começar um lote depois da
+     * chave {@code failAfterKey}.
+     */
+    private class DescriptionBackfill implements BackfillMigration {
+
+        private final long failAfterKey;
+
+        DescriptionBackfill(long failAfterKey) {
+            this.failAfterKey = failAfterKey;
+        }
+
+        @Override
+        public String name() {
+            return NAME;
+        }
+
+        @Override
+        public BackfillChunk migrateChunk(long afterKey, int limit) {
+            chunkStarts.add(afterKey);
+            if (afterKey >= failAfterKey) {
+                throw new IllegalStateException("Simulated backfill failure after key " + afterKey);
+            }
+            List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM tasks WHERE id > ? ORDER BY id LIMIT ?",
+                    Long.class, afterKey, limit);
+            if (ids.isEmpty()) {
+                return new BackfillChunk(0, afterKey);
+            }
+            long lastKey = ids.get(ids.size() - 1);
+            jdbcTemplate.update("UPDATE tasks SET description = 'Backfilled' WHERE id > ? AND id <= ?", afterKey, lastKey);
+            return new BackfillChunk(ids.size(), lastKey);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.outbox;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.OutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Medição da vazão do {@link OutboxRelay} com diferentes tamanhos de lote.
+ * Não roda no build padrão; execute com {@code ./mvnw test -Dtest=OutboxRelayBenchmarkTest -Dbenchmark=true}.
+ * Os resultados são registrados no log. Para números representativos, aponte o teste para o PostgreSQL
+ * ({@code -Dspring.datasource.url=...} com {@code -Dspring.test.database.replace=none}): no H2 em memória não há
+ * rede nem disco, e o custo por transação fica muito abaixo do real.
+ */
+@Slf4j
+@DataJpaTest
+@Import(OutboxRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class OutboxRelayBenchmarkTest {
+
+    private static final int EVENTS = 10_000;
+    private static final int AGGREGATES = 1_000;
+    private static final int[] BATCH_SIZES = {1, 10, 50, 100, 500, 1000};
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Benchmark: relay throughput by batch size")
+    void relayThroughputByBatchSize() {
+        // Aquecimento
+        run(100, 2_000);
+        for (int batchSize : BATCH_SIZES) {
+            int events = batchSize == 1 ? EVENTS / 10 : EVENTS;
+            Duration elapsed = run(batchSize, events);
+            log.info("Outbox relay benchmark: batch size {} -> {} events in {} ms ({} events/s).", batchSize, events,
+                    elapsed.toMillis(), Math.round(events / (elapsed.toNanos() / 1e9)));
+        }
+    }
+
+    private Duration run(int batchSize, int events) {
+        seed(events);
+        OutboxRelay relay = new OutboxRelay(outboxRepository, messages -> { }, transactionManager, new SimpleMeterRegistry(),
+                batchSize, Duration.ofSeconds(1), Duration.ofMinutes(5), true);
+        long start = System.nanoTime();
+        relay.relay();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        assertEquals(0, outboxRepository.countPending());
+        return elapsed;
+    }
+
+    private void seed(int events) {
+        LocalDateTime now = LocalDateTime.now().minusSeconds(1);
+        List<Object[]> rows = new ArrayList<>(events);
+        for (int i = 0; i < events; i++) {
+            rows.add(new Object[]{"task", String.valueOf(i % AGGREGATES), "task.updated", "{\"id\":" + i + "}", now, now});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload, created_at, next_attempt_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+}
@@ -0,0 +1,254 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.outbox;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.outbox.OutboxMessage;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.UserChangeType;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.UserChangedEvent;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskCreateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskUpdateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.cache.TaskReadCache;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.coldtier.ColdTaskStore;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.concurrency.RequestCoalescer;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.config.ResilienceConfiguration;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.OutboxRepository;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskChangeSequence;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskJsonReader;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.service.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração do outbox transacional ({@link OutboxWriter}, {@link OutboxRepository} e {@link OutboxRelay}).
+ * As escritas passam pelo {@link TaskService} real, e os eventos são entregues a um {@link InMemoryOutboxSink}.
+ */
+@DataJpaTest(properties = "app.outbox.relay.initial-backoff=1h")
+@Import({OutboxWriter.class, OutboxRepository.class, OutboxRelay.class, TaskService.class, TaskJsonReader.class,
+        TaskChangeSequence.class, RequestCoalescer.class, TaskReadCache.class, ColdTaskStore.class, ResilienceConfiguration.class,
+        OutboxRelayTest.TestConfig.class})
+class OutboxRelayTest {
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return JsonMapper.builder().findAndAddModules().build();
+        }
+
+        @Bean
+        ToggleableSink outboxSink() {
+            return new ToggleableSink();
+        }
+    }
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ToggleableSink sink;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        sink.clear();
+        sink.failing = false;
+    }
+
+    // --- Testes de Gravação ---
+
+    @Test
+    @DisplayName("Should write an outbox event in the same transaction as each task change")
+    void taskChanges_shouldBeWrittenToOutbox() {
+        // Arrange
+        TaskResponseDTO task = taskService.createTask(new TaskCreateDTO("Task", "Description"));
+        taskService.updateTask(task.id(), new TaskUpdateDTO("Renamed", null, null));
+        taskService.deleteTask(task.id());
+
+        // Act
+        int delivered = outboxRelay.relayBatch() + outboxRelay.relayBatch() + outboxRelay.relayBatch();
+
+        // Assert
+        assertEquals(3, delivered);
+        List<OutboxMessage> messages = sink.delivered();
+        assertEquals(List.of("task.created", "task.updated", "task.deleted"), messages.stream().map(OutboxMessage::eventType).toList());
+        assertTrue(messages.stream().allMatch(m -> m.aggregateType().equals("task") && m.aggregateId().equals(task.id().toString())));
+        assertTrue(messages.get(1).payload().contains("\"title\":\"Renamed\""));
+        assertNull(messages.get(2).payload());
+        assertEquals(0, outboxRepository.countPending());
+    }
+
+    @Test
+    @DisplayName("Should write user changes to the outbox with the user aggregate type")
+    void userChanges_shouldBeWrittenToOutbox() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        eventPublisher.publishEvent(new UserChangedEvent(userId, UserChangeType.DELETED, null));
+
+        // Act
+        outboxRelay.relay();
+
+        // Assert
+        OutboxMessage message = sink.delivered().get(0);
+        assertEquals("user", message.aggregateType());
+        assertEquals(userId.toString(), message.aggregateId());
+        assertEquals("user.deleted", message.eventType());
+    }
+
+    // --- Testes de Ordenação ---
+
+    @Test
+    @DisplayName("Should only deliver an event after every earlier event of the same aggregate")
+    void relayBatch_shouldKeepPerAggregateOrder() {
+        // Arrange
+        TaskResponseDTO first = taskService.createTask(new TaskCreateDTO("First", "Description"));
+        TaskResponseDTO second = taskService.createTask(new TaskCreateDTO("Second", "Description"));
+        taskService.concludeTask(first.id());
+
+        // Act
+        outboxRelay.relayBatch();
+        List<String> firstBatch = describe(sink.delivered());
+        outboxRelay.relay();
+
+        // Assert
+        assertEquals(List.of(first.id() + ":task.created", second.id() + ":task.created"), firstBatch);
+        assertEquals(first.id() + ":task.concluded", describe(sink.delivered()).get(2));
+        assertEquals(0, outboxRepository.countPending());
+    }
+
+    // --- Testes de Falha e Nova Tentativa ---
+
+    @Test
+    @DisplayName("Should keep the events and retry after the backoff when delivery fails")
+    void relayBatch_shouldRetryAfterBackoff_whenDeliveryFails() {
+        // Arrange
+        taskService.createTask(new TaskCreateDTO("Task", "Description"));
+        sink.failing = true;
+
+        // Act
+        int failed = outboxRelay.relayBatch();
+        sink.failing = false;
+        int duringBackoff = outboxRelay.relayBatch();
+        // Simula o fim da espera
+        jdbcTemplate.update("UPDATE outbox_events SET next_attempt_at = ?", LocalDateTime.now().minusSeconds(1));
+        int afterBackoff = outboxRelay.relayBatch();
+
+        // Assert
+        assertEquals(0, failed);
+        assertEquals(0, duringBackoff);
+        assertEquals(1, afterBackoff);
+        OutboxMessage message = sink.delivered().get(0);
+        assertEquals(1, message.attempts());
+        assertEquals(0, outboxRepository.countPending());
+    }
+
+    // --- Testes de Concorrência ---
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should skip the events locked by another relay and the later events of their aggregates")
+    void lockNextBatch_shouldSkipLockedEvents() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        try {
+            // Arrange
+            transaction.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now().minusSeconds(1);
+                outboxRepository.append("task", "1", "task.created", null, now);
+                outboxRepository.append("task", "2", "task.created", null, now);
+                outboxRepository.append("task", "1", "task.updated", null, now);
+            });
+            // Outro relay mantém bloqueado o primeiro evento do agregado 1 (bloqueio explícito da linha, porque o H2,
+            // diferente do PostgreSQL, bloqueia todas as linhas lidas antes de aplicar o LIMIT)
+            CountDownLatch locked = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Void> otherRelay = CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status -> {
+                jdbcTemplate.queryForList("SELECT id FROM outbox_events WHERE aggregate_id = '1' AND event_type = 'task.created' FOR UPDATE");
+                locked.countDown();
+                awaitQuietly(release);
+            }));
+            assertTrue(locked.await(10, TimeUnit.SECONDS));
+
+            // Act
+            List<String> batch = transaction.execute(status -> describe(outboxRepository.lockNextBatch(10, LocalDateTime.now())));
+            release.countDown();
+            otherRelay.get(10, TimeUnit.SECONDS);
+
+            // Assert
+            assertEquals(List.of("2:task.created"), batch);
+        } finally {
+            transaction.executeWithoutResult(status -> jdbcTemplate.update("DELETE FROM outbox_events"));
+        }
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private static List<String> describe(List<OutboxMessage> messages) {
+        return messages.stream().map(m -> m.aggregateId() + ":" + m.eventType()).toList();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static class ToggleableSink extends InMemoryOutboxSink {
+        volatile boolean failing;
+
+        ToggleableSink() {
+            super(100);
+        }
+
+        @Override
+        public void deliver(List<OutboxMessage> messages) {
+            if (failing) {
+                throw new IllegalStateException("Sink unavailable");
+            }
+            super.deliver(messages);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.outbox;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.outbox.OutboxMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para as implementações de {@link OutboxSink}.
+ * O destino HTTP é testado contra um servidor local simulado.
+ */
+class OutboxSinksTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private HttpServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    // --- Testes do Destino em Memória ---
+
+    @Test
+    @DisplayName("Should keep only the most recent events up to the capacity")
+    void inMemory_shouldKeepMostRecentEvents() {
+        // Arrange
+        InMemoryOutboxSink sink = new InMemoryOutboxSink(2);
+
+        // Act
+        sink.deliver(List.of(message(1), message(2), message(3)));
+
+        // Assert
+        assertEquals(List.of(2L, 3L), sink.delivered().stream().map(OutboxMessage::id).toList());
+    }
+
+    // --- Testes do Destino em Arquivo ---
+
+    @Test
+    @DisplayName("Should append each event as a JSON line with the payload embedded as JSON")
+    void file_shouldAppendJsonLines(@TempDir Path dir) throws Exception {
+        // Arrange
+        Path file = dir.resolve("events/outbox.jsonl");
+        FileOutboxSink sink = new FileOutboxSink(file, objectMapper);
+
+        // Act
+        sink.deliver(List.of(message(1)));
+        sink.deliver(List.of(message(2), message(3)));
+
+        // Assert
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(3, lines.size());
+        assertEquals(1, objectMapper.readTree(lines.get(0)).get("id").asLong());
+        assertEquals("Task", objectMapper.readTree(lines.get(2)).get("payload").get("title").asText());
+    }
+
+    // --- Testes do Destino HTTP ---
+
+    @Test
+    @DisplayName("Should post each batch as a JSON array")
+    void http_shouldPostBatchAsJsonArray() throws Exception {
+        // Arrange
+        List<String> bodies = new ArrayList<>();
+        HttpOutboxSink sink = httpSink(200, bodies);
+
+        // Act
+        sink.deliver(List.of(message(1), message(2)));
+
+        // Assert
+        assertEquals(1, bodies.size());
+        assertEquals(2, objectMapper.readTree(bodies.get(0)).size());
+        assertEquals("task.updated", objectMapper.readTree(bodies.get(0)).get(1).get("eventType").asText());
+    }
+
+    @Test
+    @DisplayName("Should fail the delivery when the endpoint does not respond with 2xx")
+    void http_shouldThrow_whenStatusIsNotSuccessful() throws Exception {
+        // Arrange
+        HttpOutboxSink sink = httpSink(503, new ArrayList<>());
+
+        // Act & Assert
+        IOException exception = assertThrows(IOException.class, () -> sink.deliver(List.of(message(1))));
+        assertTrue(exception.getMessage().contains("503"));
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private HttpOutboxSink httpSink(int status, List<String> bodies) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/events", exchange -> {
+            bodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.start();
+        URI endpoint = URI.create("http://localhost:" + server.getAddress().getPort() + "/events");
+        return new HttpOutboxSink(HttpClient.newHttpClient(), endpoint, Duration.ofSeconds(5), objectMapper);
+    }
+
+    private static OutboxMessage message(long id) {
+        return new OutboxMessage(id, "task", "1", "task.updated", "{\"id\":1,\"title\":\"Task\"}",
+                LocalDateTime.of(2024, 1, 1, 10, 0), 0);
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.resilience;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.TaskNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o {@link CircuitBreaker}.
+ */
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker breaker = new CircuitBreaker("test", 3, Duration.ofSeconds(10), now::get);
+
+    @Test
+    @DisplayName("Should open after the configured number of consecutive infrastructure failures")
+    void shouldOpen_afterConsecutiveInfrastructureFailures() {
+        // Act
+        recordDatabaseFailures(2);
+        boolean allowedBeforeThreshold = breaker.allowRequest();
+        recordDatabaseFailures(1);
+
+        // Assert
+        assertTrue(allowedBeforeThreshold);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.allowRequest());
+    }
+
+    @Test
+    @DisplayName("Business exceptions should not count as failures")
+    void shouldIgnoreBusinessExceptions() {
+        // Act
+        recordDatabaseFailures(2);
+        breaker.recordFailure(new TaskNotFoundException("Task not found with ID: 1"));
+        recordDatabaseFailures(2);
+
+        // Assert
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("Should allow a single trial call after the open duration and close on success")
+    void shouldHalfOpenAndClose_afterOpenDuration() {
+        // Arrange
+        recordDatabaseFailures(3);
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // Act
+        boolean trial = breaker.allowRequest();
+        boolean concurrentTrial = breaker.allowRequest();
+        breaker.recordSuccess();
+
+        // Assert
+        assertTrue(trial);
+        assertFalse(concurrentTrial);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("Should reopen when the trial call fails")
+    void shouldReopen_whenTrialCallFails() {
+        // Arrange
+        recordDatabaseFailures(3);
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        breaker.allowRequest();
+
+        // Act
+        recordDatabaseFailures(1);
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.allowRequest());
+    }
+
+    private void recordDatabaseFailures(int count) {
+        for (int i = 0; i < count; i++) {
+            breaker.recordFailure(new DataAccessResourceFailureException("Connection refused"));
+        }
+    }
+}
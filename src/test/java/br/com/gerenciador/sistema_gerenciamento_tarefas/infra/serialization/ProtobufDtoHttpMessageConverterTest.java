@@ -0,0 +1,95 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.serialization;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.UserRole;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.exception.ErrorResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.exception.ValidationErrorDetailDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.page.PageResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskUpdateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.user.UserResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.ErrorResponse;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.TaskUpdateRequest;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.proto.UserPage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o {@link ProtobufDtoHttpMessageConverter}.
+ */
+class ProtobufDtoHttpMessageConverterTest {
+
+    private final ProtobufDtoHttpMessageConverter converter = new ProtobufDtoHttpMessageConverter();
+
+    @Test
+    @DisplayName("Should only write pages whose elements have a Protobuf mapping")
+    void canWrite_shouldCheckPageElementType() {
+        // Arrange
+        var taskPageType = new ParameterizedTypeReference<PageResponseDTO<TaskResponseDTO>>() {}.getType();
+        var mapPageType = new ParameterizedTypeReference<PageResponseDTO<Map<String, Object>>>() {}.getType();
+
+        // Act & Assert
+        assertTrue(converter.canWrite(taskPageType, PageResponseDTO.class, ProtobufDtoHttpMessageConverter.PROTOBUF));
+        assertFalse(converter.canWrite(mapPageType, PageResponseDTO.class, ProtobufDtoHttpMessageConverter.PROTOBUF));
+        assertFalse(converter.canWrite(taskPageType, PageResponseDTO.class, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("Should write a page of users as a UserPage message")
+    void write_shouldEncodeUserPage() throws Exception {
+        // Arrange
+        var user = new UserResponseDTO(UUID.randomUUID(), "testuser", UserRole.ADMIN);
+        var page = new PageResponseDTO<>(new PageImpl<>(List.of(user)));
+        var output = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(page, PageResponseDTO.class, ProtobufDtoHttpMessageConverter.PROTOBUF, output);
+
+        // Assert
+        UserPage decoded = UserPage.parseFrom(output.getBodyAsBytes());
+        assertEquals(user.id().toString(), decoded.getContent(0).getId());
+        assertEquals("ADMIN", decoded.getContent(0).getRole());
+    }
+
+    @Test
+    @DisplayName("Should write validation details of an error response")
+    void write_shouldEncodeErrorResponseWithDetails() throws Exception {
+        // Arrange
+        var error = new ErrorResponseDTO(LocalDateTime.of(2024, 1, 1, 12, 0), 400, "Bad Request", "Validation failed",
+                "/tasks", List.of(new ValidationErrorDetailDTO("title", "must not be blank")));
+        var output = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(error, ErrorResponseDTO.class, ProtobufDtoHttpMessageConverter.PROTOBUF, output);
+
+        // Assert
+        ErrorResponse decoded = ErrorResponse.parseFrom(output.getBodyAsBytes());
+        assertEquals(400, decoded.getStatus());
+        assertEquals("2024-01-01T12:00:00", decoded.getTimestamp());
+        assertEquals("title", decoded.getDetails(0).getField());
+    }
+
+    @Test
+    @DisplayName("Should read an update request keeping absent fields as null")
+    void read_shouldDecodeUpdateRequestWithAbsentFields() throws Exception {
+        // Arrange
+        var input = new MockHttpInputMessage(TaskUpdateRequest.newBuilder().setCompleted(true).build().toByteArray());
+
+        // Act
+        var dto = (TaskUpdateDTO) converter.read(TaskUpdateDTO.class, null, input);
+
+        // Assert
+        assertEquals(new TaskUpdateDTO(null, null, true), dto);
+    }
+}
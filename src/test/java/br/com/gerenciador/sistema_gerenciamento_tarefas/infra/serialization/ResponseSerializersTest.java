@@ -0,0 +1,63 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.serialization;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.UserRole;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.user.UserResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para os serializadores pré-construídos {@link TaskResponseSerializer} e {@link UserResponseSerializer}.
+ * Foco: Garantir que produzem exatamente o mesmo JSON da serialização padrão do Jackson.
+ */
+@JsonTest
+class ResponseSerializersTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final ObjectMapper defaultMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    @DisplayName("TaskResponseSerializer should produce the same JSON as the default serialization")
+    void taskResponseSerializer_shouldMatchDefaultSerialization() throws Exception {
+        // Arrange
+        var task = new TaskResponseDTO(1L, "Title \"quoted\"", "Descrição", LocalDateTime.of(2024, 1, 2, 10, 30, 0, 123_000_000), true);
+
+        // Act & Assert
+        assertEquals(defaultMapper.writeValueAsString(task), objectMapper.writeValueAsString(task));
+    }
+
+    @Test
+    @DisplayName("TaskResponseSerializer should write null fields as JSON null")
+    void taskResponseSerializer_shouldWriteNullFields() throws Exception {
+        // Arrange
+        var task = new TaskResponseDTO(null, null, null, null, null);
+
+        // Act & Assert
+        assertEquals(defaultMapper.writeValueAsString(task), objectMapper.writeValueAsString(task));
+    }
+
+    @Test
+    @DisplayName("UserResponseSerializer should produce the same JSON as the default serialization")
+    void userResponseSerializer_shouldMatchDefaultSerialization() throws Exception {
+        // Arrange
+        var user = new UserResponseDTO(UUID.randomUUID(), "testuser", UserRole.ADMIN);
+
+        // Act & Assert
+        assertEquals(defaultMapper.writeValueAsString(user), objectMapper.writeValueAsString(user));
+        assertTrue(objectMapper.writeValueAsString(user).contains("\"role\":\"ADMIN\""));
+    }
+}
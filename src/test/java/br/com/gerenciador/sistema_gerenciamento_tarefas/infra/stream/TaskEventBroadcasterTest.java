@@ -0,0 +1,287 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.stream;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangeType;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangedEvent;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskStreamEventDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o {@link TaskEventBroadcaster}.
+ * Usa um executor manual, para controlar quando o despacho e os envios rodam.
+ */
+class TaskEventBroadcasterTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+    private final Queue<Runnable> pendingTasks = new ArrayDeque<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // --- Testes de Distribuição ---
+
+    @Test
+    @DisplayName("Should deliver committed changes to every subscriber in order")
+    void onTaskChanged_shouldFanOutInOrder() {
+        // Arrange
+        TaskEventBroadcaster broadcaster = newBroadcaster(10, 10);
+        RecordingSink first = new RecordingSink();
+        RecordingSink second = new RecordingSink();
+        broadcaster.subscribe(first, null);
+        broadcaster.subscribe(second, null);
+
+        // Act
+        broadcaster.onTaskChanged(new TaskChangedEvent(1L, TaskChangeType.CREATED, task(1L, false)));
+        broadcaster.onTaskChanged(new TaskChangedEvent(1L, TaskChangeType.CONCLUDED, task(1L, true)));
+        broadcaster.onTaskChanged(new TaskChangedEvent(1L, TaskChangeType.DELETED, null));
+        runPendingTasks();
+
+        // Assert
+        List<String> expected = List.of("1:CREATED", "2:CONCLUDED", "3:DELETED");
+        assertEquals(expected, first.received);
+        assertEquals(expected, second.received);
+        assertEquals(NOW, first.events.get(0).occurredAt());
+        assertNull(first.events.get(2).task());
+    }
+
+    @Test
+    @DisplayName("Should only deliver changes committed after subscribing when no Last-Event-ID is given")
+    void subscribe_shouldSkipPastEvents_whenNoLastEventId() {
+        // Arrange
+        TaskEventBroadcaster broadcaster = newBroadcaster(10, 10);
+        publish(broadcaster, 2);
+        RecordingSink sink = new RecordingSink();
+
+        // Act
+        broadcaster.subscribe(sink, null);
+        publish(broadcaster, 1);
+
+        // Assert
+        assertEquals(List.of("3:UPDATED"), sink.received);
+    }
+
+    @Test
+    @DisplayName("Should send heartbeats to every subscriber")
+    void sendHeartbeats_shouldReachEverySubscriber() {
+        // Arrange
+        TaskEventBroadcaster broadcaster = newBroadcaster(10, 10);
+        RecordingSink sink = new RecordingSink();
+        broadcaster.subscribe(sink, null);
+
+        // Act
+        broadcaster.sendHeartbeats();
+        runPendingTasks();
+
+        // Assert
+        assertEquals(List.of("heartbeat"), sink.received);
+    }
+
+    // --- Testes de Retomada (Last-Event-ID) ---
+
+    @Test
+    @DisplayName("Should replay the events after Last-Event-ID before the new ones")
+    void subscribe_shouldReplayEventsAfterLastEventId() {
+        // Arrange
+        TaskEventBroadcaster broadcaster = newBroadcaster(10, 10);
+        publish(broadcaster, 3);
+        RecordingSink sink = new RecordingSink();
+
+        // Act
+        broadcaster.subscribe(sink, 1L);
+        publish(broadcaster, 1);
+
+        // Assert
+        assertEquals(List.of("2:UPDATED", "3:UPDATED", "4:UPDATED"), sink.received);
+    }
+
+    @Test
+    @DisplayName("Should deliver changes committed during the replay right after the replayed events")
+    void subscribe_shouldDeliverEventsPublishedDuringReplay() {
+        // Arrange
+        TaskEventBroadcaster broadcaster = newBroadcaster(10, 10);
+        publish(broadcaster, 1);
+        RecordingSink sink = new RecordingSink();
+        // Publica durante o reenvio: o evento fica na fila do assinante até o fim do reenvio
+        sink.onFirstSend = () -> publish(broadcaster, 1);
+
+        // Act
+        broadcaster.subscribe(sink, 0L);
+        runPendingTasks();
+
+        // Assert
+        assertEquals(List.of("1:UPDATED", "2:UPDATED"), sink.received);
+    }
+
+    @Test
+    @DisplayName("Should send a reset when the events after Last-Event-ID are no longer retained")
+    void subscribe_shouldSendReset_whenLastEventIdIsTooOld() {
+        // Arrange
+        TaskEventBroadcaster broadcaster = newBroadcaster(3, 10);
+        publish(broadcaster, 5);
+        RecordingSink sink = new RecordingSink();
+
+        // Act
+        broadcaster.subscribe(sink, 1L);
+        publish(broadcaster, 1);
+
+        // Assert
+        assertEquals(List.of("reset", "6:UPDATED"), sink.received);
+    }
+
+    @Test
+    @DisplayName("Should send a reset when Last-Event-ID is unknown (e.g. after a restart)")
+    void subscribe_shouldSendReset_whenLastEventIdIsUnknown() {
+        // Arrange
+        TaskEventBroadcaster broadcaster = newBroadcaster(10, 10);
+        publish(broadcaster, 1);
+        RecordingSink sink = new RecordingSink();
+
+        // Act
+        broadcaster.subscribe(sink, 42L);
+
+        // Assert
+        assertEquals(List.of("reset"), sink.received);
+    }
+
+    // --- Testes de Desconexão ---
+
+    @Test
+    @DisplayName("Should drop a subscriber whose buffer overflows without affecting the others")
+    void onTaskChanged_shouldDropSlowSubscriber() {
+        // Arrange
+        TaskEventBroadcaster broadcaster = newBroadcaster(10, 2);
+        RecordingSink fast = new RecordingSink();
+        RecordingSink slow = new RecordingSink();
+        broadcaster.subscribe(fast, null);
+        broadcaster.subscribe(slow, null);
+        // O cliente lento trava no primeiro envio enquanto outras três alterações são confirmadas
+        slow.onFirstSend = () -> {
+            for (int i = 0; i < 3; i++) {
+                publish(broadcaster, 1);
+            }
+        };
+
+        // Act
+        publish(broadcaster, 1);
+
+        // Assert
+        assertTrue(slow.closed);
+        assertFalse(fast.closed);
+        assertEquals(List.of("1:UPDATED", "2:UPDATED", "3:UPDATED", "4:UPDATED"), fast.received);
+        assertEquals(1, broadcaster.subscriberCount());
+        assertEquals(1.0, meterRegistry.counter("task.stream.dropped").count());
+    }
+
+    @Test
+    @DisplayName("Should remove a subscriber when sending to it fails")
+    void onTaskChanged_shouldRemoveSubscriber_whenSendFails() {
+        // Arrange
+        TaskEventBroadcaster broadcaster = newBroadcaster(10, 10);
+        RecordingSink sink = new RecordingSink();
+        sink.failing = true;
+        broadcaster.subscribe(sink, null);
+
+        // Act
+        publish(broadcaster, 1);
+
+        // Assert
+        assertTrue(sink.closed);
+        assertEquals(0, broadcaster.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("Should stop delivering and close the sink when the subscription is cancelled")
+    void cancel_shouldStopDelivery() {
+        // Arrange
+        TaskEventBroadcaster broadcaster = newBroadcaster(10, 10);
+        RecordingSink sink = new RecordingSink();
+        TaskEventBroadcaster.Subscription subscription = broadcaster.subscribe(sink, null);
+
+        // Act
+        subscription.cancel();
+        subscription.cancel();
+        publish(broadcaster, 1);
+
+        // Assert
+        assertTrue(sink.closed);
+        assertEquals(1, sink.closeCount);
+        assertTrue(sink.received.isEmpty());
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private TaskEventBroadcaster newBroadcaster(int replaySize, int subscriberBuffer) {
+        return new TaskEventBroadcaster(meterRegistry, replaySize, subscriberBuffer, pendingTasks::add,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private void publish(TaskEventBroadcaster broadcaster, int count) {
+        for (int i = 0; i < count; i++) {
+            broadcaster.onTaskChanged(new TaskChangedEvent(1L, TaskChangeType.UPDATED, task(1L, false)));
+        }
+        runPendingTasks();
+    }
+
+    private void runPendingTasks() {
+        Runnable task;
+        while ((task = pendingTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private static TaskResponseDTO task(Long id, boolean completed) {
+        return new TaskResponseDTO(id, "Task", "Description", LocalDateTime.of(2024, 1, 1, 10, 0), completed);
+    }
+
+    private static class RecordingSink implements TaskEventSink {
+        final List<String> received = new ArrayList<>();
+        final List<TaskStreamEventDTO> events = new ArrayList<>();
+        boolean failing;
+        boolean closed;
+        int closeCount;
+        Runnable onFirstSend;
+
+        @Override
+        public void send(TaskStreamEventDTO event) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            if (onFirstSend != null) {
+                Runnable action = onFirstSend;
+                onFirstSend = null;
+                action.run();
+            }
+            received.add(event.id() + ":" + event.type());
+            events.add(event);
+        }
+
+        @Override
+        public void sendHeartbeat() {
+            received.add("heartbeat");
+        }
+
+        @Override
+        public void sendReset() {
+            received.add("reset");
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            closeCount++;
+        }
+    }
+}
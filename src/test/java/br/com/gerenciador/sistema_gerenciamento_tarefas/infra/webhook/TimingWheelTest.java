@@ -0,0 +1,90 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.webhook;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a {@link TimingWheel}.
+ * A roda é avançada manualmente, sem a thread de ticks, e as tarefas rodam na própria thread do teste.
+ */
+class TimingWheelTest {
+
+    private final List<String> executed = new ArrayList<>();
+    private final TimingWheel wheel = new TimingWheel(Duration.ofMillis(10), 4, Runnable::run);
+
+    @Test
+    @DisplayName("Should run a task only after its delay, rounded up to whole ticks")
+    void schedule_shouldRunTaskAfterDelay() {
+        // Arrange
+        wheel.schedule(() -> executed.add("task"), Duration.ofMillis(25));
+
+        // Act
+        tick(2);
+        List<String> beforeDeadline = List.copyOf(executed);
+        tick(1);
+
+        // Assert
+        assertTrue(beforeDeadline.isEmpty());
+        assertEquals(List.of("task"), executed);
+        assertEquals(0, wheel.pendingCount());
+    }
+
+    @Test
+    @DisplayName("Should keep tasks whose delay is longer than one turn of the wheel for the right turn")
+    void schedule_shouldHandleDelaysLongerThanOneTurn() {
+        // Arrange
+        wheel.schedule(() -> executed.add("short"), Duration.ofMillis(20));
+        wheel.schedule(() -> executed.add("long"), Duration.ofMillis(60));
+
+        // Act
+        tick(2);
+        List<String> afterShort = List.copyOf(executed);
+        tick(3);
+        List<String> beforeLong = List.copyOf(executed);
+        tick(1);
+
+        // Assert
+        assertEquals(List.of("short"), afterShort);
+        assertEquals(List.of("short"), beforeLong);
+        assertEquals(List.of("short", "long"), executed);
+    }
+
+    @Test
+    @DisplayName("Should run a task with no delay on the next tick")
+    void schedule_shouldRunOnNextTick_whenDelayIsZero() {
+        // Arrange
+        wheel.schedule(() -> executed.add("now"), Duration.ZERO);
+
+        // Act
+        tick(1);
+
+        // Assert
+        assertEquals(List.of("now"), executed);
+    }
+
+    @Test
+    @DisplayName("Should count the scheduled tasks that have not expired yet")
+    void pendingCount_shouldCountUnexpiredTasks() {
+        // Arrange
+        wheel.schedule(() -> executed.add("a"), Duration.ofMillis(10));
+        wheel.schedule(() -> executed.add("b"), Duration.ofMillis(30));
+
+        // Act
+        tick(1);
+
+        // Assert
+        assertEquals(1, wheel.pendingCount());
+    }
+
+    private void tick(int times) {
+        for (int i = 0; i < times; i++) {
+            wheel.tick();
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.infra.webhook;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangeType;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangedEvent;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.webhook.WebhookSubscription;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.WebhookSubscriptionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes do {@link WebhookDispatcher} contra um receptor HTTP local simulado.
+ * A roda de tempo roda de verdade, com ticks e esperas curtos.
+ */
+class WebhookDispatcherTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BlockingQueue<Request> received = new LinkedBlockingQueue<>();
+    private final AtomicInteger concurrentRequests = new AtomicInteger();
+    private final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+    private final WebhookSubscriptionRepository webhookSubscriptionRepository = mock(WebhookSubscriptionRepository.class);
+
+    private ExecutorService serverExecutor;
+    private HttpServer server;
+    private TimingWheel timingWheel;
+    private WebhookDispatcher dispatcher;
+    private volatile IntUnaryOperator statusByRequest = n -> 200;
+    private volatile CountDownLatch responseGate = new CountDownLatch(0);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        AtomicInteger requestCount = new AtomicInteger();
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/hooks", exchange -> {
+            int concurrent = concurrentRequests.incrementAndGet();
+            maxConcurrentRequests.accumulateAndGet(concurrent, Math::max);
+            try {
+                received.add(new Request(exchange.getRequestHeaders().getFirst("X-Webhook-Attempt"),
+                        objectMapper.readTree(exchange.getRequestBody())));
+                responseGate.await(10, TimeUnit.SECONDS);
+                exchange.sendResponseHeaders(statusByRequest.applyAsInt(requestCount.incrementAndGet()), -1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrentRequests.decrementAndGet();
+                exchange.close();
+            }
+        });
+        server.start();
+
+        timingWheel = new TimingWheel(Duration.ofMillis(5), 64, Executors.newVirtualThreadPerTaskExecutor()).start();
+        dispatcher = new WebhookDispatcher(webhookSubscriptionRepository, HttpClient.newHttpClient(), objectMapper,
+                meterRegistry, timingWheel, Clock.systemUTC(),
+                new WebhookDispatcher.Settings(3, Duration.ofMillis(30), 1, 5, Duration.ofSeconds(5),
+                        Duration.ofMillis(20), Duration.ofMillis(50), 3));
+        dispatcher.register(subscription(1L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        timingWheel.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    // --- Testes de Agrupamento ---
+
+    @Test
+    @DisplayName("Should send a full batch at once and the remaining events after the linger delay")
+    void onTaskChanged_shouldCoalesceEventsIntoBatches() throws Exception {
+        // Act
+        for (long id = 1; id <= 4; id++) {
+            publish(id);
+        }
+
+        // Assert
+        assertEquals(List.of(1L, 2L, 3L), taskIds(next()));
+        assertEquals(List.of(4L), taskIds(next()));
+        assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+        awaitCount("webhook.events.delivered", 4.0);
+        assertEquals(2, meterRegistry.timer("webhook.request", "outcome", "success").count());
+        assertEquals(2, meterRegistry.timer("webhook.delivery.latency").count());
+    }
+
+    // --- Testes de Nova Tentativa ---
+
+    @Test
+    @DisplayName("Should retry a failed batch after the backoff")
+    void onTaskChanged_shouldRetryFailedBatch() throws Exception {
+        // Arrange
+        statusByRequest = n -> n == 1 ? 503 : 200;
+
+        // Act
+        publish(1L);
+
+        // Assert
+        Request first = next();
+        Request retry = next();
+        assertEquals("1", first.attempt());
+        assertEquals("2", retry.attempt());
+        assertEquals(List.of(1L), taskIds(retry));
+        awaitCount("webhook.events.delivered", 1.0);
+        assertEquals(1, meterRegistry.timer("webhook.request", "outcome", "failure").count());
+    }
+
+    @Test
+    @DisplayName("Should drop a batch after the maximum number of attempts")
+    void onTaskChanged_shouldGiveUpAfterMaxAttempts() throws Exception {
+        // Arrange
+        statusByRequest = n -> 500;
+
+        // Act
+        publish(1L);
+
+        // Assert
+        for (int attempt = 1; attempt <= 3; attempt++) {
+            assertEquals(String.valueOf(attempt), next().attempt());
+        }
+        assertNull(received.poll(150, TimeUnit.MILLISECONDS));
+        awaitCount("webhook.events.dropped", 1.0);
+    }
+
+    // --- Testes de Limites por Destino ---
+
+    @Test
+    @DisplayName("Should limit the batches in flight per endpoint and drop events beyond the pending limit")
+    void onTaskChanged_shouldLimitConcurrencyAndPendingEvents() throws Exception {
+        // Arrange
+        responseGate = new CountDownLatch(1);
+
+        // Act
+        for (long id = 1; id <= 3; id++) {
+            publish(id);
+        }
+        Request first = next();
+        for (long id = 4; id <= 9; id++) {
+            publish(id);
+        }
+        Thread.sleep(100);
+        Request whileBlocked = received.poll();
+        responseGate.countDown();
+
+        // Assert
+        assertNull(whileBlocked);
+        assertEquals(List.of(1L, 2L, 3L), taskIds(first));
+        assertEquals(List.of(4L, 5L, 6L), taskIds(next()));
+        assertEquals(List.of(7L, 8L), taskIds(next()));
+        assertEquals(1, maxConcurrentRequests.get());
+        assertEquals(1.0, meterRegistry.counter("webhook.events.dropped", "reason", "overflow").count());
+    }
+
+    @Test
+    @DisplayName("Should stop delivering to an unregistered endpoint")
+    void unregister_shouldStopDelivery() throws Exception {
+        // Act
+        dispatcher.unregister(1L);
+        publish(1L);
+
+        // Assert
+        assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("Should register new subscriptions and drop deleted ones when refreshing from the database")
+    void refreshSubscriptions_shouldApplyChangesFromOtherInstances() throws Exception {
+        // Arrange
+        when(webhookSubscriptionRepository.findAll()).thenReturn(List.of(subscription(2L)));
+
+        // Act
+        dispatcher.refreshSubscriptions();
+        publish(1L);
+
+        // Assert
+        assertEquals(List.of(1L), taskIds(next()));
+        assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private void publish(long taskId) {
+        TaskResponseDTO task = new TaskResponseDTO(taskId, "Task", "Description", LocalDateTime.of(2024, 1, 1, 10, 0), false);
+        dispatcher.onTaskChanged(new TaskChangedEvent(taskId, TaskChangeType.UPDATED, task));
+    }
+
+    private WebhookSubscription subscription(long id) {
+        return new WebhookSubscription(id, "http://localhost:" + server.getAddress().getPort() + "/hooks", LocalDateTime.now());
+    }
+
+    private Request next() throws InterruptedException {
+        Request request = received.poll(5, TimeUnit.SECONDS);
+        assertNotNull(request, "Expected a webhook request");
+        return request;
+    }
+
+    private void awaitCount(String counter, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.find(counter).counters().stream().mapToDouble(c -> c.count()).sum() < expected
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, meterRegistry.find(counter).counters().stream().mapToDouble(c -> c.count()).sum());
+    }
+
+    private static List<Long> taskIds(Request request) {
+        return request.body().findValues("taskId").stream().map(JsonNode::asLong).toList();
+    }
+
+    private record Request(String attempt, JsonNode body) {
+    }
+}
@@ -0,0 +1,112 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.repository;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.InvalidFieldSelectionException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.UnsupportedReadEngineException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.StringWriter;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para o {@link TaskJsonReader}.
+ * Foco: Testar o JSON escrito diretamente a partir do ResultSet.
+ */
+@JdbcTest
+@Import(TaskJsonReader.class)
+class TaskJsonReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskJsonReader taskJsonReader;
+
+    @BeforeEach
+    void setUp() {
+        insertTask("Older", null, LocalDateTime.of(2024, 1, 1, 10, 0), true);
+        insertTask("Newer", "Description", LocalDateTime.of(2024, 1, 2, 10, 30, 15), false);
+        insertTask("Newest", "Description", LocalDateTime.of(2024, 1, 3, 8, 0), false);
+    }
+
+    @Test
+    @DisplayName("writePage with JDBC should write the sorted page and its metadata")
+    void writePage_withJdbc_shouldWriteSortedPageAndMetadata() throws Exception {
+        // Act
+        JsonNode json = writePage(PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "creationDate")), TaskReadEngine.JDBC);
+
+        // Assert
+        assertEquals(2, json.get("content").size());
+        JsonNode first = json.get("content").get(0);
+        assertEquals("Newest", first.get("title").asText());
+        assertEquals("2024-01-03T08:00:00", first.get("creationDate").asText());
+        assertFalse(first.get("completed").asBoolean());
+        assertEquals("2024-01-02T10:30:15", json.get("content").get(1).get("creationDate").asText());
+
+        JsonNode page = json.get("page");
+        assertEquals(2, page.get("size").asInt());
+        assertEquals(0, page.get("number").asInt());
+        assertEquals(3, page.get("totalElements").asLong());
+        assertEquals(2, page.get("totalPages").asInt());
+    }
+
+    @Test
+    @DisplayName("writePage with JDBC should write null columns as JSON null")
+    void writePage_withJdbc_shouldWriteNullColumns() throws Exception {
+        // Act
+        JsonNode json = writePage(PageRequest.of(0, 1, Sort.by("creationDate")), TaskReadEngine.JDBC);
+
+        // Assert
+        JsonNode first = json.get("content").get(0);
+        assertEquals("Older", first.get("title").asText());
+        assertTrue(first.get("description").isNull());
+    }
+
+    @Test
+    @DisplayName("writePage should reject sort properties that are not task fields")
+    void writePage_shouldRejectUnknownSortProperty() {
+        // Act & Assert
+        assertThrows(InvalidFieldSelectionException.class,
+                () -> writePage(PageRequest.of(0, 10, Sort.by("id; DROP TABLE tasks")), TaskReadEngine.JDBC));
+    }
+
+    @Test
+    @DisplayName("writePage with JSON_AGG should be rejected on databases other than PostgreSQL")
+    void writePage_withJsonAgg_shouldBeRejectedOnH2() {
+        // Act & Assert
+        var exception = assertThrows(UnsupportedReadEngineException.class,
+                () -> writePage(PageRequest.of(0, 10), TaskReadEngine.JSON_AGG));
+        assertEquals("The JSON_AGG read engine requires a PostgreSQL database.", exception.getMessage());
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private JsonNode writePage(Pageable pageable, TaskReadEngine engine) throws Exception {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            taskJsonReader.writePage(pageable, engine, generator);
+        }
+        return objectMapper.readTree(writer.toString());
+    }
+
+    private void insertTask(String title, String description, LocalDateTime creationDate, boolean completed) {
+        jdbcTemplate.update("INSERT INTO tasks (title, description, creation_date, completed) VALUES (?, ?, ?, ?)",
+                title, description, Timestamp.valueOf(creationDate), completed);
+    }
+}
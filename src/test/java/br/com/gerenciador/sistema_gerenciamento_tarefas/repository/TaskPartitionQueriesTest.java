@@ -0,0 +1,120 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Verificações, sem Docker, das consultas que dependem do particionamento da tabela {@code tasks}.
+ * <p>
+ * O SQL gerado pelo Hibernate para as consultas do {@link TaskRepository} é capturado no H2 e comparado com a forma
+ * que o {@code TaskPartitionRepositoryTest} (PostgreSQL, só com Docker) usa nos planos de poda de partições: o filtro
+ * por {@code creation_date} precisa chegar ao banco como uma comparação direta da coluna com um parâmetro.
+ * O SQL de manutenção do {@link TaskPartitionRepository}, específico do PostgreSQL, é verificado com um
+ * {@link JdbcTemplate} simulado.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskPartitionQueriesTest$RecordingStatementInspector")
+class TaskPartitionQueriesTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 2, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 3, 1, 0, 0);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        RecordingStatementInspector.STATEMENTS.clear();
+    }
+
+    // --- Testes das Consultas Geradas ---
+
+    @Test
+    @DisplayName("Date range queries should compare creation_date directly with bound parameters, so partitions can be pruned")
+    void streamByCreationDateRange_shouldKeepPrunablePredicate() {
+        // Act
+        try (Stream<?> stream = taskRepository.streamByCreationDateRange(FROM, TO)) {
+            stream.count();
+        }
+
+        // Assert
+        String sql = singleStatement();
+        assertTrue(sql.matches(".*\\bfrom tasks \\w+ where \\w+\\.creation_date>=\\? and \\w+\\.creation_date<\\? order by.*"), sql);
+    }
+
+    @Test
+    @DisplayName("Bulk job chunks should compare creation_date directly with a bound parameter, so later partitions can be pruned")
+    void findJobChunk_shouldKeepPrunablePredicate() {
+        // Act
+        taskRepository.findJobChunk(0L, FROM, List.of(true), Limit.of(500));
+
+        // Assert
+        String sql = singleStatement();
+        assertTrue(sql.matches(".*\\bwhere \\w+\\.id>\\? and \\w+\\.creation_date<\\? and \\w+\\.completed in \\(\\?\\).*"), sql);
+    }
+
+    // --- Testes do SQL de Manutenção ---
+
+    @Test
+    @DisplayName("Partition maintenance should target the monthly partition by name and record tombstones from it")
+    void partitionMaintenance_shouldTargetMonthlyPartition() {
+        // Arrange
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        TaskPartitionRepository repository = new TaskPartitionRepository(jdbcTemplate);
+        YearMonth month = YearMonth.of(2024, 1);
+
+        // Act
+        repository.countPartitionRows(month);
+        repository.recordTombstones(month, 10, FROM);
+        repository.detachPartition(month);
+
+        // Assert
+        verify(jdbcTemplate).queryForObject("SELECT COUNT(*) FROM tasks_2024_01", Integer.class);
+        verify(jdbcTemplate).update(eq("""
+                INSERT INTO task_tombstones (task_id, change_seq, deleted_at)
+                SELECT id, ? + ROW_NUMBER() OVER (ORDER BY id) - 1, ? FROM tasks_2024_01
+                ON CONFLICT (task_id) DO UPDATE SET change_seq = EXCLUDED.change_seq, deleted_at = EXCLUDED.deleted_at
+                """), eq(10L), any());
+        verify(jdbcTemplate).execute("ALTER TABLE tasks DETACH PARTITION tasks_2024_01");
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private static String singleStatement() {
+        List<String> statements = RecordingStatementInspector.STATEMENTS;
+        assertEquals(1, statements.size(), statements::toString);
+        return statements.get(0).replaceAll("\\s+", " ").toLowerCase();
+    }
+
+    /**
+     * Registra o SQL de cada comando preparado pelo Hibernate, sem alterá-lo.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.repository;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.Task;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração do particionamento mensal da tabela {@code tasks}, em um PostgreSQL real (Testcontainers).
+ * Os planos ({@code EXPLAIN}) são obtidos para o SQL equivalente às consultas do {@link TaskRepository}, com os
+ * parâmetros vinculados como o Hibernate faz, e verificam quais partições são lidas.
+ * São ignorados quando o Docker não está disponível.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TaskPartitionRepository.class)
+class TaskPartitionRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15");
+
+    @Autowired
+    private TaskPartitionRepository taskPartitionRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        taskPartitionRepository.createPartitions(YearMonth.of(2024, 1), YearMonth.of(2024, 3));
+    }
+
+    // --- Testes de Manutenção das Partições ---
+
+    @Test
+    @DisplayName("Should detect the partitioned table and create partitions idempotently")
+    void createPartitions_shouldBeIdempotent() {
+        // Act
+        int created = taskPartitionRepository.createPartitions(YearMonth.of(2024, 1), YearMonth.of(2024, 4));
+
+        // Assert
+        assertTrue(taskPartitionRepository.isPartitioned());
+        assertEquals(1, created);
+        assertTrue(taskPartitionRepository.findMonthlyPartitions()
+                .containsAll(List.of(YearMonth.of(2024, 1), YearMonth.of(2024, 2), YearMonth.of(2024, 3), YearMonth.of(2024, 4))));
+    }
+
+    @Test
+    @DisplayName("Should move rows from the default partition into a newly created monthly partition")
+    void createPartitions_shouldMoveRowsOutOfDefaultPartition() {
+        // Arrange
+        Task task = persistTask(LocalDateTime.of(2023, 12, 15, 10, 0));
+        assertEquals("tasks_default", partitionOf(task.getId()));
+
+        // Act
+        taskPartitionRepository.createPartitions(YearMonth.of(2023, 12), YearMonth.of(2023, 12));
+
+        // Assert
+        assertEquals("tasks_2023_12", partitionOf(task.getId()));
+    }
+
+    @Test
+    @DisplayName("Should detach a partition, keeping its rows in a standalone table")
+    void detachPartition_shouldRemoveMonthFromTasks() {
+        // Arrange
+        Task january = persistTask(LocalDateTime.of(2024, 1, 10, 10, 0));
+        Task february = persistTask(LocalDateTime.of(2024, 2, 10, 10, 0));
+
+        // Act
+        taskPartitionRepository.detachPartition(YearMonth.of(2024, 1));
+        entityManager.clear();
+
+        // Assert
+        assertFalse(taskPartitionRepository.findMonthlyPartitions().contains(YearMonth.of(2024, 1)));
+        assertTrue(taskRepository.findById(january.getId()).isEmpty());
+        assertTrue(taskRepository.findById(february.getId()).isPresent());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks_2024_01", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Should record a tombstone for every task of a partition with consecutive change sequences")
+    void recordTombstones_shouldCoverEveryTaskOfPartition() {
+        // Arrange
+        Task first = persistTask(LocalDateTime.of(2024, 1, 10, 10, 0));
+        Task second = persistTask(LocalDateTime.of(2024, 1, 20, 10, 0));
+        persistTask(LocalDateTime.of(2024, 2, 10, 10, 0));
+
+        // Act
+        int count = taskPartitionRepository.countPartitionRows(YearMonth.of(2024, 1));
+        int recorded = taskPartitionRepository.recordTombstones(YearMonth.of(2024, 1), 100, LocalDateTime.of(2024, 6, 1, 0, 0));
+
+        // Assert
+        assertEquals(2, count);
+        assertEquals(2, recorded);
+        assertEquals(List.of(100L, 101L), jdbcTemplate.queryForList(
+                "SELECT change_seq FROM task_tombstones WHERE task_id IN (?, ?) ORDER BY task_id", Long.class,
+                first.getId(), second.getId()));
+    }
+
+    @Test
+    @DisplayName("Should keep the concurrently built completion index valid and attached to every partition")
+    void concurrentIndex_shouldCoverEveryPartition() {
+        // Act
+        Boolean valid = jdbcTemplate.queryForObject(
+                "SELECT indisvalid FROM pg_index WHERE indexrelid = 'idx_tasks_completed_id'::regclass", Boolean.class);
+        Integer partitions = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_inherits WHERE inhparent = 'tasks'::regclass", Integer.class);
+        Integer indexedPartitions = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_inherits WHERE inhparent = 'idx_tasks_completed_id'::regclass", Integer.class);
+
+        // Assert
+        assertEquals(Boolean.TRUE, valid);
+        assertEquals(partitions, indexedPartitions);
+    }
+
+    // --- Testes das Consultas (mapeamento e poda de partições) ---
+
+    @Test
+    @DisplayName("Should keep the entity mapping and repository queries working on the partitioned table")
+    void repositoryQueries_shouldWorkOnPartitionedTable() {
+        // Arrange
+        Task january = persistTask(LocalDateTime.of(2024, 1, 31, 23, 59));
+        Task february = persistTask(LocalDateTime.of(2024, 2, 1, 0, 0));
+        entityManager.clear();
+
+        // Act
+        Task loaded = taskRepository.findById(february.getId()).orElseThrow();
+        loaded.setCompleted(true);
+        entityManager.flush();
+        List<TaskResponseDTO> inFebruary;
+        try (Stream<TaskResponseDTO> stream = taskRepository.streamByCreationDateRange(
+                LocalDateTime.of(2024, 2, 1, 0, 0), LocalDateTime.of(2024, 3, 1, 0, 0))) {
+            inFebruary = stream.toList();
+        }
+        taskRepository.deleteAllInBatch(List.of(taskRepository.findById(january.getId()).orElseThrow()));
+
+        // Assert
+        assertEquals(List.of(february.getId()), inFebruary.stream().map(TaskResponseDTO::id).toList());
+        assertTrue(inFebruary.get(0).completed());
+        assertEquals("tasks_2024_02", partitionOf(february.getId()));
+        assertTrue(taskRepository.findById(january.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Date range queries should only scan the partitions of the requested months")
+    void streamByCreationDateRange_shouldPruneOtherPartitions() {
+        // Act
+        String plan = explain("""
+                SELECT id, title, description, creation_date, completed FROM tasks
+                WHERE creation_date >= ? AND creation_date < ? ORDER BY id
+                """, timestamp(2024, 2, 1), timestamp(2024, 3, 1));
+
+        // Assert
+        assertTrue(plan.contains("tasks_2024_02"), plan);
+        assertFalse(plan.contains("tasks_2024_01"), plan);
+        assertFalse(plan.contains("tasks_2024_03"), plan);
+        assertFalse(plan.contains("tasks_default"), plan);
+    }
+
+    @Test
+    @DisplayName("Bulk job chunks should skip the partitions created after the cutoff")
+    void findJobChunk_shouldPrunePartitionsAfterCutoff() {
+        // Act
+        String plan = explain("""
+                SELECT id, title, description, creation_date, completed, change_seq FROM tasks
+                WHERE id > ? AND creation_date < ? AND completed IN (?) ORDER BY id FETCH FIRST ? ROWS ONLY
+                """, 0L, timestamp(2024, 2, 1), true, 500);
+
+        // Assert
+        assertTrue(plan.contains("tasks_2024_01"), plan);
+        assertFalse(plan.contains("tasks_2024_02"), plan);
+        assertFalse(plan.contains("tasks_2024_03"), plan);
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private Task persistTask(LocalDateTime creationDate) {
+        return entityManager.persistAndFlush(new Task(null, "Task", "Description", creationDate, false));
+    }
+
+    private String partitionOf(Long id) {
+        return jdbcTemplate.queryForObject("SELECT tableoid::regclass::text FROM tasks WHERE id = ?", String.class, id);
+    }
+
+    private String explain(String sql, Object... args) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args));
+    }
+
+    private static Timestamp timestamp(int year, int month, int day) {
+        return Timestamp.valueOf(LocalDateTime.of(year, month, day, 0, 0));
+    }
+}
@@ -0,0 +1,172 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.repository;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.Task;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskField;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para a interface {@link TaskRepository}.
+ * Foco: Testar as consultas customizadas e o mapeamento da entidade Task.
+ */
+@DataJpaTest
+class TaskRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    // --- Testes para streamByCreationDateRange ---
+
+    @Test
+    @DisplayName("streamByCreationDateRange should return only tasks inside the half-open range, ordered by ID")
+    void streamByCreationDateRange_shouldReturnTasksInsideRangeOrderedById() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 1, 8, 0, 0);
+        Task before = persistTask("Before", from.minusSeconds(1));
+        Task first = persistTask("First", from);
+        Task second = persistTask("Second", to.minusSeconds(1));
+        Task atEnd = persistTask("At end", to);
+
+        // Act
+        List<TaskResponseDTO> result;
+        try (Stream<TaskResponseDTO> stream = taskRepository.streamByCreationDateRange(from, to)) {
+            result = stream.toList();
+        }
+
+        // Assert
+        assertEquals(List.of(first.getId(), second.getId()), result.stream().map(TaskResponseDTO::id).toList());
+        assertEquals("First", result.get(0).title());
+        assertFalse(result.stream().anyMatch(task -> task.id().equals(before.getId()) || task.id().equals(atEnd.getId())));
+    }
+
+    @Test
+    @DisplayName("streamByCreationDateRange should return an empty stream when no tasks are in range")
+    void streamByCreationDateRange_shouldReturnEmpty_whenNoTasksInRange() {
+        // Arrange
+        persistTask("Outside", LocalDateTime.of(2023, 12, 31, 23, 59));
+
+        // Act
+        long count;
+        try (Stream<TaskResponseDTO> stream = taskRepository.streamByCreationDateRange(
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 2, 1, 0, 0))) {
+            count = stream.count();
+        }
+
+        // Assert
+        assertEquals(0, count);
+    }
+
+    // --- Testes para findNextAfterId ---
+
+    @Test
+    @DisplayName("findNextAfterId should return the next tasks after the given ID, ordered and limited")
+    void findNextAfterId_shouldReturnNextTasksOrderedAndLimited() {
+        // Arrange
+        Task first = persistTask("First", LocalDateTime.of(2024, 1, 1, 10, 0));
+        Task second = persistTask("Second", LocalDateTime.of(2024, 1, 1, 11, 0));
+        Task third = persistTask("Third", LocalDateTime.of(2024, 1, 1, 12, 0));
+        persistTask("Fourth", LocalDateTime.of(2024, 1, 1, 13, 0));
+
+        // Act
+        List<TaskResponseDTO> result = taskRepository.findNextAfterId(first.getId(), Limit.of(2));
+
+        // Assert
+        assertEquals(List.of(second.getId(), third.getId()), result.stream().map(TaskResponseDTO::id).toList());
+    }
+
+    // --- Testes para findAllResponsesByIdIn ---
+
+    @Test
+    @DisplayName("findAllResponsesByIdIn should return only the existing tasks among the given IDs")
+    void findAllResponsesByIdIn_shouldReturnExistingTasks() {
+        // Arrange
+        Task first = persistTask("First", LocalDateTime.of(2024, 1, 1, 10, 0));
+        persistTask("Second", LocalDateTime.of(2024, 1, 1, 11, 0));
+        Task third = persistTask("Third", LocalDateTime.of(2024, 1, 1, 12, 0));
+
+        // Act
+        List<TaskResponseDTO> result = taskRepository.findAllResponsesByIdIn(List.of(third.getId(), first.getId(), 999L));
+
+        // Assert
+        assertEquals(Set.of(first.getId(), third.getId()), result.stream().map(TaskResponseDTO::id).collect(Collectors.toSet()));
+    }
+
+    // --- Testes para findAllProjected ---
+
+    @Test
+    @DisplayName("findAllProjected should return only the selected fields, paged and sorted")
+    void findAllProjected_shouldReturnOnlySelectedFields() {
+        // Arrange
+        persistTask("Older", LocalDateTime.of(2024, 1, 1, 10, 0));
+        Task newer = persistTask("Newer", LocalDateTime.of(2024, 1, 2, 10, 0));
+        var fields = EnumSet.of(TaskField.ID, TaskField.TITLE, TaskField.COMPLETED);
+
+        // Act
+        Page<Map<String, Object>> page = taskRepository.findAllProjected(fields,
+                PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "creationDate")));
+
+        // Assert
+        assertEquals(2, page.getTotalElements());
+        assertEquals(1, page.getContent().size());
+        Map<String, Object> task = page.getContent().get(0);
+        assertEquals(List.of("id", "title", "completed"), List.copyOf(task.keySet()));
+        assertEquals(newer.getId(), task.get("id"));
+        assertEquals("Newer", task.get("title"));
+        assertEquals(false, task.get("completed"));
+    }
+
+    // --- Testes para findProjectedById ---
+
+    @Test
+    @DisplayName("findProjectedById should return the selected fields when the task exists")
+    void findProjectedById_shouldReturnSelectedFields_whenTaskExists() {
+        // Arrange
+        Task task = persistTask("Task", LocalDateTime.of(2024, 1, 1, 10, 0));
+
+        // Act
+        Optional<Map<String, Object>> result = taskRepository.findProjectedById(task.getId(), EnumSet.of(TaskField.ID, TaskField.DESCRIPTION));
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals(Map.of("id", task.getId(), "description", "Description"), result.get());
+    }
+
+    @Test
+    @DisplayName("findProjectedById should return empty when the task does not exist")
+    void findProjectedById_shouldReturnEmpty_whenTaskDoesNotExist() {
+        // Act
+        Optional<Map<String, Object>> result = taskRepository.findProjectedById(999L, EnumSet.of(TaskField.ID));
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private Task persistTask(String title, LocalDateTime creationDate) {
+        return entityManager.persistAndFlush(new Task(null, title, "Description", creationDate, false));
+    }
+}
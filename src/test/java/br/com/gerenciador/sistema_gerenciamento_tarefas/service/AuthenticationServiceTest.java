@@ -1,9 +1,12 @@
 package br.com.gerenciador.sistema_gerenciamento_tarefas.service;
 
 import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.User;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.UserChangeType;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.UserChangedEvent;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.UserRole;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.authentication.AuthenticationDTO;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.authentication.RegisterDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.user.UserResponseDTO;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.UserAlreadyExistsException;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.security.TokenService;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.UserRepository;
@@ -14,6 +17,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -46,6 +50,9 @@ class AuthenticationServiceTest {
     @Mock
     private TokenService tokenService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AuthenticationService authenticationService;
 
@@ -120,6 +127,7 @@ class AuthenticationServiceTest {
         assertEquals(registerDTO.login(), capturedUser.getLogin());
         assertEquals(encodedPassword, capturedUser.getPassword());
         assertEquals(UserRole.USER, capturedUser.getRole());
+        verify(eventPublisher).publishEvent(new UserChangedEvent(capturedUser.getId(), UserChangeType.CREATED, new UserResponseDTO(capturedUser)));
     }
 
     @Test
@@ -0,0 +1,123 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.service;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskCreateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.cache.TaskReadCache;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.coldtier.ColdTaskStore;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.concurrency.RequestCoalescer;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.config.IdGeneratorConfiguration;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.config.ResilienceConfiguration;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskBatchWriter;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskChangeSequence;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskJsonReader;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Medição das criações de tarefas por segundo, sustentadas por vários clientes concorrentes, nos modos síncrono
+ * ({@link TaskService#createTask}) e assíncrono com commit em grupo ({@link TaskIngestService#createTaskAsync}).
+ * No modo assíncrono, o tempo inclui a gravação de toda a fila.
+ * <p>
+ * Não roda no build padrão; execute com {@code ./mvnw test -Dtest=TaskIngestBenchmarkTest -Dbenchmark=true}.
+ * Os resultados são registrados no log. O ganho do commit em grupo vem da espera pela gravação do log no disco,
+ * que não existe no H2 em memória: para números representativos, aponte o teste para o PostgreSQL
+ * ({@code -Dspring.datasource.url=...} com {@code -Dspring.test.database.replace=none}).
+ */
+@Slf4j
+@DataJpaTest(properties = "app.ids.node-id=0")
+@Import({TaskService.class, TaskIngestService.class, IdGeneratorConfiguration.class, TaskBatchWriter.class, TaskJsonReader.class,
+        TaskChangeSequence.class, RequestCoalescer.class, TaskReadCache.class, ColdTaskStore.class, ResilienceConfiguration.class,
+        TaskIngestBenchmarkTest.TestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TaskIngestBenchmarkTest {
+
+    private static final int CLIENTS = 16;
+    private static final int TASKS_PER_CLIENT = 500;
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskIngestService taskIngestService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM tasks");
+    }
+
+    @Test
+    @DisplayName("Benchmark: sustained task creates per second, synchronous vs group commit")
+    void createsPerSecond() throws Exception {
+        // Aquecimento
+        run(taskService::createTask);
+        run(this::createAsync);
+        jdbcTemplate.update("DELETE FROM tasks");
+
+        Duration sync = run(taskService::createTask);
+        Duration async = run(this::createAsync);
+
+        int total = CLIENTS * TASKS_PER_CLIENT;
+        log.info("Task create benchmark ({} clients, {} tasks): synchronous {} creates/s, group commit {} creates/s.",
+                CLIENTS, total, Math.round(total / (sync.toNanos() / 1e9)), Math.round(total / (async.toNanos() / 1e9)));
+        assertEquals(2L * total, jdbcTemplate.queryForObject("SELECT count(*) FROM tasks", Long.class));
+    }
+
+    private void createAsync(TaskCreateDTO data) {
+        taskIngestService.createTaskAsync(data);
+    }
+
+    private Duration run(Consumer<TaskCreateDTO> create) throws Exception {
+        long start = System.nanoTime();
+        try (ExecutorService clients = Executors.newFixedThreadPool(CLIENTS)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                futures.add(clients.submit(() -> {
+                    for (int i = 0; i < TASKS_PER_CLIENT; i++) {
+                        create.accept(new TaskCreateDTO("Benchmark task " + i, "Description"));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        while (taskIngestService.queuedCount() > 0) {
+            Thread.sleep(1);
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+}
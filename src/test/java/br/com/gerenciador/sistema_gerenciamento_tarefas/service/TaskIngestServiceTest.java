@@ -0,0 +1,251 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.service;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.Task;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangeType;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangedEvent;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskCreateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.TaskIngestQueueFullException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.id.IdGenerator;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskBatchWriter;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskChangeSequence;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para a classe {@link TaskIngestService}.
+ * A thread de gravação só é iniciada no teste que a exercita; nos demais, os lotes são gravados chamando {@code flush()}.
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskIngestServiceTest {
+
+    @Mock
+    private IdGenerator<Long> taskIdGenerator;
+
+    @Mock
+    private TaskChangeSequence taskChangeSequence;
+
+    @Mock
+    private TaskBatchWriter taskBatchWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nextId = new AtomicLong(100);
+    private TaskIngestService taskIngestService;
+
+    @BeforeEach
+    void setUp() {
+        // Nem todos os testes gravam lotes
+        lenient().when(taskIdGenerator.nextId()).thenAnswer(invocation -> nextId.incrementAndGet());
+        lenient().when(taskChangeSequence.reserve(anyInt())).thenAnswer(invocation -> 10L + invocation.getArgument(0, Integer.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (taskIngestService != null) {
+            taskIngestService.stop();
+        }
+    }
+
+    // --- Testes de Enfileiramento ---
+
+    @Test
+    @DisplayName("Should reserve an ID and queue the task without writing it")
+    void createTaskAsync_shouldReserveIdAndQueue() {
+        // Arrange
+        taskIngestService = newService(10, 5);
+
+        // Act
+        TaskResponseDTO accepted = taskIngestService.createTaskAsync(new TaskCreateDTO("Task", "Description"));
+
+        // Assert
+        assertEquals(101L, accepted.id());
+        assertEquals("Task", accepted.title());
+        assertFalse(accepted.completed());
+        assertEquals(1, taskIngestService.queuedCount());
+        verifyNoInteractions(taskBatchWriter, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should reject new tasks when the queue is full")
+    void createTaskAsync_shouldThrow_whenQueueIsFull() {
+        // Arrange
+        taskIngestService = newService(2, 5);
+        taskIngestService.createTaskAsync(new TaskCreateDTO("Task 1", null));
+        taskIngestService.createTaskAsync(new TaskCreateDTO("Task 2", null));
+
+        // Act & Assert
+        assertThrows(TaskIngestQueueFullException.class, () -> taskIngestService.createTaskAsync(new TaskCreateDTO("Task 3", null)));
+        assertEquals(2, taskIngestService.queuedCount());
+        assertEquals(1.0, meterRegistry.counter("task.ingest.rejected").count());
+        verify(taskIdGenerator, times(2)).nextId();
+    }
+
+    // --- Testes de Gravação em Grupo ---
+
+    @Test
+    @DisplayName("Should write up to batch-size tasks in one transaction with consecutive change sequences")
+    void flush_shouldWriteBatchInOneTransaction() {
+        // Arrange
+        taskIngestService = newService(10, 2);
+        for (int i = 1; i <= 3; i++) {
+            taskIngestService.createTaskAsync(new TaskCreateDTO("Task " + i, null));
+        }
+
+        // Act
+        int flushed = taskIngestService.flush();
+
+        // Assert
+        assertEquals(2, flushed);
+        assertEquals(1, taskIngestService.queuedCount());
+        verify(transactionManager, times(1)).commit(any());
+        List<Task> written = captureWrittenBatches().get(0);
+        assertEquals(List.of(101L, 102L), written.stream().map(Task::getId).toList());
+        assertEquals(List.of(11L, 12L), written.stream().map(Task::getChangeSeq).toList());
+        ArgumentCaptor<TaskChangedEvent> events = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertTrue(events.getAllValues().stream().allMatch(event -> event.type() == TaskChangeType.CREATED));
+        assertEquals(2.0, meterRegistry.counter("task.ingest.committed").count());
+    }
+
+    @Test
+    @DisplayName("Should retry the tasks one by one when the batch fails, so one bad task does not discard the others")
+    void flush_shouldRetryTasksIndividually_whenBatchFails() {
+        // Arrange
+        taskIngestService = newService(10, 5);
+        taskIngestService.createTaskAsync(new TaskCreateDTO("Good", null));
+        taskIngestService.createTaskAsync(new TaskCreateDTO("Bad", null));
+        doAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            if (tasks.stream().anyMatch(task -> task.getTitle().equals("Bad"))) {
+                throw new IllegalStateException("Constraint violation");
+            }
+            return null;
+        }).when(taskBatchWriter).insertAll(anyList());
+
+        // Act
+        taskIngestService.flush();
+
+        // Assert
+        List<List<Task>> batches = captureWrittenBatches();
+        assertEquals(3, batches.size());
+        assertEquals(List.of("Good"), batches.get(1).stream().map(Task::getTitle).toList());
+        assertEquals(1.0, meterRegistry.counter("task.ingest.committed").count());
+        assertEquals(1.0, meterRegistry.counter("task.ingest.failed").count());
+        assertEquals(0, taskIngestService.queuedCount());
+    }
+
+    @Test
+    @DisplayName("Should keep the whole batch for a later retry when the database is unavailable")
+    void flush_shouldKeepBatchForRetry_whenDatabaseIsUnavailable() {
+        // Arrange
+        taskIngestService = newService(10, 5);
+        taskIngestService.createTaskAsync(new TaskCreateDTO("Task 1", null));
+        taskIngestService.createTaskAsync(new TaskCreateDTO("Task 2", null));
+        doThrow(new CannotGetJdbcConnectionException("Connection refused"))
+                .doNothing()
+                .when(taskBatchWriter).insertAll(anyList());
+
+        // Act
+        taskIngestService.flush();
+        int queuedAfterFailure = taskIngestService.queuedCount();
+        taskIngestService.flush();
+
+        // Assert
+        assertEquals(2, queuedAfterFailure);
+        List<List<Task>> batches = captureWrittenBatches();
+        assertEquals(2, batches.size());
+        assertEquals(List.of(101L, 102L), batches.get(1).stream().map(Task::getId).toList());
+        assertEquals(1.0, meterRegistry.counter("task.ingest.retries").count());
+        assertEquals(2.0, meterRegistry.counter("task.ingest.committed").count());
+        assertEquals(0.0, meterRegistry.counter("task.ingest.failed").count());
+        assertEquals(0, taskIngestService.queuedCount());
+    }
+
+    @Test
+    @DisplayName("Should retry a batch from the committer thread after the backoff when the database is unavailable")
+    void start_shouldRetryBatchAfterBackoff_whenDatabaseIsUnavailable() {
+        // Arrange
+        taskIngestService = newService(10, 5);
+        doThrow(new CannotGetJdbcConnectionException("Connection refused"))
+                .doNothing()
+                .when(taskBatchWriter).insertAll(anyList());
+        taskIngestService.start();
+
+        // Act
+        taskIngestService.createTaskAsync(new TaskCreateDTO("Task", null));
+
+        // Assert
+        verify(taskBatchWriter, timeout(2000).times(2)).insertAll(anyList());
+        verify(transactionManager, timeout(2000)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should flush a partial batch from the committer thread after the linger delay")
+    void start_shouldFlushPartialBatchAfterLinger() {
+        // Arrange
+        taskIngestService = newService(10, 5);
+        taskIngestService.start();
+
+        // Act
+        taskIngestService.createTaskAsync(new TaskCreateDTO("Task", null));
+
+        // Assert
+        verify(taskBatchWriter, timeout(2000)).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should write the queued tasks before stopping")
+    void stop_shouldFlushQueuedTasks() {
+        // Arrange
+        taskIngestService = new TaskIngestService(taskIdGenerator, taskChangeSequence, taskBatchWriter, eventPublisher,
+                transactionManager, meterRegistry, 10, 5, Duration.ofHours(1), Duration.ofMillis(10), Duration.ofMillis(100));
+        taskIngestService.start();
+        taskIngestService.createTaskAsync(new TaskCreateDTO("Task", null));
+
+        // Act
+        taskIngestService.stop();
+
+        // Assert
+        verify(taskBatchWriter).insertAll(anyList());
+        assertEquals(0, taskIngestService.queuedCount());
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private TaskIngestService newService(int capacity, int batchSize) {
+        return new TaskIngestService(taskIdGenerator, taskChangeSequence, taskBatchWriter, eventPublisher,
+                transactionManager, meterRegistry, capacity, batchSize, Duration.ofMillis(10), Duration.ofMillis(10),
+                Duration.ofMillis(100));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Task>> captureWrittenBatches() {
+        ArgumentCaptor<List<Task>> captor = ArgumentCaptor.forClass(List.class);
+        verify(taskBatchWriter, atLeastOnce()).insertAll(captor.capture());
+        return captor.getAllValues();
+    }
+}
@@ -0,0 +1,231 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.service;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.job.TaskJob;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.job.TaskJobAction;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.job.TaskJobStatus;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.Task;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskTombstone;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.job.TaskJobCreateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.job.TaskJobResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.cache.TaskReadCache;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.coldtier.ColdTaskStore;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.concurrency.RequestCoalescer;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.config.ResilienceConfiguration;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.InvalidTaskJobException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.TaskJobNotFoundException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskChangeSequence;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskJobRepository;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskJsonReader;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para o {@link TaskJobService}.
+ * As operações rodam em um executor manual, dentro da transação do teste (por isso as alterações são descarregadas
+ * antes de cada verificação), e as escritas passam pelo {@link TaskService} real.
+ */
+@DataJpaTest
+@Import({TaskService.class, TaskChangeSequence.class, TaskJsonReader.class, RequestCoalescer.class,
+        TaskReadCache.class, ColdTaskStore.class, ResilienceConfiguration.class, TaskJobServiceTest.TestConfig.class})
+class TaskJobServiceTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private TaskJobRepository taskJobRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final Queue<Runnable> pendingJobs = new ArrayDeque<>();
+    private TaskJobService taskJobService;
+
+    @BeforeEach
+    void setUp() {
+        taskJobService = new TaskJobService(taskJobRepository, taskRepository, taskService, transactionManager, meterRegistry,
+                2, Duration.ZERO, pendingJobs::add);
+    }
+
+    // --- Testes de Execução ---
+
+    @Test
+    @DisplayName("Should conclude, in chunks, only the pending tasks created before the cutoff")
+    void createJob_shouldConcludeMatchingTasksInChunks() {
+        // Arrange
+        List<Task> old = List.of(persistTask(CUTOFF.minusDays(3), false), persistTask(CUTOFF.minusDays(2), false),
+                persistTask(CUTOFF.minusDays(1), false));
+        Task alreadyCompleted = persistTask(CUTOFF.minusDays(1), true);
+        Task recent = persistTask(CUTOFF.plusDays(1), false);
+
+        // Act
+        TaskJobResponseDTO created = taskJobService.createJob(new TaskJobCreateDTO(TaskJobAction.CONCLUDE, CUTOFF, null));
+        runPendingJobs();
+        entityManager.flush();
+        entityManager.clear();
+
+        // Assert
+        TaskJobResponseDTO job = taskJobService.getJob(created.id());
+        assertEquals(TaskJobStatus.COMPLETED, job.status());
+        assertEquals(3, job.processed());
+        assertEquals(old.get(2).getId(), job.lastTaskId());
+        assertNotNull(job.finishedAt());
+        old.forEach(task -> assertTrue(taskRepository.findById(task.getId()).orElseThrow().getCompleted()));
+        assertFalse(taskRepository.findById(recent.getId()).orElseThrow().getCompleted());
+        assertEquals(0L, taskRepository.findById(alreadyCompleted.getId()).orElseThrow().getChangeSeq());
+        assertEquals(3.0, meterRegistry.counter("task.jobs.processed", "action", "CONCLUDE").count());
+    }
+
+    @Test
+    @DisplayName("Should delete the completed tasks and record a tombstone for each one")
+    void createJob_shouldDeleteMatchingTasksWithTombstones() {
+        // Arrange
+        Task completed = persistTask(CUTOFF, true);
+        Task pending = persistTask(CUTOFF, false);
+
+        // Act
+        TaskJobResponseDTO created = taskJobService.createJob(new TaskJobCreateDTO(TaskJobAction.DELETE, null, true));
+        runPendingJobs();
+        entityManager.flush();
+        entityManager.clear();
+
+        // Assert
+        assertEquals(TaskJobStatus.COMPLETED, taskJobService.getJob(created.id()).status());
+        assertTrue(taskRepository.findById(completed.getId()).isEmpty());
+        assertTrue(taskRepository.findById(pending.getId()).isPresent());
+        assertNotNull(entityManager.find(TaskTombstone.class, completed.getId()));
+    }
+
+    @Test
+    @DisplayName("Should resume an interrupted job from its persisted checkpoint")
+    void resumeJobs_shouldContinueFromCheckpoint() {
+        // Arrange
+        Task processedBefore = persistTask(CUTOFF.minusDays(2), false);
+        Task remaining = persistTask(CUTOFF.minusDays(1), false);
+        TaskJob job = new TaskJob(TaskJobAction.CONCLUDE, CUTOFF, null, CUTOFF);
+        job.start(CUTOFF);
+        job.advance(processedBefore.getId(), 1, CUTOFF);
+        entityManager.persist(job);
+        entityManager.flush();
+
+        // Act
+        taskJobService.resumeJobs();
+        runPendingJobs();
+        entityManager.flush();
+        entityManager.clear();
+
+        // Assert
+        TaskJobResponseDTO resumed = taskJobService.getJob(job.getId());
+        assertEquals(TaskJobStatus.COMPLETED, resumed.status());
+        assertEquals(2, resumed.processed());
+        assertFalse(taskRepository.findById(processedBefore.getId()).orElseThrow().getCompleted());
+        assertTrue(taskRepository.findById(remaining.getId()).orElseThrow().getCompleted());
+    }
+
+    @Test
+    @DisplayName("Should start a job created inside a transaction only after the transaction commits")
+    void createJob_shouldStartAfterCommit() {
+        // Arrange
+        persistTask(CUTOFF.minusDays(1), false);
+
+        // Act
+        taskJobService.createJob(new TaskJobCreateDTO(TaskJobAction.CONCLUDE, CUTOFF, null));
+        int startedBeforeCommit = pendingJobs.size();
+        TransactionSynchronizationUtils.triggerAfterCommit();
+
+        // Assert
+        assertEquals(0, startedBeforeCommit);
+        assertEquals(1, pendingJobs.size());
+    }
+
+    // --- Testes de Cancelamento ---
+
+    @Test
+    @DisplayName("Should stop processing a cancelled job and ignore cancelling a finished one")
+    void cancelJob_shouldStopProcessing() {
+        // Arrange
+        Task task = persistTask(CUTOFF.minusDays(1), false);
+        TaskJobResponseDTO created = taskJobService.createJob(new TaskJobCreateDTO(TaskJobAction.CONCLUDE, CUTOFF, null));
+
+        // Act
+        TaskJobResponseDTO cancelled = taskJobService.cancelJob(created.id());
+        runPendingJobs();
+        TaskJobResponseDTO cancelledAgain = taskJobService.cancelJob(created.id());
+        entityManager.flush();
+        entityManager.clear();
+
+        // Assert
+        assertEquals(TaskJobStatus.CANCELLED, cancelled.status());
+        assertEquals(cancelled.finishedAt(), cancelledAgain.finishedAt());
+        assertEquals(0, taskJobService.getJob(created.id()).processed());
+        assertFalse(taskRepository.findById(task.getId()).orElseThrow().getCompleted());
+    }
+
+    // --- Testes de Validação ---
+
+    @Test
+    @DisplayName("Should reject a job without filters and report unknown jobs")
+    void createJob_shouldRejectJobWithoutFilters() {
+        assertThrows(InvalidTaskJobException.class,
+                () -> taskJobService.createJob(new TaskJobCreateDTO(TaskJobAction.DELETE, null, null)));
+        assertThrows(TaskJobNotFoundException.class, () -> taskJobService.getJob(999L));
+        assertThrows(TaskJobNotFoundException.class, () -> taskJobService.cancelJob(999L));
+        assertTrue(pendingJobs.isEmpty());
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private Task persistTask(LocalDateTime creationDate, boolean completed) {
+        return entityManager.persistAndFlush(new Task(null, "Task", "Description", creationDate, completed));
+    }
+
+    /**
+     * Simula o commit da transação do teste, que inicia as operações criadas nela, e executa as operações iniciadas.
+     */
+    private void runPendingJobs() {
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        Runnable job;
+        while ((job = pendingJobs.poll()) != null) {
+            job.run();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.service;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskChangeSequence;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskPartitionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o {@link TaskPartitionService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskPartitionServiceTest {
+
+    @Mock
+    private TaskPartitionRepository taskPartitionRepository;
+
+    @Mock
+    private TaskChangeSequence taskChangeSequence;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Should create the partitions of the current month and the configured months ahead")
+    void createAhead_shouldCreatePartitionsUpToMonthsAhead() {
+        // Arrange
+        TaskPartitionService service = new TaskPartitionService(taskPartitionRepository, taskChangeSequence, transactionManager, 3, 0);
+        when(taskPartitionRepository.createPartitions(YearMonth.of(2024, 11), YearMonth.of(2025, 2))).thenReturn(2);
+
+        // Act
+        int created = service.createAhead(YearMonth.of(2024, 11));
+
+        // Assert
+        assertEquals(2, created);
+    }
+
+    @Test
+    @DisplayName("Should detach only the partitions older than the first kept month and continue after a failure")
+    void detachBefore_shouldDetachOnlyOlderPartitions() {
+        // Arrange
+        TaskPartitionService service = new TaskPartitionService(taskPartitionRepository, taskChangeSequence, transactionManager, 3, 12);
+        when(taskPartitionRepository.findMonthlyPartitions()).thenReturn(List.of(
+                YearMonth.of(2023, 1), YearMonth.of(2023, 2), YearMonth.of(2023, 3), YearMonth.of(2023, 4)));
+        doThrow(new DataIntegrityViolationException("locked")).when(taskPartitionRepository).detachPartition(YearMonth.of(2023, 1));
+
+        // Act
+        List<YearMonth> detached = service.detachBefore(YearMonth.of(2023, 3));
+
+        // Assert
+        assertEquals(List.of(YearMonth.of(2023, 2)), detached);
+        verify(taskPartitionRepository, never()).detachPartition(YearMonth.of(2023, 3));
+        verify(taskPartitionRepository, never()).detachPartition(YearMonth.of(2023, 4));
+    }
+
+    @Test
+    @DisplayName("Should record a tombstone for every task of a partition before detaching it, with reserved change sequences")
+    void detachBefore_shouldRecordTombstonesBeforeDetaching() {
+        // Arrange
+        TaskPartitionService service = new TaskPartitionService(taskPartitionRepository, taskChangeSequence, transactionManager, 3, 12);
+        YearMonth month = YearMonth.of(2023, 1);
+        when(taskPartitionRepository.findMonthlyPartitions()).thenReturn(List.of(month));
+        when(taskPartitionRepository.countPartitionRows(month)).thenReturn(3);
+        when(taskChangeSequence.reserve(3)).thenReturn(42L);
+
+        // Act
+        List<YearMonth> detached = service.detachBefore(YearMonth.of(2023, 2));
+
+        // Assert
+        assertEquals(List.of(month), detached);
+        InOrder inOrder = inOrder(taskChangeSequence, taskPartitionRepository, transactionManager);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(taskChangeSequence).lock();
+        inOrder.verify(taskPartitionRepository).countPartitionRows(month);
+        inOrder.verify(taskPartitionRepository).recordTombstones(eq(month), eq(40L), any(LocalDateTime.class));
+        inOrder.verify(taskPartitionRepository).detachPartition(month);
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when the tasks table is not partitioned")
+    void maintainPartitions_shouldSkip_whenTableIsNotPartitioned() {
+        // Arrange
+        TaskPartitionService service = new TaskPartitionService(taskPartitionRepository, taskChangeSequence, transactionManager, 3, 12);
+        when(taskPartitionRepository.isPartitioned()).thenReturn(false);
+
+        // Act
+        service.maintainPartitions();
+
+        // Assert
+        verify(taskPartitionRepository, never()).createPartitions(any(), any());
+        verify(taskPartitionRepository, never()).findMonthlyPartitions();
+    }
+}
@@ -0,0 +1,186 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.service;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.Task;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangeType;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangedEvent;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskUpdateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.cache.TaskReadCache;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.coldtier.ColdTaskStore;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.concurrency.RequestCoalescer;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.config.ResilienceConfiguration;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.TaskArchivedException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskChangeSequence;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskJsonReader;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskRepository;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskTombstoneRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para o {@link TaskRetentionService}, com o armazenamento frio em um diretório temporário.
+ * As escritas passam por um {@link TaskService} real, que consulta o mesmo armazenamento frio do teste.
+ */
+@DataJpaTest
+@RecordApplicationEvents
+@Import({TaskChangeSequence.class, TaskJsonReader.class, RequestCoalescer.class, TaskReadCache.class,
+        ResilienceConfiguration.class, TaskRetentionServiceTest.TestConfig.class})
+class TaskRetentionServiceTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Autowired
+    private TaskJsonReader taskJsonReader;
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private TaskReadCache taskReadCache;
+
+    @Autowired
+    private TaskChangeSequence taskChangeSequence;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ColdTaskStore coldTaskStore;
+    private TaskService taskService;
+    private TaskRetentionService taskRetentionService;
+
+    @BeforeEach
+    void setUp() {
+        coldTaskStore = new ColdTaskStore(meterRegistry, directory, 2);
+        taskService = new TaskService(taskRepository, taskJsonReader, eventPublisher, requestCoalescer, taskReadCache,
+                taskChangeSequence, taskTombstoneRepository, coldTaskStore, transactionManager);
+        taskRetentionService = new TaskRetentionService(taskRepository, taskService, coldTaskStore, transactionManager,
+                meterRegistry, true, Duration.ofDays(365), Duration.ZERO, 2);
+    }
+
+    @Test
+    @DisplayName("Should move old completed tasks to the cold tier in chunks and keep the others in the database")
+    void archiveCompletedBefore_shouldMoveOldCompletedTasks() {
+        // Arrange
+        List<Task> old = List.of(persistTask(CUTOFF.minusDays(30), true), persistTask(CUTOFF.minusDays(20), true),
+                persistTask(CUTOFF.minusDays(10), true));
+        Task oldPending = persistTask(CUTOFF.minusDays(30), false);
+        Task recent = persistTask(CUTOFF.plusDays(1), true);
+
+        // Act
+        int archived = taskRetentionService.archiveCompletedBefore(CUTOFF);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Assert
+        assertEquals(3, archived);
+        assertEquals(2, coldTaskStore.segmentCount());
+        for (Task task : old) {
+            assertTrue(taskRepository.findById(task.getId()).isEmpty());
+            assertEquals(new TaskResponseDTO(task), coldTaskStore.find(task.getId()).orElseThrow());
+        }
+        assertTrue(taskRepository.findById(oldPending.getId()).isPresent());
+        assertTrue(taskRepository.findById(recent.getId()).isPresent());
+        assertEquals(3.0, meterRegistry.counter("cold.tasks.archived").count());
+        for (Task task : old) {
+            assertTrue(taskTombstoneRepository.findById(task.getId()).isPresent());
+        }
+        assertEquals(old.stream().map(Task::getId).toList(), changes(TaskChangeType.ARCHIVED));
+    }
+
+    @Test
+    @DisplayName("Should keep archived tasks readable by ID and reject writes to them")
+    void archiveCompletedBefore_shouldKeepArchivedTasksReadOnly() {
+        // Arrange
+        Task task = persistTask(CUTOFF.minusDays(30), true);
+        taskRetentionService.archiveCompletedBefore(CUTOFF);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act & Assert
+        assertEquals(new TaskResponseDTO(task), taskService.getTaskById(task.getId()));
+        assertTrue(taskService.getTasksByIds(List.of(task.getId())).results().get(0).found());
+        assertThrows(TaskArchivedException.class,
+                () -> taskService.updateTask(task.getId(), new TaskUpdateDTO("Title", "Description", true)));
+        assertThrows(TaskArchivedException.class, () -> taskService.concludeTask(task.getId()));
+        assertThrows(TaskArchivedException.class, () -> taskService.deleteTask(task.getId()));
+    }
+
+    @Test
+    @DisplayName("Should purge the cold tier after the second threshold")
+    void purgeCreatedBefore_shouldPurgeOldSegments() {
+        // Arrange
+        Task task = persistTask(CUTOFF.minusYears(6), true);
+        taskRetentionService.archiveCompletedBefore(CUTOFF);
+
+        // Act
+        int purged = taskRetentionService.purgeCreatedBefore(CUTOFF.minusYears(5));
+
+        // Assert
+        assertEquals(1, purged);
+        assertTrue(coldTaskStore.find(task.getId()).isEmpty());
+        assertEquals(1.0, meterRegistry.counter("cold.tasks.purged").count());
+        assertEquals(List.of(task.getId()), changes(TaskChangeType.PURGED));
+        assertTrue(taskTombstoneRepository.findById(task.getId()).isPresent());
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private List<Long> changes(TaskChangeType changeType) {
+        return events.stream(TaskChangedEvent.class)
+                .filter(event -> event.type() == changeType)
+                .map(TaskChangedEvent::taskId)
+                .toList();
+    }
+
+    private Task persistTask(LocalDateTime creationDate, boolean completed) {
+        return entityManager.persistAndFlush(new Task(null, "Task", "Description", creationDate, completed));
+    }
+}
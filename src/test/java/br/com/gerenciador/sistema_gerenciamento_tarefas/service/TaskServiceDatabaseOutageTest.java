@@ -0,0 +1,140 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.service;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.cache.StaleRead;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.cache.TaskReadCache;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.coldtier.ColdTaskStore;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.concurrency.RequestCoalescer;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.config.ResilienceConfiguration;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskChangeSequence;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskJsonReader;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração do {@link TaskService} com o banco fora do ar: o DataSource passa a recusar conexões,
+ * como o pool faz ao esgotar o tempo de espera, e as leituras em cache devem continuar sendo servidas.
+ * Os testes rodam fora da transação do teste, para que cada leitura precise obter a sua própria conexão.
+ */
+@DataJpaTest(properties = "app.cache.task-reads.soft-ttl=0s")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TaskService.class, TaskJsonReader.class, TaskChangeSequence.class, RequestCoalescer.class,
+        TaskReadCache.class, ColdTaskStore.class, ResilienceConfiguration.class,
+        TaskServiceDatabaseOutageTest.TestConfig.class})
+class TaskServiceDatabaseOutageTest {
+
+    private static final long TASK_ID = 1L;
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        static BeanPostProcessor failingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof FailingDataSource)
+                            ? new FailingDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO tasks (id, title, creation_date, completed) VALUES (?, 'Cached', ?, false)",
+                TASK_ID, Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0)));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((FailingDataSource) dataSource).failing = false;
+        RequestContextHolder.resetRequestAttributes();
+        jdbcTemplate.update("DELETE FROM tasks");
+    }
+
+    // --- Testes de Indisponibilidade ---
+
+    @Test
+    @DisplayName("Should serve a stale cached task when the database refuses connections")
+    void getTaskById_shouldServeStaleTask_whenDatabaseIsDown() {
+        // Arrange
+        taskService.getTaskById(TASK_ID);
+        ((FailingDataSource) dataSource).failing = true;
+
+        // Act
+        TaskResponseDTO task = taskService.getTaskById(TASK_ID);
+
+        // Assert
+        assertEquals("Cached", task.title());
+        assertTrue(StaleRead.current().isPresent());
+    }
+
+    /**
+     * DataSource que recusa novas conexões enquanto {@code failing} estiver ativo.
+     */
+    static class FailingDataSource extends DelegatingDataSource {
+
+        volatile boolean failing;
+
+        FailingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (failing) {
+                throw new SQLTransientConnectionException("Connection is not available, request timed out");
+            }
+            return super.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            if (failing) {
+                throw new SQLTransientConnectionException("Connection is not available, request timed out");
+            }
+            return super.getConnection(username, password);
+        }
+    }
+}
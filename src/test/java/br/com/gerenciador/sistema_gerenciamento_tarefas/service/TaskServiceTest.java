@@ -1,26 +1,58 @@
 package br.com.gerenciador.sistema_gerenciamento_tarefas.service;
 
 import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.Task;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangeType;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangedEvent;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskField;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskCreateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskLookupItemDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskLookupResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskRangeResponseDTO;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskUpdateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.cache.TaskReadCache;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.coldtier.ColdTaskStore;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.concurrency.RequestCoalescer;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.datasource.ReadYourWritesTracker;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.InvalidDateRangeException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.InvalidIdListException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.TaskArchivedException;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.TaskNotFoundException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.resilience.CircuitBreaker;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskChangeSequence;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskJsonReader;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskReadEngine;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskRepository;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskTombstoneRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -36,6 +68,32 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskJsonReader taskJsonReader;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TaskChangeSequence taskChangeSequence;
+
+    @Mock
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Mock
+    private ColdTaskStore coldTaskStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(new SimpleMeterRegistry(), Duration.ofSeconds(5));
+
+    @Spy
+    private TaskReadCache taskReadCache = new TaskReadCache(new CircuitBreaker("database", 5, Duration.ofSeconds(10)),
+            Duration.ofSeconds(5), Duration.ofMinutes(5), 100, 1,
+            new StaticListableBeanFactory().getBeanProvider(ReadYourWritesTracker.class));
+
     @InjectMocks
     private TaskService taskService;
 
@@ -103,6 +161,130 @@ class TaskServiceTest {
         assertEquals("Pageable object cannot be null.", exception.getMessage());
     }
 
+    @Test
+    @DisplayName("listAllTasks with fields should return the projected page from the repository")
+    void listAllTasks_withFields_shouldReturnProjectedPage() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        var fields = EnumSet.of(TaskField.ID, TaskField.TITLE);
+        Page<Map<String, Object>> projectedPage = new PageImpl<>(List.of(Map.of("id", 1L, "title", "Test Task")));
+        when(taskRepository.findAllProjected(fields, pageable)).thenReturn(projectedPage);
+
+        // Act
+        Page<Map<String, Object>> result = taskService.listAllTasks(pageable, fields);
+
+        // Assert
+        assertEquals("Test Task", result.getContent().get(0).get("title"));
+        verify(taskRepository, never()).findAll(any(Pageable.class));
+    }
+
+    // --- Testes para o método listTasksAfter ---
+
+    @Test
+    @DisplayName("listTasksAfter should delegate to the keyset query with the given limit")
+    void listTasksAfter_shouldDelegateToKeysetQuery() {
+        // Arrange
+        var task = new TaskResponseDTO(11L, "Test Task", "Description", LocalDateTime.now(), false);
+        when(taskRepository.findNextAfterId(10L, Limit.of(50))).thenReturn(List.of(task));
+
+        // Act
+        List<TaskResponseDTO> result = taskService.listTasksAfter(10L, 50);
+
+        // Assert
+        assertEquals(List.of(task), result);
+    }
+
+    @Test
+    @DisplayName("listTasksAfter should throw IllegalArgumentException when the last ID is null")
+    void listTasksAfter_shouldThrowException_whenLastIdIsNull() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> taskService.listTasksAfter(null, 50));
+        verifyNoInteractions(taskRepository);
+    }
+
+    // --- Testes para o método writeAllTasks ---
+
+    @Test
+    @DisplayName("writeAllTasks should delegate to the JSON reader with the requested engine")
+    void writeAllTasks_shouldDelegateToJsonReader() throws Exception {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        JsonGenerator generator = mock(JsonGenerator.class);
+
+        // Act
+        taskService.writeAllTasks(pageable, TaskReadEngine.JDBC, generator);
+
+        // Assert
+        verify(taskJsonReader).writePage(pageable, TaskReadEngine.JDBC, generator);
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("writeAllTasks should throw IllegalArgumentException when engine is null")
+    void writeAllTasks_shouldThrowException_whenEngineIsNull() {
+        // Arrange, Act & Assert
+        var exception = assertThrows(IllegalArgumentException.class, () -> {
+            taskService.writeAllTasks(PageRequest.of(0, 10), null, mock(JsonGenerator.class));
+        });
+
+        assertEquals("Read engine cannot be null.", exception.getMessage());
+        verifyNoInteractions(taskJsonReader);
+    }
+
+    // --- Testes para o método listTasksByCreationDateRange ---
+
+    @Test
+    @DisplayName("listTasksByCreationDateRange should return tasks in order with counts per day")
+    void listTasksByCreationDateRange_shouldReturnTasksAndDailyCounts() {
+        // Arrange
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 1, 7);
+        var task1 = new TaskResponseDTO(1L, "Task 1", null, LocalDateTime.of(2024, 1, 2, 9, 0), false);
+        var task2 = new TaskResponseDTO(2L, "Task 2", null, LocalDateTime.of(2024, 1, 2, 18, 30), true);
+        var task3 = new TaskResponseDTO(3L, "Task 3", null, LocalDateTime.of(2024, 1, 5, 8, 0), false);
+
+        when(taskRepository.streamByCreationDateRange(from.atStartOfDay(), to.plusDays(1).atStartOfDay()))
+                .thenReturn(Stream.of(task1, task2, task3));
+
+        // Act
+        TaskRangeResponseDTO result = taskService.listTasksByCreationDateRange(from, to);
+
+        // Assert
+        assertEquals(3, result.total());
+        assertEquals(List.of(task1, task2, task3), result.tasks());
+        assertEquals(2, result.dailyCounts().size());
+        assertEquals(LocalDate.of(2024, 1, 2), result.dailyCounts().get(0).date());
+        assertEquals(2, result.dailyCounts().get(0).count());
+        assertEquals(LocalDate.of(2024, 1, 5), result.dailyCounts().get(1).date());
+        assertEquals(1, result.dailyCounts().get(1).count());
+    }
+
+    @Test
+    @DisplayName("listTasksByCreationDateRange should throw InvalidDateRangeException when start is after end")
+    void listTasksByCreationDateRange_shouldThrowException_whenRangeIsInverted() {
+        // Arrange, Act & Assert
+        var exception = assertThrows(InvalidDateRangeException.class, () -> {
+            taskService.listTasksByCreationDateRange(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1));
+        });
+
+        assertEquals("Start date must not be after end date.", exception.getMessage());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("listTasksByCreationDateRange should throw InvalidDateRangeException when range is too long")
+    void listTasksByCreationDateRange_shouldThrowException_whenRangeIsTooLong() {
+        // Arrange
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = from.plusDays(TaskService.MAX_RANGE_DAYS);
+
+        // Act & Assert
+        assertThrows(InvalidDateRangeException.class, () -> {
+            taskService.listTasksByCreationDateRange(from, to);
+        });
+        verifyNoInteractions(taskRepository);
+    }
+
     // --- Testes para o método getTaskById ---
 
     @Test
@@ -119,6 +301,7 @@ class TaskServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals("Test Task", result.title());
+        verify(requestCoalescer).execute(eq("getTaskById"), eq(taskId), any());
     }
 
     @Test
@@ -136,6 +319,22 @@ class TaskServiceTest {
         assertEquals("Task not found with ID: " + nonExistentId, exception.getMessage());
     }
 
+    @Test
+    @DisplayName("getTaskById should fall back to the cold tier when the task is no longer in the database")
+    void getTaskById_shouldFallBackToColdTier_whenTaskWasArchived() {
+        // Arrange
+        long archivedId = 7L;
+        var archived = new TaskResponseDTO(archivedId, "Old Task", "Description", LocalDateTime.of(2020, 1, 1, 10, 0), true);
+        when(taskRepository.findById(archivedId)).thenReturn(Optional.empty());
+        when(coldTaskStore.find(archivedId)).thenReturn(Optional.of(archived));
+
+        // Act
+        TaskResponseDTO result = taskService.getTaskById(archivedId);
+
+        // Assert
+        assertEquals(archived, result);
+    }
+
     @Test
     @DisplayName("getTaskById should throw IllegalArgumentException when ID is null")
     void getTaskById_shouldThrowException_whenIdIsNull() {
@@ -147,6 +346,110 @@ class TaskServiceTest {
         assertEquals("Task ID cannot be null.", exception.getMessage());
     }
 
+    @Test
+    @DisplayName("getTaskById with fields should return the projected task when ID exists")
+    void getTaskById_withFields_shouldReturnProjectedTask() {
+        // Arrange
+        var fields = EnumSet.of(TaskField.ID, TaskField.COMPLETED);
+        when(taskRepository.findProjectedById(1L, fields)).thenReturn(Optional.of(Map.of("id", 1L, "completed", true)));
+
+        // Act
+        Map<String, Object> result = taskService.getTaskById(1L, fields);
+
+        // Assert
+        assertEquals(true, result.get("completed"));
+        verify(taskRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("getTaskById with fields should throw TaskNotFoundException when ID does not exist")
+    void getTaskById_withFields_shouldThrowException_whenIdDoesNotExist() {
+        // Arrange
+        var fields = EnumSet.of(TaskField.ID);
+        when(taskRepository.findProjectedById(99L, fields)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        var exception = assertThrows(TaskNotFoundException.class, () -> taskService.getTaskById(99L, fields));
+        assertEquals("Task not found with ID: 99", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("getTaskById with fields should fall back to the cold tier when the task was archived")
+    void getTaskById_withFields_shouldFallBackToColdTier_whenTaskWasArchived() {
+        // Arrange
+        var fields = EnumSet.of(TaskField.ID, TaskField.COMPLETED);
+        var archived = new TaskResponseDTO(7L, "Old Task", "Description", LocalDateTime.of(2020, 1, 1, 10, 0), true);
+        when(taskRepository.findProjectedById(7L, fields)).thenReturn(Optional.empty());
+        when(coldTaskStore.find(7L)).thenReturn(Optional.of(archived));
+
+        // Act
+        Map<String, Object> result = taskService.getTaskById(7L, fields);
+
+        // Assert
+        assertEquals(Map.of("id", 7L, "completed", true), result);
+    }
+
+    // --- Testes para o método getTasksByIds ---
+
+    @Test
+    @DisplayName("getTasksByIds should return results in request order with not-found markers using a single query")
+    void getTasksByIds_shouldReturnResultsInRequestOrder() {
+        // Arrange
+        var task1 = new TaskResponseDTO(1L, "Task 1", "Description", LocalDateTime.now(), false);
+        var task3 = new TaskResponseDTO(3L, "Task 3", "Description", LocalDateTime.now(), true);
+        when(taskRepository.findAllResponsesByIdIn(anyCollection())).thenReturn(List.of(task1, task3));
+
+        // Act
+        TaskLookupResponseDTO result = taskService.getTasksByIds(List.of(3L, 2L, 1L, 3L));
+
+        // Assert
+        assertEquals(List.of(3L, 2L, 1L), result.results().stream().map(TaskLookupItemDTO::id).toList());
+        assertEquals(task3, result.results().get(0).task());
+        assertFalse(result.results().get(1).found());
+        assertNull(result.results().get(1).task());
+        assertEquals(2, result.found());
+        assertEquals(1, result.notFound());
+        verify(taskRepository, times(1)).findAllResponsesByIdIn(anyCollection());
+        verify(taskRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("getTasksByIds should only query the IDs that are not cached")
+    void getTasksByIds_shouldOnlyQueryUncachedIds() {
+        // Arrange
+        var task1 = new TaskResponseDTO(1L, "Task 1", "Description", LocalDateTime.now(), false);
+        var task2 = new TaskResponseDTO(2L, "Task 2", "Description", LocalDateTime.now(), false);
+        when(taskRepository.findAllResponsesByIdIn(anyCollection())).thenReturn(List.of(task1), List.of(task2));
+        taskService.getTasksByIds(List.of(1L));
+
+        // Act
+        TaskLookupResponseDTO result = taskService.getTasksByIds(List.of(1L, 2L));
+
+        // Assert
+        assertEquals(2, result.found());
+        verify(taskRepository).findAllResponsesByIdIn(Set.of(2L));
+    }
+
+    @Test
+    @DisplayName("getTasksByIds should throw InvalidIdListException when more IDs than allowed are requested")
+    void getTasksByIds_shouldThrowException_whenTooManyIds() {
+        // Arrange
+        List<Long> ids = LongStream.rangeClosed(1, TaskService.MAX_LOOKUP_IDS + 1).boxed().toList();
+
+        // Act & Assert
+        var exception = assertThrows(InvalidIdListException.class, () -> taskService.getTasksByIds(ids));
+        assertEquals("At most " + TaskService.MAX_LOOKUP_IDS + " task IDs can be fetched at once.", exception.getMessage());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("getTasksByIds should throw InvalidIdListException when the list is empty")
+    void getTasksByIds_shouldThrowException_whenListIsEmpty() {
+        // Act & Assert
+        var exception = assertThrows(InvalidIdListException.class, () -> taskService.getTasksByIds(List.of()));
+        assertEquals("At least one task ID must be informed.", exception.getMessage());
+    }
+
     // --- Testes para o método createTask ---
 
     @Test
@@ -157,6 +460,7 @@ class TaskServiceTest {
         var savedTask = new Task(1L, createDTO.title(), createDTO.description(), LocalDateTime.now(), false);
 
         when(taskRepository.save(any(Task.class))).thenReturn(savedTask);
+        when(taskChangeSequence.next()).thenReturn(7L);
 
         // Act
         TaskResponseDTO result = taskService.createTask(createDTO);
@@ -175,6 +479,8 @@ class TaskServiceTest {
         assertEquals(createDTO.description(), capturedTask.getDescription());
         assertFalse(capturedTask.getCompleted());
         assertNotNull(capturedTask.getCreationDate());
+        assertEquals(7L, capturedTask.getChangeSeq());
+        verify(eventPublisher).publishEvent(new TaskChangedEvent(1L, TaskChangeType.CREATED, result));
     }
 
     @Test
@@ -230,6 +536,7 @@ class TaskServiceTest {
         assertEquals("New Description", existingTask.getDescription());
         assertTrue(existingTask.getCompleted());
         verify(taskRepository, never()).save(any(Task.class)); // Garante que save não é chamado
+        verify(eventPublisher).publishEvent(new TaskChangedEvent(taskId, TaskChangeType.UPDATED, result));
     }
 
     @Test
@@ -250,6 +557,21 @@ class TaskServiceTest {
         verify(taskRepository, never()).save(any(Task.class));
     }
 
+    @Test
+    @DisplayName("updateTask should throw TaskArchivedException when the task is in the cold tier")
+    void updateTask_shouldThrowTaskArchivedException_whenTaskWasArchived() {
+        // Arrange
+        var updateDTO = new TaskUpdateDTO("New Title", "New Description", true);
+        var archived = new TaskResponseDTO(7L, "Old Task", "Description", LocalDateTime.of(2020, 1, 1, 10, 0), true);
+        when(taskRepository.findById(7L)).thenReturn(Optional.empty());
+        when(coldTaskStore.find(7L)).thenReturn(Optional.of(archived));
+
+        // Act & Assert
+        var exception = assertThrows(TaskArchivedException.class, () -> taskService.updateTask(7L, updateDTO));
+        assertEquals("Task with ID 7 is archived and can no longer be changed.", exception.getMessage());
+        verifyNoInteractions(eventPublisher);
+    }
+
     @Test
     @DisplayName("updateTask should throw IllegalArgumentException when ID is null")
     void updateTask_shouldThrowIllegalArgumentException_whenIdIsNull() {
@@ -311,6 +633,7 @@ class TaskServiceTest {
         var existingTask = new Task(taskId, "Task to delete", "Description", LocalDateTime.now(), false);
 
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
+        when(taskChangeSequence.next()).thenReturn(42L);
         doNothing().when(taskRepository).delete(existingTask);
 
         // Act
@@ -319,6 +642,8 @@ class TaskServiceTest {
         // Assert
         verify(taskRepository, times(1)).findById(taskId);
         verify(taskRepository, times(1)).delete(existingTask);
+        verify(taskTombstoneRepository).save(argThat(tombstone -> tombstone.getTaskId() == taskId && tombstone.getChangeSeq() == 42L));
+        verify(eventPublisher).publishEvent(new TaskChangedEvent(taskId, TaskChangeType.DELETED, null));
     }
 
     @Test
@@ -392,6 +717,7 @@ class TaskServiceTest {
         // Verifica se o estado do objeto foi alterado, já que save() não é chamado
         assertTrue(existingTask.getCompleted());
         verify(taskRepository, never()).save(any(Task.class)); // Garante que save não é chamado
+        verify(eventPublisher).publishEvent(new TaskChangedEvent(taskId, TaskChangeType.CONCLUDED, result));
     }
 
     @Test
@@ -441,4 +767,25 @@ class TaskServiceTest {
         verify(taskRepository, times(1)).findById(taskId);
         verify(taskRepository, never()).save(any(Task.class));
     }
+
+    // --- Testes para o método applyCoalescedWrites ---
+
+    @Test
+    @DisplayName("applyCoalescedWrites should apply the merged update once and publish an event per change type")
+    void applyCoalescedWrites_shouldPublishEventPerChangeType() {
+        // Arrange
+        long taskId = 1L;
+        var existingTask = new Task(taskId, "Old title", "Description", LocalDateTime.now(), false);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
+
+        // Act
+        TaskResponseDTO result = taskService.applyCoalescedWrites(taskId, new TaskUpdateDTO("New title", null, true),
+                List.of(TaskChangeType.UPDATED, TaskChangeType.CONCLUDED));
+
+        // Assert
+        assertEquals("New title", result.title());
+        assertTrue(result.completed());
+        verify(eventPublisher).publishEvent(new TaskChangedEvent(taskId, TaskChangeType.UPDATED, result));
+        verify(eventPublisher).publishEvent(new TaskChangedEvent(taskId, TaskChangeType.CONCLUDED, result));
+    }
 }
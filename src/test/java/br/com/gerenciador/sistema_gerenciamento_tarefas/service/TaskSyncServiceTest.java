@@ -0,0 +1,210 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.service;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskTombstone;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskChangesResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskCreateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskUpdateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.cache.TaskReadCache;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.coldtier.ColdTaskStore;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.concurrency.RequestCoalescer;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.config.ResilienceConfiguration;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.InvalidSyncRequestException;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskChangeSequence;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.repository.TaskJsonReader;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para o {@link TaskSyncService}.
+ * As escritas passam pelo {@link TaskService} real, para validar a numeração das alterações e os registros de exclusão.
+ */
+@DataJpaTest(properties = "app.sync.tombstone-retention=1d")
+@Import({TaskSyncService.class, TaskService.class, TaskChangeSequence.class, TaskJsonReader.class, RequestCoalescer.class,
+        TaskReadCache.class, ColdTaskStore.class, ResilienceConfiguration.class, TaskSyncServiceTest.TestConfig.class})
+class TaskSyncServiceTest {
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private TaskSyncService taskSyncService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskChangeSequence taskChangeSequence;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    // --- Testes de Sincronização ---
+
+    @Test
+    @DisplayName("Should return every task with reset on the first sync")
+    void getChanges_shouldReturnEverything_whenNoToken() {
+        // Arrange
+        TaskResponseDTO first = createTask("First");
+        TaskResponseDTO second = createTask("Second");
+
+        // Act
+        TaskChangesResponseDTO result = taskSyncService.getChanges(null, 100);
+
+        // Assert
+        assertTrue(result.reset());
+        assertFalse(result.hasMore());
+        assertEquals(List.of(first.id(), second.id()), result.changed().stream().map(TaskResponseDTO::id).toList());
+        assertTrue(result.deleted().isEmpty());
+        assertEquals(taskChangeSequence.last(), result.syncToken());
+    }
+
+    @Test
+    @DisplayName("Should return only the tasks changed, concluded, created or deleted since the token, in change order")
+    void getChanges_shouldReturnOnlyChangesSinceToken() {
+        // Arrange
+        TaskResponseDTO untouched = createTask("Untouched");
+        TaskResponseDTO updated = createTask("Updated");
+        TaskResponseDTO concluded = createTask("Concluded");
+        TaskResponseDTO deleted = createTask("Deleted");
+        long token = taskSyncService.getChanges(null, 100).syncToken();
+
+        taskService.concludeTask(concluded.id());
+        taskService.deleteTask(deleted.id());
+        taskService.updateTask(updated.id(), new TaskUpdateDTO("Renamed", null, null));
+        TaskResponseDTO created = createTask("Created");
+
+        // Act
+        TaskChangesResponseDTO result = taskSyncService.getChanges(token, 100);
+
+        // Assert
+        assertFalse(result.reset());
+        assertEquals(List.of(concluded.id(), updated.id(), created.id()), result.changed().stream().map(TaskResponseDTO::id).toList());
+        assertEquals("Renamed", result.changed().get(1).title());
+        assertTrue(result.changed().get(0).completed());
+        assertEquals(List.of(deleted.id()), result.deleted());
+        assertFalse(result.changed().stream().anyMatch(task -> task.id().equals(untouched.id())));
+        assertTrue(result.syncToken() > token);
+    }
+
+    @Test
+    @DisplayName("Should return nothing and the same token when there are no changes")
+    void getChanges_shouldReturnEmpty_whenNothingChanged() {
+        // Arrange
+        createTask("Task");
+        long token = taskSyncService.getChanges(null, 100).syncToken();
+
+        // Act
+        TaskChangesResponseDTO result = taskSyncService.getChanges(token, 100);
+
+        // Assert
+        assertTrue(result.changed().isEmpty());
+        assertTrue(result.deleted().isEmpty());
+        assertEquals(token, result.syncToken());
+    }
+
+    @Test
+    @DisplayName("Should page through the changes with the returned token")
+    void getChanges_shouldPage_whenMoreChangesThanLimit() {
+        // Arrange
+        TaskResponseDTO first = createTask("First");
+        TaskResponseDTO second = createTask("Second");
+        TaskResponseDTO third = createTask("Third");
+        taskService.deleteTask(first.id());
+        long token = taskChangeSequence.last() - 4;
+
+        // Act
+        TaskChangesResponseDTO page1 = taskSyncService.getChanges(token, 2);
+        TaskChangesResponseDTO page2 = taskSyncService.getChanges(page1.syncToken(), 2);
+
+        // Assert
+        assertTrue(page1.hasMore());
+        assertEquals(List.of(second.id(), third.id()), page1.changed().stream().map(TaskResponseDTO::id).toList());
+        assertTrue(page1.deleted().isEmpty());
+        assertFalse(page2.hasMore());
+        assertTrue(page2.changed().isEmpty());
+        assertEquals(List.of(first.id()), page2.deleted());
+        assertEquals(taskChangeSequence.last(), page2.syncToken());
+    }
+
+    @Test
+    @DisplayName("Should stop at the last committed change read at the start, leaving later changes for the next sync")
+    void getChanges_shouldStopAtLastCommittedChange() {
+        // Arrange
+        TaskResponseDTO task = createTask("Task");
+        long token = taskSyncService.getChanges(null, 100).syncToken();
+        TaskResponseDTO updated = taskService.updateTask(task.id(), new TaskUpdateDTO("Renamed", null, null));
+        // Exclusão com um número ainda não emitido pelo contador: simula uma escrita confirmada depois da leitura do limite
+        entityManager.persist(new TaskTombstone(999L, taskChangeSequence.last() + 1, LocalDateTime.now()));
+        entityManager.flush();
+
+        // Act
+        TaskChangesResponseDTO result = taskSyncService.getChanges(token, 100);
+
+        // Assert
+        assertEquals(List.of(updated.id()), result.changed().stream().map(TaskResponseDTO::id).toList());
+        assertTrue(result.deleted().isEmpty());
+        assertFalse(result.hasMore());
+        assertEquals(taskChangeSequence.last(), result.syncToken());
+    }
+
+    // --- Testes de Compactação ---
+
+    @Test
+    @DisplayName("Should compact old tombstones and reset clients whose token is older than the compaction")
+    void compactTombstones_shouldRemoveOldTombstonesAndResetStaleClients() {
+        // Arrange
+        TaskResponseDTO kept = createTask("Kept");
+        long staleToken = taskChangeSequence.last();
+        entityManager.persist(new TaskTombstone(999L, taskChangeSequence.next(), LocalDateTime.now().minusDays(2)));
+        TaskResponseDTO recent = createTask("Recent");
+        taskService.deleteTask(recent.id());
+        entityManager.flush();
+
+        // Act
+        taskSyncService.compactTombstones();
+        entityManager.clear();
+        TaskChangesResponseDTO result = taskSyncService.getChanges(staleToken, 100);
+
+        // Assert
+        assertNull(entityManager.find(TaskTombstone.class, 999L));
+        assertNotNull(entityManager.find(TaskTombstone.class, recent.id()));
+        assertTrue(result.reset());
+        assertEquals(List.of(kept.id()), result.changed().stream().map(TaskResponseDTO::id).toList());
+        assertTrue(result.deleted().isEmpty());
+    }
+
+    // --- Testes de Validação ---
+
+    @Test
+    @DisplayName("Should reject a negative token or a limit out of range")
+    void getChanges_shouldRejectInvalidParameters() {
+        assertThrows(InvalidSyncRequestException.class, () -> taskSyncService.getChanges(-1L, 10));
+        assertThrows(InvalidSyncRequestException.class, () -> taskSyncService.getChanges(0L, 0));
+        assertThrows(InvalidSyncRequestException.class, () -> taskSyncService.getChanges(0L, TaskSyncService.MAX_CHANGES_LIMIT + 1));
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private TaskResponseDTO createTask(String title) {
+        return taskService.createTask(new TaskCreateDTO(title, "Description"));
+    }
+}
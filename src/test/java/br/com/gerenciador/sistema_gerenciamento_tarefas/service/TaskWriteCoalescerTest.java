@@ -0,0 +1,222 @@
+package br.com.gerenciador.sistema_gerenciamento_tarefas.service;
+
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.task.TaskChangeType;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskResponseDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.task.TaskUpdateDTO;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.infra.exception.TaskNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para a classe {@link TaskWriteCoalescer}.
+ * A janela é longa o bastante para que todas as escritas concorrentes entrem na mesma caixa de entrada.
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskWriteCoalescerTest {
+
+    private static final Duration WINDOW = Duration.ofMillis(500);
+
+    @Mock
+    private TaskService taskService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    // --- Testes de Agrupamento ---
+
+    @Test
+    @DisplayName("Should merge concurrent writes to the same task into a single write that keeps every change type")
+    void updateTask_shouldMergeConcurrentUpdates() throws Exception {
+        // Arrange
+        TaskWriteCoalescer coalescer = new TaskWriteCoalescer(taskService, meterRegistry, true, WINDOW);
+        TaskResponseDTO merged = task(1L, "Second", true);
+        when(taskService.applyCoalescedWrites(eq(1L), any(), any())).thenReturn(merged);
+
+        // Act
+        List<Future<TaskResponseDTO>> results = new ArrayList<>();
+        results.add(submit(() -> coalescer.updateTask(1L, new TaskUpdateDTO("First", "Description", null))));
+        waitUntilPending(coalescer, 1);
+        results.add(submit(() -> coalescer.concludeTask(1L)));
+        waitUntilPending(coalescer, 2);
+        results.add(submit(() -> coalescer.updateTask(1L, new TaskUpdateDTO("Second", " ", null))));
+
+        // Assert
+        for (Future<TaskResponseDTO> result : results) {
+            assertSame(merged, result.get(5, TimeUnit.SECONDS));
+        }
+        ArgumentCaptor<TaskUpdateDTO> update = ArgumentCaptor.forClass(TaskUpdateDTO.class);
+        verify(taskService).applyCoalescedWrites(eq(1L), update.capture(),
+                eq(new LinkedHashSet<>(List.of(TaskChangeType.UPDATED, TaskChangeType.CONCLUDED))));
+        assertEquals(new TaskUpdateDTO("Second", "Description", true), update.getValue());
+        verify(taskService, never()).updateTask(anyLong(), any());
+        verify(taskService, never()).concludeTask(anyLong());
+        assertEquals(2.0, meterRegistry.counter("task.writes.coalesced").count());
+        assertEquals(1.0, meterRegistry.counter("task.writes.flushes").count());
+        assertEquals(0, coalescer.pendingCount());
+    }
+
+    @Test
+    @DisplayName("Should conclude the task once when only conclusions arrive in the window")
+    void concludeTask_shouldConcludeOnce_whenOnlyConclusionsArrive() throws Exception {
+        // Arrange
+        TaskWriteCoalescer coalescer = new TaskWriteCoalescer(taskService, meterRegistry, true, WINDOW);
+        TaskResponseDTO concluded = task(1L, "Task", true);
+        when(taskService.concludeTask(1L)).thenReturn(concluded);
+
+        // Act
+        Future<TaskResponseDTO> first = submit(() -> coalescer.concludeTask(1L));
+        waitUntilPending(coalescer, 1);
+        Future<TaskResponseDTO> second = submit(() -> coalescer.concludeTask(1L));
+
+        // Assert
+        assertSame(concluded, first.get(5, TimeUnit.SECONDS));
+        assertSame(concluded, second.get(5, TimeUnit.SECONDS));
+        verify(taskService).concludeTask(1L);
+        verify(taskService, never()).updateTask(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should not merge writes to different tasks")
+    void updateTask_shouldKeepDifferentTasksApart() throws Exception {
+        // Arrange
+        TaskWriteCoalescer coalescer = new TaskWriteCoalescer(taskService, meterRegistry, true, Duration.ofMillis(20));
+        when(taskService.updateTask(anyLong(), any()))
+                .thenAnswer(invocation -> task(invocation.getArgument(0), "Task", false));
+
+        // Act
+        Future<TaskResponseDTO> first = submit(() -> coalescer.updateTask(1L, new TaskUpdateDTO("Task", null, null)));
+        Future<TaskResponseDTO> second = submit(() -> coalescer.updateTask(2L, new TaskUpdateDTO("Task", null, null)));
+
+        // Assert
+        assertEquals(1L, first.get(5, TimeUnit.SECONDS).id());
+        assertEquals(2L, second.get(5, TimeUnit.SECONDS).id());
+        assertEquals(0.0, meterRegistry.counter("task.writes.coalesced").count());
+        assertEquals(2.0, meterRegistry.counter("task.writes.flushes").count());
+    }
+
+    @Test
+    @DisplayName("Should propagate the failure of a merged write to every caller")
+    void updateTask_shouldPropagateFailureToEveryCaller() throws Exception {
+        // Arrange
+        TaskWriteCoalescer coalescer = new TaskWriteCoalescer(taskService, meterRegistry, true, WINDOW);
+        when(taskService.updateTask(eq(99L), any())).thenThrow(new TaskNotFoundException("Task not found with ID: 99"));
+
+        // Act
+        Future<TaskResponseDTO> first = submit(() -> coalescer.updateTask(99L, new TaskUpdateDTO("First", null, null)));
+        waitUntilPending(coalescer, 1);
+        Future<TaskResponseDTO> second = submit(() -> coalescer.updateTask(99L, new TaskUpdateDTO("Second", null, null)));
+
+        // Assert
+        for (Future<TaskResponseDTO> result : List.of(first, second)) {
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(TaskNotFoundException.class, exception.getCause());
+        }
+        verify(taskService).updateTask(eq(99L), any());
+    }
+
+    @Test
+    @DisplayName("Should call the service directly when coalescing is disabled")
+    void updateTask_shouldDelegateDirectly_whenDisabled() {
+        // Arrange
+        TaskWriteCoalescer coalescer = new TaskWriteCoalescer(taskService, meterRegistry, false, WINDOW);
+        TaskUpdateDTO data = new TaskUpdateDTO("Title", null, null);
+        when(taskService.updateTask(1L, data)).thenReturn(task(1L, "Title", false));
+        when(taskService.concludeTask(1L)).thenReturn(task(1L, "Title", true));
+
+        // Act
+        coalescer.updateTask(1L, data);
+        coalescer.concludeTask(1L);
+
+        // Assert
+        verify(taskService).updateTask(1L, data);
+        verify(taskService).concludeTask(1L);
+        assertEquals(0.0, meterRegistry.counter("task.writes.flushes").count());
+    }
+
+    @Test
+    @DisplayName("Should call the service directly inside an active transaction")
+    void updateTask_shouldDelegateDirectly_insideTransaction() {
+        // Arrange
+        TaskWriteCoalescer coalescer = new TaskWriteCoalescer(taskService, meterRegistry, true, WINDOW);
+        TaskUpdateDTO data = new TaskUpdateDTO("Title", null, null);
+        when(taskService.updateTask(1L, data)).thenReturn(task(1L, "Title", false));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // Act
+        try {
+            coalescer.updateTask(1L, data);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        // Assert
+        verify(taskService).updateTask(1L, data);
+        assertEquals(0, coalescer.pendingCount());
+        assertEquals(0.0, meterRegistry.counter("task.writes.flushes").count());
+    }
+
+    // --- Testes de Combinação ---
+
+    @Test
+    @DisplayName("Should merge updates with the same semantics as applying them in order")
+    void merge_shouldKeepLatestProvidedFields() {
+        // Arrange
+        TaskUpdateDTO earlier = new TaskUpdateDTO("Old title", "Old description", true);
+        TaskUpdateDTO later = new TaskUpdateDTO("New title", "  ", false);
+
+        // Act
+        TaskUpdateDTO merged = TaskWriteCoalescer.merge(earlier, later);
+
+        // Assert
+        assertEquals(new TaskUpdateDTO("New title", "Old description", false), merged);
+        assertEquals(earlier, TaskWriteCoalescer.merge(earlier, new TaskUpdateDTO(null, null, null)));
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private Future<TaskResponseDTO> submit(Callable<TaskResponseDTO> write) {
+        return executor.submit(write);
+    }
+
+    private static void waitUntilPending(TaskWriteCoalescer coalescer, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescer.pendingCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(expected, coalescer.pendingCount());
+    }
+
+    private static TaskResponseDTO task(Long id, String title, boolean completed) {
+        return new TaskResponseDTO(id, title, "Description", LocalDateTime.of(2024, 1, 1, 10, 0), completed);
+    }
+}
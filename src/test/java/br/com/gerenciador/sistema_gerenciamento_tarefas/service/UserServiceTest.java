@@ -1,6 +1,8 @@
 package br.com.gerenciador.sistema_gerenciamento_tarefas.service;
 
 import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.User;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.UserChangeType;
+import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.UserChangedEvent;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.domain.user.UserRole;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.user.UserResponseDTO;
 import br.com.gerenciador.sistema_gerenciamento_tarefas.dto.user.UserUpdateDTO;
@@ -12,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -39,6 +42,9 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -557,6 +563,7 @@ class UserServiceTest {
         // Assert
         verify(userRepository, times(1)).findById(userId);
         verify(userRepository, times(1)).delete(userToDelete);
+        verify(eventPublisher).publishEvent(new UserChangedEvent(userId, UserChangeType.DELETED, null));
     }
 
     @Test